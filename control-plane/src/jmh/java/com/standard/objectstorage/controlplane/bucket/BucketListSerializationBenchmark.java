@@ -0,0 +1,56 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standard.objectstorage.controlplane.bucket.dto.BucketListResponse;
+import com.standard.objectstorage.controlplane.bucket.dto.BucketResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Bucket 목록 응답 직렬화 비용 (Spring MVC 와 동일한 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BucketListSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int bucketCount;
+
+    private ObjectMapper objectMapper;
+    private BucketListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2026, 10, 16, 12, 0);
+        List<BucketResponse> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(BucketResponse.builder()
+                .id((long) i)
+                .name("bucket-" + i)
+                .createdAt(now.minusSeconds(i))
+                .build());
+        }
+        response = BucketListResponse.builder()
+            .buckets(buckets)
+            .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,117 @@
+package com.standard.objectstorage.controlplane.load;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * endpoint 별 지연 시간 histogram (nanos, 유효 숫자 3자리)
+ * <p>
+ * 지연 시간은 요청을 실제로 보낸 시각이 아니라 보내야 했던 시각(intended start)부터 잽니다.
+ * 서버가 느려져 요청이 밀리면 밀린 시간도 지연에 포함되므로 coordinated omission 이 보정됩니다.
+ * 실패(연결 오류, timeout, 기대하지 않은 status)도 지연 시간에 포함하고 따로 셉니다.
+ */
+public final class LatencyStats {
+
+    private final Map<LoadEndpoint, Entry> entries = new EnumMap<>(LoadEndpoint.class);
+
+    public LatencyStats() {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            entries.put(endpoint, new Entry());
+        }
+    }
+
+    public void record(LoadEndpoint endpoint, long intendedStartNanos, long endNanos,
+        boolean success) {
+        Entry entry = entries.get(endpoint);
+        entry.recorder.recordValue(Math.max(0, endNanos - intendedStartNanos));
+        if (!success) {
+            entry.errors.increment();
+        }
+    }
+
+    /**
+     * warmup 동안 기록된 값을 버립니다.
+     */
+    public void reset() {
+        for (Entry entry : entries.values()) {
+            entry.recorder.reset();
+            entry.errors.reset();
+        }
+    }
+
+    /**
+     * 측정 구간의 endpoint 별 결과 (요청이 없던 endpoint 는 제외, 마지막은 전체 합계)
+     */
+    public List<Result> results(long elapsedNanos) {
+        List<Result> results = new ArrayList<>();
+        Histogram total = null;
+        long totalErrors = 0;
+
+        for (Map.Entry<LoadEndpoint, Entry> entry : entries.entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors.sum();
+            results.add(Result.of(entry.getKey().key(), histogram, errors, elapsedNanos));
+
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            totalErrors += errors;
+        }
+        if (total != null) {
+            results.add(Result.of("all", total, totalErrors, elapsedNanos));
+        }
+        return results;
+    }
+
+    private static final class Entry {
+
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    public record Result(
+        String endpoint,
+        long count,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+    ) {
+
+        static Result of(String endpoint, Histogram histogram, long errors, long elapsedNanos) {
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            return new Result(endpoint, histogram.getTotalCount(), errors,
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000d;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                "{\"endpoint\": \"%s\", \"count\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                    + "\"p50Millis\": %.3f, \"p99Millis\": %.3f, \"p999Millis\": %.3f, "
+                    + "\"maxMillis\": %.3f}",
+                endpoint, count, errors, throughput, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.standard.objectstorage.controlplane.load;
+
+import com.standard.objectstorage.controlplane.load.LoadEndpoint.LoadTarget;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 발생기 (요청마다 virtual thread 하나, 동기 HttpClient.send)
+ * <ul>
+ *     <li>open model : 응답과 관계없이 초당 rate 개의 요청을 일정한 간격으로 보냅니다.
+ *     서버가 느려지면 동시 요청 수가 늘어납니다. (maxInFlight 에 걸리면 발생기가 밀리고, 밀린 시간은 지연에 포함)</li>
+ *     <li>closed model : concurrency 개의 worker 가 응답을 받은 뒤 다음 요청을 보냅니다.
+ *     rate 를 지정하면 worker 마다 rate / concurrency 간격의 일정표를 따르고(일정보다 늦으면 쉬지 않고 바로 전송),
+ *     지정하지 않으면 쉬지 않고 보냅니다. (이때는 intended start = 실제 전송 시각이므로 보정되지 않음)</li>
+ * </ul>
+ * 두 모델 모두 warmup 동안의 결과는 버리고 duration 동안의 결과만 반환합니다.
+ */
+public final class LoadDriver {
+
+    private final HttpClient httpClient;
+    private final LoadTarget target;
+    private final LoadMix mix;
+    private final LatencyStats stats;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadDriver(HttpClient httpClient, LoadTarget target, LoadMix mix, LatencyStats stats) {
+        this.httpClient = httpClient;
+        this.target = target;
+        this.mix = mix;
+        this.stats = stats;
+    }
+
+    public void runOpen(double rate, int maxInFlight, Duration warmup, Duration duration)
+        throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long end = start + warmup.toNanos() + duration.toNanos();
+            executor.execute(() -> resetAfterWarmup(start + warmup.toNanos()));
+
+            for (long i = 0; ; i++) {
+                long intendedStart = start + (long) (i * 1_000_000_000d / rate);
+                if (intendedStart >= end) {
+                    break;
+                }
+                sleepUntil(intendedStart);
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        send(intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    public void runClosed(int concurrency, double rate, Duration warmup, Duration duration) {
+        // worker 별 요청 간격 (0 : 쉬지 않음)
+        long interval = rate > 0 ? (long) (concurrency * 1_000_000_000d / rate) : 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long end = start + warmup.toNanos() + duration.toNanos();
+            executor.execute(() -> resetAfterWarmup(start + warmup.toNanos()));
+
+            for (int worker = 0; worker < concurrency; worker++) {
+                // 같은 시각에 몰리지 않도록 worker 마다 시작 위치를 나눔
+                long first = start + interval * worker / concurrency;
+                executor.execute(() -> {
+                    long next = first;
+                    while (!Thread.currentThread().isInterrupted()) {
+                        long intendedStart = interval > 0 ? next : System.nanoTime();
+                        if (intendedStart >= end) {
+                            return;
+                        }
+                        sleepUntil(intendedStart);
+                        send(intendedStart);
+                        next += interval;
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(long intendedStart) {
+        LoadEndpoint endpoint = mix.next();
+        HttpRequest request = endpoint.newRequest(target, sequence.incrementAndGet());
+
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request,
+                HttpResponse.BodyHandlers.discarding());
+            success = endpoint.isSuccess(response.statusCode());
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.record(endpoint, intendedStart, System.nanoTime(), success);
+    }
+
+    private void resetAfterWarmup(long measureFrom) {
+        sleepUntil(measureFrom);
+        stats.reset();
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
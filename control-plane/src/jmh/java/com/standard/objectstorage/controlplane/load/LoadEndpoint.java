@@ -0,0 +1,98 @@
+package com.standard.objectstorage.controlplane.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 대상 API (mix 에서 key 로 비율 지정)
+ */
+public enum LoadEndpoint {
+
+    // JPA 조회 (bucket, object) + PENDING 기록 + 서명
+    PRESIGN("presign", 200) {
+        @Override
+        HttpRequest.Builder request(LoadTarget target, long sequence) {
+            return post(target, "/api/storage/presigned-url", """
+                {"bucket":"%s","objectKey":"load/%s/%d.bin","fileSize":1024}"""
+                .formatted(target.bucket(), target.runId(), sequence));
+        }
+    },
+
+    // owner 의 bucket 목록 첫 페이지 (keyset pagination)
+    BUCKET_LIST("bucketList", 200) {
+        @Override
+        HttpRequest.Builder request(LoadTarget target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/api/buckets?size=20")).GET();
+        }
+    },
+
+    BUCKET_CREATE("bucketCreate", 201) {
+        @Override
+        HttpRequest.Builder request(LoadTarget target, long sequence) {
+            return post(target, "/api/buckets", """
+                {"name":"load-%s-%d"}""".formatted(target.runId(), sequence));
+        }
+    },
+
+    USER_CREATE("userCreate", 201) {
+        @Override
+        HttpRequest.Builder request(LoadTarget target, long sequence) {
+            return post(target, "/api/users", """
+                {"email":"load-%s-%d@load.test"}""".formatted(target.runId(), sequence));
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String key;
+    private final int expectedStatus;
+
+    LoadEndpoint(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public boolean isSuccess(int status) {
+        return status == expectedStatus;
+    }
+
+    /**
+     * sequence 는 실행 전체에서 증가하는 값으로, 생성 API 의 이름 / 객체 key 를 겹치지 않게 합니다.
+     */
+    public HttpRequest newRequest(LoadTarget target, long sequence) {
+        return request(target, sequence).timeout(TIMEOUT).build();
+    }
+
+    abstract HttpRequest.Builder request(LoadTarget target, long sequence);
+
+    public static LoadEndpoint ofKey(String key) {
+        for (LoadEndpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 endpoint 입니다: " + key);
+    }
+
+    private static HttpRequest.Builder post(LoadTarget target, String path, String json) {
+        return HttpRequest.newBuilder(target.uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    /**
+     * @param bucket presign 대상 bucket (실행 전에 생성)
+     * @param runId  실행마다 다른 값 (같은 DB 에 여러 번 실행해도 생성 API 가 중복 오류를 내지 않도록)
+     */
+    public record LoadTarget(URI baseUri, String bucket, String runId) {
+
+        URI uri(String path) {
+            return baseUri.resolve(path);
+        }
+    }
+}
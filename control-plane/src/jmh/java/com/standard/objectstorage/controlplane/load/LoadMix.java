@@ -0,0 +1,75 @@
+package com.standard.objectstorage.controlplane.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * endpoint 별 요청 비율 ("presign=70,bucketList=20,bucketCreate=5,userCreate=5")
+ */
+public final class LoadMix {
+
+    private final LoadEndpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(Map<LoadEndpoint, Integer> weights) {
+        this.endpoints = new LoadEndpoint[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<LoadEndpoint, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            endpoints[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+        this.totalWeight = total;
+    }
+
+    public static LoadMix parse(String spec) {
+        Map<LoadEndpoint, Integer> weights = new EnumMap<>(LoadEndpoint.class);
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.trim().split("=", 2);
+            int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("비율은 0 이상이어야 합니다: " + part);
+            }
+            if (weight > 0) {
+                weights.merge(LoadEndpoint.ofKey(pair[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 endpoint 가 없습니다: " + spec);
+        }
+        return new LoadMix(weights);
+    }
+
+    public LoadEndpoint next() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(endpoints[i].key()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,192 @@
+package com.standard.objectstorage.controlplane.load;
+
+import com.standard.objectstorage.controlplane.ControlPlaneApplication;
+import com.standard.objectstorage.controlplane.load.LatencyStats.Result;
+import com.standard.objectstorage.controlplane.load.LoadEndpoint.LoadTarget;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * control plane API 부하 측정 (presign / bucket 생성, 목록 / user 생성)
+ * <p>
+ * url 을 지정하지 않으면 H2 내장 DB(MySQL 호환 모드)로 control plane 을 같은 JVM 에서 기동하고,
+ * 측정용 user(ID 1) / storage node / bucket 을 만든 뒤 mix 비율대로 요청을 보냅니다.
+ * 발급 한도(PRESIGN_RATE_LIMIT_*)는 끄고 실행합니다. (429 가 아니라 서버 처리 시간을 측정)
+ * <pre>
+ * ./gradlew loadTest -PloadModel=open -PloadRate=1000 -PloadDuration=60s
+ * ./gradlew loadTest -PloadModel=closed -PloadConcurrency=64
+ * </pre>
+ * endpoint 별 처리량과 p50 / p99 / p99.9 / max 를 출력하고, 커밋 / 설정 간 비교를 위해 JSON 파일로도 기록합니다.
+ * 내장 DB 와 부하 발생기가 같은 JVM 에서 실행되므로 절대값보다 같은 조건에서의 상대 비교에 사용합니다.
+ */
+public class LoadTest {
+
+    private static final String DEFAULT_MIX = "presign=70,bucketList=20,bucketCreate=5,userCreate=5";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String model = options.getOrDefault("model", "open");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "500"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("maxInFlight", "10000"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "60s"));
+        LoadMix mix = LoadMix.parse(options.getOrDefault("mix", DEFAULT_MIX));
+        String url = options.getOrDefault("url", "");
+        String resultsFile = options.getOrDefault("resultsFile", "");
+
+        if (!model.equals("open") && !model.equals("closed")) {
+            throw new IllegalArgumentException("model 은 open 또는 closed 이어야 합니다: " + model);
+        }
+        if (model.equals("open") && rate <= 0) {
+            throw new IllegalArgumentException("open model 은 rate 가 0 보다 커야 합니다");
+        }
+
+        ConfigurableApplicationContext context = url.isBlank() ? startEmbedded() : null;
+        try {
+            URI baseUri = URI.create(context != null
+                ? "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                : url);
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+            LoadTarget target = new LoadTarget(baseUri,
+                options.getOrDefault("bucket", "load-" + runId), runId);
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            seed(httpClient, target, context != null);
+
+            String description = model.equals("open")
+                ? "open, rate %.0f/s".formatted(rate)
+                : "closed, concurrency %d%s".formatted(concurrency,
+                    rate > 0 ? ", rate %.0f/s".formatted(rate) : "");
+            System.out.printf("target : %s (%s)%n", baseUri, context != null ? "embedded H2" : "external");
+            System.out.printf("model : %s, warmup %s, duration %s%n", description, warmup, duration);
+            System.out.printf("mix : %s%n", mix);
+
+            LatencyStats stats = new LatencyStats();
+            LoadDriver driver = new LoadDriver(httpClient, target, mix, stats);
+            if (model.equals("open")) {
+                driver.runOpen(rate, maxInFlight, warmup, duration);
+            } else {
+                driver.runClosed(concurrency, rate, warmup, duration);
+            }
+
+            List<Result> results = stats.results(duration.toNanos());
+            print(results);
+            if (!resultsFile.isBlank()) {
+                writeResults(Path.of(resultsFile), description, mix, warmup, duration, results);
+                System.out.println("results : " + resultsFile);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbedded() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+            "jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.format_sql", false);
+        properties.put("spring.flyway.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("SECRET_KEY", "load-test-secret");
+        for (String limit : List.of("USER_RPS", "USER_BYTES_PER_SECOND", "BUCKET_RPS",
+            "BUCKET_BYTES_PER_SECOND")) {
+            properties.put("PRESIGN_RATE_LIMIT_" + limit, 0);
+        }
+
+        return new SpringApplicationBuilder(ControlPlaneApplication.class)
+            .properties(properties)
+            .run();
+    }
+
+    /**
+     * BucketController 는 user ID 1 의 bucket 을 다루므로 빈 DB 에서 user 를 먼저 만듭니다.
+     * storage node 는 요청을 받지 않는 주소로 등록합니다. (presign 은 node 에 요청하지 않음)
+     */
+    private static void seed(HttpClient httpClient, LoadTarget target, boolean embedded)
+        throws IOException, InterruptedException {
+        if (embedded) {
+            post(httpClient, target, "/api/users", "{\"email\":\"load-owner@load.test\"}");
+            post(httpClient, target, "/api/storage-nodes",
+                "{\"name\":\"load-node\",\"endpoint\":\"http://127.0.0.1:9\"}");
+        }
+        int status = post(httpClient, target, "/api/buckets",
+            "{\"name\":\"%s\"}".formatted(target.bucket()));
+        System.out.printf("bucket : %s (create %d)%n", target.bucket(), status);
+    }
+
+    private static int post(HttpClient httpClient, LoadTarget target, String path, String json)
+        throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target.uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static void print(List<Result> results) {
+        System.out.println();
+        System.out.printf("%-14s %10s %8s %10s %10s %10s %10s %10s%n", "endpoint", "count",
+            "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf("%-14s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                result.endpoint(), result.count(), result.errors(), result.throughput(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+        }
+    }
+
+    private static void writeResults(Path path, String model, LoadMix mix, Duration warmup,
+        Duration duration, List<Result> results) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        String json = """
+            {
+              "model": "%s",
+              "mix": "%s",
+              "warmupSeconds": %d,
+              "durationSeconds": %d,
+              "endpoints": [
+                %s
+              ]
+            }
+            """.formatted(model, mix, warmup.toSeconds(), duration.toSeconds(),
+            results.stream().map(Result::toJson).collect(Collectors.joining(",\n    ")));
+        Files.writeString(path, json);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index > 0 && index < arg.length() - 1) {
+                options.put(arg.substring(0, index), arg.substring(index + 1));
+            }
+        }
+        return options;
+    }
+}
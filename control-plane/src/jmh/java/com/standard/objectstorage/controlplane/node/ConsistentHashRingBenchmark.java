@@ -0,0 +1,48 @@
+package com.standard.objectstorage.controlplane.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * consistent hash ring 조회 비용 (동시 조회 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentHashRingBenchmark {
+
+    @Param({"3", "32"})
+    public int nodeCount;
+
+    private ConsistentHashRing ring;
+
+    @Setup
+    public void setUp() {
+        List<StorageNodeInfo> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new StorageNodeInfo("node-" + i, "http://node-" + i + ":3000", 1 + i % 3));
+        }
+        ring = ConsistentHashRing.build(nodes, 128);
+    }
+
+    @Benchmark
+    public StorageNodeInfo locate() {
+        return ring.locate("photos", "works/2026/10/picture-000123.jpg");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public StorageNodeInfo locateContended() {
+        return ring.locate("photos", "works/2026/10/picture-000123.jpg");
+    }
+}
@@ -0,0 +1,198 @@
+package com.standard.objectstorage.controlplane.startup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * control plane 기동 시간 / 첫 요청까지 걸린 시간 측정 (MySQL 필요)
+ * <p>
+ * 실행 jar 를 매번 새 JVM 으로 띄워 다음 두 값을 기록하고, 실행 횟수만큼 반복한 뒤 min / median / max 를 출력합니다.
+ * <ul>
+ *     <li>started : Spring Boot 가 출력한 "Started ... in N seconds" (context refresh 완료까지)</li>
+ *     <li>first request : 프로세스 실행부터 URL 이 처음 200 을 응답할 때까지 (10ms 간격 polling)</li>
+ * </ul>
+ * <pre>
+ * ./gradlew startupBenchmark -PstartupProfile=fast-start -PstartupRuns=10
+ * </pre>
+ * 결과는 JSON 파일로도 기록하여 커밋 / 설정 간 비교에 사용합니다.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    public static void main(String[] args) throws Exception {
+        String java = args[0];
+        String jar = args[1];
+        int runs = Integer.parseInt(args[2]);
+        String profile = args.length > 3 ? args[3] : "";
+        String url = args.length > 4 ? args[4] : "http://localhost:8080/actuator/prometheus";
+        String jvmArgs = args.length > 5 ? args[5] : "";
+        String resultsFile = args.length > 6 ? args[6] : null;
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (!jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(jar);
+        if (!profile.isBlank()) {
+            command.add("--spring.profiles.active=" + profile);
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+        List<Run> results = new ArrayList<>(runs);
+        for (int i = 1; i <= runs; i++) {
+            Run run = run(command, URI.create(url), httpClient);
+            results.add(run);
+            System.out.printf("run %d : started %d ms, first request %d ms%n", i,
+                run.startedMillis(), run.firstRequestMillis());
+        }
+
+        Summary started = Summary.of(results.stream().mapToLong(Run::startedMillis).toArray());
+        Summary firstRequest = Summary.of(
+            results.stream().mapToLong(Run::firstRequestMillis).toArray());
+
+        System.out.println();
+        System.out.println("command : " + String.join(" ", command));
+        System.out.printf("%-15s %10s %10s %10s%n", "(ms)", "min", "median", "max");
+        started.print("started");
+        firstRequest.print("first request");
+
+        if (resultsFile != null) {
+            writeResults(Path.of(resultsFile), command, profile, started, firstRequest);
+            System.out.println("results : " + resultsFile);
+        }
+    }
+
+    private static Run run(List<String> command, URI url, HttpClient httpClient)
+        throws IOException, InterruptedException {
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .start();
+
+        CompletableFuture<Long> started = new CompletableFuture<>();
+        Thread reader = new Thread(() -> readLog(process, started), "startup-log-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            long firstRequestMillis = awaitFirstResponse(process, url, httpClient, launchedAt);
+            long startedMillis = started.get(START_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return new Run(startedMillis, firstRequestMillis);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("기동 측정에 실패하였습니다: " + e.getMessage(), e);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static long awaitFirstResponse(Process process, URI url, HttpClient httpClient,
+        long launchedAt) throws InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(url)
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        long deadline = launchedAt + START_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("프로세스가 종료되었습니다 (exit " + process.exitValue() + ")");
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request,
+                    HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchedAt);
+                }
+            } catch (IOException e) {
+                // 아직 포트를 열지 않음
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException(START_TIMEOUT + " 안에 " + url + " 가 응답하지 않았습니다");
+    }
+
+    private static void readLog(Process process, CompletableFuture<Long> started) {
+        try (BufferedReader log = new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = log.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (!started.isDone() && matcher.find()) {
+                    started.complete(Math.round(Double.parseDouble(matcher.group(1)) * 1000));
+                }
+            }
+        } catch (IOException e) {
+            started.completeExceptionally(e);
+        }
+        started.completeExceptionally(new IllegalStateException("Started 로그를 찾지 못했습니다"));
+    }
+
+    private static void writeResults(Path path, List<String> command, String profile,
+        Summary started, Summary firstRequest) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        String json = """
+            {
+              "command": "%s",
+              "profile": "%s",
+              "runs": %d,
+              "startedMillis": %s,
+              "firstRequestMillis": %s
+            }
+            """.formatted(String.join(" ", command).replace("\\", "\\\\").replace("\"", "\\\""),
+            profile, started.runs(), started.toJson(), firstRequest.toJson());
+        Files.writeString(path, json);
+    }
+
+    private record Run(long startedMillis, long firstRequestMillis) {
+    }
+
+    private record Summary(int runs, long min, long median, long max) {
+
+        static Summary of(long[] values) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            return new Summary(sorted.length, sorted[0], sorted[sorted.length / 2],
+                sorted[sorted.length - 1]);
+        }
+
+        void print(String name) {
+            System.out.printf("%-15s %10d %10d %10d%n", name, min, median, max);
+        }
+
+        String toJson() {
+            return "{\"min\": %d, \"median\": %d, \"max\": %d}".formatted(min, median, max);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.standard.objectstorage.controlplane.storage.signing.PresignedUrlSigner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Presigned URL 생성 경로 (routing + 인코딩 + 서명 + URL 조립)
+ * DB 없이 측정하기 위해 node 배치 / 객체 기록 이후 단계의 내부 메서드를 호출합니다. (요청 단위 이벤트 로그 제외, 지표 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PresignedUrlBenchmark {
+
+    private static final String ENDPOINT = "http://localhost:3000";
+
+    @Param({"1024", "209715200"}) // direct / resumable
+    public long fileSize;
+
+    private PresignedUrlService presignedUrlService;
+    private long expiresAt;
+
+    @Setup
+    public void setUp() {
+        presignedUrlService = new PresignedUrlService(
+            new PresignedUrlSigner("benchmark-secret-key"), null, null, null, null, null,
+            new PresignedUrlMetrics(new SimpleMeterRegistry()), null);
+        expiresAt = presignedUrlService.newExpiresAt();
+    }
+
+    @Benchmark
+    public String uploadUrl() {
+        return presignedUrlService.createUploadPresignedUrl(ENDPOINT, "photos",
+            "works/해외/my photo(캐나다).jpg", fileSize, expiresAt);
+    }
+
+    @Benchmark
+    public String getUrl() {
+        return presignedUrlService.createGetPresignedUrl(ENDPOINT, "photos", "picture/a.jpg",
+            fileSize, expiresAt);
+    }
+}
@@ -0,0 +1,54 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.standard.objectstorage.controlplane.storage.signing.PresignedUrlSigner;
+import com.standard.objectstorage.controlplane.utils.CryptoUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 서명 처리량 비교 (기존 CryptoUtils vs PresignedUrlSigner)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SigningBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key";
+    private static final String BUCKET = "photos";
+    private static final String OBJECT_KEY = "works/2026/10/picture-000123.jpg";
+    private static final long EXP = 1_771_477_681L;
+    private static final long FILE_SIZE = 1_048_576L;
+
+    private PresignedUrlSigner signer;
+
+    @Setup
+    public void setUp() {
+        signer = new PresignedUrlSigner(SECRET);
+    }
+
+    @Benchmark
+    public String legacyCryptoUtils() {
+        String canonicalString = String.format(
+            "bucket=%s&objectKey=%s&method=%s&exp=%d&fileSize=%d",
+            BUCKET, OBJECT_KEY, "PUT", EXP, FILE_SIZE);
+        return CryptoUtils.hmacSha256Base64Url(canonicalString, SECRET);
+    }
+
+    @Benchmark
+    public String signer() {
+        return signer.sign(BUCKET, OBJECT_KEY, "PUT", EXP, FILE_SIZE);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String signerContended() {
+        return signer.sign(BUCKET, OBJECT_KEY, "PUT", EXP, FILE_SIZE);
+    }
+}
@@ -0,0 +1,48 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * object key URL 인코딩 비용 (짧은 / 긴 / 유니코드 key)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UriEncodingBenchmark {
+
+    @Param({"ASCII_SHORT", "ASCII_LONG", "UNICODE_SHORT", "UNICODE_LONG"})
+    public String keyType;
+
+    private String objectKey;
+
+    @Setup
+    public void setUp() {
+        objectKey = switch (keyType) {
+            case "ASCII_SHORT" -> "picture/a.jpg";
+            case "ASCII_LONG" -> "logs/2026/10/16/".repeat(30) + "part-000001.gz";
+            case "UNICODE_SHORT" -> "works/해외/my photo(캐나다).jpg";
+            case "UNICODE_LONG" -> "사진/여행 앨범/".repeat(30) + "바다 풍경 🌊.jpg";
+            default -> throw new IllegalArgumentException(keyType);
+        };
+    }
+
+    @Benchmark
+    public String encodePath() {
+        return UriUtils.encodePath(objectKey, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String encodePathSegment() {
+        return UriUtils.encodePathSegment(objectKey, StandardCharsets.UTF_8);
+    }
+}
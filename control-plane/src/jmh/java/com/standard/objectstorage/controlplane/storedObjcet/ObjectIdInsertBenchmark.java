@@ -0,0 +1,136 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.utils.UuidV7;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * TB_OBJECTS PK 방식별 insert 처리량 / clustered index 크기 비교 (MySQL 필요)
+ * <p>
+ * TB_OBJECTS 와 같은 구조의 테이블 두 개에 같은 수의 행을 batch insert 하고, 처리량과 ANALYZE 이후의
+ * data_length(clustered index) / index_length(UK_BUCKET_OBJECT_KEY) 를 출력합니다.
+ * <pre>
+ * ./gradlew objectIdInsertBenchmark -Prows=5000000
+ * </pre>
+ * 랜덤 PK 의 page split / buffer pool 경합은 테이블이 buffer pool 보다 커질 때 드러나므로,
+ * innodb_buffer_pool_size 보다 큰 행 수로 실행해야 차이를 확인할 수 있습니다.
+ */
+public class ObjectIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int REPORT_EVERY = 500_000;
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        try (Connection connection = DriverManager.getConnection(
+            jdbcUrl(), System.getenv("MYSQL_USER"), System.getenv("MYSQL_PASSWORD"))) {
+
+            Result v4 = run(connection, "bench_objects_v4", rows, UUID::randomUUID);
+            Result v7 = run(connection, "bench_objects_v7", rows, UuidV7::next);
+
+            System.out.println();
+            System.out.printf("%-18s %14s %14s %14s%n", "scheme", "rows/s", "data MB", "index MB");
+            v4.print("UUID v4 (random)");
+            v7.print("UUIDv7");
+        }
+    }
+
+    private static Result run(Connection connection, String table, int rows,
+        Supplier<UUID> ids) throws SQLException {
+
+        createTable(connection, table);
+        connection.setAutoCommit(false);
+
+        String sql = "insert into " + table
+            + " (id, bucket_id, object_key, storage_path, size, etag, status, created_at, updated_at)"
+            + " values (?, ?, ?, ?, ?, ?, 'COMPLETE', ?, ?)";
+
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= rows; i++) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                String key = "works/" + (i % 1_000) + "/object-" + i + ".bin";
+
+                ps.setBytes(1, UuidV7.toBytes(ids.get()));
+                ps.setLong(2, 1 + i % 16);
+                ps.setString(3, key);
+                ps.setString(4, "node-a/bucket/" + key);
+                ps.setLong(5, 1024);
+                ps.setString(6, "9e107d9d372bb6826bd81d3542a419d6");
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+                ps.addBatch();
+
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+                if (i % REPORT_EVERY == 0) {
+                    System.out.printf("%s : %,d rows, %.0f rows/s%n", table, i,
+                        i / seconds(start));
+                }
+            }
+        }
+        double throughput = rows / seconds(start);
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze table " + table);
+            try (ResultSet rs = statement.executeQuery(
+                "select data_length, index_length from information_schema.tables"
+                    + " where table_schema = database() and table_name = '" + table + "'")) {
+                rs.next();
+                return new Result(throughput, rs.getLong(1), rs.getLong(2));
+            }
+        }
+    }
+
+    private static void createTable(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("""
+                create table %s (
+                    id binary(16) not null primary key,
+                    bucket_id bigint not null,
+                    object_key varchar(512) not null,
+                    storage_path varchar(1024) not null,
+                    size bigint,
+                    etag varchar(255),
+                    status varchar(20) not null,
+                    created_at datetime(6) not null,
+                    updated_at datetime(6) not null,
+                    unique key UK_BUCKET_OBJECT_KEY (bucket_id, object_key)
+                )
+                """.formatted(table));
+        }
+    }
+
+    private static String jdbcUrl() {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+        if (url != null && !url.isBlank()) {
+            return url;
+        }
+        return "jdbc:mysql://localhost:" + System.getenv("MYSQL_PORT") + "/"
+            + System.getenv("MYSQL_DATABASE") + "?rewriteBatchedStatements=true";
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+
+    private record Result(double rowsPerSecond, long dataBytes, long indexBytes) {
+
+        void print(String scheme) {
+            System.out.printf("%-18s %,14.0f %,14.1f %,14.1f%n", scheme, rowsPerSecond,
+                dataBytes / 1024.0 / 1024.0, indexBytes / 1024.0 / 1024.0);
+        }
+    }
+}
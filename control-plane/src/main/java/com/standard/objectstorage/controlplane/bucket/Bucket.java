@@ -14,6 +14,10 @@ import java.time.LocalDateTime;
                         name = "UK_OWNER_NAME",
                         columnNames = {"owner_id", "name"}
                 )
+        },
+        indexes = {
+                // 목록 조회 keyset pagination (created_at DESC, id DESC)
+                @Index(name = "IDX_OWNER_CREATED_AT_ID", columnList = "owner_id, created_at, id")
         }
 )
 @Getter
@@ -36,12 +40,20 @@ public class Bucket {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 비동기 정리(purge) 진행 중 : 새 업로드 / 완료 보고를 받지 않음
+    @Column(nullable = false)
+    private boolean deleting;
+
     @Builder
     Bucket(String name, User owner) {
         this.name = name;
         this.owner = owner;
     }
 
+    public void markDeleting() {
+        this.deleting = true;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -1,11 +1,20 @@
 package com.standard.objectstorage.controlplane.bucket;
 
 import com.standard.objectstorage.controlplane.bucket.dto.BucketListResponse;
+import com.standard.objectstorage.controlplane.bucket.dto.BucketPurgeResponse;
 import com.standard.objectstorage.controlplane.bucket.dto.BucketResponse;
 import com.standard.objectstorage.controlplane.bucket.dto.CreateBucketRequest;
+import com.standard.objectstorage.controlplane.lifecycle.BucketLifecycleService;
+import com.standard.objectstorage.controlplane.lifecycle.dto.BucketLifecycleRequest;
+import com.standard.objectstorage.controlplane.lifecycle.dto.BucketLifecycleResponse;
+import com.standard.objectstorage.controlplane.usage.BucketUsageService;
+import com.standard.objectstorage.controlplane.usage.dto.BucketUsageResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/buckets")
@@ -13,6 +22,8 @@ import org.springframework.web.bind.annotation.*;
 public class BucketController {
 
     private final BucketService bucketService;
+    private final BucketUsageService bucketUsageService;
+    private final BucketLifecycleService bucketLifecycleService;
     public final long TEMP_USER_ID = 1;
 
     @PostMapping
@@ -25,13 +36,60 @@ public class BucketController {
     }
 
     @GetMapping()
-    public ResponseEntity<BucketListResponse> getBuckets() {
-        return ResponseEntity.ok(bucketService.getBuckets());
+    public ResponseEntity<BucketListResponse> getBuckets(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + BucketService.DEFAULT_PAGE_SIZE) int size) {
+
+        // TODO : 추후, USER ID를 실제 쿠키에서 추출하여 가져오도록 수정 필요
+        return ResponseEntity.ok(bucketService.getBuckets(this.TEMP_USER_ID, cursor, size));
+    }
+
+    // 전체 목록을 페이지 구분 없이 NDJSON 으로 응답
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBuckets() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(bucketService.streamBuckets(this.TEMP_USER_ID));
     }
 
+    // 객체가 남아있는 bucket 은 purge=true 인 경우 202 와 함께 비동기로 삭제
     @DeleteMapping("/{name}")
-    public ResponseEntity<Void> deleteBucket(@PathVariable String name) {
-        bucketService.deleteBucket(name);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BucketPurgeResponse> deleteBucket(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "false") boolean purge) {
+
+        return bucketService.deleteBucket(name, purge)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // 객체 수 / 전체 크기 (TB_OBJECTS 를 집계하지 않고 저장된 사용량 반환)
+    @GetMapping("/{name}/usage")
+    public ResponseEntity<BucketUsageResponse> getUsage(@PathVariable String name) {
+        return ResponseEntity.ok(bucketUsageService.getUsage(name));
+    }
+
+    // 만료 규칙 (PENDING / COMPLETE / FAILED 객체를 일정 기간 이후 삭제)
+    @GetMapping("/{name}/lifecycle")
+    public ResponseEntity<BucketLifecycleResponse> getLifecycle(@PathVariable String name) {
+        return ResponseEntity.ok(bucketLifecycleService.getRule(name));
+    }
+
+    @PutMapping("/{name}/lifecycle")
+    public ResponseEntity<BucketLifecycleResponse> putLifecycle(
+            @PathVariable String name,
+            @Valid @RequestBody BucketLifecycleRequest request) {
+        return ResponseEntity.ok(bucketLifecycleService.putRule(name, request));
+    }
+
+    // bucket 규칙을 지우고 기본값으로 되돌림
+    @DeleteMapping("/{name}/lifecycle")
+    public ResponseEntity<BucketLifecycleResponse> deleteLifecycle(@PathVariable String name) {
+        return ResponseEntity.ok(bucketLifecycleService.deleteRule(name));
+    }
+
+    @GetMapping("/{name}/purge")
+    public ResponseEntity<BucketPurgeResponse> getPurgeProgress(@PathVariable String name) {
+        return ResponseEntity.ok(bucketService.getPurgeProgress(name));
     }
 }
\ No newline at end of file
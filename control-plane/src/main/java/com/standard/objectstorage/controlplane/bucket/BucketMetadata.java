@@ -0,0 +1,13 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+/**
+ * 캐시되는 bucket 메타데이터 (변경 불가, 엔티티 / 지연 로딩 연관관계를 캐시에 두지 않음)
+ */
+public record BucketMetadata(
+    Long id,
+    String name,
+    Long ownerId,
+    boolean deleting
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+/**
+ * 객체가 남아있는 bucket 을 purge 없이 삭제하려는 경우
+ */
+public class BucketNotEmptyException extends RuntimeException {
+
+    public BucketNotEmptyException(String bucket) {
+        super("Bucket is not empty - bucket: " + bucket + " (purge=true 로 객체를 함께 삭제할 수 있습니다)");
+    }
+}
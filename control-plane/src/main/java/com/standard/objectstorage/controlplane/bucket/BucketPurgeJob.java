@@ -0,0 +1,125 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * bucket 비동기 정리 작업
+ * <p>
+ * lastObjectKey 까지 처리된 상태를 chunk 마다 기록하므로, 재시작 후에도 이어서 진행합니다.
+ * 여러 control plane 인스턴스 중 lease 를 획득한 인스턴스 하나만 작업을 진행합니다.
+ */
+@Entity
+@Table(
+        name = "TB_BUCKET_PURGE_JOBS",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UK_PURGE_BUCKET_ID", columnNames = {"bucket_id"})
+        },
+        indexes = {
+                @Index(name = "IDX_PURGE_STATUS", columnList = "status"),
+                @Index(name = "IDX_PURGE_BUCKET_NAME", columnList = "bucket_name")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BucketPurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_id", nullable = false)
+    private Long bucketId;
+
+    @Column(name = "bucket_name", nullable = false, length = 63)
+    private String bucketName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BucketPurgeStatus status;
+
+    // 처리가 끝난 마지막 object key (keyset cursor)
+    @Column(length = 512)
+    private String lastObjectKey;
+
+    @Column(nullable = false)
+    private long deletedObjects;
+
+    @Column(nullable = false)
+    private long failedObjects;
+
+    @Column(length = 100)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public static BucketPurgeJob start(Bucket bucket) {
+        return BucketPurgeJob.builder()
+                .bucketId(bucket.getId())
+                .bucketName(bucket.getName())
+                .status(BucketPurgeStatus.RUNNING)
+                .build();
+    }
+
+    /**
+     * 실패한 작업을 처음부터 다시 진행합니다. (이미 삭제된 객체는 다시 조회되지 않음)
+     */
+    public void restart() {
+        this.status = BucketPurgeStatus.RUNNING;
+        this.lastObjectKey = null;
+        this.failedObjects = 0;
+        this.lastError = null;
+        this.completedAt = null;
+    }
+
+    /**
+     * 마지막 chunk 이후 새로 기록된 객체를 처리하기 위해 처음부터 다시 조회합니다.
+     */
+    public void rewind() {
+        this.lastObjectKey = null;
+    }
+
+    public void complete() {
+        this.status = BucketPurgeStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        releaseLease();
+    }
+
+    public void fail(String error) {
+        this.status = BucketPurgeStatus.FAILED;
+        this.lastError = error;
+        this.completedAt = LocalDateTime.now();
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,64 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BucketPurgeJobRepository extends JpaRepository<BucketPurgeJob, Long> {
+
+    Optional<BucketPurgeJob> findByBucketId(Long bucketId);
+
+    Optional<BucketPurgeJob> findFirstByBucketNameOrderByIdDesc(String bucketName);
+
+    // 진행 중이고 lease 가 없거나 만료된 작업 (재시작 / 다른 인스턴스 중단 후 이어서 진행)
+    @Query("""
+            select j.id
+            from BucketPurgeJob j
+            where j.status = com.standard.objectstorage.controlplane.bucket.BucketPurgeStatus.RUNNING
+              and (j.leaseUntil is null or j.leaseUntil < :now)
+            """)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now);
+
+    // 조건부 update 로 한 인스턴스만 lease 획득
+    @Transactional
+    @Modifying
+    @Query("""
+            update BucketPurgeJob j
+            set j.leaseOwner = :owner, j.leaseUntil = :leaseUntil
+            where j.id = :id
+              and j.status = com.standard.objectstorage.controlplane.bucket.BucketPurgeStatus.RUNNING
+              and (j.leaseUntil is null or j.leaseUntil < :now)
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // chunk 처리 결과 기록 + lease 연장 (lease 를 잃었으면 0)
+    @Modifying
+    @Query("""
+            update BucketPurgeJob j
+            set j.lastObjectKey = :lastObjectKey,
+                j.deletedObjects = j.deletedObjects + :deleted,
+                j.failedObjects = j.failedObjects + :failed,
+                j.leaseUntil = :leaseUntil,
+                j.updatedAt = :now
+            where j.id = :id
+              and j.leaseOwner = :owner
+            """)
+    int recordProgress(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("lastObjectKey") String lastObjectKey,
+            @Param("deleted") long deleted,
+            @Param("failed") long failed,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,54 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import com.standard.objectstorage.controlplane.bucket.dto.BucketPurgeResponse;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class BucketPurgeService {
+
+    private final BucketRepository bucketRepository;
+    private final BucketPurgeJobRepository bucketPurgeJobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * bucket 을 삭제 중으로 표시하고 정리 작업을 등록합니다. 실제 삭제는 BucketPurgeWorker 가 비동기로 진행합니다.
+     * 이미 등록된 작업이 있으면 그대로 반환하고, 실패한 작업은 처음부터 다시 진행합니다.
+     */
+    public BucketPurgeResponse start(Long bucketId) {
+        BucketPurgeJob job = transactionTemplate.execute(status -> {
+            Bucket bucket = bucketRepository.findById(bucketId)
+                    .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+            if (!bucket.isDeleting()) {
+                bucket.markDeleting();
+                bucketRepository.save(bucket); // 캐시 무효화 -> 이후 업로드 발급 거절
+            }
+
+            return bucketPurgeJobRepository.findByBucketId(bucketId)
+                    .map(existing -> {
+                        if (existing.getStatus() == BucketPurgeStatus.FAILED) {
+                            existing.restart();
+                        }
+                        return existing;
+                    })
+                    .orElseGet(() -> bucketPurgeJobRepository.save(BucketPurgeJob.start(bucket)));
+        });
+        return BucketPurgeResponse.from(job);
+    }
+
+    /**
+     * 가장 최근 정리 작업의 진행 상황 (bucket 이 삭제된 후에도 조회 가능)
+     */
+    public BucketPurgeResponse getProgress(String bucketName) {
+        // 정리 요청 직후 조회가 복제 지연으로 없음이 되지 않도록 replica 에 없으면 primary 에서 다시 조회
+        return ReadRouting.rereadOnPrimaryIf(Optional::isEmpty,
+                        () -> bucketPurgeJobRepository.findFirstByBucketNameOrderByIdDesc(bucketName))
+                .map(BucketPurgeResponse::from)
+                .orElseThrow(() -> new IllegalArgumentException("Purge job not found"));
+    }
+}
@@ -0,0 +1,7 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+public enum BucketPurgeStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED // storage node 에서 삭제하지 못한 객체가 남음 (다시 삭제 요청 시 재시작)
+}
@@ -0,0 +1,278 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import com.standard.objectstorage.controlplane.lifecycle.BucketLifecycleService;
+import com.standard.objectstorage.controlplane.replication.ObjectReplicaRepository;
+import com.standard.objectstorage.controlplane.replication.ReplicaDeleteTargets;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storage.PresignedGetUrlCache;
+import com.standard.objectstorage.controlplane.storage.StorageObjectDeleter;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectLocationCache;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectRepository;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import com.standard.objectstorage.controlplane.usage.BucketUsageService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * bucket 정리 작업 실행기
+ * <p>
+ * - TB_OBJECTS 를 (bucket_id, object_key) keyset 순서로 CHUNK_SIZE 개씩 조회합니다.
+ * - chunk 의 파일(COMPLETE 는 복제본 포함)을 storage node 에서 삭제한 뒤(동시 요청 수 제한 / 재시도), 모든 파일이
+ *   삭제된 객체의 행과 복제본 위치만 bucket 의 shard 에서 한 트랜잭션으로 지우고 진행 위치를 GLOBAL DB 에 기록합니다.
+ *   테이블 전체를 잠그거나 긴 트랜잭션을 열지 않습니다.
+ * - 진행 위치 기록 전에 중단되면 같은 위치부터 다시 처리합니다. (storage node 삭제 / 행 삭제 모두 멱등)
+ * - bucket 의 shard 가 분할 중(FROZEN)이면 멈추고, lease 가 만료된 뒤 이어서 진행합니다.
+ * - lease 를 획득한 인스턴스만 진행하고, lease 가 만료되면(인스턴스 중단) 다른 인스턴스 / 재시작 후 이어서 진행합니다.
+ */
+@Component
+public class BucketPurgeWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BucketPurgeWorker.class);
+
+    private final BucketRepository bucketRepository;
+    private final BucketPurgeJobRepository bucketPurgeJobRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ShardMap shardMap;
+    private final ObjectLocationCache objectLocationCache;
+    private final PresignedGetUrlCache presignedGetUrlCache;
+    private final StorageObjectDeleter storageObjectDeleter;
+    private final ReplicaDeleteTargets replicaDeleteTargets;
+    private final ObjectReplicaRepository objectReplicaRepository;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final BucketUsageService bucketUsageService;
+    private final BucketLifecycleService bucketLifecycleService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService purgeExecutor;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final int chunkSize;
+    private final Duration lease;
+
+    private volatile boolean stopped;
+
+    public BucketPurgeWorker(
+            BucketRepository bucketRepository,
+            BucketPurgeJobRepository bucketPurgeJobRepository,
+            StoredObjectRepository storedObjectRepository,
+            ShardMap shardMap,
+            ObjectLocationCache objectLocationCache,
+            PresignedGetUrlCache presignedGetUrlCache,
+            StorageObjectDeleter storageObjectDeleter,
+            ReplicaDeleteTargets replicaDeleteTargets,
+            ObjectReplicaRepository objectReplicaRepository,
+            BucketUsageRecorder bucketUsageRecorder,
+            BucketUsageService bucketUsageService,
+            BucketLifecycleService bucketLifecycleService,
+            TransactionTemplate transactionTemplate,
+            @Value("${BUCKET_PURGE_CHUNK_SIZE:500}") int chunkSize,
+            @Value("${BUCKET_PURGE_WORKERS:1}") int workers,
+            @Value("${BUCKET_PURGE_LEASE_MS:300000}") long leaseMillis
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.bucketPurgeJobRepository = bucketPurgeJobRepository;
+        this.storedObjectRepository = storedObjectRepository;
+        this.shardMap = shardMap;
+        this.objectLocationCache = objectLocationCache;
+        this.presignedGetUrlCache = presignedGetUrlCache;
+        this.storageObjectDeleter = storageObjectDeleter;
+        this.replicaDeleteTargets = replicaDeleteTargets;
+        this.objectReplicaRepository = objectReplicaRepository;
+        this.bucketUsageRecorder = bucketUsageRecorder;
+        this.bucketUsageService = bucketUsageService;
+        this.bucketLifecycleService = bucketLifecycleService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.purgeExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "bucket-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 진행할 작업을 찾아 lease 를 획득하고 전용 스레드에서 실행합니다. (스케줄러 스레드를 점유하지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "${BUCKET_PURGE_INTERVAL_MS:5000}",
+            fixedDelayString = "${BUCKET_PURGE_INTERVAL_MS:5000}"
+    )
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long jobId : bucketPurgeJobRepository.findClaimableIds(now)) {
+            if (stopped || running.contains(jobId)) {
+                continue;
+            }
+            if (bucketPurgeJobRepository.claim(jobId, owner, now, now.plus(lease)) == 0) {
+                continue; // 다른 인스턴스가 진행 중
+            }
+
+            running.add(jobId);
+            purgeExecutor.execute(() -> {
+                try {
+                    purge(jobId);
+                } catch (RuntimeException e) {
+                    // lease 가 만료되면 다시 시도
+                    log.error("Bucket 정리 중단 - jobId: {}", jobId, e);
+                } finally {
+                    running.remove(jobId);
+                }
+            });
+        }
+    }
+
+    private void purge(Long jobId) {
+        BucketPurgeJob job = bucketPurgeJobRepository.findById(jobId).orElseThrow();
+        log.info("Bucket 정리 시작 - bucket: {}, jobId: {}, from: {}", job.getBucketName(), jobId,
+                job.getLastObjectKey());
+
+        Long bucketId = job.getBucketId();
+        String afterKey = job.getLastObjectKey() == null ? "" : job.getLastObjectKey();
+        while (!stopped) {
+            if (shardMap.isFrozen(bucketId)) {
+                log.info("Bucket 정리 보류 - shard 분할 중, lease 만료 후 이어서 진행합니다. jobId: {}", jobId);
+                return;
+            }
+
+            String from = afterKey;
+            List<ObjectDeleteTarget> chunk = shardMap.onBucket(bucketId,
+                    () -> storedObjectRepository.findDeleteTargetsAfter(bucketId, from,
+                            Limit.of(chunkSize)));
+            if (chunk.isEmpty()) {
+                if (finish(jobId, bucketId)) {
+                    return;
+                }
+                afterKey = "";
+                continue;
+            }
+
+            List<ObjectDeleteTarget> deleted = deleteFiles(bucketId, job.getBucketName(), chunk);
+            String lastKey = chunk.get(chunk.size() - 1).objectKey();
+
+            boolean recorded = recordChunk(jobId, bucketId, deleted, lastKey,
+                    chunk.size() - deleted.size());
+            deleted.forEach(target -> {
+                objectLocationCache.evict(bucketId, target.objectKey());
+                presignedGetUrlCache.evict(job.getBucketName(), target.objectKey());
+            });
+            recordUsage(bucketId, deleted);
+            if (!recorded) {
+                log.warn("Bucket 정리 lease 만료 - 다른 인스턴스가 이어서 진행합니다. jobId: {}", jobId);
+                return;
+            }
+            afterKey = lastKey;
+        }
+    }
+
+    /**
+     * 복제본까지 모든 파일이 삭제된(또는 이미 없는) 객체만 반환합니다.
+     */
+    private List<ObjectDeleteTarget> deleteFiles(Long bucketId, String bucketName,
+            List<ObjectDeleteTarget> chunk) {
+        List<ObjectDeleteTarget> targets = replicaDeleteTargets.withReplicas(bucketId, bucketName, chunk);
+        Set<UUID> failed = ReplicaDeleteTargets.failedIds(targets,
+                storageObjectDeleter.deleteAll(bucketName, targets));
+        return chunk.stream()
+                .filter(target -> !failed.contains(target.id()))
+                .toList();
+    }
+
+    private void recordUsage(Long bucketId, List<ObjectDeleteTarget> deleted) {
+        long objects = 0;
+        long bytes = 0;
+        for (ObjectDeleteTarget target : deleted) {
+            if (target.isComplete()) {
+                objects++;
+                bytes += target.size() == null ? 0 : target.size();
+            }
+        }
+        bucketUsageRecorder.record(bucketId, -objects, -bytes);
+    }
+
+    /**
+     * 삭제된 객체 / 복제본 위치 행 제거(bucket 의 shard) 후 진행 위치 기록(GLOBAL) - 각각 한 chunk 크기의 짧은 트랜잭션
+     * 서로 다른 DB 이므로 한 트랜잭션으로 묶지 않으며, 진행 위치 기록이 실패해도 행 삭제는 다시 해도 같은 결과입니다.
+     */
+    private boolean recordChunk(Long jobId, Long bucketId, List<ObjectDeleteTarget> deleted,
+            String lastKey, int failed) {
+        if (!deleted.isEmpty()) {
+            List<UUID> ids = deleted.stream().map(ObjectDeleteTarget::id).toList();
+            shardMap.runOnBucket(bucketId, () -> transactionTemplate.executeWithoutResult(status -> {
+                storedObjectRepository.deleteAllByIdInBatch(ids);
+                objectReplicaRepository.deleteByObjectIds(ids);
+            }));
+        }
+
+        Integer updated = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return bucketPurgeJobRepository.recordProgress(jobId, owner, lastKey,
+                    deleted.size(), failed, now, now.plus(lease));
+        });
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 조회가 끝난 작업을 마무리합니다. 처음부터 다시 조회해야 하면 false 를 반환합니다.
+     */
+    private boolean finish(Long jobId, Long bucketId) {
+        // 객체 행은 bucket 의 shard 에 있으므로 GLOBAL 트랜잭션 전에 확인
+        boolean remaining = shardMap.onBucket(bucketId,
+                () -> storedObjectRepository.existsByBucketId(bucketId));
+        AtomicBoolean completed = new AtomicBoolean();
+
+        Boolean finished = transactionTemplate.execute(status -> {
+            BucketPurgeJob job = bucketPurgeJobRepository.findById(jobId).orElseThrow();
+            if (!owner.equals(job.getLeaseOwner())) {
+                return true;
+            }
+
+            if (job.getFailedObjects() > 0) {
+                job.fail("storage node 에서 삭제하지 못한 객체 " + job.getFailedObjects() + "개가 남아있습니다.");
+                log.warn("Bucket 정리 실패 - bucket: {}, failed: {}", job.getBucketName(),
+                        job.getFailedObjects());
+                return true;
+            }
+            if (remaining) {
+                // 삭제 표시 전에 발급된 업로드가 cursor 앞쪽에 기록된 경우 : 다음 실행에서 처음부터 다시 조회
+                job.rewind();
+                return false;
+            }
+
+            bucketRepository.findById(job.getBucketId()).ifPresent(bucketRepository::delete);
+            job.complete();
+            completed.set(true);
+            log.info("Bucket 정리 완료 - bucket: {}, deleted: {}", job.getBucketName(),
+                    job.getDeletedObjects());
+            return true;
+        });
+        if (completed.get()) {
+            bucketUsageService.remove(bucketId);
+            bucketLifecycleService.remove(bucketId);
+        }
+        return !Boolean.FALSE.equals(finished);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        purgeExecutor.shutdown();
+    }
+}
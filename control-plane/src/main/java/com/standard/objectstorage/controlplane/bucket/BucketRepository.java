@@ -1,14 +1,95 @@
 package com.standard.objectstorage.controlplane.bucket;
 
-import com.standard.objectstorage.controlplane.user.User;
-import org.springframework.data.domain.Sort;
+import com.standard.objectstorage.controlplane.bucket.dto.BucketResponse;
+import com.standard.objectstorage.controlplane.cache.CacheNames;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface BucketRepository extends JpaRepository<Bucket, Long> {
+    // 캐시에는 변경 불가능한 projection 만 저장 (엔티티 / owner proxy 를 공유하지 않음)
+    // replica 에서 찾지 못하면 primary 에서 다시 조회 (복제 지연으로 생성 직후 bucket 이 없음으로 캐시되지 않도록)
+    @Cacheable(cacheNames = CacheNames.BUCKETS_BY_NAME, key = "#p0")
+    default Optional<BucketMetadata> findMetadataByName(String name) {
+        return ReadRouting.rereadOnPrimaryIf(Optional::isEmpty, () -> findBucketMetadata(name));
+    }
+
+    @Cacheable(cacheNames = CacheNames.BUCKET_EXISTS, key = "#p0 + '/' + #p1")
+    default boolean existsByOwnerIdAndName(Long ownerId, String bucketName) {
+        return ReadRouting.rereadOnPrimaryIf(exists -> !exists,
+                () -> existsBucketByOwnerIdAndName(ownerId, bucketName));
+    }
+
+    @Query("""
+            select new com.standard.objectstorage.controlplane.bucket.BucketMetadata(
+                b.id, b.name, b.owner.id, b.deleting)
+            from Bucket b
+            where b.name = :name
+            """)
+    Optional<BucketMetadata> findBucketMetadata(@Param("name") String name);
+
+    // 쓰기 경로의 삭제 중 확인 (캐시하지 않음)
+    // 다른 인스턴스에서 정리를 시작해도 캐시 TTL 동안 업로드 / 완료 기록을 받지 않도록 호출하는 쪽에서 primary 로 조회
+    @Query("select b.deleting from Bucket b where b.id = :id")
+    Optional<Boolean> findDeletingById(@Param("id") Long id);
+
+    // 삭제 등 엔티티가 필요한 경우 (캐시하지 않음)
     Optional<Bucket> findByName(String name);
-    List<Bucket> findAll(Sort sort);
-    boolean existsByOwnerAndName(User owner, String bucketName);
+
+    boolean existsBucketByOwnerIdAndName(Long ownerId, String bucketName);
+
+    // 목록 조회 (keyset pagination, IDX_OWNER_CREATED_AT_ID 사용, Bucket / User 엔티티를 로딩하지 않음)
+    @Query("""
+            select new com.standard.objectstorage.controlplane.bucket.dto.BucketResponse(b.id, b.name, b.createdAt)
+            from Bucket b
+            where b.owner.id = :ownerId
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BucketResponse> findFirstPageByOwner(@Param("ownerId") Long ownerId, Limit limit);
+
+    @Query("""
+            select new com.standard.objectstorage.controlplane.bucket.dto.BucketResponse(b.id, b.name, b.createdAt)
+            from Bucket b
+            where b.owner.id = :ownerId
+              and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BucketResponse> findPageByOwnerAfter(
+            @Param("ownerId") Long ownerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    // 전체 bucket 순회 (PK range scan, 사용량 reconcile)
+    @Query("""
+            select b.id
+            from Bucket b
+            where b.id > :afterId
+            order by b.id asc
+            """)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 생성 / 삭제 시 해당 bucket 의 캐시(없음 결과 포함)를 즉시 무효화
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.BUCKETS_BY_NAME, key = "#p0.name"),
+            @CacheEvict(cacheNames = CacheNames.BUCKET_EXISTS, key = "#p0.owner.id + '/' + #p0.name")
+    })
+    <S extends Bucket> S save(S bucket);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.BUCKETS_BY_NAME, key = "#p0.name"),
+            @CacheEvict(cacheNames = CacheNames.BUCKET_EXISTS, key = "#p0.owner.id + '/' + #p0.name")
+    })
+    void delete(Bucket bucket);
 }
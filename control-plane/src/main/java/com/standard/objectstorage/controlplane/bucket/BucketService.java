@@ -1,27 +1,47 @@
 package com.standard.objectstorage.controlplane.bucket;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.standard.objectstorage.controlplane.bucket.dto.BucketListResponse;
+import com.standard.objectstorage.controlplane.bucket.dto.BucketPurgeResponse;
 import com.standard.objectstorage.controlplane.bucket.dto.BucketResponse;
 import com.standard.objectstorage.controlplane.bucket.dto.CreateBucketRequest;
+import com.standard.objectstorage.controlplane.lifecycle.BucketLifecycleService;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectRepository;
+import com.standard.objectstorage.controlplane.usage.BucketUsageService;
 import com.standard.objectstorage.controlplane.user.User;
 import com.standard.objectstorage.controlplane.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class BucketService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     private final BucketRepository bucketRepository;
     private final UserService userService;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ShardMap shardMap;
+    private final BucketPurgeService bucketPurgeService;
+    private final BucketUsageService bucketUsageService;
+    private final BucketLifecycleService bucketLifecycleService;
+    private final ObjectMapper objectMapper;
 
     public BucketResponse createBucket(CreateBucketRequest request, Long userId) {
-        User user = userService.getUser(userId);
+        User user = userService.getUserReference(userId);
 
-        if (bucketRepository.existsByOwnerAndName(user, request.getName())) {
+        if (bucketRepository.existsByOwnerIdAndName(user.getId(), request.getName())) {
             throw new IllegalArgumentException("이미 존재하는 Bucket 입니다.");
         }
 
@@ -31,6 +51,7 @@ public class BucketService {
                 .build();
 
         Bucket saved = bucketRepository.save(bucket);
+        bucketUsageService.initialize(saved.getId());
 
         return BucketResponse.builder()
                 .id(saved.getId())
@@ -39,28 +60,93 @@ public class BucketService {
                 .build();
     }
 
-    public BucketListResponse getBuckets() {
-        List<BucketResponse> bucketResponses = bucketRepository
-                .findAll(Sort.by(Sort.Direction.DESC, "createdAt"))
-                .stream()
-                .map(bucket -> BucketResponse.builder()
-                        .id(bucket.getId())
-                        .name(bucket.getName())
-                        .createdAt(bucket.getCreatedAt())
-                        .build())
-                .toList();
+    /**
+     * owner 의 bucket 목록을 최신순으로 조회합니다. (createdAt, id) keyset pagination
+     */
+    public BucketListResponse getBuckets(Long ownerId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<BucketResponse> rows = findPage(ownerId,
+                cursor == null || cursor.isBlank() ? null : BucketCursor.decode(cursor),
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            BucketResponse last = rows.get(pageSize - 1);
+            nextCursor = new BucketCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
         return BucketListResponse.builder()
-                .buckets(bucketResponses)
+                .buckets(rows)
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    public void deleteBucket(String name) {
+    /**
+     * owner 의 bucket 전체를 NDJSON 으로 응답에 바로 기록합니다.
+     * STREAM_PAGE_SIZE 단위 keyset 조회를 반복하므로 전체 목록을 메모리에 만들지 않습니다.
+     */
+    public StreamingResponseBody streamBuckets(Long ownerId) {
+        return out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            BucketCursor cursor = null;
+            List<BucketResponse> rows;
+            do {
+                rows = findPage(ownerId, cursor, STREAM_PAGE_SIZE);
+                for (BucketResponse row : rows) {
+                    objectMapper.writeValue(generator, row);
+                }
+                generator.flush();
+
+                if (!rows.isEmpty()) {
+                    BucketResponse last = rows.get(rows.size() - 1);
+                    cursor = new BucketCursor(last.getCreatedAt(), last.getId());
+                }
+            } while (rows.size() == STREAM_PAGE_SIZE);
+
+            generator.writeRaw('\n');
+            generator.flush();
+        };
+    }
+
+    private List<BucketResponse> findPage(Long ownerId, BucketCursor cursor, int limit) {
+        if (cursor == null) {
+            return bucketRepository.findFirstPageByOwner(ownerId, Limit.of(limit));
+        }
+        return bucketRepository.findPageByOwnerAfter(ownerId, cursor.createdAt(), cursor.id(),
+                Limit.of(limit));
+    }
+
+    /**
+     * 빈 bucket 은 바로 삭제합니다.
+     * 객체가 남아있으면 purge=true 인 경우에만 정리 작업을 등록하고(비동기 삭제), 아니면 BucketNotEmptyException
+     *
+     * @return 정리 작업이 등록된 경우 진행 상황
+     */
+    public Optional<BucketPurgeResponse> deleteBucket(String name, boolean purge) {
         Bucket bucket = bucketRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
 
-        // TODO: 추후 Object 추가 될 경우, Bucket이 비워졌는지 확인 검증 필요
+        if (bucket.isDeleting() || shardMap.onBucket(bucket.getId(),
+                () -> storedObjectRepository.existsByBucketId(bucket.getId()))) {
+            if (!purge) {
+                throw new BucketNotEmptyException(name);
+            }
+            return Optional.of(bucketPurgeService.start(bucket.getId()));
+        }
 
         bucketRepository.delete(bucket);
+        bucketUsageService.remove(bucket.getId());
+        bucketLifecycleService.remove(bucket.getId());
+        return Optional.empty();
+    }
+
+    public BucketPurgeResponse getPurgeProgress(String name) {
+        return bucketPurgeService.getProgress(name);
     }
 }
\ No newline at end of file
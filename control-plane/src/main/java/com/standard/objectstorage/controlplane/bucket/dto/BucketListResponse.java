@@ -9,4 +9,7 @@ import java.util.List;
 @Builder
 public class BucketListResponse {
     private List<BucketResponse> buckets;
+
+    // 다음 페이지 조회용 cursor (마지막 페이지면 null)
+    private String nextCursor;
 }
\ No newline at end of file
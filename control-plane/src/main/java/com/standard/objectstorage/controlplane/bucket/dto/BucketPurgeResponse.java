@@ -0,0 +1,40 @@
+package com.standard.objectstorage.controlplane.bucket.dto;
+
+import com.standard.objectstorage.controlplane.bucket.BucketPurgeJob;
+import com.standard.objectstorage.controlplane.bucket.BucketPurgeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class BucketPurgeResponse {
+    private Long jobId;
+    private String bucket;
+    private BucketPurgeStatus status;
+    private long deletedObjects;
+    private long failedObjects;
+
+    // 처리가 끝난 마지막 object key (진행 위치)
+    private String lastObjectKey;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public static BucketPurgeResponse from(BucketPurgeJob job) {
+        return BucketPurgeResponse.builder()
+                .jobId(job.getId())
+                .bucket(job.getBucketName())
+                .status(job.getStatus())
+                .deletedObjects(job.getDeletedObjects())
+                .failedObjects(job.getFailedObjects())
+                .lastObjectKey(job.getLastObjectKey())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
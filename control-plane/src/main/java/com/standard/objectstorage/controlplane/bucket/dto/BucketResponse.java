@@ -1,5 +1,6 @@
 package com.standard.objectstorage.controlplane.bucket.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 projection 에서 사용
 public class BucketResponse {
     private Long id;
     private String name;
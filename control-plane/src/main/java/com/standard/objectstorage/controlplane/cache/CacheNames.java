@@ -0,0 +1,22 @@
+package com.standard.objectstorage.controlplane.cache;
+
+/**
+ * 메타데이터 캐시 이름 (application.yml 의 spring.cache.cache-names 와 일치해야 합니다)
+ */
+public final class CacheNames {
+
+    // userId -> UserMetadata
+    public static final String USERS = "users";
+
+    // bucket name -> BucketMetadata
+    public static final String BUCKETS_BY_NAME = "bucketsByName";
+
+    // "{ownerId}/{bucket name}" -> 존재 여부
+    public static final String BUCKET_EXISTS = "bucketExists";
+
+    // (bucketId, objectKey) -> ObjectLocation (크기 / TTL 이 달라 ObjectLocationCacheConfig 에서 별도 등록)
+    public static final String OBJECT_LOCATIONS = "objectLocations";
+
+    private CacheNames() {
+    }
+}
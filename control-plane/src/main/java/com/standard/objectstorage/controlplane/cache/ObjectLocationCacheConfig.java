@@ -0,0 +1,34 @@
+package com.standard.objectstorage.controlplane.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GET 발급 시 객체 위치 조회 near cache
+ * <p>
+ * 변경은 같은 인스턴스에서 즉시 무효화되지만, 다른 control plane 인스턴스의 변경은 TTL 이 지나야 반영되므로
+ * 메타데이터 캐시보다 짧은 TTL 을 사용합니다.
+ */
+@Configuration
+public class ObjectLocationCacheConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> objectLocationCacheCustomizer(
+        @Value("${OBJECT_LOCATION_CACHE_MAX_SIZE:200000}") long maximumSize,
+        @Value("${OBJECT_LOCATION_CACHE_TTL:60s}") Duration ttl
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+            CacheNames.OBJECT_LOCATIONS,
+            Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build()
+        );
+    }
+}
@@ -1,7 +1,17 @@
 package com.standard.objectstorage.controlplane.exception;
 
+import com.standard.objectstorage.controlplane.bucket.BucketNotEmptyException;
+import com.standard.objectstorage.controlplane.node.StorageNodeUnavailableException;
+import com.standard.objectstorage.controlplane.shard.ShardMigratingException;
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimitExceededException;
+import com.standard.objectstorage.controlplane.storedObjcet.MultipartUploadNotFoundException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeletingException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectInUseException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectNotFoundException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -33,4 +43,68 @@ public class GlobalExceptionHandler {
         error.put("error", "잘못된 JSON 형식입니다.");
         return ResponseEntity.badRequest().body(error);
     }
+
+    @ExceptionHandler(ObjectNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleObjectNotFoundException(
+        ObjectNotFoundException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(MultipartUploadNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleMultipartUploadNotFoundException(
+        MultipartUploadNotFoundException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(BucketNotEmptyException.class)
+    public ResponseEntity<Map<String, String>> handleBucketNotEmptyException(
+        BucketNotEmptyException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(ObjectInUseException.class)
+    public ResponseEntity<Map<String, String>> handleObjectInUseException(
+        ObjectInUseException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectDeletingException.class)
+    public ResponseEntity<Map<String, String>> handleObjectDeletingException(
+        ObjectDeletingException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimitExceededException(
+        RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ShardMigratingException.class)
+    public ResponseEntity<Map<String, String>> handleShardMigratingException(
+        ShardMigratingException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(StorageNodeUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleStorageNodeUnavailableException(
+        StorageNodeUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("error", ex.getMessage()));
+    }
 }
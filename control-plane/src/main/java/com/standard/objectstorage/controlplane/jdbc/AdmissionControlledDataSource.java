@@ -0,0 +1,63 @@
+package com.standard.objectstorage.controlplane.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 획득 시 JdbcAdmissionControl 허가를 먼저 얻고, 커넥션 close 시 반납하는 DataSource
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final JdbcAdmissionControl admissionControl;
+
+    public AdmissionControlledDataSource(DataSource target, JdbcAdmissionControl admissionControl) {
+        super(target);
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        admissionControl.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            admissionControl.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        admissionControl.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            admissionControl.release();
+            throw e;
+        }
+    }
+
+    private Connection releasing(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    // close 가 실패하더라도 허가는 한 번만 반납
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        admissionControl.release();
+                    }
+                }
+            });
+    }
+}
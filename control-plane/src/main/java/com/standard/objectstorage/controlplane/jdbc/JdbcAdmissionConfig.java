@@ -0,0 +1,53 @@
+package com.standard.objectstorage.controlplane.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * jdbc.admission.enabled=true 일 때 DataSource 를 AdmissionControlledDataSource 로 감쌉니다.
+ * (virtual-threads 프로필에서 활성화)
+ * <p>
+ * replica 분기(ReadWriteRoutingConfig) / shard 분기(ShardingConfig)보다 먼저 적용되어 primary 풀만 감쌉니다.
+ * replica / shard 풀은 각 설정에서 풀마다 따로 감쌉니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.admission.enabled", havingValue = "true")
+public class JdbcAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcAdmissionDataSourceWrapper(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${jdbc.admission.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+        int maxConcurrency,
+        @Value("${jdbc.admission.timeout-ms:30000}") long timeoutMillis
+    ) {
+        return new OrderedDataSourceWrapper() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof AdmissionControlledDataSource)) {
+                    JdbcAdmissionControl admissionControl = new JdbcAdmissionControl(
+                        beanName, maxConcurrency, timeoutMillis, meterRegistry.getObject());
+                    return new AdmissionControlledDataSource(dataSource, admissionControl);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 분기 DataSource 를 감싸면 하나의 허가 수가 primary / replica / shard 전체에 적용되므로 가장 먼저 적용
+    private interface OrderedDataSourceWrapper extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 2;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.standard.objectstorage.controlplane.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 커넥션 획득 전 동시 요청 수를 connection pool 크기로 제한합니다.
+ * <p>
+ * virtual thread 는 개수 제한이 없어 요청이 몰리면 Hikari 대기열에서 connectionTimeout 까지 기다리다 실패합니다.
+ * 공정(fair) 세마포어에서 먼저 대기시키면 대기 비용이 virtual thread park 수준으로 줄고, 대기 수 / 대기 시간을
+ * 측정할 수 있습니다.
+ */
+public class JdbcAdmissionControl {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public JdbcAdmissionControl(
+        String dataSourceName,
+        int maxPermits,
+        long timeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutMillis = timeoutMillis;
+
+        this.waitTimer = Timer.builder("jdbc.admission.wait")
+            .description("JDBC 커넥션 획득 허가 대기 시간")
+            .tag("datasource", dataSourceName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejected = Counter.builder("jdbc.admission.rejected")
+            .description("대기 시간 초과로 거절된 JDBC 커넥션 요청 수")
+            .tag("datasource", dataSourceName)
+            .register(meterRegistry);
+        Gauge.builder("jdbc.admission.queue", permits, Semaphore::getQueueLength)
+            .description("JDBC 커넥션 획득 허가 대기 중인 요청 수")
+            .tag("datasource", dataSourceName)
+            .register(meterRegistry);
+        Gauge.builder("jdbc.admission.active", this, control -> control.activeCount())
+            .description("JDBC 커넥션 획득 허가를 보유 중인 요청 수")
+            .tag("datasource", dataSourceName)
+            .register(meterRegistry);
+    }
+
+    public void acquire() throws SQLTransientConnectionException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("JDBC 커넥션 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                "JDBC 커넥션 대기 시간이 초과되었습니다. (" + timeoutMillis + "ms)");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private int activeCount() {
+        return maxPermits - permits.availablePermits();
+    }
+}
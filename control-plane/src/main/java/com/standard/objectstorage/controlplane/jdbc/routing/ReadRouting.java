@@ -0,0 +1,58 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션의 replica 분기를 호출 단위로 조정합니다. (jdbc.routing.enabled=false 이면 영향 없음)
+ * <p>
+ * - onPrimary : 쓰기 직전의 확인 조회(중복 검사 등)처럼 최신 값이 필요한 조회를 primary 로 보냅니다.
+ * - rereadOnPrimaryIf : replica 결과가 복제 지연으로 오래된 값일 수 있으면(없음 / 미완료) primary 에서 다시 조회합니다.
+ *   캐시를 채우는 조회에서 지연된 "없음" 결과가 TTL 동안 남지 않도록 사용합니다.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> SERVED_BY_REPLICA = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * replica 에서 조회한 결과가 stale 조건을 만족하면 primary 에서 한 번 더 조회합니다.
+     * primary 에서 조회된 경우(분기 비활성화 / replica 없음)에는 다시 조회하지 않습니다.
+     */
+    public static <T> T rereadOnPrimaryIf(Predicate<? super T> stale, Supplier<T> read) {
+        SERVED_BY_REPLICA.remove();
+        T result = read.get();
+        boolean servedByReplica = Boolean.TRUE.equals(SERVED_BY_REPLICA.get());
+        SERVED_BY_REPLICA.remove();
+
+        if (servedByReplica && stale.test(result)) {
+            return onPrimary(read);
+        }
+        return result;
+    }
+
+    static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY.get());
+    }
+
+    static void markServedByReplica() {
+        SERVED_BY_REPLICA.set(Boolean.TRUE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import com.standard.objectstorage.controlplane.jdbc.AdmissionControlledDataSource;
+import com.standard.objectstorage.controlplane.jdbc.JdbcAdmissionControl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * jdbc.routing.enabled=true 일 때 DataSource 를 ReadWriteRoutingDataSource 로 감쌉니다.
+ * (read-replicas 프로필에서 활성화)
+ * <p>
+ * replica 는 jdbc.routing.replica-urls 마다 별도 Hikari 풀을 만들고, 계정은 primary 와 같은 값을 사용합니다.
+ * replica 풀은 DataSource bean 이 아니므로, jdbc.admission.enabled=true 이면 여기서 replica 마다
+ * AdmissionControlledDataSource 로 감쌉니다. (허가 수는 풀 크기, 대기 시간은 connection-timeout-ms)
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(
+        MeterRegistry meterRegistry,
+        @Value("${jdbc.routing.replica-urls}") String[] replicaUrls,
+        @Value("${jdbc.routing.username:${spring.datasource.username}}") String username,
+        @Value("${jdbc.routing.password:${spring.datasource.password}}") String password,
+        @Value("${jdbc.routing.pool-size:10}") int poolSize,
+        @Value("${jdbc.routing.connection-timeout-ms:1000}") long connectionTimeoutMillis,
+        @Value("${jdbc.routing.eject-ms:5000}") long ejectMillis,
+        @Value("${jdbc.routing.max-lag-seconds:2}") double maxLagSeconds,
+        @Value("${jdbc.admission.enabled:false}") boolean admissionEnabled
+    ) {
+        List<ReplicaPool> pools = new ArrayList<>(replicaUrls.length);
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + (i + 1);
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(replicaUrls[i].trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // 풀이 가득 차거나 replica 가 응답하지 않으면 오래 기다리지 않고 다음 replica / primary 로 분기
+            config.setConnectionTimeout(connectionTimeoutMillis);
+            // 기동 시 replica 가 내려가 있어도 실패하지 않음 (health check 가 분기에서 제외)
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+
+            HikariDataSource dataSource = new HikariDataSource(config);
+            // 허가를 오래 기다리지 않고 다음 replica / primary 로 분기하도록 풀과 같은 대기 시간
+            DataSource routedDataSource = admissionEnabled
+                ? new AdmissionControlledDataSource(dataSource, new JdbcAdmissionControl(name,
+                    poolSize, connectionTimeoutMillis, meterRegistry))
+                : dataSource;
+            pools.add(new ReplicaPool(name, dataSource, routedDataSource, meterRegistry));
+        }
+        return new ReplicaPools(pools, ejectMillis, maxLagSeconds);
+    }
+
+    @Bean
+    public static BeanPostProcessor readWriteRoutingDataSourceWrapper(
+        ObjectProvider<ReplicaPools> replicaPools,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new OrderedDataSourceWrapper() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof ReadWriteRoutingDataSource)) {
+                    return new ReadWriteRoutingDataSource(dataSource, replicaPools.getObject(),
+                        meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // shard 분기(ShardingConfig)보다 먼저 적용되어 GLOBAL DataSource 만 감싸도록 순서를 고정
+    private interface OrderedDataSourceWrapper extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기 / 트랜잭션 없는 조회)는 primary 로 보내는 DataSource
+ * <p>
+ * 실제 커넥션은 첫 statement 실행 시점에 얻으므로(LazyConnectionDataSourceProxy), 그때 적용된
+ * 트랜잭션의 readOnly 여부로 분기합니다. @Transactional(readOnly = true) / Spring Data 조회 메서드가 replica 로 갑니다.
+ * <p>
+ * replica 선택 : round-robin, 제외 / 복제 지연 중인 replica 는 건너뛰고, 분기할 replica 가 없거나
+ * ReadRouting.onPrimary 안의 조회는 primary 를 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPools replicaPools,
+        MeterRegistry meterRegistry) {
+        DataSource countedPrimary = new CountingDataSource(primary,
+            connectionCounter(meterRegistry, "primary", "primary"));
+
+        setTargetDataSource(countedPrimary);
+        setReadOnlyDataSource(new ReplicaRoute(countedPrimary, replicaPools, meterRegistry));
+        afterPropertiesSet();
+    }
+
+    static Counter connectionCounter(MeterRegistry meterRegistry, String role, String pool) {
+        return Counter.builder("jdbc.routing.connections")
+            .description("분기된 JDBC 커넥션(트랜잭션) 수 (role : primary / replica)")
+            .tag("role", role)
+            .tag("pool", pool)
+            .register(meterRegistry);
+    }
+
+    private static class ReplicaRoute extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final ReplicaPools replicaPools;
+        private final Map<String, Counter> primaryFallback;
+
+        ReplicaRoute(DataSource primary, ReplicaPools replicaPools, MeterRegistry meterRegistry) {
+            this.primary = primary;
+            this.replicaPools = replicaPools;
+            this.primaryFallback = Map.of(
+                "pinned", fallbackCounter(meterRegistry, "pinned"),
+                "no_replica", fallbackCounter(meterRegistry, "no_replica"));
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (ReadRouting.isPrimaryPinned()) {
+                primaryFallback.get("pinned").increment();
+                return primary.getConnection();
+            }
+
+            List<ReplicaPool> pools = replicaPools.getPools();
+            int start = replicaPools.nextStart();
+            long now = System.currentTimeMillis();
+
+            for (int i = 0; i < pools.size(); i++) {
+                ReplicaPool pool = pools.get((start + i) % pools.size());
+                if (!pool.isAvailable(now)) {
+                    continue;
+                }
+                try {
+                    Connection connection = pool.getConnection();
+                    ReadRouting.markServedByReplica();
+                    return connection;
+                } catch (SQLException e) {
+                    replicaPools.eject(pool, e);
+                }
+            }
+
+            primaryFallback.get("no_replica").increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("replica 분기는 계정 지정 커넥션을 지원하지 않습니다.");
+        }
+
+        private static Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("jdbc.routing.primary_fallback")
+                .description("읽기 전용 트랜잭션이 primary 에서 처리된 수 (pinned : ReadRouting.onPrimary, "
+                    + "no_replica : 분기 가능한 replica 없음)")
+                .tag("reason", reason)
+                .register(meterRegistry);
+        }
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        private final Counter counter;
+
+        CountingDataSource(DataSource target, Counter counter) {
+            super(target);
+            this.counter = counter;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = obtainTargetDataSource().getConnection();
+            counter.increment();
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            Connection connection = obtainTargetDataSource().getConnection(username, password);
+            counter.increment();
+            return connection;
+        }
+    }
+}
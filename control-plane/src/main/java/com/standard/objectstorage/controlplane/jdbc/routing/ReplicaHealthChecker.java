@@ -0,0 +1,71 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * replica health check / 복제 지연 확인
+ * <p>
+ * 복제 지연은 jdbc.routing.lag-query(첫 컬럼, 초)로 조회하고, 지정하지 않으면 SHOW REPLICA STATUS 의
+ * Seconds_Behind_Source 를 사용합니다. 복제가 멈춘 경우(null)는 지연이 무한대인 것으로 보고 분기에서 제외합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jdbc.routing.enabled", havingValue = "true")
+public class ReplicaHealthChecker {
+
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+
+    private final ReplicaPools replicaPools;
+    private final String lagQuery;
+
+    public ReplicaHealthChecker(
+        ReplicaPools replicaPools,
+        @Value("${jdbc.routing.lag-query:}") String lagQuery
+    ) {
+        this.replicaPools = replicaPools;
+        this.lagQuery = lagQuery;
+    }
+
+    @Scheduled(fixedDelayString = "${jdbc.routing.health-check-interval-ms:1000}")
+    public void checkAll() {
+        for (ReplicaPool pool : replicaPools.getPools()) {
+            check(pool);
+        }
+    }
+
+    void check(ReplicaPool pool) {
+        try (Connection connection = pool.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            replicaPools.recordHealthy(pool, lagSeconds(statement));
+        } catch (SQLException | RuntimeException e) {
+            replicaPools.eject(pool, e);
+        }
+    }
+
+    private double lagSeconds(Statement statement) throws SQLException {
+        if (!lagQuery.isBlank()) {
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? Double.POSITIVE_INFINITY : lag;
+            }
+        }
+
+        try (ResultSet rs = statement.executeQuery(REPLICA_STATUS_SQL)) {
+            if (!rs.next()) {
+                return 0; // 복제 설정이 없는 서버 (primary 를 replica 로 지정한 경우 등)
+            }
+            long lag = rs.getLong(SECONDS_BEHIND_SOURCE);
+            return rs.wasNull() ? Double.POSITIVE_INFINITY : lag;
+        }
+    }
+}
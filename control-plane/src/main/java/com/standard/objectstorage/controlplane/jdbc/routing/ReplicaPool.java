@@ -0,0 +1,89 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 replica 하나의 커넥션 풀과 상태
+ * <p>
+ * 커넥션 획득 / health check 실패 시 일정 시간 제외(eject)되고, 복제 지연이 허용치를 넘는 동안에도 제외됩니다.
+ * 제외된 replica 는 health check 가 성공하면 다시 분기 대상이 됩니다.
+ * 분기된 조회는 routedDataSource(admission control 로 감싼 풀 등)를, health check / 종료는 풀을 직접 사용합니다.
+ */
+public class ReplicaPool {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final DataSource routedDataSource;
+    private final Counter routed;
+
+    private volatile long ejectedUntilMillis;
+    private volatile double lagSeconds;
+    private volatile boolean lagging;
+
+    public ReplicaPool(String name, DataSource dataSource, MeterRegistry meterRegistry) {
+        this(name, dataSource, dataSource, meterRegistry);
+    }
+
+    public ReplicaPool(String name, DataSource dataSource, DataSource routedDataSource,
+        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.routedDataSource = routedDataSource;
+        this.routed = ReadWriteRoutingDataSource.connectionCounter(meterRegistry, "replica", name);
+
+        Gauge.builder("jdbc.routing.replica.available", this,
+                pool -> pool.isAvailable(System.currentTimeMillis()) ? 1 : 0)
+            .description("replica 분기 가능 여부 (1 : 가능, 0 : 제외 / 복제 지연)")
+            .tag("pool", name)
+            .register(meterRegistry);
+        Gauge.builder("jdbc.routing.replica.lag", this, pool -> pool.lagSeconds)
+            .description("replica 복제 지연 (초)")
+            .tag("pool", name)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable(long nowMillis) {
+        return !lagging && nowMillis >= ejectedUntilMillis;
+    }
+
+    Connection getConnection() throws SQLException {
+        Connection connection = routedDataSource.getConnection();
+        routed.increment();
+        return connection;
+    }
+
+    /**
+     * @return 분기 대상에서 새로 제외되었으면 true
+     */
+    boolean eject(long nowMillis, long ejectMillis) {
+        boolean wasAvailable = isAvailable(nowMillis);
+        ejectedUntilMillis = nowMillis + ejectMillis;
+        return wasAvailable;
+    }
+
+    /**
+     * health check 성공 : 제외 해제 후 복제 지연을 기록합니다.
+     *
+     * @return 복제 지연이 허용치 이하이면 true
+     */
+    boolean recordHealthy(double lagSeconds, double maxLagSeconds) {
+        this.ejectedUntilMillis = 0;
+        this.lagSeconds = lagSeconds;
+        this.lagging = lagSeconds > maxLagSeconds;
+        return !lagging;
+    }
+}
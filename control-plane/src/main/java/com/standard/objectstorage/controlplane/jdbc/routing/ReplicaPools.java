@@ -0,0 +1,66 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 읽기 전용 replica 목록 (round-robin 선택, 제외 / 복제 지연 정책)
+ */
+public class ReplicaPools implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPools.class);
+
+    private final List<ReplicaPool> pools;
+    private final long ejectMillis;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPools(List<ReplicaPool> pools, long ejectMillis, double maxLagSeconds) {
+        this.pools = List.copyOf(pools);
+        this.ejectMillis = ejectMillis;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public List<ReplicaPool> getPools() {
+        return pools;
+    }
+
+    /**
+     * 이번 조회의 시작 위치 (round-robin)
+     */
+    int nextStart() {
+        return pools.isEmpty() ? 0 : Math.floorMod(next.getAndIncrement(), pools.size());
+    }
+
+    void eject(ReplicaPool pool, Exception cause) {
+        if (pool.eject(System.currentTimeMillis(), ejectMillis)) {
+            log.warn("replica 분기 제외 - pool: {}, {}ms, cause: {}", pool.name(), ejectMillis,
+                cause.getMessage());
+        }
+    }
+
+    void recordHealthy(ReplicaPool pool, double lagSeconds) {
+        boolean wasAvailable = pool.isAvailable(System.currentTimeMillis());
+        boolean withinLag = pool.recordHealthy(lagSeconds, maxLagSeconds);
+
+        if (wasAvailable && !withinLag) {
+            log.warn("replica 복제 지연으로 분기 제외 - pool: {}, lag: {}s (허용 {}s)", pool.name(),
+                lagSeconds, maxLagSeconds);
+        } else if (!wasAvailable && withinLag) {
+            log.info("replica 분기 재개 - pool: {}, lag: {}s", pool.name(), lagSeconds);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaPool pool : pools) {
+            DataSource dataSource = pool.dataSource();
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
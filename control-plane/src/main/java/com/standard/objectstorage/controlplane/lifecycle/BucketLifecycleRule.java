@@ -0,0 +1,66 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * bucket 별 객체 만료 규칙 (전역 DB)
+ * <p>
+ * 값이 null 이면 LIFECYCLE_* 기본값을 사용하고, 0 이면 해당 상태의 객체는 만료시키지 않습니다.
+ */
+@Entity
+@Table(name = "TB_BUCKET_LIFECYCLE_RULES")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BucketLifecycleRule {
+
+    @Id
+    @Column(name = "bucket_id")
+    private Long bucketId;
+
+    // 업로드가 끝나지 않은 PENDING 객체
+    @Column
+    private Integer pendingExpireHours;
+
+    // 마지막 업로드 이후 COMPLETE 객체
+    @Column
+    private Integer completeExpireDays;
+
+    // 업로드 실패로 남은 FAILED 행
+    @Column
+    private Integer failedExpireHours;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static BucketLifecycleRule of(Long bucketId) {
+        BucketLifecycleRule rule = new BucketLifecycleRule();
+        rule.bucketId = bucketId;
+        return rule;
+    }
+
+    public void update(Integer pendingExpireHours, Integer completeExpireDays,
+        Integer failedExpireHours) {
+        this.pendingExpireHours = pendingExpireHours;
+        this.completeExpireDays = completeExpireDays;
+        this.failedExpireHours = failedExpireHours;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
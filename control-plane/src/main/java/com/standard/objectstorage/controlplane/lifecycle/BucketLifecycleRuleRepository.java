@@ -0,0 +1,7 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BucketLifecycleRuleRepository extends JpaRepository<BucketLifecycleRule, Long> {
+
+}
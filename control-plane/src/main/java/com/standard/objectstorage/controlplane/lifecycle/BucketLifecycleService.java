@@ -0,0 +1,96 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.lifecycle.dto.BucketLifecycleRequest;
+import com.standard.objectstorage.controlplane.lifecycle.dto.BucketLifecycleResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BucketLifecycleService {
+
+    private final BucketRepository bucketRepository;
+    private final BucketLifecycleRuleRepository bucketLifecycleRuleRepository;
+    private final LifecycleRule defaults;
+
+    public BucketLifecycleService(
+        BucketRepository bucketRepository,
+        BucketLifecycleRuleRepository bucketLifecycleRuleRepository,
+        @Value("${LIFECYCLE_PENDING_EXPIRE_HOURS:24}") long pendingExpireHours,
+        @Value("${LIFECYCLE_COMPLETE_EXPIRE_DAYS:0}") long completeExpireDays,
+        @Value("${LIFECYCLE_FAILED_EXPIRE_HOURS:24}") long failedExpireHours
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.bucketLifecycleRuleRepository = bucketLifecycleRuleRepository;
+        this.defaults = LifecycleRule.of(pendingExpireHours, completeExpireDays, failedExpireHours);
+    }
+
+    public BucketLifecycleResponse getRule(String bucketName) {
+        BucketMetadata bucket = findBucket(bucketName);
+        return toResponse(bucket, bucketLifecycleRuleRepository.findById(bucket.id()).orElse(null));
+    }
+
+    public BucketLifecycleResponse putRule(String bucketName, BucketLifecycleRequest request) {
+        BucketMetadata bucket = findBucket(bucketName);
+        BucketLifecycleRule rule = bucketLifecycleRuleRepository.findById(bucket.id())
+            .orElseGet(() -> BucketLifecycleRule.of(bucket.id()));
+        rule.update(request.getPendingExpireHours(), request.getCompleteExpireDays(),
+            request.getFailedExpireHours());
+        return toResponse(bucket, bucketLifecycleRuleRepository.save(rule));
+    }
+
+    /**
+     * bucket 규칙을 지우고 기본값으로 되돌립니다.
+     */
+    public BucketLifecycleResponse deleteRule(String bucketName) {
+        BucketMetadata bucket = findBucket(bucketName);
+        remove(bucket.id());
+        return toResponse(bucket, null);
+    }
+
+    /**
+     * bucket 별 적용 규칙 (규칙이 없는 bucket 은 기본값)
+     */
+    public Map<Long, LifecycleRule> rulesOf(Collection<Long> bucketIds) {
+        Map<Long, LifecycleRule> rules = new HashMap<>();
+        for (Long bucketId : bucketIds) {
+            rules.put(bucketId, defaults);
+        }
+        for (BucketLifecycleRule rule : bucketLifecycleRuleRepository.findAllById(bucketIds)) {
+            rules.put(rule.getBucketId(), defaults.with(rule));
+        }
+        return rules;
+    }
+
+    public void remove(Long bucketId) {
+        if (bucketLifecycleRuleRepository.existsById(bucketId)) {
+            bucketLifecycleRuleRepository.deleteById(bucketId);
+        }
+    }
+
+    private BucketMetadata findBucket(String bucketName) {
+        return bucketRepository.findMetadataByName(bucketName)
+            .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+    }
+
+    private BucketLifecycleResponse toResponse(BucketMetadata bucket, BucketLifecycleRule rule) {
+        LifecycleRule effective = defaults.with(rule);
+        return BucketLifecycleResponse.builder()
+            .bucket(bucket.name())
+            .pendingExpireHours(hoursOf(effective.pendingExpireAfter()))
+            .completeExpireDays(effective.completeExpireAfter() == null
+                ? 0 : effective.completeExpireAfter().toDays())
+            .failedExpireHours(hoursOf(effective.failedExpireAfter()))
+            .updatedAt(rule == null ? null : rule.getUpdatedAt())
+            .build();
+    }
+
+    private static long hoursOf(Duration duration) {
+        return duration == null ? 0 : duration.toHours();
+    }
+}
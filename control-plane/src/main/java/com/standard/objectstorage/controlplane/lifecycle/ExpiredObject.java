@@ -0,0 +1,30 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 만료 기간이 지난 객체 (updatedAt, id 는 keyset cursor)
+ */
+public record ExpiredObject(
+    UUID id,
+    String objectKey,
+    String storagePath,
+    Long size,
+    ObjectStatus status,
+    String contentHash,
+    UUID sourceId,
+    LocalDateTime updatedAt
+) {
+
+    // 다른 객체의 파일을 참조하는 객체 (자기 파일이 없음)
+    public boolean isReference() {
+        return sourceId != null;
+    }
+
+    public ObjectDeleteTarget toDeleteTarget() {
+        return new ObjectDeleteTarget(id, objectKey, storagePath, size, status);
+    }
+}
@@ -0,0 +1,64 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import java.time.Duration;
+
+/**
+ * 상태별 만료 기간 (null 이면 만료시키지 않음)
+ * <p>
+ * PENDING / FAILED 는 마지막 갱신(업로드 URL 발급, 실패 기록) 이후, COMPLETE 는 마지막 업로드 완료 이후의 기간입니다.
+ */
+public record LifecycleRule(
+    Duration pendingExpireAfter,
+    Duration completeExpireAfter,
+    Duration failedExpireAfter
+) {
+
+    /**
+     * 0 이하는 만료시키지 않음
+     */
+    public static LifecycleRule of(long pendingExpireHours, long completeExpireDays,
+        long failedExpireHours) {
+        return new LifecycleRule(
+            hours(pendingExpireHours),
+            days(completeExpireDays),
+            hours(failedExpireHours));
+    }
+
+    /**
+     * bucket 규칙에 지정된 값만 덮어씁니다.
+     */
+    public LifecycleRule with(BucketLifecycleRule rule) {
+        if (rule == null) {
+            return this;
+        }
+        return new LifecycleRule(
+            rule.getPendingExpireHours() == null
+                ? pendingExpireAfter : hours(rule.getPendingExpireHours()),
+            rule.getCompleteExpireDays() == null
+                ? completeExpireAfter : days(rule.getCompleteExpireDays()),
+            rule.getFailedExpireHours() == null
+                ? failedExpireAfter : hours(rule.getFailedExpireHours()));
+    }
+
+    public Duration expireAfter(ObjectStatus status) {
+        return switch (status) {
+            case PENDING -> pendingExpireAfter;
+            case COMPLETE -> completeExpireAfter;
+            case FAILED -> failedExpireAfter;
+            case DELETING -> null;
+        };
+    }
+
+    public boolean isEmpty() {
+        return pendingExpireAfter == null && completeExpireAfter == null && failedExpireAfter == null;
+    }
+
+    private static Duration hours(long hours) {
+        return hours > 0 ? Duration.ofHours(hours) : null;
+    }
+
+    private static Duration days(long days) {
+        return days > 0 ? Duration.ofDays(days) : null;
+    }
+}
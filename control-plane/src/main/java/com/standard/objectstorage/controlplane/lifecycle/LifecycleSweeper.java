@@ -0,0 +1,340 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import com.standard.objectstorage.controlplane.bucket.Bucket;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.replication.ObjectReplicaRepository;
+import com.standard.objectstorage.controlplane.replication.ReplicaDeleteTargets;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storage.PresignedGetUrlCache;
+import com.standard.objectstorage.controlplane.storage.StorageObjectDeleter;
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimit;
+import com.standard.objectstorage.controlplane.storage.ratelimit.TokenBucket;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectLocationCache;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectRepository;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * bucket 만료 규칙(BucketLifecycleRule / LIFECYCLE_* 기본값)에 따라 오래된 객체를 삭제합니다.
+ * <p>
+ * - 끝나지 않은 업로드(PENDING), 실패한 업로드(FAILED), 기간이 지난 COMPLETE 객체가 대상입니다.
+ * - bucket 은 id 순서로, 객체는 bucket / 상태별로 (updated_at, id) keyset 순서로 BATCH_SIZE 개씩 조회합니다.
+ *   (IDX_BUCKET_STATUS_UPDATED_AT range scan)
+ * - 파일을 삭제하기 전에 행을 조건부 update 로 DELETING 상태로 선점합니다. 조회 이후 다시 업로드되어 updated_at 이
+ *   갱신된 행과 다른 객체가 참조하는 행은 선점하지 않고, 선점된 행의 key 에는 삭제가 끝날 때까지 업로드 URL 을 발급하지
+ *   않으므로 새로 업로드된 파일을 지우지 않습니다.
+ * - 선점한 객체의 storage node 파일(COMPLETE 는 모든 복제본)을 삭제한 뒤, 모든 파일이 삭제된 객체의 행만 지우고
+ *   파일이 남은 객체는 선점 전 상태로 되돌려 다음 주기에 다시 시도합니다. (bucket 의 shard 에서 짧은 트랜잭션)
+ * - 선점한 뒤 중단된(되돌리지 못한) 행은 LIFECYCLE_CLAIM_TIMEOUT_MS 가 지나면 다시 선점하여 삭제합니다.
+ * - 다른 객체의 파일을 참조하는 객체는 행만 지우고 원본 객체의 ref_count 를 줄입니다.
+ *   참조되고 있는 원본 객체는 파일과 행을 남겨 두고, 참조가 모두 지워진 뒤의 주기에 삭제합니다.
+ * - 초당 삭제 수를 LIFECYCLE_DELETES_PER_SECOND 로 제한하여 storage node / DB 부하를 일정하게 유지합니다.
+ * - 진행 위치를 저장하지 않습니다. 삭제된 행은 다시 조회되지 않고, 파일 삭제에 실패한 행은 다음 주기에 다시 시도하므로
+ *   중단 / 재시작 / 여러 인스턴스가 동시에 실행해도 같은 결과입니다. (storage node 삭제 / 행 삭제 모두 멱등)
+ * - 정리 중(deleting)이거나 shard 분할 중(FROZEN)인 bucket 은 건너뜁니다.
+ */
+@Component
+public class LifecycleSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(LifecycleSweeper.class);
+
+    private final BucketRepository bucketRepository;
+    private final BucketLifecycleService bucketLifecycleService;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ObjectReplicaRepository objectReplicaRepository;
+    private final ShardMap shardMap;
+    private final ObjectLocationCache objectLocationCache;
+    private final PresignedGetUrlCache presignedGetUrlCache;
+    private final StorageObjectDeleter storageObjectDeleter;
+    private final ReplicaDeleteTargets replicaDeleteTargets;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService sweepExecutor;
+
+    private final int bucketBatchSize;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final RateLimit deleteRate;
+    private final TokenBucket deletePermits = new TokenBucket(System.nanoTime());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Timer sweepTimer;
+    private final Map<ObjectStatus, Counter> expired = new EnumMap<>(ObjectStatus.class);
+    private final Counter failed;
+
+    private volatile boolean stopped;
+
+    public LifecycleSweeper(
+        BucketRepository bucketRepository,
+        BucketLifecycleService bucketLifecycleService,
+        StoredObjectRepository storedObjectRepository,
+        ObjectReplicaRepository objectReplicaRepository,
+        ShardMap shardMap,
+        ObjectLocationCache objectLocationCache,
+        PresignedGetUrlCache presignedGetUrlCache,
+        StorageObjectDeleter storageObjectDeleter,
+        ReplicaDeleteTargets replicaDeleteTargets,
+        BucketUsageRecorder bucketUsageRecorder,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${LIFECYCLE_BUCKET_BATCH_SIZE:100}") int bucketBatchSize,
+        @Value("${LIFECYCLE_BATCH_SIZE:500}") int batchSize,
+        @Value("${LIFECYCLE_DELETES_PER_SECOND:200}") double deletesPerSecond,
+        @Value("${LIFECYCLE_CLAIM_TIMEOUT_MS:3600000}") long claimTimeoutMillis
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.bucketLifecycleService = bucketLifecycleService;
+        this.storedObjectRepository = storedObjectRepository;
+        this.objectReplicaRepository = objectReplicaRepository;
+        this.shardMap = shardMap;
+        this.objectLocationCache = objectLocationCache;
+        this.presignedGetUrlCache = presignedGetUrlCache;
+        this.storageObjectDeleter = storageObjectDeleter;
+        this.replicaDeleteTargets = replicaDeleteTargets;
+        this.bucketUsageRecorder = bucketUsageRecorder;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketBatchSize = bucketBatchSize;
+        this.batchSize = batchSize;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+        // 한 batch 를 한 번에 받을 수 있도록 burst = BATCH_SIZE
+        this.deleteRate = new RateLimit(deletesPerSecond, batchSize);
+        this.sweepExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lifecycle-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sweepTimer = Timer.builder("lifecycle.sweep")
+            .description("전체 bucket 만료 객체 정리 한 주기 시간")
+            .register(meterRegistry);
+        for (ObjectStatus status : ObjectStatus.values()) {
+            expired.put(status, Counter.builder("lifecycle.expired")
+                .description("만료되어 삭제된 객체 수")
+                .tag("status", status.name())
+                .register(meterRegistry));
+        }
+        this.failed = Counter.builder("lifecycle.expire.failed")
+            .description("storage node 파일 삭제에 실패하여 다음 주기로 미룬 객체 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 이전 주기가 끝났으면 전용 스레드에서 한 주기를 실행합니다. (스케줄러 스레드를 점유하지 않음)
+     */
+    @Scheduled(
+        initialDelayString = "${LIFECYCLE_SWEEP_INTERVAL_MS:600000}",
+        fixedDelayString = "${LIFECYCLE_SWEEP_INTERVAL_MS:600000}"
+    )
+    public void dispatch() {
+        if (stopped || !running.compareAndSet(false, true)) {
+            return;
+        }
+        sweepExecutor.execute(() -> {
+            try {
+                sweepTimer.record(this::sweepAll);
+            } catch (RuntimeException e) {
+                log.error("만료 객체 정리 중단", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void sweepAll() {
+        long cursor = 0;
+        while (!stopped) {
+            List<Long> bucketIds = bucketRepository.findIdsAfter(cursor, Limit.of(bucketBatchSize));
+            if (bucketIds.isEmpty()) {
+                return;
+            }
+
+            Map<Long, LifecycleRule> rules = bucketLifecycleService.rulesOf(bucketIds);
+            for (Bucket bucket : bucketRepository.findAllById(bucketIds)) {
+                LifecycleRule rule = rules.get(bucket.getId());
+                if (stopped || bucket.isDeleting() || shardMap.isFrozen(bucket.getId())) {
+                    continue;
+                }
+                try {
+                    sweep(bucket, rule);
+                } catch (DataAccessException e) {
+                    log.warn("만료 객체 정리 실패 - bucket: {}", bucket.getName(), e);
+                }
+            }
+            cursor = bucketIds.get(bucketIds.size() - 1);
+        }
+    }
+
+    private void sweep(Bucket bucket, LifecycleRule rule) {
+        LocalDateTime now = LocalDateTime.now();
+        for (ObjectStatus status : ObjectStatus.values()) {
+            Duration expireAfter = rule.expireAfter(status);
+            if (expireAfter != null) {
+                sweep(bucket, status, now.minus(expireAfter));
+            }
+        }
+        // 선점한 뒤 중단된 행 (규칙과 관계없이 삭제)
+        sweep(bucket, ObjectStatus.DELETING, now.minus(claimTimeout));
+    }
+
+    private void sweep(Bucket bucket, ObjectStatus status, LocalDateTime before) {
+        Long bucketId = bucket.getId();
+        ExpiredObject last = null;
+
+        while (!stopped && !shardMap.isFrozen(bucketId)) {
+            ExpiredObject after = last;
+            List<ExpiredObject> page = shardMap.onBucket(bucketId, () -> after == null
+                ? storedObjectRepository.findFirstExpired(bucketId, status, before,
+                    Limit.of(batchSize))
+                : storedObjectRepository.findExpiredAfter(bucketId, status, before,
+                    after.updatedAt(), after.id(), Limit.of(batchSize)));
+            if (page.isEmpty() || !throttle(page.size())) {
+                return;
+            }
+
+            expire(bucket, status, before, page);
+            if (page.size() < batchSize) {
+                return;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    private void expire(Bucket bucket, ObjectStatus status, LocalDateTime before,
+        List<ExpiredObject> page) {
+        Long bucketId = bucket.getId();
+
+        List<ExpiredObject> claimed = shardMap.onBucket(bucketId,
+            () -> transactionTemplate.execute(tx -> claim(status, before, page)));
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<ExpiredObject> owned = claimed.stream()
+            .filter(object -> !object.isReference())
+            .toList();
+        List<ObjectDeleteTarget> targets = replicaDeleteTargets.withReplicas(bucketId,
+            bucket.getName(), owned.stream().map(ExpiredObject::toDeleteTarget).toList());
+        List<ObjectDeleteTarget> deleted = storageObjectDeleter.deleteAll(bucket.getName(), targets);
+
+        // 복제본 중 하나라도 남아있으면 행을 되돌리고 다음 주기에 다시 시도
+        Set<UUID> remaining = ReplicaDeleteTargets.failedIds(targets, deleted);
+        List<ExpiredObject> removable = new ArrayList<>(claimed.size());
+        List<ExpiredObject> kept = new ArrayList<>();
+        for (ExpiredObject object : claimed) {
+            (remaining.contains(object.id()) ? kept : removable).add(object);
+        }
+        failed.increment(kept.size());
+
+        List<ExpiredObject> removed = shardMap.onBucket(bucketId,
+            () -> transactionTemplate.execute(tx -> {
+                restore(status, kept);
+                return deleteRows(removable);
+            }));
+
+        long bytes = 0;
+        for (ExpiredObject object : removed) {
+            objectLocationCache.evict(bucketId, object.objectKey());
+            presignedGetUrlCache.evict(bucket.getName(), object.objectKey());
+            bytes += object.size() == null ? 0 : object.size();
+        }
+        if (status == ObjectStatus.COMPLETE) {
+            bucketUsageRecorder.record(bucketId, -removed.size(), -bytes);
+        }
+        expired.get(status).increment(removed.size());
+    }
+
+    /**
+     * 파일을 삭제하기 전에 행을 DELETING 으로 선점합니다. 선점한 객체만 반환합니다.
+     */
+    private List<ExpiredObject> claim(ObjectStatus status, LocalDateTime before,
+        List<ExpiredObject> page) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ExpiredObject> claimed = new ArrayList<>(page.size());
+        for (ExpiredObject object : page) {
+            if (storedObjectRepository.claimExpired(object.id(), status, before, now) > 0) {
+                claimed.add(object);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 파일이 남은 객체를 선점 전 상태로 되돌립니다.
+     * 중단된 선점을 이어서 삭제한 객체는 이전 상태를 알 수 없으므로 DELETING 으로 두고 claimTimeout 이후 다시 시도합니다.
+     */
+    private void restore(ObjectStatus status, List<ExpiredObject> kept) {
+        if (status == ObjectStatus.DELETING) {
+            return;
+        }
+        for (ExpiredObject object : kept) {
+            storedObjectRepository.restoreClaimed(object.id(), status, object.contentHash(),
+                object.updatedAt());
+        }
+    }
+
+    private List<ExpiredObject> deleteRows(List<ExpiredObject> removable) {
+        List<ExpiredObject> removed = new ArrayList<>(removable.size());
+        for (ExpiredObject object : removable) {
+            if (storedObjectRepository.deleteClaimed(object.id()) > 0) {
+                removed.add(object);
+            }
+        }
+        if (!removed.isEmpty()) {
+            objectReplicaRepository.deleteByObjectIds(
+                removed.stream().map(ExpiredObject::id).toList());
+        }
+        for (ExpiredObject object : removed) {
+            if (object.isReference()) {
+                storedObjectRepository.removeReference(object.sourceId());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 삭제 수 한도를 넘으면 토큰이 채워질 때까지 대기합니다. 중단되면 false
+     */
+    private boolean throttle(int deletes) {
+        long wait;
+        while ((wait = deletePermits.tryAcquire(deletes, deleteRate, System.nanoTime())) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        sweepExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,20 @@
+package com.standard.objectstorage.controlplane.lifecycle.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+
+/**
+ * 생략한 값은 기본값(LIFECYCLE_*)을 사용하고, 0 이면 해당 상태의 객체를 만료시키지 않습니다.
+ */
+@Getter
+public class BucketLifecycleRequest {
+
+    @Min(value = 0, message = "pendingExpireHours는 0 이상이어야 합니다.")
+    private Integer pendingExpireHours;
+
+    @Min(value = 0, message = "completeExpireDays는 0 이상이어야 합니다.")
+    private Integer completeExpireDays;
+
+    @Min(value = 0, message = "failedExpireHours는 0 이상이어야 합니다.")
+    private Integer failedExpireHours;
+}
@@ -0,0 +1,21 @@
+package com.standard.objectstorage.controlplane.lifecycle.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기본값이 반영된 규칙 (0 이면 만료시키지 않음)
+ */
+@Getter
+@Builder
+public class BucketLifecycleResponse {
+
+    private String bucket;
+    private long pendingExpireHours;
+    private long completeExpireDays;
+    private long failedExpireHours;
+
+    // bucket 규칙이 없으면(기본값만 사용) null
+    private LocalDateTime updatedAt;
+}
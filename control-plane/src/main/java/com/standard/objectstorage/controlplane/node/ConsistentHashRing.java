@@ -0,0 +1,151 @@
+package com.standard.objectstorage.controlplane.node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가상 노드 기반 consistent hash ring (불변 객체)
+ * <p>
+ * node 마다 weight * virtualNodesPerWeight 개의 점을 ring 에 배치하고, (bucket, objectKey) 의 hash 보다 크거나 같은
+ * 첫 번째 점의 node 를 primary 로 선택합니다. node 추가 / 제거 시 해당 node 의 구간에 속한 key 만 이동합니다.
+ * 변경 시에는 새로운 ring 을 만들어 교체하므로 조회는 lock 없이 수행됩니다.
+ */
+public final class ConsistentHashRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final long[] points;
+    private final StorageNodeInfo[] owners;
+    private final int nodeCount;
+
+    private ConsistentHashRing(long[] points, StorageNodeInfo[] owners, int nodeCount) {
+        this.points = points;
+        this.owners = owners;
+        this.nodeCount = nodeCount;
+    }
+
+    public static ConsistentHashRing build(Collection<StorageNodeInfo> nodes,
+        int virtualNodesPerWeight) {
+        int total = 0;
+        for (StorageNodeInfo node : nodes) {
+            total += Math.max(node.weight(), 1) * virtualNodesPerWeight;
+        }
+
+        long[] hashes = new long[total];
+        StorageNodeInfo[] owners = new StorageNodeInfo[total];
+        Integer[] order = new Integer[total];
+
+        int index = 0;
+        for (StorageNodeInfo node : nodes) {
+            int virtualNodes = Math.max(node.weight(), 1) * virtualNodesPerWeight;
+            for (int i = 0; i < virtualNodes; i++) {
+                hashes[index] = hash(node.id() + "#" + i);
+                owners[index] = node;
+                order[index] = index;
+                index++;
+            }
+        }
+
+        // hash 순으로 정렬 (hash 가 같으면 node ID 순으로 고정)
+        Arrays.sort(order, (a, b) -> {
+            int compare = Long.compareUnsigned(hashes[a], hashes[b]);
+            return compare != 0 ? compare : owners[a].id().compareTo(owners[b].id());
+        });
+
+        long[] sortedPoints = new long[total];
+        StorageNodeInfo[] sortedOwners = new StorageNodeInfo[total];
+        for (int i = 0; i < total; i++) {
+            sortedPoints[i] = hashes[order[i]];
+            sortedOwners[i] = owners[order[i]];
+        }
+        return new ConsistentHashRing(sortedPoints, sortedOwners, nodes.size());
+    }
+
+    public boolean isEmpty() {
+        return nodeCount == 0;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * (bucket, objectKey) 의 primary node
+     */
+    public StorageNodeInfo locate(String bucket, String objectKey) {
+        if (isEmpty()) {
+            throw new IllegalStateException("등록된 storage node가 없습니다.");
+        }
+        return owners[pointIndex(keyHash(bucket, objectKey))];
+    }
+
+    /**
+     * ring 을 따라 primary 부터 서로 다른 node 를 최대 count 개 반환합니다. (후보 / 복제 대상 선택용)
+     */
+    public List<StorageNodeInfo> successors(String bucket, String objectKey, int count) {
+        int limit = Math.min(count, nodeCount);
+        List<StorageNodeInfo> result = new ArrayList<>(limit);
+        if (limit == 0) {
+            return result;
+        }
+
+        int start = pointIndex(keyHash(bucket, objectKey));
+        for (int i = 0; i < owners.length && result.size() < limit; i++) {
+            StorageNodeInfo owner = owners[(start + i) % owners.length];
+            if (!result.contains(owner)) {
+                result.add(owner);
+            }
+        }
+        return result;
+    }
+
+    private int pointIndex(long hash) {
+        int low = 0;
+        int high = points.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // 마지막 점보다 크면 처음으로 순환
+        return low == points.length ? 0 : low;
+    }
+
+    static long keyHash(String bucket, String objectKey) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = update(hash, bucket);
+        hash = (hash ^ KEY_SEPARATOR) * FNV_PRIME;
+        hash = update(hash, objectKey);
+        return mix(hash);
+    }
+
+    static long hash(String value) {
+        return mix(update(FNV_OFFSET_BASIS, value));
+    }
+
+    // FNV-1a (UTF-16 code unit 단위)
+    private static long update(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // murmur3 fmix64 : FNV 결과의 비트 분산 보정
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
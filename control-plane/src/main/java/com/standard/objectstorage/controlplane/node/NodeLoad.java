@@ -0,0 +1,27 @@
+package com.standard.objectstorage.controlplane.node;
+
+/**
+ * storage node 부하 상태 (불변, probe 결과마다 새로 생성)
+ *
+ * @param diskWrites          activeDiskWrites 지수 이동 평균
+ * @param diskReads           activeDiskReads 지수 이동 평균
+ * @param consecutiveFailures 연속 probe 실패 횟수
+ */
+public record NodeLoad(
+    NodeStatus status,
+    double diskWrites,
+    double diskReads,
+    int consecutiveFailures,
+    long probedAtMillis
+) {
+
+    public static final NodeLoad UNKNOWN = new NodeLoad(NodeStatus.UNKNOWN, 0, 0, 0, 0);
+
+    public double score() {
+        return diskWrites + diskReads;
+    }
+
+    public boolean isAvailable() {
+        return status == NodeStatus.HEALTHY || status == NodeStatus.UNKNOWN;
+    }
+}
@@ -0,0 +1,8 @@
+package com.standard.objectstorage.controlplane.node;
+
+public enum NodeStatus {
+    UNKNOWN,   // 아직 probe 결과 없음 (배치 대상)
+    HEALTHY,
+    SATURATED, // disk I/O 과부하 - 새 업로드 배치 제외
+    DOWN       // 연속 probe 실패 - 새 업로드 배치 제외
+}
@@ -0,0 +1,54 @@
+package com.standard.objectstorage.controlplane.node;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 등록된 storage node (primary)
+ * name 은 StoredObject.storagePath 에 기록되는 node ID 로 사용됩니다.
+ */
+@Entity
+@Table(name = "TB_STORAGE_NODES")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageNode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 63)
+    private String name;
+
+    @Column(nullable = false, length = 255)
+    private String endpoint;
+
+    // 가상 노드 개수 비율 (용량에 비례하여 설정)
+    @Column(nullable = false)
+    private int weight;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    StorageNode(String name, String endpoint, int weight) {
+        this.name = name;
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
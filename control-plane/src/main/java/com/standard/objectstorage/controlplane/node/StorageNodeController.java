@@ -0,0 +1,41 @@
+package com.standard.objectstorage.controlplane.node;
+
+import com.standard.objectstorage.controlplane.node.dto.RegisterStorageNodeRequest;
+import com.standard.objectstorage.controlplane.node.dto.StorageNodeResponse;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/storage-nodes")
+@RequiredArgsConstructor
+public class StorageNodeController {
+
+    private final StorageNodeService storageNodeService;
+
+    @PostMapping
+    public ResponseEntity<StorageNodeResponse> registerNode(
+        @Valid @RequestBody RegisterStorageNodeRequest request
+    ) {
+        return ResponseEntity.status(201).body(storageNodeService.registerNode(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<StorageNodeResponse>> getNodes() {
+        return ResponseEntity.ok(storageNodeService.getNodes());
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<Void> deregisterNode(@PathVariable String name) {
+        storageNodeService.deregisterNode(name);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.standard.objectstorage.controlplane.node;
+
+/**
+ * ring 에 올라가는 storage node 정보 (불변)
+ */
+public record StorageNodeInfo(String id, String endpoint, int weight) {
+
+}
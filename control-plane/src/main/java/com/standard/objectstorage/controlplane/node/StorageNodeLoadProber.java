@@ -0,0 +1,187 @@
+package com.standard.objectstorage.controlplane.node;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage node 의 /metrics/disk 를 비동기로 주기적으로 조회하여 node 별 부하 점수를 유지합니다.
+ * <p>
+ * - 요청 스레드와 무관하게 스케줄러에서 요청만 보내고, 응답은 HttpClient 스레드에서 반영합니다.
+ * - 이전 probe 가 끝나지 않은 node 는 건너뛰므로 느린 node 에 요청이 쌓이지 않습니다.
+ * - 연속으로 실패하면 DOWN, 부하가 임계값 이상이면 SATURATED 로 표시되어 새 업로드 배치에서 제외됩니다.
+ *   (임계값 기본값은 storage node 의 SECONDARY_MAX_CONCURRENT_DISK_* 와 동일)
+ */
+@Component
+public class StorageNodeLoadProber {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageNodeLoadProber.class);
+    private static final String METRICS_DISK_PATH = "/metrics/disk";
+
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService probeExecutor;
+    private final HttpClient httpClient;
+
+    private final Map<String, NodeLoad> loads = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Duration timeout;
+    private final double smoothing;
+    private final int failureThreshold;
+    private final double maxDiskWrites;
+    private final double maxDiskReads;
+    private final double maxDiskIo;
+
+    public StorageNodeLoadProber(
+        StorageNodeRegistry storageNodeRegistry,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${STORAGE_NODE_PROBE_TIMEOUT_MS:1000}") long timeoutMillis,
+        @Value("${STORAGE_NODE_LOAD_SMOOTHING:0.3}") double smoothing,
+        @Value("${STORAGE_NODE_DOWN_AFTER_FAILURES:3}") int failureThreshold,
+        @Value("${STORAGE_NODE_MAX_CONCURRENT_DISK_WRITES:15}") double maxDiskWrites,
+        @Value("${STORAGE_NODE_MAX_CONCURRENT_DISK_READS:20}") double maxDiskReads,
+        @Value("${STORAGE_NODE_MAX_CONCURRENT_DISK_IO:20}") double maxDiskIo
+    ) {
+        this.storageNodeRegistry = storageNodeRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.smoothing = smoothing;
+        this.failureThreshold = failureThreshold;
+        this.maxDiskWrites = maxDiskWrites;
+        this.maxDiskReads = maxDiskReads;
+        this.maxDiskIo = maxDiskIo;
+
+        this.probeExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "storage-node-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .executor(probeExecutor)
+            .build();
+    }
+
+    public NodeLoad getLoad(String nodeId) {
+        return loads.getOrDefault(nodeId, NodeLoad.UNKNOWN);
+    }
+
+    @Scheduled(fixedRateString = "${STORAGE_NODE_PROBE_INTERVAL_MS:2000}")
+    public void probeAll() {
+        for (StorageNodeInfo node : storageNodeRegistry.getNodes()) {
+            if (inFlight.add(node.id())) {
+                probe(node);
+            }
+        }
+    }
+
+    private void probe(StorageNodeInfo node) {
+        registerGauges(node.id());
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(node.endpoint() + METRICS_DISK_PATH))
+                .timeout(timeout)
+                .GET()
+                .build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Storage node endpoint 형식 오류 - node: {}, endpoint: {}", node.id(),
+                node.endpoint());
+            onFailure(node.id());
+            inFlight.remove(node.id());
+            return;
+        }
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .whenComplete((response, error) -> {
+                try {
+                    if (error == null && response.statusCode() == 200) {
+                        onSuccess(node.id(), objectMapper.readTree(response.body()));
+                    } else {
+                        onFailure(node.id());
+                    }
+                } catch (Exception e) {
+                    onFailure(node.id());
+                } finally {
+                    inFlight.remove(node.id());
+                }
+            });
+    }
+
+    private void onSuccess(String nodeId, JsonNode metrics) {
+        double writes = metrics.path("activeDiskWrites").asDouble(0);
+        double reads = metrics.path("activeDiskReads").asDouble(0);
+
+        loads.compute(nodeId, (id, previous) -> {
+            boolean first = previous == null || previous.probedAtMillis() == 0;
+            double smoothedWrites = first ? writes : ewma(previous.diskWrites(), writes);
+            double smoothedReads = first ? reads : ewma(previous.diskReads(), reads);
+
+            boolean saturated = smoothedWrites >= maxDiskWrites
+                || smoothedReads >= maxDiskReads
+                || smoothedWrites + smoothedReads >= maxDiskIo;
+            NodeStatus status = saturated ? NodeStatus.SATURATED : NodeStatus.HEALTHY;
+
+            if (previous != null && previous.status() != status) {
+                log.info("Storage node 상태 변경 - node: {}, {} -> {}", id, previous.status(), status);
+            }
+            return new NodeLoad(status, smoothedWrites, smoothedReads, 0,
+                System.currentTimeMillis());
+        });
+    }
+
+    private void onFailure(String nodeId) {
+        loads.compute(nodeId, (id, previous) -> {
+            NodeLoad current = previous == null ? NodeLoad.UNKNOWN : previous;
+            int failures = current.consecutiveFailures() + 1;
+            NodeStatus status = failures >= failureThreshold ? NodeStatus.DOWN : current.status();
+
+            if (status == NodeStatus.DOWN && current.status() != NodeStatus.DOWN) {
+                log.warn("Storage node DOWN - node: {}, 연속 실패: {}", id, failures);
+            }
+            return new NodeLoad(status, current.diskWrites(), current.diskReads(), failures,
+                System.currentTimeMillis());
+        });
+    }
+
+    private double ewma(double previous, double sample) {
+        return smoothing * sample + (1 - smoothing) * previous;
+    }
+
+    private void registerGauges(String nodeId) {
+        // 동일 이름 / tag 로 다시 등록하면 기존 gauge 가 반환됨
+        Gauge.builder("storage.node.load.score", this, prober -> prober.getLoad(nodeId).score())
+            .tag("node", nodeId)
+            .register(meterRegistry);
+        Gauge.builder("storage.node.available", this,
+                prober -> prober.getLoad(nodeId).isAvailable() ? 1 : 0)
+            .tag("node", nodeId)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,117 @@
+package com.standard.objectstorage.controlplane.node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage node 목록과 consistent hash ring 을 보관합니다.
+ * <p>
+ * TB_STORAGE_NODES 를 주기적으로 다시 읽어 ring 을 새로 만들어 교체합니다. (다른 control plane 인스턴스의 변경 반영)
+ * 등록된 node 가 없으면 NODE_ENDPOINT 를 단일 node(default) 로 사용합니다.
+ */
+@Component
+public class StorageNodeRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageNodeRegistry.class);
+
+    public static final String DEFAULT_NODE_ID = "default";
+
+    private final StorageNodeRepository storageNodeRepository;
+    private final StorageNodeInfo defaultNode;
+    private final int virtualNodesPerWeight;
+
+    private volatile Snapshot snapshot;
+
+    public StorageNodeRegistry(
+        StorageNodeRepository storageNodeRepository,
+        @Value("${NODE_ENDPOINT:}") String nodeEndpoint,
+        @Value("${STORAGE_NODE_VIRTUAL_NODES:128}") int virtualNodesPerWeight
+    ) {
+        this.storageNodeRepository = storageNodeRepository;
+        this.defaultNode = nodeEndpoint.isBlank()
+            ? null
+            : new StorageNodeInfo(DEFAULT_NODE_ID, nodeEndpoint, 1);
+        this.virtualNodesPerWeight = virtualNodesPerWeight;
+        this.snapshot = buildSnapshot(List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${STORAGE_NODE_REFRESH_INTERVAL_MS:30000}",
+        initialDelayString = "${STORAGE_NODE_REFRESH_INTERVAL_MS:30000}")
+    public void refresh() {
+        List<StorageNodeInfo> nodes = storageNodeRepository.findAll().stream()
+            .map(node -> new StorageNodeInfo(node.getName(), node.getEndpoint(), node.getWeight()))
+            .toList();
+
+        Snapshot current = this.snapshot;
+        if (!nodes.equals(current.registered())) {
+            this.snapshot = buildSnapshot(nodes);
+            log.info("Storage node ring 갱신 - nodes: {}", nodes.size());
+        }
+    }
+
+    /**
+     * (bucket, objectKey) 를 저장할 primary node
+     */
+    public StorageNodeInfo locate(String bucket, String objectKey) {
+        return snapshot.ring().locate(bucket, objectKey);
+    }
+
+    public List<StorageNodeInfo> successors(String bucket, String objectKey, int count) {
+        return snapshot.ring().successors(bucket, objectKey, count);
+    }
+
+    /**
+     * storagePath 에 기록된 node ID 로 node 조회 (ring 에서 제거된 default node 포함)
+     */
+    public Optional<StorageNodeInfo> findNode(String nodeId) {
+        return Optional.ofNullable(snapshot.nodesById().get(nodeId));
+    }
+
+    public List<StorageNodeInfo> getNodes() {
+        return snapshot.ringNodes();
+    }
+
+    public boolean isEmpty() {
+        return snapshot.ring().isEmpty();
+    }
+
+    private Snapshot buildSnapshot(List<StorageNodeInfo> registered) {
+        List<StorageNodeInfo> ringNodes = registered.isEmpty() && defaultNode != null
+            ? List.of(defaultNode)
+            : registered;
+
+        Map<String, StorageNodeInfo> nodesById = new LinkedHashMap<>();
+        if (defaultNode != null) {
+            nodesById.put(defaultNode.id(), defaultNode);
+        }
+        ringNodes.forEach(node -> nodesById.put(node.id(), node));
+
+        return new Snapshot(
+            registered,
+            Collections.unmodifiableList(new ArrayList<>(ringNodes)),
+            Collections.unmodifiableMap(nodesById),
+            ConsistentHashRing.build(ringNodes, virtualNodesPerWeight)
+        );
+    }
+
+    private record Snapshot(
+        List<StorageNodeInfo> registered,
+        List<StorageNodeInfo> ringNodes,
+        Map<String, StorageNodeInfo> nodesById,
+        ConsistentHashRing ring
+    ) {
+
+    }
+}
@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.node;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StorageNodeRepository extends JpaRepository<StorageNode, Long> {
+
+    Optional<StorageNode> findByName(String name);
+
+    boolean existsByName(String name);
+}
@@ -0,0 +1,70 @@
+package com.standard.objectstorage.controlplane.node;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새 객체를 업로드할 node 선택 (power of two choices)
+ * <p>
+ * consistent hash ring 에서 (bucket, objectKey) 의 앞쪽 두 node 를 후보로 두고, 사용 가능한 node 중 부하 점수가
+ * 낮은 node 를 선택합니다. 두 후보 모두 DOWN / SATURATED 이면 ring 을 따라 다음 사용 가능한 node 를 찾고,
+ * 모두 사용할 수 없으면 primary 를 반환합니다.
+ * 이미 기록된 객체는 기록된 node 가 사용 가능할 때만 그 node 에 덮어쓰고, 아니면 새 객체와 같은 방식으로 선택합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageNodeSelector {
+
+    private static final int CHOICES = 2;
+
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final StorageNodeLoadProber storageNodeLoadProber;
+
+    public StorageNodeInfo selectUploadNode(String bucket, String objectKey) {
+        List<StorageNodeInfo> candidates = storageNodeRegistry.successors(bucket, objectKey, CHOICES);
+
+        StorageNodeInfo selected = leastLoaded(candidates);
+        if (selected != null) {
+            return selected;
+        }
+
+        // 후보가 모두 배제된 경우 - 나머지 node 중 가장 여유 있는 node
+        List<StorageNodeInfo> all = storageNodeRegistry.successors(bucket, objectKey,
+            Integer.MAX_VALUE);
+        selected = leastLoaded(all);
+        return selected != null ? selected : storageNodeRegistry.locate(bucket, objectKey);
+    }
+
+    /**
+     * 기록된 node 가 DOWN / SATURATED 가 아니면 그 node 를, 아니면 selectUploadNode 결과를 반환합니다.
+     */
+    public StorageNodeInfo selectOverwriteNode(StorageNodeInfo recorded, String bucket,
+        String objectKey) {
+        if (recorded != null && isAvailable(recorded)) {
+            return recorded;
+        }
+        return selectUploadNode(bucket, objectKey);
+    }
+
+    /**
+     * DOWN / SATURATED 가 아닌 node
+     */
+    public boolean isAvailable(StorageNodeInfo node) {
+        return storageNodeLoadProber.getLoad(node.id()).isAvailable();
+    }
+
+    private StorageNodeInfo leastLoaded(List<StorageNodeInfo> candidates) {
+        StorageNodeInfo selected = null;
+        double selectedScore = Double.MAX_VALUE;
+
+        for (StorageNodeInfo candidate : candidates) {
+            NodeLoad load = storageNodeLoadProber.getLoad(candidate.id());
+            if (load.isAvailable() && load.score() < selectedScore) {
+                selected = candidate;
+                selectedScore = load.score();
+            }
+        }
+        return selected;
+    }
+}
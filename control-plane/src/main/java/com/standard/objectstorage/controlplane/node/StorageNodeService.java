@@ -0,0 +1,57 @@
+package com.standard.objectstorage.controlplane.node;
+
+import com.standard.objectstorage.controlplane.node.dto.RegisterStorageNodeRequest;
+import com.standard.objectstorage.controlplane.node.dto.StorageNodeResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class StorageNodeService {
+
+    private final StorageNodeRepository storageNodeRepository;
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final StorageNodeLoadProber storageNodeLoadProber;
+
+    public StorageNodeResponse registerNode(RegisterStorageNodeRequest request) {
+        if (storageNodeRepository.existsByName(request.getName())) {
+            throw new IllegalArgumentException("이미 존재하는 Storage Node 입니다.");
+        }
+
+        StorageNode saved = storageNodeRepository.save(StorageNode.builder()
+            .name(request.getName())
+            .endpoint(request.getEndpoint())
+            .weight(request.getWeight())
+            .build());
+
+        storageNodeRegistry.refresh();
+        return toResponse(saved);
+    }
+
+    public List<StorageNodeResponse> getNodes() {
+        return storageNodeRepository.findAll().stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    public void deregisterNode(String name) {
+        StorageNode node = storageNodeRepository.findByName(name)
+            .orElseThrow(() -> new IllegalArgumentException("Storage Node not found"));
+
+        storageNodeRepository.delete(node);
+        storageNodeRegistry.refresh();
+    }
+
+    private StorageNodeResponse toResponse(StorageNode node) {
+        NodeLoad load = storageNodeLoadProber.getLoad(node.getName());
+        return StorageNodeResponse.builder()
+            .name(node.getName())
+            .endpoint(node.getEndpoint())
+            .weight(node.getWeight())
+            .status(load.status())
+            .loadScore(load.score())
+            .createdAt(node.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.node;
+
+/**
+ * 기록된 node 에만 보낼 수 있는 요청(multipart part 업로드 등)인데 그 node 가 DOWN / SATURATED 인 경우 (잠시 후 재시도)
+ */
+public class StorageNodeUnavailableException extends RuntimeException {
+
+    public StorageNodeUnavailableException(String nodeId) {
+        super("storage node 를 사용할 수 없습니다. 잠시 후 다시 시도해주세요. (nodeId: " + nodeId + ")");
+    }
+}
@@ -0,0 +1,23 @@
+package com.standard.objectstorage.controlplane.node.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+
+@Getter
+public class RegisterStorageNodeRequest {
+
+    // storagePath 의 첫 번째 경로로 사용되므로 '/' 를 허용하지 않음
+    @NotBlank(message = "name이 누락되었습니다.")
+    @Pattern(regexp = "[A-Za-z0-9._-]{1,63}", message = "name은 영문, 숫자, '.', '_', '-' 만 사용할 수 있습니다.")
+    private String name;
+
+    @NotBlank(message = "endpoint가 누락되었습니다.")
+    private String endpoint;
+
+    @Min(value = 1, message = "weight는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "weight는 100 이하여야 합니다.")
+    private int weight = 1;
+}
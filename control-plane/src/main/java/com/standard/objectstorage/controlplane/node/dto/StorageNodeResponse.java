@@ -0,0 +1,18 @@
+package com.standard.objectstorage.controlplane.node.dto;
+
+import com.standard.objectstorage.controlplane.node.NodeStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StorageNodeResponse {
+
+    private String name;
+    private String endpoint;
+    private int weight;
+    private NodeStatus status;
+    private double loadScore;
+    private LocalDateTime createdAt;
+}
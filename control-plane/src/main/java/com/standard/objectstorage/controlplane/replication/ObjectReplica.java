@@ -0,0 +1,71 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 객체 복제본 (객체 1개 당 복제 계수만큼의 node)
+ * <p>
+ * 업로드 완료 시 ReplicaTracker 가 primary node 는 STORED, 나머지 복제 대상 node 는 MISSING 으로 기록하고,
+ * ReplicaRepairScheduler 가 MISSING 행을 id 순서로 조회하여 복구합니다. 행은 native SQL 로만 추가합니다.
+ */
+@Entity
+@Table(
+    name = "TB_OBJECT_REPLICAS",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "UK_OBJECT_REPLICA_NODE", columnNames = {"object_id", "node_id"})
+    },
+    indexes = {
+        // 복구 대상 keyset 조회 (state, id)
+        @Index(name = "IDX_REPLICA_STATE_ID", columnList = "state, id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ObjectReplica {
+
+    // 시간 순서 UUIDv7, BINARY(16)
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "binary(16)")
+    private UUID id;
+
+    // TB_OBJECTS.id (객체가 삭제되면 복구 scan 에서 함께 삭제)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "object_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID objectId;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReplicaState state;
+
+    // 복구 실패 횟수 (backoff 계산)
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 복구 (복구 진행 중에는 lease 만료 시각)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 255)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
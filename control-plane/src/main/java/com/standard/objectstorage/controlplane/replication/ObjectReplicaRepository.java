@@ -0,0 +1,138 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ObjectReplicaRepository extends JpaRepository<ObjectReplica, UUID> {
+
+    /**
+     * afterId 이후의 복구 대상 복제본을 id 순으로 조회합니다. (IDX_REPLICA_STATE_ID range scan)
+     */
+    @Query("""
+        select new com.standard.objectstorage.controlplane.replication.ReplicaRepairCandidate(
+            r.id, r.objectId, r.nodeId, r.attempts, o.objectKey, o.size, o.storagePath, o.status)
+        from ObjectReplica r
+        left join StoredObject o on o.id = r.objectId
+        where r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING
+          and r.id > :afterId
+          and r.nextAttemptAt <= :now
+        order by r.id asc
+        """)
+    List<ReplicaRepairCandidate> findRepairCandidates(
+        @Param("afterId") UUID afterId,
+        @Param("now") LocalDateTime now,
+        Limit limit
+    );
+
+    // 복구 source 로 사용할 수 있는 복제본
+    @Query("""
+        select new com.standard.objectstorage.controlplane.replication.ReplicaLocation(
+            r.objectId, r.nodeId)
+        from ObjectReplica r
+        where r.objectId in :objectIds
+          and r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.STORED
+        """)
+    List<ReplicaLocation> findStored(@Param("objectIds") Collection<UUID> objectIds);
+
+    // 상태와 관계없이 복제본이 기록된 node (lifecycle 만료 시 모든 복제본 파일 삭제)
+    @Query("""
+        select new com.standard.objectstorage.controlplane.replication.ReplicaLocation(
+            r.objectId, r.nodeId)
+        from ObjectReplica r
+        where r.objectId in :objectIds
+        """)
+    List<ReplicaLocation> findLocations(@Param("objectIds") Collection<UUID> objectIds);
+
+    @Query("""
+        select count(distinct r.objectId)
+        from ObjectReplica r
+        where r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING
+        """)
+    long countUnderReplicatedObjects();
+
+    @Query("""
+        select count(r)
+        from ObjectReplica r
+        where r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING
+        """)
+    long countMissing();
+
+    // 조건부 update 로 한 인스턴스만 복구 진행 (leaseUntil 이 지나면 다시 복구 대상)
+    @Transactional
+    @Modifying
+    @Query("""
+        update ObjectReplica r
+        set r.nextAttemptAt = :leaseUntil
+        where r.id = :id
+          and r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING
+          and r.nextAttemptAt <= :now
+        """)
+    int claim(
+        @Param("id") UUID id,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update ObjectReplica r
+        set r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.STORED,
+            r.attempts = 0,
+            r.lastError = null,
+            r.updatedAt = :now
+        where r.id = :id
+        """)
+    int markStored(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update ObjectReplica r
+        set r.attempts = r.attempts + 1,
+            r.nextAttemptAt = :nextAttemptAt,
+            r.lastError = :error,
+            r.updatedAt = :now
+        where r.id = :id
+          and r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING
+        """)
+    int markFailed(
+        @Param("id") UUID id,
+        @Param("error") String error,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("now") LocalDateTime now);
+
+    // source 로 사용한 복제본의 파일이 없는 경우 (다른 복제본에서 복구)
+    @Transactional
+    @Modifying
+    @Query("""
+        update ObjectReplica r
+        set r.state = com.standard.objectstorage.controlplane.replication.ReplicaState.MISSING,
+            r.nextAttemptAt = :now,
+            r.updatedAt = :now
+        where r.objectId = :objectId
+          and r.nodeId = :nodeId
+        """)
+    int markMissing(
+        @Param("objectId") UUID objectId,
+        @Param("nodeId") String nodeId,
+        @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ObjectReplica r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    // 객체 행과 함께 삭제 (lifecycle 만료 / bucket 정리)
+    @Transactional
+    @Modifying
+    @Query("delete from ObjectReplica r where r.objectId in :objectIds")
+    int deleteByObjectIds(@Param("objectIds") Collection<UUID> objectIds);
+}
@@ -0,0 +1,125 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.shard.ShardRouting;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본이 기록되지 않은 기존 COMPLETE 객체를 TB_OBJECT_REPLICAS 에 추가합니다. (복제본 추적 도입 전 객체)
+ * <p>
+ * 객체 shard 마다 TB_OBJECTS 를 id 순서로 BATCH_SIZE 개씩 한 번 순회하고, 모든 shard 를 끝까지 돌면 멈춥니다.
+ * (재시작 시 처음부터 다시 확인)
+ * 추가된 복제본은 바로 복구 대상이 되며, 이미 복제되어 있으면 복구는 전송 없이 확인만 합니다.
+ * 다른 객체의 파일을 참조하는 객체(source_id)는 자기 파일이 없으므로 제외합니다. (원본 객체의 복제본이 대신함)
+ */
+@Component
+public class ReplicaBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaBackfill.class);
+
+    // PK range scan 한 번, 복제본 존재 여부는 UK_OBJECT_REPLICA_NODE 로 확인
+    // (TB_BUCKETS 는 GLOBAL DB 에 있으므로 bucket 이름은 storage_path 에서 읽음)
+    private static final String SCAN_SQL = """
+        select o.id, o.bucket_id, o.object_key, o.storage_path, o.status, o.source_id,
+               exists (select 1 from tb_object_replicas r where r.object_id = o.id) as tracked
+        from tb_objects o
+        where o.id > ?
+        order by o.id
+        limit ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReplicaTracker replicaTracker;
+    private final int shardCount;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private int shard = ShardRouting.GLOBAL;
+    private byte[] cursor = new byte[16];
+    private volatile boolean done;
+    private long enrolled;
+
+    public ReplicaBackfill(
+        JdbcTemplate jdbcTemplate,
+        ReplicaTracker replicaTracker,
+        ShardMap shardMap,
+        @Value("${REPLICA_BACKFILL_ENABLED:true}") boolean enabled,
+        @Value("${REPLICA_BACKFILL_BATCH_SIZE:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaTracker = replicaTracker;
+        this.shardCount = shardMap.shardCount();
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${REPLICA_BACKFILL_INTERVAL_MS:1000}",
+        fixedDelayString = "${REPLICA_BACKFILL_INTERVAL_MS:1000}"
+    )
+    public void enrollNextBatch() {
+        if (!enabled || done) {
+            return;
+        }
+
+        List<ScannedObject> scanned;
+        try {
+            scanned = ShardRouting.on(shard, this::enrollNextBatchOnShard);
+        } catch (DataAccessException e) {
+            log.warn("복제본 backfill 실패 - shard: {}, 다음 주기에 다시 시도합니다.", shard, e);
+            return;
+        }
+
+        if (scanned.size() < batchSize) {
+            cursor = new byte[16];
+            if (++shard < shardCount) {
+                return;
+            }
+            done = true;
+            log.info("복제본 backfill 완료 - 추가된 객체: {}", enrolled);
+            return;
+        }
+        cursor = scanned.get(scanned.size() - 1).id();
+    }
+
+    private List<ScannedObject> enrollNextBatchOnShard() {
+        List<ScannedObject> scanned = jdbcTemplate.query(SCAN_SQL, (rs, rowNum) -> new ScannedObject(
+            rs.getBytes("id"),
+            rs.getBoolean("tracked") || !"COMPLETE".equals(rs.getString("status"))
+                || rs.getBytes("source_id") != null
+                ? null
+                : new ReplicatedObject(rs.getLong("bucket_id"),
+                    StoragePath.bucketOf(rs.getString("storage_path")),
+                    rs.getString("object_key"),
+                    StoragePath.nodeIdOf(rs.getString("storage_path")))
+        ), cursor, batchSize);
+
+        List<ReplicatedObject> untracked = new ArrayList<>();
+        for (ScannedObject object : scanned) {
+            if (object.untracked() != null) {
+                untracked.add(object.untracked());
+            }
+        }
+        replicaTracker.enroll(untracked, LocalDateTime.now());
+        enrolled += untracked.size();
+        return scanned;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    private record ScannedObject(byte[] id, ReplicatedObject untracked) {
+
+    }
+}
@@ -0,0 +1,71 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 객체를 지울 때 삭제할 파일 목록 (bucket 정리 / lifecycle 공통)
+ * <p>
+ * primary 파일과, COMPLETE(또는 만료 삭제 중) 객체는 TB_OBJECT_REPLICAS 에 기록된 다른 node 의 복제본 파일까지 포함합니다.
+ * 한 객체의 파일은 같은 id 로 묶이므로, 파일이 하나라도 남은 객체는 행(객체 / 복제본 위치)을 지우지 않고 다시 시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplicaDeleteTargets {
+
+    private final ObjectReplicaRepository objectReplicaRepository;
+    private final ShardMap shardMap;
+
+    public List<ObjectDeleteTarget> withReplicas(long bucketId, String bucket,
+        List<ObjectDeleteTarget> objects) {
+        List<ObjectDeleteTarget> targets = new ArrayList<>(objects);
+        Map<UUID, ObjectDeleteTarget> complete = new LinkedHashMap<>();
+        for (ObjectDeleteTarget object : objects) {
+            if (object.mayHaveReplicas()) {
+                complete.put(object.id(), object);
+            }
+        }
+        if (complete.isEmpty()) {
+            return targets;
+        }
+
+        List<ReplicaLocation> replicas = shardMap.onBucket(bucketId,
+            () -> objectReplicaRepository.findLocations(complete.keySet()));
+        for (ReplicaLocation replica : replicas) {
+            ObjectDeleteTarget object = complete.get(replica.objectId());
+            if (replica.nodeId().equals(object.nodeId())) {
+                continue;
+            }
+            targets.add(new ObjectDeleteTarget(object.id(), object.objectKey(),
+                StoragePath.of(replica.nodeId(), bucket, object.objectKey()),
+                object.size(), object.status()));
+        }
+        return targets;
+    }
+
+    /**
+     * 파일이 하나라도 삭제되지 않은 객체 id
+     */
+    public static Set<UUID> failedIds(List<ObjectDeleteTarget> targets,
+        Collection<ObjectDeleteTarget> deleted) {
+        Set<ObjectDeleteTarget> succeeded = new HashSet<>(deleted);
+        Set<UUID> failed = new HashSet<>();
+        for (ObjectDeleteTarget target : targets) {
+            if (!succeeded.contains(target)) {
+                failed.add(target.id());
+            }
+        }
+        return failed;
+    }
+}
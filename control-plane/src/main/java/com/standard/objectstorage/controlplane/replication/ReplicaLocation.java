@@ -0,0 +1,7 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import java.util.UUID;
+
+public record ReplicaLocation(UUID objectId, String nodeId) {
+
+}
@@ -0,0 +1,97 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimit;
+import com.standard.objectstorage.controlplane.storage.ratelimit.TokenBucket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * node 별 복구 동시 요청 수 / 전송량 한도 (이 인스턴스 기준)
+ * <p>
+ * 복구 1건은 source node 의 읽기와 target node 의 쓰기를 모두 사용하므로 양쪽 node 에 모두 적용하고,
+ * 한쪽이라도 한도를 넘으면 아무것도 차감하지 않고 거절합니다. (다음 scan 에서 다시 시도)
+ */
+public class ReplicaRepairBudget {
+
+    private final int concurrencyPerNode;
+    private final RateLimit bandwidth;
+    private final Map<String, NodeBudget> nodes = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ReplicaRepairBudget(int concurrencyPerNode, RateLimit bandwidth) {
+        this.concurrencyPerNode = Math.max(1, concurrencyPerNode);
+        this.bandwidth = bandwidth;
+    }
+
+    public boolean tryAcquire(String sourceNodeId, String targetNodeId, long bytes, long now) {
+        NodeBudget source = node(sourceNodeId, now);
+        NodeBudget target = node(targetNodeId, now);
+
+        if (!source.tryStart()) {
+            return false;
+        }
+        if (!target.tryStart()) {
+            source.finish();
+            return false;
+        }
+        if (source.bytes.tryAcquire(bytes, bandwidth, now) > 0) {
+            source.finish();
+            target.finish();
+            return false;
+        }
+        if (target.bytes.tryAcquire(bytes, bandwidth, now) > 0) {
+            source.bytes.refund(bytes, bandwidth);
+            source.finish();
+            target.finish();
+            return false;
+        }
+        inFlight.incrementAndGet();
+        return true;
+    }
+
+    public void release(String sourceNodeId, String targetNodeId) {
+        nodes.get(sourceNodeId).finish();
+        nodes.get(targetNodeId).finish();
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int inFlight(String nodeId) {
+        NodeBudget node = nodes.get(nodeId);
+        return node == null ? 0 : node.active.get();
+    }
+
+    private NodeBudget node(String nodeId, long now) {
+        return nodes.computeIfAbsent(nodeId, ignored -> new NodeBudget(now));
+    }
+
+    private final class NodeBudget {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final TokenBucket bytes;
+
+        private NodeBudget(long now) {
+            this.bytes = new TokenBucket(now);
+        }
+
+        private boolean tryStart() {
+            while (true) {
+                int current = active.get();
+                if (current >= concurrencyPerNode) {
+                    return false;
+                }
+                if (active.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void finish() {
+            active.decrementAndGet();
+        }
+    }
+}
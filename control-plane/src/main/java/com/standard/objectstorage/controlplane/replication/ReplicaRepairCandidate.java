@@ -0,0 +1,39 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import java.util.UUID;
+
+/**
+ * 복구 대상 복제본과 객체 정보 (객체가 삭제되었으면 objectKey / status 가 null)
+ */
+public record ReplicaRepairCandidate(
+    UUID id,
+    UUID objectId,
+    String nodeId,
+    int attempts,
+    String objectKey,
+    Long size,
+    String storagePath,
+    ObjectStatus status
+) {
+
+    // 삭제되었거나 COMPLETE 가 아닌 객체의 복제본은 복구하지 않고 삭제
+    public boolean isOrphan() {
+        return status != ObjectStatus.COMPLETE && status != ObjectStatus.DELETING;
+    }
+
+    // 만료 삭제 중인 객체의 복제본은 삭제가 끝나거나 되돌려질 때까지 그대로 둠
+    public boolean isDeleting() {
+        return status == ObjectStatus.DELETING;
+    }
+
+    // bucket(TB_BUCKETS)은 GLOBAL DB 에 있으므로 join 하지 않고 storagePath 에서 읽음
+    public String bucket() {
+        return storagePath == null ? null : StoragePath.bucketOf(storagePath);
+    }
+
+    public String primaryNodeId() {
+        return StoragePath.nodeIdOf(storagePath);
+    }
+}
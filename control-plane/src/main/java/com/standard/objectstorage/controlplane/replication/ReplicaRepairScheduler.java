@@ -0,0 +1,359 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeLoadProber;
+import com.standard.objectstorage.controlplane.node.StorageNodeRegistry;
+import com.standard.objectstorage.controlplane.shard.ShardFanOut;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.shard.ShardRouting;
+import com.standard.objectstorage.controlplane.storage.ReplicaRepairOutcome;
+import com.standard.objectstorage.controlplane.storage.StorageReplicaRepairer;
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본이 부족한 객체를 찾아 storage node 에 복구를 요청합니다.
+ * <p>
+ * - TB_OBJECT_REPLICAS 의 MISSING 행을 id(keyset) 순서로 BATCH_SIZE 개씩 조회하고, 끝까지 돌면 처음부터 다시 조회합니다.
+ * - 복구는 STORED 복제본(primary 우선)이 있는 node 가 대상 node 로 전송하며, 대상 node 에 이미 같은 크기 / ETag 의 파일이
+ *   있으면 전송 없이 확인만 합니다.
+ * - node 별 동시 요청 수 / 전송량 한도(ReplicaRepairBudget)를 넘거나, node 가 DOWN / SATURATED 이면 건너뛰어
+ *   업로드 / 다운로드 처리를 방해하지 않습니다. 오래 내려가 있던 node 가 돌아오면 밀린 복구를 한도 안에서 진행합니다.
+ * - 조건부 update(claim)로 한 인스턴스만 같은 복제본을 복구하고, 실패하면 backoff 후 다시 복구 대상이 됩니다.
+ * - 객체 shard 마다 cursor 를 따로 두고 한 주기에 shard 별로 한 batch 씩 처리합니다.
+ */
+@Component
+public class ReplicaRepairScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRepairScheduler.class);
+    private static final UUID MIN_ID = new UUID(0, 0);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final ObjectReplicaRepository objectReplicaRepository;
+    private final ShardFanOut shardFanOut;
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final StorageNodeLoadProber storageNodeLoadProber;
+    private final StorageReplicaRepairer storageReplicaRepairer;
+    private final ReplicaRepairBudget budget;
+    private final ExecutorService scanExecutor;
+    private final AtomicBoolean scanning = new AtomicBoolean();
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+
+    private final AtomicLong underReplicatedObjects = new AtomicLong();
+    private final AtomicLong missingReplicas = new AtomicLong();
+    private final Map<ReplicaRepairOutcome, Counter> repaired = new EnumMap<>(ReplicaRepairOutcome.class);
+    private final Counter deferredByNode;
+    private final Counter deferredByBudget;
+    private final Counter orphaned;
+    private final Counter repairedBytes;
+    private final Timer repairTimer;
+
+    // shard 별 cursor (scan 전용 스레드에서만 사용)
+    private final UUID[] cursors;
+    private volatile boolean stopped;
+
+    public ReplicaRepairScheduler(
+        ObjectReplicaRepository objectReplicaRepository,
+        ShardMap shardMap,
+        ShardFanOut shardFanOut,
+        StorageNodeRegistry storageNodeRegistry,
+        StorageNodeLoadProber storageNodeLoadProber,
+        StorageReplicaRepairer storageReplicaRepairer,
+        MeterRegistry meterRegistry,
+        @Value("${REPLICA_REPAIR_ENABLED:true}") boolean enabled,
+        @Value("${REPLICA_REPAIR_BATCH_SIZE:200}") int batchSize,
+        @Value("${REPLICA_REPAIR_NODE_CONCURRENCY:2}") int concurrencyPerNode,
+        @Value("${REPLICA_REPAIR_NODE_BYTES_PER_SECOND:20971520}") double bytesPerSecond,
+        @Value("${REPLICA_REPAIR_NODE_BURST_BYTES:67108864}") long burstBytes,
+        @Value("${REPLICA_REPAIR_LEASE_MS:900000}") long leaseMillis,
+        @Value("${REPLICA_REPAIR_RETRY_BACKOFF_MS:30000}") long retryBackoffMillis,
+        @Value("${REPLICA_REPAIR_MAX_RETRY_BACKOFF_MS:3600000}") long maxRetryBackoffMillis
+    ) {
+        this.objectReplicaRepository = objectReplicaRepository;
+        this.shardFanOut = shardFanOut;
+        this.cursors = new UUID[shardMap.shardCount()];
+        Arrays.fill(cursors, MIN_ID);
+        this.storageNodeRegistry = storageNodeRegistry;
+        this.storageNodeLoadProber = storageNodeLoadProber;
+        this.storageReplicaRepairer = storageReplicaRepairer;
+        this.budget = new ReplicaRepairBudget(concurrencyPerNode,
+            new RateLimit(bytesPerSecond, burstBytes));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+
+        this.scanExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-repair");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("replica.under_replicated.objects", underReplicatedObjects, AtomicLong::get)
+            .description("복제본이 부족한 객체 수")
+            .register(meterRegistry);
+        Gauge.builder("replica.missing", missingReplicas, AtomicLong::get)
+            .description("확인되지 않은 (복구 대상) 복제본 수")
+            .register(meterRegistry);
+        Gauge.builder("replica.repair.in_flight", budget, ReplicaRepairBudget::inFlight)
+            .description("진행 중인 복구 요청 수")
+            .register(meterRegistry);
+        for (ReplicaRepairOutcome outcome : ReplicaRepairOutcome.values()) {
+            repaired.put(outcome, Counter.builder("replica.repair")
+                .description("복구 요청 결과")
+                .tag("result", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.deferredByNode = deferredCounter(meterRegistry, "node_unavailable");
+        this.deferredByBudget = deferredCounter(meterRegistry, "budget");
+        this.orphaned = Counter.builder("replica.repair.orphaned")
+            .description("객체가 삭제되어 지운 복제본 수")
+            .register(meterRegistry);
+        this.repairedBytes = Counter.builder("replica.repair.bytes")
+            .description("복구로 전송된 바이트")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.repairTimer = Timer.builder("replica.repair.duration")
+            .description("복구 요청 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 다음 batch 를 전용 스레드에서 조회하여 복구를 요청합니다. (스케줄러 스레드를 점유하지 않음)
+     */
+    @Scheduled(
+        initialDelayString = "${REPLICA_REPAIR_INTERVAL_MS:1000}",
+        fixedDelayString = "${REPLICA_REPAIR_INTERVAL_MS:1000}"
+    )
+    public void dispatch() {
+        if (!enabled || stopped || !scanning.compareAndSet(false, true)) {
+            return;
+        }
+        scanExecutor.execute(() -> {
+            try {
+                for (int shard = 0; shard < cursors.length && !stopped; shard++) {
+                    repairNextBatch(shard);
+                }
+            } finally {
+                scanning.set(false);
+            }
+        });
+    }
+
+    @Scheduled(
+        initialDelayString = "${REPLICA_METRICS_INTERVAL_MS:60000}",
+        fixedDelayString = "${REPLICA_METRICS_INTERVAL_MS:60000}"
+    )
+    public void refreshMetrics() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            underReplicatedObjects.set(
+                shardFanOut.sum(shard -> objectReplicaRepository.countUnderReplicatedObjects()));
+            missingReplicas.set(shardFanOut.sum(shard -> objectReplicaRepository.countMissing()));
+        } catch (DataAccessException e) {
+            log.warn("복제본 지표 갱신 실패", e);
+        }
+    }
+
+    private void repairNextBatch(int shard) {
+        try {
+            ShardRouting.run(shard, () -> repairNextBatchOnShard(shard));
+        } catch (DataAccessException e) {
+            log.warn("복제본 복구 조회 실패 - shard: {}, 다음 주기에 다시 시도합니다.", shard, e);
+        }
+    }
+
+    private void repairNextBatchOnShard(int shard) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReplicaRepairCandidate> batch = objectReplicaRepository.findRepairCandidates(
+            cursors[shard], now, Limit.of(batchSize));
+        cursors[shard] = batch.size() < batchSize ? MIN_ID : batch.get(batch.size() - 1).id();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<UUID> orphans = new ArrayList<>();
+        Set<UUID> objectIds = new LinkedHashSet<>();
+        for (ReplicaRepairCandidate candidate : batch) {
+            if (candidate.isOrphan()) {
+                orphans.add(candidate.id());
+            } else if (!candidate.isDeleting()) {
+                objectIds.add(candidate.objectId());
+            }
+        }
+        if (!orphans.isEmpty()) {
+            objectReplicaRepository.deleteByIds(orphans);
+            orphaned.increment(orphans.size());
+        }
+        if (objectIds.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<String>> stored = new HashMap<>();
+        for (ReplicaLocation location : objectReplicaRepository.findStored(objectIds)) {
+            stored.computeIfAbsent(location.objectId(), id -> new ArrayList<>())
+                .add(location.nodeId());
+        }
+
+        for (ReplicaRepairCandidate candidate : batch) {
+            if (stopped) {
+                return;
+            }
+            if (objectIds.contains(candidate.objectId())) {
+                repair(shard, candidate, stored.getOrDefault(candidate.objectId(), List.of()), now);
+            }
+        }
+    }
+
+    private void repair(int shard, ReplicaRepairCandidate candidate, List<String> storedNodeIds,
+        LocalDateTime now) {
+        StorageNodeInfo target = storageNodeRegistry.findNode(candidate.nodeId()).orElse(null);
+        StorageNodeInfo source = selectSource(candidate, storedNodeIds);
+        if (source == null) {
+            // 확인된 복제본이 없음 : 다른 복제본이 복구되거나 node 가 돌아올 때까지 backoff
+            fail(candidate, "복구할 source 복제본이 없습니다.", now);
+            return;
+        }
+        if (target == null || !isAvailable(source) || !isAvailable(target)) {
+            deferredByNode.increment();
+            return;
+        }
+
+        long size = candidate.size() == null ? 0 : candidate.size();
+        if (!budget.tryAcquire(source.id(), target.id(), size, System.nanoTime())) {
+            deferredByBudget.increment();
+            return;
+        }
+        if (objectReplicaRepository.claim(candidate.id(), now, now.plus(lease)) == 0) {
+            // 다른 인스턴스가 복구 중
+            budget.release(source.id(), target.id());
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        storageReplicaRepairer.repair(source, target, candidate.bucket(), candidate.objectKey(), size)
+            .whenComplete((outcome, error) -> {
+                budget.release(source.id(), target.id());
+                repairTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                try {
+                    // 완료 콜백은 HTTP 스레드에서 실행되므로 shard 를 다시 지정
+                    ShardRouting.run(shard, () -> record(candidate, source,
+                        outcome == null ? ReplicaRepairOutcome.FAILED : outcome, size));
+                } catch (DataAccessException e) {
+                    // lease 가 만료되면 다시 복구 대상
+                    log.warn("복제본 복구 결과 기록 실패 - replicaId: {}", candidate.id(), e);
+                }
+            });
+    }
+
+    private void record(ReplicaRepairCandidate candidate, StorageNodeInfo source,
+        ReplicaRepairOutcome outcome, long size) {
+        repaired.get(outcome).increment();
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (outcome) {
+            case COPIED -> {
+                repairedBytes.increment(size);
+                objectReplicaRepository.markStored(candidate.id(), now);
+            }
+            case VERIFIED -> objectReplicaRepository.markStored(candidate.id(), now);
+            case SOURCE_MISSING -> {
+                // source 복제본도 없어졌으므로 함께 복구 대상으로 표시
+                objectReplicaRepository.markMissing(candidate.objectId(), source.id(), now);
+                fail(candidate, "source node(" + source.id() + ") 에 파일이 없습니다.", now);
+            }
+            case FAILED -> fail(candidate, "source node(" + source.id() + ") 복구 요청 실패", now);
+        }
+    }
+
+    private void fail(ReplicaRepairCandidate candidate, String error, LocalDateTime now) {
+        long backoff = retryBackoffMillis << Math.min(candidate.attempts(), 20);
+        LocalDateTime nextAttemptAt = now.plus(
+            Duration.ofMillis(Math.min(backoff, maxRetryBackoffMillis)));
+        objectReplicaRepository.markFailed(candidate.id(), truncate(error), nextAttemptAt, now);
+    }
+
+    /**
+     * STORED 복제본이 있는 node 중 사용 가능한 node (primary 우선)
+     * 모두 사용할 수 없으면 그중 하나를 반환하여 node 가 돌아올 때까지 미룹니다.
+     */
+    private StorageNodeInfo selectSource(ReplicaRepairCandidate candidate,
+        List<String> storedNodeIds) {
+        List<StorageNodeInfo> sources = new ArrayList<>(storedNodeIds.size());
+        for (String nodeId : storedNodeIds) {
+            if (nodeId.equals(candidate.nodeId())) {
+                continue;
+            }
+            storageNodeRegistry.findNode(nodeId).ifPresent(node -> {
+                if (nodeId.equals(candidate.primaryNodeId())) {
+                    sources.add(0, node);
+                } else {
+                    sources.add(node);
+                }
+            });
+        }
+
+        for (StorageNodeInfo source : sources) {
+            if (isAvailable(source)) {
+                return source;
+            }
+        }
+        return sources.isEmpty() ? null : sources.get(0);
+    }
+
+    private boolean isAvailable(StorageNodeInfo node) {
+        return storageNodeLoadProber.getLoad(node.id()).isAvailable();
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter deferredCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("replica.repair.deferred")
+            .description("한도 / node 상태로 다음 scan 으로 미룬 복구 수")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        scanExecutor.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package com.standard.objectstorage.controlplane.replication;
+
+public enum ReplicaState {
+    // 복제본이 있어야 하지만 확인되지 않음 (복구 대상)
+    MISSING,
+    // 복제본 저장 확인
+    STORED
+}
@@ -0,0 +1,124 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeRegistry;
+import com.standard.objectstorage.controlplane.utils.UuidV7;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 완료된 객체의 복제본 위치를 TB_OBJECT_REPLICAS 에 기록합니다.
+ * <p>
+ * - 복제 대상 node 는 primary node 와 consistent hash ring 을 따라 이어지는 node 로, 모두 REPLICATION_FACTOR 개입니다.
+ * - primary 는 STORED, 나머지는 MISSING 으로 기록하고 REPLICA_REPAIR_GRACE_SECONDS 이후부터 복구 대상이 됩니다.
+ *   (그 사이 storage node 의 복제 / 재시도 worker 가 복제하면 복구는 전송 없이 확인만 합니다)
+ * - 덮어쓰기 업로드는 기존 복제본이 이전 내용이므로 행을 지우고 다시 기록합니다.
+ * - 호출하는 쪽의 트랜잭션에서 TB_OBJECTS 기록과 함께 실행되어야 합니다.
+ */
+@Component
+public class ReplicaTracker {
+
+    private static final String DELETE_SQL = """
+        delete r
+        from tb_object_replicas r
+        join tb_objects o on o.id = r.object_id
+        where o.bucket_id = ?
+          and o.object_key = ?
+        """;
+
+    // 다른 인스턴스의 backfill 과 겹쳐도 (object_id, node_id) 당 한 행
+    private static final String INSERT_SQL = """
+        insert ignore into tb_object_replicas
+            (id, object_id, node_id, state, attempts, next_attempt_at, updated_at)
+        select ?, o.id, ?, ?, 0, ?, ?
+        from tb_objects o
+        where o.bucket_id = ?
+          and o.object_key = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final int replicationFactor;
+    private final long graceSeconds;
+
+    public ReplicaTracker(
+        JdbcTemplate jdbcTemplate,
+        StorageNodeRegistry storageNodeRegistry,
+        @Value("${REPLICATION_FACTOR:2}") int replicationFactor,
+        @Value("${REPLICA_REPAIR_GRACE_SECONDS:120}") long graceSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storageNodeRegistry = storageNodeRegistry;
+        this.replicationFactor = Math.max(1, replicationFactor);
+        this.graceSeconds = graceSeconds;
+    }
+
+    /**
+     * 새로 업로드된 (덮어쓰기 포함) 객체의 복제본을 다시 기록합니다.
+     */
+    public void track(List<ReplicatedObject> objects, LocalDateTime now) {
+        if (objects.isEmpty()) {
+            return;
+        }
+        List<Object[]> deletes = new ArrayList<>(objects.size());
+        for (ReplicatedObject object : objects) {
+            deletes.add(new Object[]{object.bucketId(), object.objectKey()});
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        insert(objects, now.plusSeconds(graceSeconds), now);
+    }
+
+    /**
+     * 복제본이 기록되지 않은 기존 객체를 추가합니다. (이미 있는 행은 유지, 바로 복구 대상)
+     */
+    public void enroll(List<ReplicatedObject> objects, LocalDateTime now) {
+        if (!objects.isEmpty()) {
+            insert(objects, now, now);
+        }
+    }
+
+    private void insert(List<ReplicatedObject> objects, LocalDateTime nextAttemptAt,
+        LocalDateTime now) {
+        Timestamp next = Timestamp.valueOf(nextAttemptAt);
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        List<Object[]> rows = new ArrayList<>(objects.size() * replicationFactor);
+        for (ReplicatedObject object : objects) {
+            for (String nodeId : replicaNodeIds(object)) {
+                ReplicaState state = nodeId.equals(object.primaryNodeId())
+                    ? ReplicaState.STORED
+                    : ReplicaState.MISSING;
+                rows.add(new Object[]{UuidV7.toBytes(UuidV7.next()), nodeId, state.name(), next,
+                    timestamp, object.bucketId(), object.objectKey()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * primary node 와 ring 을 따라 이어지는 node (primary 가 ring 의 앞쪽 node 가 아닌 경우 포함)
+     */
+    List<String> replicaNodeIds(ReplicatedObject object) {
+        List<String> nodeIds = new ArrayList<>(replicationFactor);
+        nodeIds.add(object.primaryNodeId());
+        if (replicationFactor == 1 || storageNodeRegistry.isEmpty()) {
+            return nodeIds;
+        }
+
+        for (StorageNodeInfo node : storageNodeRegistry.successors(object.bucket(),
+            object.objectKey(), replicationFactor + 1)) {
+            if (nodeIds.size() >= replicationFactor) {
+                break;
+            }
+            if (!nodeIds.contains(node.id())) {
+                nodeIds.add(node.id());
+            }
+        }
+        return nodeIds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.standard.objectstorage.controlplane.replication;
+
+/**
+ * 복제본을 기록할 COMPLETE 객체 (primaryNodeId : 업로드된 node)
+ */
+public record ReplicatedObject(
+    long bucketId,
+    String bucket,
+    String objectKey,
+    String primaryNodeId
+) {
+
+}
@@ -0,0 +1,42 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import com.standard.objectstorage.controlplane.shard.dto.ShardResponse;
+import com.standard.objectstorage.controlplane.shard.dto.ShardSplitResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+public class ShardController {
+
+    private final ShardService shardService;
+    private final ShardSplitter shardSplitter;
+
+    @GetMapping
+    public ResponseEntity<List<ShardResponse>> getShards() {
+        return ResponseEntity.ok(shardService.getShards());
+    }
+
+    /**
+     * source shard 의 slot 절반을 target shard 로 옮깁니다. (비동기, 진행 상황은 GET /split)
+     */
+    @PostMapping("/split")
+    public ResponseEntity<ShardSplitResponse> split(
+        @RequestParam int source,
+        @RequestParam int target
+    ) {
+        return ResponseEntity.accepted().body(shardSplitter.start(source, target));
+    }
+
+    @GetMapping("/split")
+    public ResponseEntity<ShardSplitResponse> getSplit() {
+        return ResponseEntity.ok(shardSplitter.getStatus());
+    }
+}
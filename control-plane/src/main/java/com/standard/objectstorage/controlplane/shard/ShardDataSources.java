@@ -0,0 +1,44 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * GLOBAL 이외의 객체 shard 커넥션 풀 (shard 1 부터 순서대로)
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardDataSources(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * GLOBAL 을 포함한 shard 수
+     */
+    public int shardCount() {
+        return shards.size() + 1;
+    }
+
+    /**
+     * @param shard 1 이상
+     */
+    public DataSource get(int shard) {
+        return shards.get(shard - 1);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : shards) {
+            // 허가 제어로 감싼 풀은 감싸기 전의 풀을 닫음
+            if (dataSource instanceof DelegatingDataSource delegating) {
+                dataSource = delegating.getTargetDataSource();
+            }
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 shard 에 같은 조회를 병렬로 실행합니다. (관리 API / 지표 / 백그라운드 작업)
+ * <p>
+ * 요청 경로의 bucket 단위 조회는 ShardMap.onBucket 으로 한 shard 에서만 실행하고, 이 클래스는 사용하지 않습니다.
+ */
+@Component
+public class ShardFanOut {
+
+    private final ShardMap shardMap;
+    private final ExecutorService executor;
+
+    public ShardFanOut(
+        ShardMap shardMap,
+        @Value("${SHARD_FANOUT_PARALLELISM:8}") int parallelism
+    ) {
+        this.shardMap = shardMap;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "shard-fanout-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * shard 순서대로 결과를 반환합니다. 한 shard 라도 실패하면 그 예외를 던집니다.
+     */
+    public <T> List<T> onEachShard(IntFunction<T> work) {
+        int shardCount = shardMap.shardCount();
+        if (shardCount == 1) {
+            return List.of(ShardRouting.on(ShardRouting.GLOBAL, () -> work.apply(ShardRouting.GLOBAL)));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(
+                () -> ShardRouting.on(target, () -> work.apply(target)), executor));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    public long sum(IntFunction<Long> work) {
+        long total = 0;
+        for (Long value : onEachShard(work)) {
+            total += value;
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,267 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * bucket ID → 객체 shard 배치 (TB_OBJECTS / TB_OBJECT_REPLICAS / TB_BUCKET_USAGE)
+ * <p>
+ * - bucket ID 를 섞어(hash) SLOT_COUNT 개 slot 중 하나로 고정하고, slot 별 shard 는 TB_SHARD_SLOTS 에 기록합니다.
+ *   같은 bucket 의 조회 / 기록은 항상 한 shard 로 갑니다.
+ * - 모든 인스턴스가 SHARD_MAP_REFRESH_INTERVAL_MS 마다 다시 읽어 ShardSplitter 의 변경(FROZEN / 이동)을 반영하고,
+ *   반영한 배치(slot 의 마지막 변경 시각)를 TB_SHARD_MAP_OBSERVERS 에 기록합니다. ShardSplitter 는 이 기록으로
+ *   살아있는 모든 인스턴스가 바뀐 배치로 기록을 막거나 옮겨간 shard 를 사용하는지 확인합니다.
+ * - shard 가 하나(jdbc.sharding.enabled=false)이면 모든 slot 이 GLOBAL 입니다.
+ */
+@Component
+public class ShardMap {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardMap.class);
+
+    private static final int SLOT_BITS = 10;
+
+    public static final int SLOT_COUNT = 1 << SLOT_BITS;
+
+    private static final String SELECT_SQL =
+        "select slot, shard_id, state, updated_at from tb_shard_slots";
+
+    private static final String OBSERVE_SQL = """
+        insert into tb_shard_map_observers (instance_id, observed_at, heartbeat_at)
+        values (?, ?, ?)
+        on duplicate key update
+            observed_at = values(observed_at),
+            heartbeat_at = values(heartbeat_at)
+        """;
+
+    // 여러 인스턴스가 동시에 처음 기동해도 같은 배치 (slot % shard 수)
+    private static final String INSERT_IF_ABSENT_SQL = """
+        insert ignore into tb_shard_slots (slot, shard_id, state, updated_at)
+        values (?, ?, 'ACTIVE', ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int shardCount;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot;
+
+    public ShardMap(JdbcTemplate jdbcTemplate, ObjectProvider<ShardDataSources> shardDataSources) {
+        this.jdbcTemplate = jdbcTemplate;
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        this.shardCount = shards == null ? 1 : shards.shardCount();
+    }
+
+    /**
+     * bucket ID 의 slot (Fibonacci hashing 상위 비트 : auto_increment ID 도 slot 에 고르게 퍼짐)
+     */
+    public static int slotOf(long bucketId) {
+        return (int) ((bucketId * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - SLOT_BITS));
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long bucketId) {
+        return current().shards()[slotOf(bucketId)];
+    }
+
+    public boolean isFrozen(long bucketId) {
+        return current().frozen()[slotOf(bucketId)];
+    }
+
+    /**
+     * 기록 전 확인 : 분할 중인 slot 이면 ShardMigratingException
+     */
+    public void checkWritable(long bucketId) {
+        if (isFrozen(bucketId)) {
+            throw new ShardMigratingException(bucketId);
+        }
+    }
+
+    /**
+     * bucket 이 배치된 shard 에서 실행합니다.
+     */
+    public <T> T onBucket(long bucketId, Supplier<T> work) {
+        return ShardRouting.on(shardOf(bucketId), work);
+    }
+
+    public void runOnBucket(long bucketId, Runnable work) {
+        ShardRouting.run(shardOf(bucketId), work);
+    }
+
+    /**
+     * slot 별 shard (ShardSplitter / 관리 API)
+     */
+    public int[] assignments() {
+        return current().shards().clone();
+    }
+
+    public List<Integer> slotsOf(int shard) {
+        int[] shards = current().shards();
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (shards[slot] == shard) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 분할이 끝나지 않은 (FROZEN) slot - 중단된 분할을 이어서 진행할 때 사용
+     */
+    public List<Integer> frozenSlotsOf(int shard) {
+        Snapshot snapshot = current();
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (snapshot.shards()[slot] == shard && snapshot.frozen()[slot]) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    @Scheduled(
+        initialDelayString = "${SHARD_MAP_REFRESH_INTERVAL_MS:5000}",
+        fixedDelayString = "${SHARD_MAP_REFRESH_INTERVAL_MS:5000}"
+    )
+    public void refresh() {
+        if (shardCount == 1) {
+            return;
+        }
+        Snapshot loaded = ShardRouting.on(ShardRouting.GLOBAL, this::load);
+        Snapshot previous = this.snapshot;
+        this.snapshot = loaded;
+        observe(loaded);
+
+        if (previous != null && !previous.equals(loaded)) {
+            log.info("shard 배치 갱신 - frozen slots: {}", loaded.frozenCount());
+        }
+    }
+
+    /**
+     * 이 인스턴스가 반영한 배치를 기록합니다. (배치를 교체한 뒤에 기록하므로, 기록된 배치 이후의 확인은 모두 그 배치를 사용)
+     */
+    private void observe(Snapshot observed) {
+        if (observed.version() == null) {
+            return;
+        }
+        try {
+            ShardRouting.run(ShardRouting.GLOBAL, () -> jdbcTemplate.update(OBSERVE_SQL,
+                instanceId, Timestamp.valueOf(observed.version()),
+                Timestamp.valueOf(LocalDateTime.now())));
+        } catch (RuntimeException e) {
+            // 기록하지 못하면 ShardSplitter 는 이 인스턴스의 반영을 기다리거나 종료된 것으로 봄
+            log.warn("shard 배치 반영 기록 실패 - instance: {}", instanceId, e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    if (shardCount == 1) {
+                        this.snapshot = new Snapshot(new int[SLOT_COUNT], new boolean[SLOT_COUNT],
+                            null);
+                    } else {
+                        this.snapshot = ShardRouting.on(ShardRouting.GLOBAL, this::initialize);
+                        observe(this.snapshot);
+                    }
+                }
+                current = this.snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot initialize() {
+        Snapshot loaded = load();
+        if (loaded.assigned() == SLOT_COUNT) {
+            return loaded;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(SLOT_COUNT);
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            rows.add(new Object[]{slot, slot % shardCount, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows);
+        log.info("shard 배치 초기화 - shards: {}, slots: {}", shardCount, SLOT_COUNT);
+        return load();
+    }
+
+    private Snapshot load() {
+        int[] shards = new int[SLOT_COUNT];
+        boolean[] frozen = new boolean[SLOT_COUNT];
+        Arrays.fill(shards, -1);
+        LocalDateTime[] version = new LocalDateTime[1];
+
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            int slot = rs.getInt("slot");
+            int shard = rs.getInt("shard_id");
+            if (shard >= shardCount) {
+                // 설정에서 빠진 shard : 기록이 GLOBAL 로 새지 않도록 기동 / 갱신을 중단
+                throw new IllegalStateException(
+                    "slot " + slot + " 이 설정되지 않은 shard " + shard + " 에 배치되어 있습니다.");
+            }
+            shards[slot] = shard;
+            frozen[slot] = ShardSlotState.FROZEN.name().equals(rs.getString("state"));
+            LocalDateTime updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+            if (version[0] == null || updatedAt.isAfter(version[0])) {
+                version[0] = updatedAt;
+            }
+        });
+        return new Snapshot(shards, frozen, version[0]);
+    }
+
+    /**
+     * @param version slot 의 마지막 변경 시각 (TB_SHARD_SLOTS.updated_at 최댓값, 배치 반영 확인용)
+     */
+    private record Snapshot(int[] shards, boolean[] frozen, LocalDateTime version) {
+
+        int assigned() {
+            int count = 0;
+            for (int shard : shards) {
+                if (shard >= 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        int frozenCount() {
+            int count = 0;
+            for (boolean value : frozen) {
+                if (value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Snapshot that
+                && Arrays.equals(shards, that.shards)
+                && Arrays.equals(frozen, that.frozen);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(shards) + Arrays.hashCode(frozen);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스가 반영한 shard 배치 (전역 DB)
+ * <p>
+ * ShardMap 이 배치를 다시 읽을 때마다 기록하고, ShardSplitter 는 slot 을 바꾼 뒤 살아있는 모든 인스턴스가
+ * 바뀐 배치를 반영했는지 확인합니다. (행은 ShardMap 이 JdbcTemplate 으로 upsert)
+ */
+@Entity
+@Table(name = "TB_SHARD_MAP_OBSERVERS")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShardMapObserver {
+
+    @Id
+    @Column(length = 100)
+    private String instanceId;
+
+    // 반영한 배치의 마지막 변경 시각 (TB_SHARD_SLOTS.updated_at 최댓값)
+    @Column(nullable = false)
+    private LocalDateTime observedAt;
+
+    // 마지막으로 배치를 다시 읽은 시각 (오래 갱신되지 않은 인스턴스는 종료된 것으로 봄)
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+}
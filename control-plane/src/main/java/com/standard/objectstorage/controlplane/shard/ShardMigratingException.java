@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.shard;
+
+/**
+ * 분할 중(FROZEN)인 shard slot 의 bucket 에 기록하려는 경우 (잠시 후 재시도)
+ */
+public class ShardMigratingException extends RuntimeException {
+
+    public ShardMigratingException(long bucketId) {
+        super("객체 메타데이터 shard 를 옮기는 중입니다. 잠시 후 다시 시도해주세요. (bucketId: " + bucketId + ")");
+    }
+}
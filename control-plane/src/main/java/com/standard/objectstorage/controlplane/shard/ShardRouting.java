@@ -0,0 +1,51 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 스레드의 조회 / 기록이 사용할 shard (ShardRoutingDataSource 의 분기 기준)
+ * <p>
+ * 지정하지 않으면 GLOBAL(0) 로, User / Bucket 등 전역 테이블과 첫 번째 객체 shard 가 함께 있는 DB 입니다.
+ * 커넥션은 트랜잭션 시작 시 얻으므로, 트랜잭션 안에서 다른 shard 로 바꿀 수 없습니다.
+ */
+public final class ShardRouting {
+
+    public static final int GLOBAL = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardRouting() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? GLOBAL : shard;
+    }
+
+    public static <T> T on(int shard, Supplier<T> work) {
+        int previous = current();
+        if (previous != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                "shard " + previous + " 트랜잭션 안에서 shard " + shard + " 를 사용할 수 없습니다.");
+        }
+
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == GLOBAL) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable work) {
+        on(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
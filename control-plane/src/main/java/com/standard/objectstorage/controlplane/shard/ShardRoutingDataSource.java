@@ -0,0 +1,47 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardRouting.current() 에 따라 GLOBAL DataSource 또는 객체 shard 풀로 분기하는 DataSource
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Counter[] connections;
+
+    public ShardRoutingDataSource(DataSource global, ShardDataSources shards,
+        MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ShardRouting.GLOBAL, global);
+        for (int shard = 1; shard < shards.shardCount(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+
+        this.connections = new Counter[shards.shardCount()];
+        for (int shard = 0; shard < connections.length; shard++) {
+            connections[shard] = Counter.builder("jdbc.shard.connections")
+                .description("shard 별 JDBC 커넥션(트랜잭션) 수")
+                .tag("shard", String.valueOf(shard))
+                .register(meterRegistry);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(global);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int shard = ShardRouting.current();
+        if (shard >= 0 && shard < connections.length) {
+            connections[shard].increment();
+        }
+        return shard;
+    }
+}
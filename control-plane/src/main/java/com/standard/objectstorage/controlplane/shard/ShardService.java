@@ -0,0 +1,38 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import com.standard.objectstorage.controlplane.shard.dto.ShardResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ShardService {
+
+    private static final String COUNT_OBJECTS_SQL = "select count(*) from tb_objects";
+
+    private final ShardMap shardMap;
+    private final ShardFanOut shardFanOut;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * shard 별 slot 수 / 객체 수 (모든 shard 를 병렬로 조회)
+     */
+    public List<ShardResponse> getShards() {
+        List<Long> objects = shardFanOut.onEachShard(
+            shard -> jdbcTemplate.queryForObject(COUNT_OBJECTS_SQL, Long.class));
+
+        List<ShardResponse> shards = new ArrayList<>(objects.size());
+        for (int shard = 0; shard < objects.size(); shard++) {
+            shards.add(ShardResponse.builder()
+                .shard(shard)
+                .slots(shardMap.slotsOf(shard).size())
+                .frozenSlots(shardMap.frozenSlotsOf(shard).size())
+                .objects(objects.get(shard))
+                .build());
+        }
+        return shards;
+    }
+}
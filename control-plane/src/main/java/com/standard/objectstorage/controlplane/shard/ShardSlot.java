@@ -0,0 +1,38 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * bucket ID 의 slot 이 배치된 객체 shard (전역 DB)
+ * <p>
+ * 행은 ShardMap 이 처음 기동할 때 slot % shard 수로 한 번 만들고, 이후에는 ShardSplitter 만 변경합니다.
+ * (shard 를 추가해도 기존 배치는 바뀌지 않음)
+ */
+@Entity
+@Table(name = "TB_SHARD_SLOTS")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShardSlot {
+
+    @Id
+    private Integer slot;
+
+    @Column(name = "shard_id", nullable = false)
+    private int shardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ShardSlotState state;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.standard.objectstorage.controlplane.shard;
+
+public enum ShardSlotState {
+    ACTIVE,
+    FROZEN // shard 분할 중 : 읽기만 허용 (기록은 ShardMigratingException 으로 재시도 요청)
+}
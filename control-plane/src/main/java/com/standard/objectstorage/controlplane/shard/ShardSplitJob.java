@@ -0,0 +1,93 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * shard 분할 상태 (전역 DB)
+ * <p>
+ * 한 번에 하나만 진행하도록 행은 하나(ID)이며, 분할마다 같은 행을 다시 시작합니다.
+ * lease 를 획득한 인스턴스만 단계 / 진행 수를 기록하고, lease 가 만료되면 같은 source / target 요청으로 이어서 진행합니다.
+ */
+@Entity
+@Table(name = "TB_SHARD_SPLITS")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShardSplitJob {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "source_shard", nullable = false)
+    private int source;
+
+    @Column(name = "target_shard", nullable = false)
+    private int target;
+
+    // 옮기는 slot (쉼표로 구분)
+    @Column(nullable = false, columnDefinition = "text")
+    private String slots;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ShardSplitPhase phase;
+
+    @Column(nullable = false)
+    private int buckets;
+
+    @Column(nullable = false)
+    private long copiedObjects;
+
+    @Column(nullable = false)
+    private long syncedObjects;
+
+    @Column(nullable = false)
+    private long deletedObjects;
+
+    @Column(length = 100)
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return phase == ShardSplitPhase.COMPLETED || phase == ShardSplitPhase.FAILED;
+    }
+
+    public boolean isLeased(LocalDateTime now) {
+        return leaseUntil != null && leaseUntil.isAfter(now);
+    }
+
+    public List<Integer> slotList() {
+        if (slots.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(slots.split(",")).map(Integer::valueOf).toList();
+    }
+
+    public static String joinSlots(List<Integer> slots) {
+        return slots.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,132 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ShardSplitJobRepository extends JpaRepository<ShardSplitJob, Integer> {
+
+    // 처음 분할할 때 한 번 (여러 인스턴스가 동시에 요청해도 행은 하나)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        insert ignore into tb_shard_splits
+            (id, source_shard, target_shard, slots, phase, buckets, copied_objects,
+             synced_objects, deleted_objects, updated_at)
+        values (:id, 0, 0, '', 'COMPLETED', 0, 0, 0, 0, :now)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") int id, @Param("now") LocalDateTime now);
+
+    // 끝난 분할 행을 새 분할로 다시 시작 (조건부 update 로 한 인스턴스만 시작)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update ShardSplitJob j
+        set j.source = :source,
+            j.target = :target,
+            j.slots = :slots,
+            j.phase = com.standard.objectstorage.controlplane.shard.ShardSplitPhase.COPYING,
+            j.buckets = 0,
+            j.copiedObjects = 0,
+            j.syncedObjects = 0,
+            j.deletedObjects = 0,
+            j.leaseOwner = :owner,
+            j.leaseUntil = :leaseUntil,
+            j.lastError = null,
+            j.startedAt = :now,
+            j.updatedAt = :now,
+            j.finishedAt = null
+        where j.id = :id
+          and j.phase in (com.standard.objectstorage.controlplane.shard.ShardSplitPhase.COMPLETED,
+                          com.standard.objectstorage.controlplane.shard.ShardSplitPhase.FAILED)
+        """)
+    int begin(
+        @Param("id") int id,
+        @Param("source") int source,
+        @Param("target") int target,
+        @Param("slots") String slots,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // lease 가 만료된(중단된) 분할을 같은 source / target 으로 이어서 진행
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update ShardSplitJob j
+        set j.leaseOwner = :owner,
+            j.leaseUntil = :leaseUntil,
+            j.updatedAt = :now
+        where j.id = :id
+          and j.source = :source
+          and j.target = :target
+          and j.phase not in (com.standard.objectstorage.controlplane.shard.ShardSplitPhase.COMPLETED,
+                              com.standard.objectstorage.controlplane.shard.ShardSplitPhase.FAILED)
+          and (j.leaseUntil is null or j.leaseUntil < :now)
+        """)
+    int resume(
+        @Param("id") int id,
+        @Param("source") int source,
+        @Param("target") int target,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 단계 / 진행 수 기록 + lease 연장 (lease 를 잃었으면 0)
+    @Transactional
+    @Modifying
+    @Query("""
+        update ShardSplitJob j
+        set j.phase = :phase,
+            j.buckets = :buckets,
+            j.copiedObjects = :copied,
+            j.syncedObjects = :synced,
+            j.deletedObjects = :deleted,
+            j.leaseUntil = :leaseUntil,
+            j.updatedAt = :now
+        where j.id = :id
+          and j.leaseOwner = :owner
+        """)
+    int recordProgress(
+        @Param("id") int id,
+        @Param("owner") String owner,
+        @Param("phase") ShardSplitPhase phase,
+        @Param("buckets") int buckets,
+        @Param("copied") long copied,
+        @Param("synced") long synced,
+        @Param("deleted") long deleted,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 완료 / 실패 기록 + lease 반납
+    @Transactional
+    @Modifying
+    @Query("""
+        update ShardSplitJob j
+        set j.phase = :phase,
+            j.lastError = :error,
+            j.buckets = :buckets,
+            j.copiedObjects = :copied,
+            j.syncedObjects = :synced,
+            j.deletedObjects = :deleted,
+            j.leaseOwner = null,
+            j.leaseUntil = null,
+            j.updatedAt = :now,
+            j.finishedAt = :now
+        where j.id = :id
+          and j.leaseOwner = :owner
+        """)
+    int finish(
+        @Param("id") int id,
+        @Param("owner") String owner,
+        @Param("phase") ShardSplitPhase phase,
+        @Param("error") String error,
+        @Param("buckets") int buckets,
+        @Param("copied") long copied,
+        @Param("synced") long synced,
+        @Param("deleted") long deleted,
+        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.standard.objectstorage.controlplane.shard;
+
+/**
+ * ShardSplitter 진행 단계
+ */
+public enum ShardSplitPhase {
+    // 기록을 막지 않은 상태로 옮길 bucket 의 행을 복사
+    COPYING,
+    // slot 을 FROZEN 으로 바꾸고 모든 인스턴스가 반영할 때까지 대기
+    FREEZING,
+    // 복사 이후 바뀐 행만 다시 맞춤
+    SYNCING,
+    // slot 을 target shard 로 옮기고 ACTIVE 로 되돌림
+    SWITCHING,
+    // source shard 에 남은 행 삭제
+    CLEANING,
+    COMPLETED,
+    FAILED
+}
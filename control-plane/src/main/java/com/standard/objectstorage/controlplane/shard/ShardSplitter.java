@@ -0,0 +1,743 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.shard.dto.ShardSplitResponse;
+import jakarta.annotation.PreDestroy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 객체 shard 온라인 분할 (관리 API)
+ * <p>
+ * source shard 의 slot 중 절반을 target shard 로 옮깁니다. 옮기는 bucket 의 기록은 FREEZING ~ SWITCHING 구간에만
+ * ShardMigratingException(503) 으로 막히고, 조회는 계속 source 에서 처리됩니다.
+ * <ol>
+ *   <li>COPYING : bucket 별로 TB_OBJECTS(object_key keyset) / TB_OBJECT_REPLICAS / TB_BUCKET_USAGE 를 target 에 upsert</li>
+ *   <li>FREEZING : slot 을 FROZEN 으로 바꾸고 살아있는 모든 인스턴스가 바뀐 배치를 반영할 때까지 대기</li>
+ *   <li>SYNCING : bucket 별로 source / target 을 object_key 순으로 비교하여 복사 이후 바뀐 행만 맞춤</li>
+ *   <li>SWITCHING : slot 을 target 으로 옮기고 ACTIVE 로 되돌린 뒤, 모든 인스턴스가 반영할 때까지 대기</li>
+ *   <li>CLEANING : source 에 남은 행 삭제</li>
+ * </ol>
+ * - 분할 상태는 TB_SHARD_SPLITS 행 하나에 기록하며, 조건부 update 로 lease 를 얻은 인스턴스 하나만 진행합니다.
+ *   (인스턴스가 여러 개여도 한 번에 하나, 진행 상황은 어느 인스턴스에서나 조회)
+ * - slot 변경과 단계 기록은 한 트랜잭션입니다. 다음 단계는 TB_SHARD_MAP_OBSERVERS 로 모든 인스턴스가 바뀐 배치를
+ *   반영했음을 확인한 뒤에 진행하고, 반영 전에 확인을 통과한 기록이 끝나도록 SHARD_SPLIT_WRITE_GRACE_MS 만큼 더 기다립니다.
+ * - 전환 전에 실패하면 slot 을 ACTIVE 로 되돌립니다. target 에 복사된 행은 다음 분할의 SYNCING 에서 다시 맞춰집니다.
+ * - 인스턴스가 중단되면 lease 가 만료된 뒤 같은 source / target 으로 다시 요청하여 기록된 단계부터 이어서 진행합니다.
+ */
+@Service
+public class ShardSplitter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSplitter.class);
+
+    // UK_BUCKET_OBJECT_KEY range scan
+    private static final String SELECT_OBJECTS_SQL = """
+        select id, bucket_id, object_key, storage_path, size, etag, content_hash, source_id,
+               ref_count, upload_id, upload_node_id, upload_size, status, created_at, updated_at
+        from tb_objects
+        where bucket_id = ?
+          and object_key > ?
+        order by object_key
+        limit ?
+        """;
+
+    private static final String SELECT_OBJECTS_RANGE_SQL = """
+        select id, bucket_id, object_key, storage_path, size, etag, content_hash, source_id,
+               ref_count, upload_id, upload_node_id, upload_size, status, created_at, updated_at
+        from tb_objects
+        where bucket_id = ?
+          and object_key > ?
+          and object_key <= ?
+        order by object_key
+        """;
+
+    private static final String SELECT_OBJECTS_FROM_SQL = """
+        select id, bucket_id, object_key, storage_path, size, etag, content_hash, source_id,
+               ref_count, upload_id, upload_node_id, upload_size, status, created_at, updated_at
+        from tb_objects
+        where bucket_id = ?
+          and object_key > ?
+        order by object_key
+        """;
+
+    // 같은 (bucket_id, object_key) 가 다른 id 로 남아있으면 source 의 id 로 맞춤
+    private static final String UPSERT_OBJECT_SQL = """
+        insert into tb_objects
+            (id, bucket_id, object_key, storage_path, size, etag, content_hash, source_id,
+             ref_count, upload_id, upload_node_id, upload_size, status, created_at, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        on duplicate key update
+            id = values(id),
+            storage_path = values(storage_path),
+            size = values(size),
+            etag = values(etag),
+            content_hash = values(content_hash),
+            source_id = values(source_id),
+            ref_count = values(ref_count),
+            upload_id = values(upload_id),
+            upload_node_id = values(upload_node_id),
+            upload_size = values(upload_size),
+            status = values(status),
+            created_at = values(created_at),
+            updated_at = values(updated_at)
+        """;
+
+    private static final String SELECT_REPLICAS_SQL = """
+        select id, object_id, node_id, state, attempts, next_attempt_at, last_error, updated_at
+        from tb_object_replicas
+        where object_id in (%s)
+        """;
+
+    private static final String UPSERT_REPLICA_SQL = """
+        insert into tb_object_replicas
+            (id, object_id, node_id, state, attempts, next_attempt_at, last_error, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, ?)
+        on duplicate key update
+            id = values(id),
+            state = values(state),
+            attempts = values(attempts),
+            next_attempt_at = values(next_attempt_at),
+            last_error = values(last_error),
+            updated_at = values(updated_at)
+        """;
+
+    private static final String DELETE_REPLICAS_SQL =
+        "delete from tb_object_replicas where object_id in (%s)";
+
+    private static final String DELETE_OBJECTS_SQL = "delete from tb_objects where id in (%s)";
+
+    private static final String SELECT_USAGE_SQL = """
+        select object_count, total_bytes, updated_at, reconciled_at
+        from tb_bucket_usage
+        where bucket_id = ?
+        """;
+
+    private static final String UPSERT_USAGE_SQL = """
+        insert into tb_bucket_usage
+            (bucket_id, object_count, total_bytes, updated_at, reconciled_at)
+        values (?, ?, ?, ?, ?)
+        on duplicate key update
+            object_count = values(object_count),
+            total_bytes = values(total_bytes),
+            updated_at = values(updated_at),
+            reconciled_at = values(reconciled_at)
+        """;
+
+    private static final String DELETE_USAGE_SQL = "delete from tb_bucket_usage where bucket_id = ?";
+
+    private static final String SELECT_IDS_SQL = """
+        select id
+        from tb_objects
+        where bucket_id = ?
+        limit ?
+        """;
+
+    private static final String UPDATE_STATE_SQL = """
+        update tb_shard_slots
+        set state = ?, updated_at = ?
+        where shard_id = ?
+          and slot in (%s)
+        """;
+
+    private static final String SWITCH_SQL = """
+        update tb_shard_slots
+        set shard_id = ?, state = 'ACTIVE', updated_at = ?
+        where shard_id = ?
+          and slot in (%s)
+        """;
+
+    private static final String SELECT_VERSION_SQL = "select max(updated_at) from tb_shard_slots";
+
+    // version 이전의 배치를 사용 중인 인스턴스 수 (liveSince 이후에 배치를 다시 읽은 인스턴스만)
+    private static final String COUNT_STALE_OBSERVERS_SQL = """
+        select count(*)
+        from tb_shard_map_observers
+        where observed_at < ?
+          and heartbeat_at > ?
+        """;
+
+    private static final String DELETE_GONE_OBSERVERS_SQL =
+        "delete from tb_shard_map_observers where heartbeat_at < ?";
+
+    private static final long OBSERVE_POLL_MILLIS = 500;
+
+    private static final RowMapper<ObjectRow> OBJECT_ROW_MAPPER = (rs, rowNum) -> new ObjectRow(
+        rs.getBytes("id"),
+        rs.getLong("bucket_id"),
+        rs.getString("object_key"),
+        rs.getString("storage_path"),
+        rs.getObject("size", Long.class),
+        rs.getString("etag"),
+        rs.getString("content_hash"),
+        rs.getBytes("source_id"),
+        rs.getInt("ref_count"),
+        rs.getString("upload_id"),
+        rs.getString("upload_node_id"),
+        rs.getObject("upload_size", Long.class),
+        rs.getString("status"),
+        rs.getTimestamp("created_at"),
+        rs.getTimestamp("updated_at"));
+
+    private final ShardMap shardMap;
+    private final BucketRepository bucketRepository;
+    private final ShardSplitJobRepository shardSplitJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService splitExecutor;
+    private final String owner = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final Duration lease;
+    private final long liveMillis;
+    private final long observeTimeoutMillis;
+    private final long writeGraceMillis;
+
+    public ShardSplitter(
+        ShardMap shardMap,
+        BucketRepository bucketRepository,
+        ShardSplitJobRepository shardSplitJobRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${SHARD_SPLIT_BATCH_SIZE:500}") int batchSize,
+        @Value("${SHARD_MAP_REFRESH_INTERVAL_MS:5000}") long refreshIntervalMillis,
+        @Value("${SHARD_SPLIT_LEASE_MS:60000}") long leaseMillis,
+        @Value("${SHARD_SPLIT_OBSERVE_TIMEOUT_MS:60000}") long observeTimeoutMillis,
+        @Value("${SHARD_SPLIT_WRITE_GRACE_MS:1000}") long writeGraceMillis
+    ) {
+        this.shardMap = shardMap;
+        this.bucketRepository = bucketRepository;
+        this.shardSplitJobRepository = shardSplitJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofMillis(leaseMillis);
+        // 배치를 세 번 연속 다시 읽지 않은 인스턴스는 종료된 것으로 봄
+        this.liveMillis = refreshIntervalMillis * 3;
+        this.observeTimeoutMillis = observeTimeoutMillis;
+        this.writeGraceMillis = writeGraceMillis;
+        this.splitExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shard-split");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 분할을 시작하고 바로 반환합니다. 진행 상황은 getStatus 로 확인합니다.
+     * lease 가 만료된 분할이 있으면 같은 source / target 요청으로 기록된 단계부터 이어서 진행합니다.
+     */
+    public ShardSplitResponse start(int source, int target) {
+        int shardCount = shardMap.shardCount();
+        if (source < 0 || source >= shardCount || target < 0 || target >= shardCount) {
+            throw new IllegalArgumentException("shard 는 0 이상 " + shardCount + " 미만이어야 합니다.");
+        }
+        if (source == target) {
+            throw new IllegalArgumentException("source 와 target shard 가 같습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        shardSplitJobRepository.insertIfAbsent(ShardSplitJob.ID, now);
+        ShardSplitJob job = shardSplitJobRepository.findById(ShardSplitJob.ID).orElseThrow();
+
+        if (!job.isFinished() && job.isLeased(now)) {
+            throw new IllegalArgumentException("이미 진행 중인 shard 분할이 있습니다.");
+        }
+        if (!job.isFinished() && (job.getSource() != source || job.getTarget() != target)) {
+            throw new IllegalArgumentException("중단된 shard 분할(" + job.getSource() + " → "
+                + job.getTarget() + ")이 있습니다. 같은 source / target 으로 다시 요청하여 이어서 진행해주세요.");
+        }
+
+        int claimed;
+        if (job.isFinished()) {
+            claimed = shardSplitJobRepository.begin(ShardSplitJob.ID, source, target,
+                ShardSplitJob.joinSlots(slotsToMove(source)), owner, now, now.plus(lease));
+        } else {
+            claimed = shardSplitJobRepository.resume(ShardSplitJob.ID, source, target, owner, now,
+                now.plus(lease));
+        }
+        if (claimed == 0) {
+            throw new IllegalArgumentException("이미 진행 중인 shard 분할이 있습니다.");
+        }
+
+        ShardSplitJob started = shardSplitJobRepository.findById(ShardSplitJob.ID).orElseThrow();
+        Progress progress = new Progress(started);
+        splitExecutor.execute(() -> split(progress));
+        return ShardSplitResponse.from(started);
+    }
+
+    public ShardSplitResponse getStatus() {
+        return shardSplitJobRepository.findById(ShardSplitJob.ID)
+            .filter(job -> job.getStartedAt() != null)
+            .map(ShardSplitResponse::from)
+            .orElseThrow(() -> new IllegalArgumentException("진행한 shard 분할이 없습니다."));
+    }
+
+    /**
+     * 옮길 slot : 이전 분할이 되돌리지 못한 FROZEN slot 이 있으면 그 slot, 없으면 source slot 의 뒤쪽 절반
+     */
+    private List<Integer> slotsToMove(int source) {
+        List<Integer> slots = shardMap.frozenSlotsOf(source);
+        if (!slots.isEmpty()) {
+            return slots;
+        }
+        List<Integer> owned = shardMap.slotsOf(source);
+        if (owned.size() < 2) {
+            throw new IllegalArgumentException("shard " + source + " 에 나눌 slot 이 없습니다.");
+        }
+        return List.copyOf(owned.subList(owned.size() / 2, owned.size()));
+    }
+
+    private void split(Progress p) {
+        Set<Integer> slots = new HashSet<>(p.slots);
+        ShardSplitPhase resumeFrom = p.phase;
+        // FREEZING / SYNCING 에서 이어서 진행하면 slot 은 이미 FROZEN
+        boolean frozen = resumeFrom == ShardSplitPhase.FREEZING
+            || resumeFrom == ShardSplitPhase.SYNCING;
+        boolean switched = resumeFrom.compareTo(ShardSplitPhase.SWITCHING) >= 0;
+        log.info("shard 분할 시작 - source: {}, target: {}, slots: {}, phase: {}", p.source,
+            p.target, p.slots.size(), resumeFrom);
+
+        try {
+            List<Long> bucketIds;
+            if (resumeFrom == ShardSplitPhase.COPYING) {
+                bucketIds = bucketsIn(slots);
+                p.buckets = bucketIds.size();
+                for (Long bucketId : bucketIds) {
+                    copy(p, bucketId);
+                }
+            }
+
+            if (!switched) {
+                frozen = true;
+                LocalDateTime version = changeSlots(p, ShardSplitPhase.FREEZING, UPDATE_STATE_SQL,
+                    ShardSlotState.FROZEN.name());
+                awaitObserved(p, version);
+
+                // 복사 도중 생성된 bucket 포함
+                record(p, ShardSplitPhase.SYNCING);
+                bucketIds = bucketsIn(slots);
+                p.buckets = bucketIds.size();
+                for (Long bucketId : bucketIds) {
+                    sync(p, bucketId);
+                }
+
+                version = changeSlots(p, ShardSplitPhase.SWITCHING, SWITCH_SQL, p.target);
+                switched = true;
+                // 다른 인스턴스가 source 를 더 이상 조회 / 기록하지 않을 때까지
+                awaitObserved(p, version);
+            } else if (resumeFrom == ShardSplitPhase.SWITCHING) {
+                // 전환은 기록되었으나 반영을 확인하기 전에 중단됨
+                awaitObserved(p, currentVersion());
+            }
+
+            record(p, ShardSplitPhase.CLEANING);
+            bucketIds = bucketsIn(slots);
+            p.buckets = bucketIds.size();
+            for (Long bucketId : bucketIds) {
+                clean(p, bucketId);
+            }
+
+            finish(p, ShardSplitPhase.COMPLETED, null);
+            log.info("shard 분할 완료 - source: {}, target: {}, buckets: {}, objects: {}", p.source,
+                p.target, p.buckets, p.copiedObjects.get());
+
+        } catch (LeaseLostException e) {
+            // 다른 인스턴스가 lease 를 가져가 이어서 진행하므로 slot / 상태를 바꾸지 않음
+            log.error("shard 분할 중단 (lease 만료) - source: {}, target: {}, phase: {}", p.source,
+                p.target, p.phase);
+        } catch (InterruptedException | RuntimeException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("shard 분할 실패 - source: {}, target: {}, phase: {}", p.source, p.target,
+                p.phase, e);
+            if (frozen && !switched) {
+                unfreeze(p);
+            }
+            finish(p, ShardSplitPhase.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 단계 기록과 slot 변경을 한 트랜잭션으로 처리하고, 바뀐 배치의 version 을 반환합니다.
+     * (lease 를 잃었으면 slot 을 바꾸지 않음)
+     */
+    private LocalDateTime changeSlots(Progress p, ShardSplitPhase phase, String sql, Object value) {
+        LocalDateTime version = ShardRouting.on(ShardRouting.GLOBAL,
+            () -> transactionTemplate.execute(status -> {
+                record(p, phase);
+                updateSlots(sql, value, p.source, p.slots);
+                return jdbcTemplate.queryForObject(SELECT_VERSION_SQL, Timestamp.class)
+                    .toLocalDateTime();
+            }));
+        shardMap.refresh();
+        return version;
+    }
+
+    private LocalDateTime currentVersion() {
+        return ShardRouting.on(ShardRouting.GLOBAL,
+            () -> jdbcTemplate.queryForObject(SELECT_VERSION_SQL, Timestamp.class))
+            .toLocalDateTime();
+    }
+
+    /**
+     * 살아있는 모든 인스턴스가 version 이후의 배치를 반영할 때까지 기다립니다.
+     * 반영 전에 기록 가능 여부 확인을 통과한 기록이 끝나도록 writeGraceMillis 만큼 더 기다립니다.
+     */
+    private void awaitObserved(Progress p, LocalDateTime version) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + observeTimeoutMillis;
+        while (true) {
+            LocalDateTime liveSince = LocalDateTime.now().minus(Duration.ofMillis(liveMillis));
+            Integer stale = ShardRouting.on(ShardRouting.GLOBAL, () -> {
+                jdbcTemplate.update(DELETE_GONE_OBSERVERS_SQL,
+                    Timestamp.valueOf(liveSince.minusDays(1)));
+                return jdbcTemplate.queryForObject(COUNT_STALE_OBSERVERS_SQL, Integer.class,
+                    Timestamp.valueOf(version), Timestamp.valueOf(liveSince));
+            });
+            if (stale == null || stale == 0) {
+                break;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(
+                    "shard 배치 변경을 반영하지 않은 인스턴스가 있습니다. (" + stale + "개)");
+            }
+            renew(p);
+            Thread.sleep(OBSERVE_POLL_MILLIS);
+        }
+        Thread.sleep(writeGraceMillis);
+        renew(p);
+    }
+
+    /**
+     * 단계 / 진행 수를 기록하고 lease 를 연장합니다. lease 를 잃었으면 LeaseLostException
+     */
+    private void record(Progress p, ShardSplitPhase phase) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = shardSplitJobRepository.recordProgress(ShardSplitJob.ID, owner, phase,
+            p.buckets, p.copiedObjects.get(), p.syncedObjects.get(), p.deletedObjects.get(), now,
+            now.plus(lease));
+        if (updated == 0) {
+            throw new LeaseLostException();
+        }
+        p.phase = phase;
+    }
+
+    private void renew(Progress p) {
+        record(p, p.phase);
+    }
+
+    private void finish(Progress p, ShardSplitPhase phase, String error) {
+        try {
+            int updated = shardSplitJobRepository.finish(ShardSplitJob.ID, owner, phase,
+                error == null ? null : error.substring(0, Math.min(error.length(), 1000)),
+                p.buckets, p.copiedObjects.get(), p.syncedObjects.get(), p.deletedObjects.get(),
+                LocalDateTime.now());
+            if (updated == 0) {
+                log.warn("shard 분할 결과 기록 실패 (lease 만료) - phase: {}", phase);
+            }
+            p.phase = phase;
+        } catch (RuntimeException e) {
+            log.error("shard 분할 결과 기록 실패 - phase: {}", phase, e);
+        }
+    }
+
+    private void unfreeze(Progress p) {
+        try {
+            updateSlots(UPDATE_STATE_SQL, ShardSlotState.ACTIVE.name(), p.source, p.slots);
+            shardMap.refresh();
+        } catch (RuntimeException e) {
+            // FROZEN 이 남으면 같은 source 로 다시 요청하여 이어서 진행
+            log.error("shard slot 복구 실패 - source: {}", p.source, e);
+        }
+    }
+
+    /**
+     * 옮길 slot 에 속한 bucket (GLOBAL TB_BUCKETS 를 id 순으로 순회)
+     */
+    private List<Long> bucketsIn(Set<Integer> slots) {
+        List<Long> bucketIds = new ArrayList<>();
+        long cursor = 0;
+        List<Long> page;
+        do {
+            page = bucketRepository.findIdsAfter(cursor, Limit.of(batchSize));
+            for (Long bucketId : page) {
+                if (slots.contains(ShardMap.slotOf(bucketId))) {
+                    bucketIds.add(bucketId);
+                }
+            }
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1);
+            }
+        } while (page.size() == batchSize);
+        return bucketIds;
+    }
+
+    private void copy(Progress p, long bucketId) {
+        String afterKey = "";
+        while (true) {
+            String from = afterKey;
+            List<ObjectRow> rows = ShardRouting.on(p.source,
+                () -> jdbcTemplate.query(SELECT_OBJECTS_SQL, OBJECT_ROW_MAPPER, bucketId, from,
+                    batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> replicas = ShardRouting.on(p.source, () -> selectReplicas(ids(rows)));
+            ShardRouting.run(p.target, () -> {
+                upsertObjects(rows);
+                upsertReplicas(replicas);
+            });
+            p.copiedObjects.addAndGet(rows.size());
+            renew(p);
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+            afterKey = rows.get(rows.size() - 1).objectKey();
+        }
+        copyUsage(p, bucketId);
+    }
+
+    /**
+     * source 와 target 을 object_key 순으로 batch 단위 비교하여, 다르거나 없는 행은 upsert 하고
+     * source 에 없는 target 행은 삭제합니다. 복제본은 batch 의 객체 전체를 다시 맞춥니다.
+     */
+    private void sync(Progress p, long bucketId) {
+        String afterKey = "";
+        while (true) {
+            String from = afterKey;
+            List<ObjectRow> sourceRows = ShardRouting.on(p.source,
+                () -> jdbcTemplate.query(SELECT_OBJECTS_SQL, OBJECT_ROW_MAPPER, bucketId, from,
+                    batchSize));
+            boolean last = sourceRows.size() < batchSize;
+            String toKey = last ? null : sourceRows.get(sourceRows.size() - 1).objectKey();
+
+            List<ObjectRow> targetRows = ShardRouting.on(p.target, () -> last
+                ? jdbcTemplate.query(SELECT_OBJECTS_FROM_SQL, OBJECT_ROW_MAPPER, bucketId, from)
+                : jdbcTemplate.query(SELECT_OBJECTS_RANGE_SQL, OBJECT_ROW_MAPPER, bucketId, from,
+                    toKey));
+
+            Map<String, ObjectRow> targetByKey = new LinkedHashMap<>();
+            targetRows.forEach(row -> targetByKey.put(row.objectKey(), row));
+
+            // 바뀐 행의 복제본은 다시 복사 (덮어쓰기로 id 가 바뀌었으면 이전 id 의 복제본도 삭제)
+            List<ObjectRow> changed = new ArrayList<>();
+            List<byte[]> stale = new ArrayList<>();
+            for (ObjectRow row : sourceRows) {
+                ObjectRow copied = targetByKey.remove(row.objectKey());
+                if (copied != null && copied.sameAs(row)) {
+                    continue;
+                }
+                changed.add(row);
+                stale.add(row.id());
+                if (copied != null && !Arrays.equals(copied.id(), row.id())) {
+                    stale.add(copied.id());
+                }
+            }
+            // 남은 target 행은 source 에서 삭제된 객체
+            List<byte[]> removed = ids(targetByKey.values());
+            stale.addAll(removed);
+
+            List<Object[]> replicas = ShardRouting.on(p.source, () -> selectReplicas(ids(sourceRows)));
+            ShardRouting.run(p.target, () -> {
+                deleteIn(DELETE_REPLICAS_SQL, stale);
+                deleteIn(DELETE_OBJECTS_SQL, removed);
+                upsertObjects(changed);
+                upsertReplicas(replicas);
+            });
+            p.syncedObjects.addAndGet(changed.size() + removed.size());
+            renew(p);
+
+            if (last) {
+                break;
+            }
+            afterKey = toKey;
+        }
+        copyUsage(p, bucketId);
+    }
+
+    private void clean(Progress p, long bucketId) {
+        List<byte[]> ids;
+        do {
+            ids = ShardRouting.on(p.source, () -> {
+                List<byte[]> batch = jdbcTemplate.query(SELECT_IDS_SQL,
+                    (rs, rowNum) -> rs.getBytes(1), bucketId, batchSize);
+                deleteIn(DELETE_REPLICAS_SQL, batch);
+                deleteIn(DELETE_OBJECTS_SQL, batch);
+                return batch;
+            });
+            p.deletedObjects.addAndGet(ids.size());
+            renew(p);
+        } while (ids.size() == batchSize);
+        ShardRouting.run(p.source, () -> jdbcTemplate.update(DELETE_USAGE_SQL, bucketId));
+    }
+
+    private void copyUsage(Progress p, long bucketId) {
+        List<Object[]> usage = ShardRouting.on(p.source, () -> jdbcTemplate.query(SELECT_USAGE_SQL,
+            (rs, rowNum) -> new Object[]{bucketId, rs.getLong(1), rs.getLong(2),
+                rs.getTimestamp(3), rs.getTimestamp(4)}, bucketId));
+        ShardRouting.run(p.target, () -> {
+            if (usage.isEmpty()) {
+                jdbcTemplate.update(DELETE_USAGE_SQL, bucketId);
+            } else {
+                jdbcTemplate.update(UPSERT_USAGE_SQL, usage.get(0));
+            }
+        });
+    }
+
+    private List<Object[]> selectReplicas(List<byte[]> objectIds) {
+        if (objectIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_REPLICAS_SQL.formatted(placeholders(objectIds.size())),
+            ShardSplitter::replicaRow, objectIds.toArray());
+    }
+
+    private void upsertObjects(List<ObjectRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (ObjectRow row : rows) {
+            args.add(new Object[]{row.id(), row.bucketId(), row.objectKey(), row.storagePath(),
+                row.size(), row.etag(), row.contentHash(), row.sourceId(), row.refCount(),
+                row.uploadId(), row.uploadNodeId(), row.uploadSize(), row.status(),
+                row.createdAt(), row.updatedAt()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_OBJECT_SQL, args);
+    }
+
+    private void upsertReplicas(List<Object[]> replicas) {
+        if (!replicas.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_REPLICA_SQL, replicas);
+        }
+    }
+
+    private void deleteIn(String sql, List<byte[]> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(sql.formatted(placeholders(ids.size())), ids.toArray());
+        }
+    }
+
+    private void updateSlots(String sql, Object value, int source, List<Integer> slots) {
+        List<Object> args = new ArrayList<>(slots.size() + 3);
+        args.add(value);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.add(source);
+        args.addAll(slots);
+        ShardRouting.run(ShardRouting.GLOBAL, () -> jdbcTemplate.update(
+            sql.formatted(placeholders(slots.size())), args.toArray()));
+    }
+
+    private static Object[] replicaRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Object[]{rs.getBytes("id"), rs.getBytes("object_id"), rs.getString("node_id"),
+            rs.getString("state"), rs.getInt("attempts"), rs.getTimestamp("next_attempt_at"),
+            rs.getString("last_error"), rs.getTimestamp("updated_at")};
+    }
+
+    private static List<byte[]> ids(Iterable<ObjectRow> rows) {
+        List<byte[]> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add(row.id()));
+        return ids;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        splitExecutor.shutdownNow();
+    }
+
+    private record ObjectRow(
+        byte[] id,
+        long bucketId,
+        String objectKey,
+        String storagePath,
+        Long size,
+        String etag,
+        String contentHash,
+        byte[] sourceId,
+        int refCount,
+        String uploadId,
+        String uploadNodeId,
+        Long uploadSize,
+        String status,
+        Timestamp createdAt,
+        Timestamp updatedAt
+    ) {
+
+        boolean sameAs(ObjectRow other) {
+            return Arrays.equals(id, other.id)
+                && Objects.equals(storagePath, other.storagePath)
+                && Objects.equals(size, other.size)
+                && Objects.equals(etag, other.etag)
+                && Objects.equals(contentHash, other.contentHash)
+                && Arrays.equals(sourceId, other.sourceId)
+                && refCount == other.refCount
+                && Objects.equals(uploadId, other.uploadId)
+                && Objects.equals(uploadNodeId, other.uploadNodeId)
+                && Objects.equals(uploadSize, other.uploadSize)
+                && Objects.equals(status, other.status)
+                && Objects.equals(updatedAt, other.updatedAt);
+        }
+    }
+
+    private static final class Progress {
+
+        private final int source;
+        private final int target;
+        private final List<Integer> slots;
+        private final AtomicLong copiedObjects;
+        private final AtomicLong syncedObjects;
+        private final AtomicLong deletedObjects;
+
+        private volatile ShardSplitPhase phase;
+        private volatile int buckets;
+
+        // 기록된 단계 / 진행 수부터 이어서 진행
+        private Progress(ShardSplitJob job) {
+            this.source = job.getSource();
+            this.target = job.getTarget();
+            this.slots = job.slotList();
+            this.phase = job.getPhase();
+            this.buckets = job.getBuckets();
+            this.copiedObjects = new AtomicLong(job.getCopiedObjects());
+            this.syncedObjects = new AtomicLong(job.getSyncedObjects());
+            this.deletedObjects = new AtomicLong(job.getDeletedObjects());
+        }
+    }
+
+    // 다른 인스턴스가 lease 를 가져감 (이 인스턴스는 더 이상 진행하지 않음)
+    private static final class LeaseLostException extends RuntimeException {
+
+        private LeaseLostException() {
+            super("shard 분할 lease 를 잃었습니다.");
+        }
+    }
+}
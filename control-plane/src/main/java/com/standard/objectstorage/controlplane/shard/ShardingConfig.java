@@ -0,0 +1,97 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import com.standard.objectstorage.controlplane.jdbc.AdmissionControlledDataSource;
+import com.standard.objectstorage.controlplane.jdbc.JdbcAdmissionControl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * jdbc.sharding.enabled=true 일 때 DataSource 를 ShardRoutingDataSource 로 감쌉니다.
+ * (sharding 프로필에서 활성화)
+ * <p>
+ * - shard 0 은 GLOBAL DB(spring.datasource, replica 분기 포함), shard 1.. 은 jdbc.sharding.urls 순서입니다.
+ * - shard DB 의 스키마(db/shard)는 기동 시 Flyway 로 적용합니다. (TB_BUCKETS 가 없으므로 FK 없음)
+ * - shard 를 추가해도 기존 slot 은 옮겨지지 않으며, ShardSplitter 로 slot 을 나누어 옮깁니다.
+ * - shard 풀은 DataSource bean 이 아니므로, jdbc.admission.enabled=true 이면 여기서 shard 마다
+ *   AdmissionControlledDataSource 로 감쌉니다. (허가 수는 풀 크기)
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(
+        MeterRegistry meterRegistry,
+        @Value("${jdbc.sharding.urls}") String[] urls,
+        @Value("${jdbc.sharding.username:${spring.datasource.username}}") String username,
+        @Value("${jdbc.sharding.password:${spring.datasource.password}}") String password,
+        @Value("${jdbc.sharding.pool-size:10}") int poolSize,
+        @Value("${jdbc.admission.enabled:false}") boolean admissionEnabled,
+        @Value("${jdbc.admission.timeout-ms:30000}") long admissionTimeoutMillis
+    ) {
+        List<DataSource> shards = new ArrayList<>(urls.length);
+        for (int i = 0; i < urls.length; i++) {
+            String name = "shard-" + (i + 1);
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(urls[i].trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setMetricRegistry(meterRegistry);
+            HikariDataSource dataSource = new HikariDataSource(config);
+
+            Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/shard")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+            shards.add(admissionEnabled
+                ? new AdmissionControlledDataSource(dataSource, new JdbcAdmissionControl(name,
+                    poolSize, admissionTimeoutMillis, meterRegistry))
+                : dataSource);
+        }
+        return new ShardDataSources(shards);
+    }
+
+    @Bean
+    public static BeanPostProcessor shardRoutingDataSourceWrapper(
+        ObjectProvider<ShardDataSources> shardDataSources,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new OrderedDataSourceWrapper() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof ShardRoutingDataSource)) {
+                    return new ShardRoutingDataSource(dataSource, shardDataSources.getObject(),
+                        meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // replica 분기(ReadWriteRoutingDataSource)를 먼저 적용하여 GLOBAL shard 안에서만 replica 를 사용
+    private interface OrderedDataSourceWrapper extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.standard.objectstorage.controlplane.shard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShardResponse {
+
+    private int shard;
+    private int slots;
+
+    // 분할 중(FROZEN)인 slot 수
+    private int frozenSlots;
+    private long objects;
+}
@@ -0,0 +1,46 @@
+package com.standard.objectstorage.controlplane.shard.dto;
+
+import com.standard.objectstorage.controlplane.shard.ShardSplitJob;
+import com.standard.objectstorage.controlplane.shard.ShardSplitPhase;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShardSplitResponse {
+
+    private int source;
+    private int target;
+
+    // 옮기는 slot 수
+    private int slots;
+    private ShardSplitPhase phase;
+    private int buckets;
+    private long copiedObjects;
+
+    // 복사 이후 바뀌어 다시 맞춘 행 수
+    private long syncedObjects;
+
+    // source 에서 삭제한 행 수
+    private long deletedObjects;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ShardSplitResponse from(ShardSplitJob job) {
+        return ShardSplitResponse.builder()
+            .source(job.getSource())
+            .target(job.getTarget())
+            .slots(job.slotList().size())
+            .phase(job.getPhase())
+            .buckets(job.getBuckets())
+            .copiedObjects(job.getCopiedObjects())
+            .syncedObjects(job.getSyncedObjects())
+            .deletedObjects(job.getDeletedObjects())
+            .error(job.getLastError())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
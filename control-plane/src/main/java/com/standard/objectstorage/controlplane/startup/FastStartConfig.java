@@ -0,0 +1,26 @@
+package com.standard.objectstorage.controlplane.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+
+/**
+ * fast-start 프로필의 지연 초기화 범위
+ * <p>
+ * spring.main.lazy-initialization=true 에서 Controller 와 그 의존 빈(서비스 / repository / DataSource)은
+ * 기동 시 생성하여 첫 요청이 빈 생성 비용을 떠안지 않도록 합니다. @Scheduled 빈은 Spring Boot 가 제외하고,
+ * 그 외(actuator endpoint, 운영 도구성 빈 등)는 처음 사용할 때 생성됩니다.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPathFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+            && AnnotatedElementUtils.hasAnnotation(beanType, Controller.class);
+    }
+}
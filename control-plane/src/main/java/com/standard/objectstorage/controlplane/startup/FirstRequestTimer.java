@@ -0,0 +1,61 @@
+package com.standard.objectstorage.controlplane.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JVM 시작부터 첫 요청 응답 완료까지 걸린 시간 (application.first_request.time)
+ * <p>
+ * application.started.time / application.ready.time 이후의 지연 초기화, 커넥션 풀 생성, JIT warm-up 비용까지
+ * 포함한 값으로, 배포 / 오토스케일링 시 인스턴스가 실제로 요청을 처리하기까지의 시간을 비교하는 데 사용합니다.
+ * 첫 요청 이후에는 volatile 읽기 한 번만 수행합니다.
+ */
+@Component
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestTimer.class);
+    private static final long NOT_RECORDED = -1;
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(NOT_RECORDED);
+
+    public FirstRequestTimer(MeterRegistry meterRegistry) {
+        TimeGauge.builder("application.first_request.time", firstRequestMillis,
+                TimeUnit.MILLISECONDS,
+                millis -> millis.get() == NOT_RECORDED ? Double.NaN : millis.get())
+            .description("JVM 시작부터 첫 요청 응답 완료까지 걸린 시간")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequestMillis.get() == NOT_RECORDED) {
+                record(request);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        long elapsed = System.currentTimeMillis()
+            - ManagementFactory.getRuntimeMXBean().getStartTime();
+        if (firstRequestMillis.compareAndSet(NOT_RECORDED, elapsed)) {
+            log.info("첫 요청 처리 완료 - {} {}, JVM 시작 후 {} ms", request.getMethod(),
+                request.getRequestURI(), elapsed);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * multipart 업로드 part 크기 결정
+ * <p>
+ * 기본 part 크기(MULTIPART_PART_SIZE)를 사용하되, part 수가 MULTIPART_MAX_PARTS 를 넘지 않도록 필요한 만큼만 키웁니다.
+ * part 크기는 1MB 단위로 올림하고 [MIN, MAX] 범위로 제한합니다. 마지막 part 만 part 크기보다 작을 수 있습니다.
+ */
+@Component
+public class MultipartUploadPlanner {
+
+    private static final long ALIGNMENT = 1024 * 1024; // 1MB
+
+    private final long preferredPartSize;
+    private final long minPartSize;
+    private final long maxPartSize;
+    private final int maxParts;
+
+    public MultipartUploadPlanner(
+        @Value("${MULTIPART_PART_SIZE:16777216}") long preferredPartSize,
+        @Value("${MULTIPART_MIN_PART_SIZE:5242880}") long minPartSize,
+        @Value("${MULTIPART_MAX_PART_SIZE:1073741824}") long maxPartSize,
+        @Value("${MULTIPART_MAX_PARTS:10000}") int maxParts
+    ) {
+        if (minPartSize < 1 || minPartSize > maxPartSize || maxParts < 1) {
+            throw new IllegalStateException("multipart part 크기 설정이 올바르지 않습니다.");
+        }
+        this.preferredPartSize = preferredPartSize;
+        this.minPartSize = minPartSize;
+        this.maxPartSize = maxPartSize;
+        this.maxParts = maxParts;
+    }
+
+    public long partSize(long fileSize) {
+        if (fileSize < 1) {
+            throw new IllegalArgumentException("fileSize는 1 이상이어야 합니다.");
+        }
+
+        long required = (fileSize + maxParts - 1) / maxParts;
+        long partSize = Math.max(preferredPartSize, required);
+        partSize = (partSize + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        partSize = Math.min(Math.max(partSize, minPartSize), maxPartSize);
+
+        if (partCount(fileSize, partSize) > maxParts) {
+            throw new IllegalArgumentException(
+                "파일이 너무 큽니다. 최대 크기: " + maxPartSize * maxParts + " bytes");
+        }
+        return partSize;
+    }
+
+    public int partCount(long fileSize, long partSize) {
+        return Math.toIntExact((fileSize + partSize - 1) / partSize);
+    }
+
+    /**
+     * partNumber(1부터) 번째 part 의 크기
+     */
+    public long sizeOf(int partNumber, long fileSize, long partSize) {
+        long offset = (partNumber - 1) * partSize;
+        return Math.min(partSize, fileSize - offset);
+    }
+}
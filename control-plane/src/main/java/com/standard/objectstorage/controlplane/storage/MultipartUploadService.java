@@ -0,0 +1,125 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.storage.dto.MultipartPartUrl;
+import com.standard.objectstorage.controlplane.storage.dto.MultipartUploadPlanResponse;
+import com.standard.objectstorage.controlplane.utils.UuidV7;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대용량 객체의 multipart 업로드 계획 발급
+ * <p>
+ * - part 크기를 정하고, part 별 PUT URL 과 complete URL 을 서명하여 클라이언트가 part 를 병렬로 업로드할 수 있도록 합니다.
+ * - uploadId 는 control plane 이 발급하며, storage node 는 첫 서명된 part 업로드에서 세션을 엽니다.
+ * - part URL 은 한 번에 maxParts 개씩 페이지 단위로 발급합니다. 수천 개의 part 를 한 번에 서명하지 않고,
+ *   업로드가 오래 걸려도 다음 페이지는 새 만료 시간으로 발급됩니다.
+ * - 계획(uploadId / node / 전체 크기)은 객체 행에 기록되며, 다음 페이지는 기록된 계획과 같은 요청에만 같은 node 로 발급합니다.
+ */
+@Service
+public class MultipartUploadService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final PresignedUrlService presignedUrlService;
+    private final MultipartUploadPlanner multipartUploadPlanner;
+    private final int defaultPageSize;
+
+    public MultipartUploadService(
+        PresignedUrlService presignedUrlService,
+        MultipartUploadPlanner multipartUploadPlanner,
+        @Value("${MULTIPART_PLAN_PAGE_SIZE:100}") int defaultPageSize
+    ) {
+        this.presignedUrlService = presignedUrlService;
+        this.multipartUploadPlanner = multipartUploadPlanner;
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    /**
+     * 업로드 node 를 배치하여 PENDING 으로 기록하고, 새 uploadId 와 첫 페이지를 발급합니다.
+     */
+    public MultipartUploadPlanResponse createPlan(String bucket, String objectKey, long fileSize,
+        Integer maxParts) {
+        presignedUrlService.validateEnvironment();
+        long partSize = multipartUploadPlanner.partSize(fileSize);
+
+        String uploadId = UuidV7.next().toString();
+        StorageNodeInfo node = presignedUrlService.prepareUpload(bucket, objectKey, fileSize,
+            uploadId);
+        return page(node, bucket, objectKey, fileSize, partSize, uploadId, 0, maxParts);
+    }
+
+    /**
+     * partNumberMarker 이후의 part URL 을 발급합니다.
+     * 기록된 계획과 uploadId / 크기가 같을 때만, 계획에 기록된 node 로 발급합니다. (node 를 사용할 수 없으면 실패)
+     */
+    public MultipartUploadPlanResponse getParts(String bucket, String objectKey, long fileSize,
+        String uploadId, int partNumberMarker, Integer maxParts) {
+        presignedUrlService.validateEnvironment();
+        long partSize = multipartUploadPlanner.partSize(fileSize);
+
+        StorageNodeInfo node = presignedUrlService.findMultipartNode(bucket, objectKey, uploadId,
+            fileSize);
+        return page(node, bucket, objectKey, fileSize, partSize, uploadId, partNumberMarker,
+            maxParts);
+    }
+
+    /**
+     * 한 페이지로 발급될 part 크기의 합 (발급 한도는 계획 전체가 아니라 발급하는 part 만큼 사용)
+     */
+    public long pageBytes(long fileSize, int partNumberMarker, Integer maxParts) {
+        long partSize = multipartUploadPlanner.partSize(fileSize);
+        int to = lastPartNumber(fileSize, partSize, partNumberMarker, maxParts);
+        long bytes = 0;
+        for (int partNumber = partNumberMarker + 1; partNumber <= to; partNumber++) {
+            bytes += multipartUploadPlanner.sizeOf(partNumber, fileSize, partSize);
+        }
+        return bytes;
+    }
+
+    private MultipartUploadPlanResponse page(
+        StorageNodeInfo node,
+        String bucket,
+        String objectKey,
+        long fileSize,
+        long partSize,
+        String uploadId,
+        int partNumberMarker,
+        Integer maxParts
+    ) {
+        int partCount = multipartUploadPlanner.partCount(fileSize, partSize);
+        int from = partNumberMarker + 1;
+        int to = lastPartNumber(fileSize, partSize, partNumberMarker, maxParts);
+        long expiresAt = presignedUrlService.newExpiresAt();
+
+        List<MultipartPartUrl> parts = new ArrayList<>(Math.max(to - from + 1, 0));
+        for (int partNumber = from; partNumber <= to; partNumber++) {
+            long size = multipartUploadPlanner.sizeOf(partNumber, fileSize, partSize);
+            parts.add(new MultipartPartUrl(partNumber, size,
+                presignedUrlService.createMultipartPartUrl(node.endpoint(), bucket, objectKey,
+                    uploadId, partNumber, size, expiresAt)));
+        }
+
+        return MultipartUploadPlanResponse.builder()
+            .uploadId(uploadId)
+            .fileSize(fileSize)
+            .partSize(partSize)
+            .partCount(partCount)
+            .completeUrl(presignedUrlService.createMultipartCompleteUrl(node.endpoint(), bucket,
+                objectKey, uploadId, fileSize, expiresAt))
+            .parts(parts)
+            .nextPartNumberMarker(to < partCount ? to : null)
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    private int lastPartNumber(long fileSize, long partSize, int partNumberMarker,
+        Integer maxParts) {
+        int partCount = multipartUploadPlanner.partCount(fileSize, partSize);
+        int pageSize = Math.min(Math.max(maxParts == null ? defaultPageSize : maxParts, 1),
+            MAX_PAGE_SIZE);
+        return (int) Math.min((long) partNumberMarker + pageSize, partCount);
+    }
+}
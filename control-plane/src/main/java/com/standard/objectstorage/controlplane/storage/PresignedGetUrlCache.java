@@ -0,0 +1,115 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET Presigned URL 재사용 (PRESIGNED_GET_EXPIRY_WINDOW 설정 시)
+ * <p>
+ * 만료 시간(exp)을 window 경계로 올림하면 같은 window 안의 요청은 같은 exp 를 가지므로, 같은 객체에 대해 같은
+ * URL 을 발급할 수 있습니다. URL 이 같아야 storage node 앞단의 HTTP cache / CDN 이 응답을 재사용할 수 있고,
+ * 자주 조회되는 객체의 서명 비용도 window 당 한 번으로 줄어듭니다.
+ * <p>
+ * URL 은 최소 15분, 최대 15분 + window 동안 유효합니다. 객체별로 마지막에 발급한 URL 하나만 보관하며, 발급 조건에
+ * node / 크기 / 객체 버전(updated_at) / 서명 키를 포함하므로 같은 크기로 덮어쓰기되거나 서명 키가 교체되어도 새 URL 을
+ * 발급합니다. 객체가 완료 / 삭제되면 evict 합니다.
+ */
+@Component
+public class PresignedGetUrlCache {
+
+    private final long windowSeconds;
+    private final Cache<ObjectRef, SignedUrl> urls;
+
+    public PresignedGetUrlCache(
+        MeterRegistry meterRegistry,
+        @Value("${PRESIGNED_GET_EXPIRY_WINDOW:0s}") Duration window,
+        @Value("${PRESIGNED_GET_URL_CACHE_MAX_SIZE:100000}") long maximumSize
+    ) {
+        this.windowSeconds = window.toSeconds();
+        this.urls = isEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window) // 다음 window 부터는 exp 가 달라 재사용되지 않음
+                .recordStats()
+                .build()
+            : null;
+
+        if (urls != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, urls, "presignedGetUrls");
+        }
+    }
+
+    public boolean isEnabled() {
+        return windowSeconds > 0;
+    }
+
+    /**
+     * 만료 시간을 window 경계로 올림합니다. (비활성화 시 그대로 반환)
+     */
+    public long roundExpiresAt(long expiresAt) {
+        if (!isEnabled()) {
+            return expiresAt;
+        }
+        return Math.ceilDiv(expiresAt, windowSeconds) * windowSeconds;
+    }
+
+    /**
+     * 같은 객체에 같은 (method, exp, node, 크기, 버전, 서명 키) 로 발급된 URL 이 있으면 재사용합니다.
+     */
+    public String get(
+        String bucket,
+        String objectKey,
+        String method,
+        long expiresAt,
+        String endpoint,
+        long fileSize,
+        LocalDateTime version,
+        String keyId,
+        Supplier<String> signer
+    ) {
+        if (!isEnabled()) {
+            return signer.get();
+        }
+        Grant grant = new Grant(method, expiresAt, endpoint, fileSize, version, keyId);
+        SignedUrl signed = urls.asMap().compute(new ObjectRef(bucket, objectKey),
+            (ref, current) -> current != null && current.grant().equals(grant)
+                ? current
+                : new SignedUrl(grant, signer.get()));
+        return signed.url();
+    }
+
+    /**
+     * 객체가 완료 / 삭제되면 발급해둔 URL 을 버립니다.
+     */
+    public void evict(String bucket, String objectKey) {
+        if (isEnabled()) {
+            urls.invalidate(new ObjectRef(bucket, objectKey));
+        }
+    }
+
+    private record ObjectRef(String bucket, String objectKey) {
+
+    }
+
+    private record Grant(
+        String method,
+        long expiresAt,
+        String endpoint,
+        long fileSize,
+        LocalDateTime version,
+        String keyId
+    ) {
+
+    }
+
+    private record SignedUrl(Grant grant, String url) {
+
+    }
+}
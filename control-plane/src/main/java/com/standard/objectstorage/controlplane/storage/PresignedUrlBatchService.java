@@ -0,0 +1,203 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.standard.objectstorage.controlplane.storage.dto.PresignedUrlBatchEntry;
+import com.standard.objectstorage.controlplane.storage.dto.PresignedUrlBatchResult;
+import com.standard.objectstorage.controlplane.storage.ratelimit.PresignRateLimiter;
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimitExceededException;
+import com.standard.objectstorage.controlplane.shard.ShardMigratingException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectInUseException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectNotFoundException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Presigned URL 배치 발급
+ * <p>
+ * 항목을 CHUNK_SIZE 단위로 나누어 서명 전용 스레드풀에서 병렬로 서명하고, 완료된 순서대로 NDJSON 한 줄씩
+ * 응답에 기록합니다. 동시에 처리 중인 chunk 수를 제한하여 결과 전체를 메모리에 들고 있지 않습니다.
+ */
+@Service
+public class PresignedUrlBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PresignedUrlBatchService.class);
+    private static final int CHUNK_SIZE = 64;
+
+    private final PresignedUrlService presignedUrlService;
+    private final PresignedUrlEventLog presignedUrlEventLog;
+    private final PresignRateLimiter presignRateLimiter;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService signingExecutor;
+    private final int maxInFlightChunks;
+
+    public PresignedUrlBatchService(
+        PresignedUrlService presignedUrlService,
+        PresignedUrlEventLog presignedUrlEventLog,
+        PresignRateLimiter presignRateLimiter,
+        ObjectMapper objectMapper,
+        @Value("${PRESIGNED_BATCH_PARALLELISM:0}") int parallelism
+    ) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        this.presignedUrlService = presignedUrlService;
+        this.presignedUrlEventLog = presignedUrlEventLog;
+        this.presignRateLimiter = presignRateLimiter;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.signingExecutor = Executors.newFixedThreadPool(threads, signingThreadFactory());
+        this.maxInFlightChunks = threads * 2;
+    }
+
+    /**
+     * 배치 단위 검증(환경 변수, 만료 시간)은 한 번만 수행하고, 항목별 오류는 결과 줄에 담아 반환합니다.
+     */
+    public StreamingResponseBody issue(List<PresignedUrlBatchEntry> entries) {
+        presignedUrlEventLog.batch(entries.size());
+        presignedUrlService.validateEnvironment();
+        long expiresAt = presignedUrlService.newExpiresAt();
+
+        return out -> write(entries, expiresAt, out);
+    }
+
+    private void write(List<PresignedUrlBatchEntry> entries, long expiresAt, OutputStream out)
+        throws IOException {
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        CompletionService<List<PresignedUrlBatchResult>> completion =
+            new ExecutorCompletionService<>(signingExecutor);
+
+        int chunks = (entries.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int submitted = 0;
+        int completed = 0;
+
+        try {
+            while (completed < chunks) {
+                while (submitted < chunks && submitted - completed < maxInFlightChunks) {
+                    int from = submitted * CHUNK_SIZE;
+                    int to = Math.min(from + CHUNK_SIZE, entries.size());
+                    completion.submit(() -> presignChunk(entries, from, to, expiresAt));
+                    submitted++;
+                }
+
+                for (PresignedUrlBatchResult result : completion.take().get()) {
+                    writer.writeValue(generator, result);
+                }
+                completed++;
+                generator.flush();
+            }
+
+            generator.writeRaw('\n');
+            generator.flush();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch Presigned URL 생성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch Presigned URL 생성에 실패하였습니다", e.getCause());
+        }
+    }
+
+    private List<PresignedUrlBatchResult> presignChunk(
+        List<PresignedUrlBatchEntry> entries,
+        int from,
+        int to,
+        long expiresAt
+    ) {
+        List<PresignedUrlBatchResult> results = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            results.add(presign(index, entries.get(index), expiresAt));
+        }
+        return results;
+    }
+
+    private PresignedUrlBatchResult presign(int index, PresignedUrlBatchEntry entry,
+        long expiresAt) {
+        String error = validate(entry);
+        if (error != null) {
+            return PresignedUrlBatchResult.failure(index, error);
+        }
+
+        try {
+            presignRateLimiter.acquire(entry.getBucket(), entry.getFileSize());
+            String presignedUrl = isGet(entry.getMethod())
+                ? presignedUrlService.getPresignedUrl(entry.getBucket(),
+                    entry.getObjectKey(), entry.getFileSize(), expiresAt)
+                : presignedUrlService.uploadPresignedUrl(entry.getBucket(),
+                    entry.getObjectKey(), entry.getFileSize(), expiresAt);
+            return PresignedUrlBatchResult.success(index, presignedUrl);
+
+        } catch (IllegalArgumentException | ObjectNotFoundException | ObjectInUseException
+                 | RateLimitExceededException | ShardMigratingException e) {
+            // 존재하지 않는 bucket / 객체 등 항목 단위 오류
+            return PresignedUrlBatchResult.failure(index, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Batch Presigned URL 항목 생성 실패 - index: {}, bucket: {}, objectKey: {}",
+                index, entry.getBucket(), entry.getObjectKey(), e);
+            return PresignedUrlBatchResult.failure(index, "Presigned URL 생성에 실패하였습니다");
+        }
+    }
+
+    private String validate(PresignedUrlBatchEntry entry) {
+        if (entry == null) {
+            return "항목이 비어있습니다.";
+        }
+        if (entry.getBucket() == null || entry.getBucket().isBlank()) {
+            return "bucket이 누락되었습니다.";
+        }
+        if (entry.getObjectKey() == null || entry.getObjectKey().isBlank()) {
+            return "objectKey가 누락되었습니다.";
+        }
+        if (entry.getFileSize() == null) {
+            return "fileSize가 누락되었습니다.";
+        }
+        if (entry.getFileSize() < 1) {
+            return "fileSize는 1 이상이어야 합니다.";
+        }
+        if (!isGet(entry.getMethod()) && !HttpMethod.PUT.name().equalsIgnoreCase(entry.getMethod())) {
+            return "method는 PUT 또는 GET 이어야 합니다.";
+        }
+        return null;
+    }
+
+    private boolean isGet(String method) {
+        return HttpMethod.GET.name().equalsIgnoreCase(method);
+    }
+
+    private static ThreadFactory signingThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "presign-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signingExecutor.shutdown();
+    }
+}
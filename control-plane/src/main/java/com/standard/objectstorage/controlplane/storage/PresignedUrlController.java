@@ -1,13 +1,20 @@
 package com.standard.objectstorage.controlplane.storage;
 
+import com.standard.objectstorage.controlplane.storage.dto.MultipartPartsRequest;
+import com.standard.objectstorage.controlplane.storage.dto.MultipartUploadPlanResponse;
+import com.standard.objectstorage.controlplane.storage.dto.PresignedUrlBatchRequest;
 import com.standard.objectstorage.controlplane.storage.dto.PresignedUrlRequest;
 import com.standard.objectstorage.controlplane.storage.dto.PresignedUrlResponse;
+import com.standard.objectstorage.controlplane.storage.ratelimit.PresignRateLimiter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/storage")
@@ -15,11 +22,27 @@ import org.springframework.web.bind.annotation.RestController;
 public class PresignedUrlController {
 
     private final PresignedUrlService presignedUrlService;
+    private final PresignedUrlBatchService presignedUrlBatchService;
+    private final MultipartUploadService multipartUploadService;
+    private final PresignRateLimiter presignRateLimiter;
 
+    /**
+     * contentHash(SHA-256) 를 함께 보내면, 같은 bucket 에 같은 내용의 객체가 있는 경우 업로드 URL 없이
+     * alreadyStored=true 를 반환합니다. (기존 파일을 참조하는 객체로 저장됨)
+     */
     @PostMapping("/presigned-url")
     public PresignedUrlResponse createPutPresignedUrl(
         @Valid @RequestBody PresignedUrlRequest request
     ) {
+        presignRateLimiter.acquire(request.getBucket(), request.getFileSize());
+        if (request.getContentHash() != null && presignedUrlService.storeDuplicate(
+            request.getBucket(),
+            request.getObjectKey(),
+            request.getFileSize(),
+            request.getContentHash()
+        )) {
+            return PresignedUrlResponse.alreadyStored();
+        }
         String presignedUrl = presignedUrlService.generateUploadPresignedUrl(
             request.getBucket(),
             request.getObjectKey(),
@@ -32,6 +55,7 @@ public class PresignedUrlController {
     public PresignedUrlResponse createGetPresignedUrl(
         @Valid @RequestBody PresignedUrlRequest request
     ) {
+        presignRateLimiter.acquire(request.getBucket(), request.getFileSize());
         String presignedUrl = presignedUrlService.generateGetPresignedUrl(
             request.getBucket(),
             request.getObjectKey(),
@@ -40,4 +64,54 @@ public class PresignedUrlController {
         return new PresignedUrlResponse(presignedUrl);
     }
 
+    /**
+     * 여러 개의 Presigned URL 을 한 번에 발급합니다.
+     * 결과는 완료되는 순서대로 NDJSON ({"index":0,"presignedUrl":"..."} / {"index":1,"error":"..."}) 으로 전송됩니다.
+     * 발급 한도는 항목마다 적용되며, 한도를 넘은 항목은 error 로 반환됩니다.
+     */
+    @PostMapping(value = "/presigned-url/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createPresignedUrls(
+        @Valid @RequestBody PresignedUrlBatchRequest request
+    ) {
+        StreamingResponseBody body = presignedUrlBatchService.issue(request.getEntries());
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * 대용량 객체를 part 단위로 병렬 업로드하기 위한 계획을 발급합니다.
+     * part URL 은 페이지 단위로 발급되며, nextPartNumberMarker 가 있으면 /multipart-plan/parts 로 이어서 요청합니다.
+     * 발급 한도(바이트)는 페이지마다 발급하는 part 크기만큼 사용합니다.
+     */
+    @PostMapping("/multipart-plan")
+    public MultipartUploadPlanResponse createMultipartPlan(
+        @Valid @RequestBody PresignedUrlRequest request
+    ) {
+        presignRateLimiter.acquire(request.getBucket(),
+            multipartUploadService.pageBytes(request.getFileSize(), 0, null));
+        return multipartUploadService.createPlan(
+            request.getBucket(),
+            request.getObjectKey(),
+            request.getFileSize(),
+            null
+        );
+    }
+
+    @PostMapping("/multipart-plan/parts")
+    public MultipartUploadPlanResponse getMultipartPlanParts(
+        @Valid @RequestBody MultipartPartsRequest request
+    ) {
+        presignRateLimiter.acquire(request.getBucket(), multipartUploadService.pageBytes(
+            request.getFileSize(), request.getPartNumberMarker(), request.getMaxParts()));
+        return multipartUploadService.getParts(
+            request.getBucket(),
+            request.getObjectKey(),
+            request.getFileSize(),
+            request.getUploadId(),
+            request.getPartNumberMarker(),
+            request.getMaxParts()
+        );
+    }
+
 }
\ No newline at end of file
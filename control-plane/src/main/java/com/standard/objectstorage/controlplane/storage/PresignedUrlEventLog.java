@@ -0,0 +1,86 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presigned URL 발급 이벤트 로그 (요청마다 남기던 log.info 대체)
+ * <p>
+ * 성공한 요청은 PRESIGN_EVENT_SAMPLE_RATE 비율만 기록하고, 실패한 요청은 모두 기록합니다.
+ * 한 줄에 key=value 형식(logfmt)으로 남겨 로그 수집기에서 필드로 파싱할 수 있습니다.
+ */
+@Component
+public class PresignedUrlEventLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PresignedUrlEventLog.class);
+
+    private final double sampleRate;
+
+    public PresignedUrlEventLog(@Value("${PRESIGN_EVENT_SAMPLE_RATE:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void presign(String type, String bucket, String objectKey, long fileSize,
+        String outcome, long startNanos) {
+        boolean success = "ok".equals(outcome);
+        if (success && !sampled()) {
+            return;
+        }
+
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        String format = "event=presign type={} outcome={} bucket={} objectKey={} fileSize={} "
+            + "elapsedMicros={} sampleRate={}";
+        Object[] fields = {type, outcome, bucket, quote(objectKey), fileSize, elapsedMicros,
+            success ? sampleRate : 1.0};
+
+        if (success) {
+            log.info(format, fields);
+        } else {
+            log.warn(format, fields);
+        }
+    }
+
+    public void batch(int entries) {
+        if (sampled()) {
+            log.info("event=presign_batch entries={} sampleRate={}", entries, sampleRate);
+        }
+    }
+
+    /**
+     * 사용자가 정한 값(object key)을 logfmt 따옴표 문자열로 변환합니다.
+     * 따옴표 / 역슬래시 / 제어 문자를 escape 하여 한 이벤트가 여러 줄이나 다른 필드로 해석되지 않도록 합니다.
+     */
+    static String quote(String value) {
+        if (value == null) {
+            return "\"\"";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (Character.isISOControl(c)) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0
+            || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
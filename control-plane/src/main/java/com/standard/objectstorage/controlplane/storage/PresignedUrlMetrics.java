@@ -0,0 +1,115 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presigned URL 발급 지표
+ * <p>
+ * bucket / objectKey 처럼 값의 종류가 제한되지 않는 값은 tag 로 사용하지 않습니다. (method, route, result 만 사용)
+ * DB 조회 / 커넥션 대기 시간은 spring.data.repository.invocations, hikaricp.connections.acquire 로 수집합니다.
+ */
+@Component
+public class PresignedUrlMetrics {
+
+    private static final String ROUTE_DIRECT = "direct";
+    private static final String ROUTE_RESUMABLE = "resumable";
+
+    private final Timer signGet;
+    private final Timer signPut;
+    private final Timer signPost;
+    private final Timer signDelete;
+    private final Counter directUploads;
+    private final Counter resumableUploads;
+    private final DistributionSummary uploadFileSize;
+    private final Counter getIssued;
+    private final Counter getNotFound;
+    private final Counter dedupHits;
+    private final Counter dedupMisses;
+
+    public PresignedUrlMetrics(MeterRegistry meterRegistry) {
+        this.signGet = signTimer(meterRegistry, "GET");
+        this.signPut = signTimer(meterRegistry, "PUT");
+        this.signPost = signTimer(meterRegistry, "POST");
+        this.signDelete = signTimer(meterRegistry, "DELETE");
+        this.directUploads = uploadCounter(meterRegistry, ROUTE_DIRECT);
+        this.resumableUploads = uploadCounter(meterRegistry, ROUTE_RESUMABLE);
+        this.uploadFileSize = DistributionSummary.builder("presign.upload.file.size")
+            .description("업로드 URL 발급 요청의 fileSize")
+            .baseUnit("bytes")
+            .serviceLevelObjectives(
+                4 * 1024, 64 * 1024, 1024 * 1024, 16 * 1024 * 1024,
+                100 * 1024 * 1024, 1024 * 1024 * 1024, 5L * 1024 * 1024 * 1024)
+            .register(meterRegistry);
+        this.getIssued = getCounter(meterRegistry, "issued");
+        this.getNotFound = getCounter(meterRegistry, "not_found");
+        this.dedupHits = dedupCounter(meterRegistry, "hit");
+        this.dedupMisses = dedupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 서명 + URL 조립 시간
+     */
+    public String timeSigning(String method, Supplier<String> signing) {
+        return signTimer(method).record(signing);
+    }
+
+    public void recordUpload(boolean resumable, long fileSize) {
+        (resumable ? resumableUploads : directUploads).increment();
+        uploadFileSize.record(fileSize);
+    }
+
+    public void recordGet(boolean found) {
+        (found ? getIssued : getNotFound).increment();
+    }
+
+    /**
+     * content hash 로 업로드 URL 을 요청한 경우, 같은 내용의 객체를 참조하여 업로드를 생략했는지 여부
+     */
+    public void recordDedup(boolean hit) {
+        (hit ? dedupHits : dedupMisses).increment();
+    }
+
+    private Timer signTimer(String method) {
+        return switch (method) {
+            case "GET" -> signGet;
+            case "POST" -> signPost;
+            case "DELETE" -> signDelete;
+            default -> signPut;
+        };
+    }
+
+    private static Timer signTimer(MeterRegistry meterRegistry, String method) {
+        return Timer.builder("presign.sign")
+            .description("Presigned URL 서명 / 조립 시간")
+            .tag("method", method)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static Counter uploadCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("presign.upload.route")
+            .description("업로드 URL 발급 수 (direct / resumable)")
+            .tag("route", route)
+            .register(meterRegistry);
+    }
+
+    private static Counter getCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("presign.get.result")
+            .description("다운로드 URL 발급 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static Counter dedupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("presign.dedup.result")
+            .description("content hash 중복 조회 결과 (hit 이면 업로드 URL 없이 저장)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
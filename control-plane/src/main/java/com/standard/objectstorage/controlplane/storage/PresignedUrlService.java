@@ -1,88 +1,315 @@
 package com.standard.objectstorage.controlplane.storage;
 
-import com.standard.objectstorage.controlplane.utils.CryptoUtils;
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeRegistry;
+import com.standard.objectstorage.controlplane.node.StorageNodeSelector;
+import com.standard.objectstorage.controlplane.node.StorageNodeUnavailableException;
+import com.standard.objectstorage.controlplane.storage.signing.PresignedUrlSigner;
+import com.standard.objectstorage.controlplane.storage.signing.SigningKeyRing;
+import com.standard.objectstorage.controlplane.storedObjcet.ContentHash;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectInUseException;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectLocation;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectNotFoundException;
+import com.standard.objectstorage.controlplane.storedObjcet.ReferencedContent;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectService;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriUtils;
 
 @Service
+@RequiredArgsConstructor
 public class PresignedUrlService {
 
     private static final Logger log = LoggerFactory.getLogger(PresignedUrlService.class);
     private static final long RESUMABLE_UPLOAD_FILE_SIZE = 100 * 1024 * 1024; // 100MB
     private static final String DIRECT_PATH = "objects/direct";
     private static final String RESUMABLE_PATH = "objects/resumable";
+    private static final Duration URL_TTL = Duration.ofMinutes(15);
 
-    @Value("${SECRET_KEY}")
-    private String SECRET_KEY;
-
-    @Value("${NODE_ENDPOINT}")
-    private String NODE_ENDPOINT;
+    private final PresignedUrlSigner signer;
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final StorageNodeSelector storageNodeSelector;
+    private final StoredObjectService storedObjectService;
+    private final PresignedGetUrlCache presignedGetUrlCache;
+    private final StorageObjectLinker storageObjectLinker;
+    private final PresignedUrlMetrics presignedUrlMetrics;
+    private final PresignedUrlEventLog presignedUrlEventLog;
 
     public String generateUploadPresignedUrl(String bucket, String objectKey, long fileSize) {
-        log.info("Upload Presigned URL 생성 요청 - bucket: {}, objectKey: {}, fileSize: {}", bucket,
-            objectKey, fileSize);
-        if (isResumableSize(fileSize)) {
-            return generatePresignedUrl(RESUMABLE_PATH, bucket, objectKey, fileSize,
-                HttpMethod.POST.name());
-        } else {
-            return generatePresignedUrl(DIRECT_PATH, bucket, objectKey, fileSize,
-                HttpMethod.PUT.name());
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            validateEnvironment();
+            String presignedUrl = uploadPresignedUrl(bucket, objectKey, fileSize, newExpiresAt());
+            outcome = "ok";
+            return presignedUrl;
+        } finally {
+            presignedUrlEventLog.presign("upload", bucket, objectKey, fileSize, outcome, start);
         }
+    }
 
+    /**
+     * 같은 bucket 에 같은 내용의 객체가 이미 저장되어 있으면 업로드 없이 그 파일을 참조하는 객체로 기록하고 true 를 반환합니다.
+     * 완료된 지 URL 유효 시간이 지나지 않은 객체는 참조하지 않습니다. (완료 전에 발급된 업로드 URL 로 파일이 덮어써질 수 있음)
+     */
+    public boolean storeDuplicate(String bucket, String objectKey, long fileSize,
+        String contentHash) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            boolean stored = storedObjectService.storeDuplicate(bucket, objectKey, fileSize,
+                ContentHash.of(contentHash), LocalDateTime.now().minus(URL_TTL));
+            presignedUrlMetrics.recordDedup(stored);
+            outcome = "ok";
+            return stored;
+        } finally {
+            presignedUrlEventLog.presign("dedup", bucket, objectKey, fileSize, outcome, start);
+        }
     }
 
     public String generateGetPresignedUrl(String bucket, String objectKey, long fileSize) {
-        log.info("GET Presigned URL 생성 요청 - bucket: {}, objectKey: {}", bucket, objectKey);
-        return generatePresignedUrl(DIRECT_PATH, bucket, objectKey, fileSize,
-            HttpMethod.GET.name());
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            validateEnvironment();
+            String presignedUrl = getPresignedUrl(bucket, objectKey, fileSize, newExpiresAt());
+            outcome = "ok";
+            return presignedUrl;
+        } catch (ObjectNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } finally {
+            presignedUrlEventLog.presign("get", bucket, objectKey, fileSize, outcome, start);
+        }
+    }
+
+    /**
+     * 업로드 대상 node 를 선택하여 기록하고 업로드 URL 을 생성합니다.
+     * 이미 기록된 객체는 (사용 가능하면) 기존 node 에 덮어쓰고, 새로운 객체는 ring 후보 중 부하가 낮은 node 에 배치합니다.
+     * 배치 발급 시 만료 시간과 환경 검증을 한 번만 수행하기 위해 분리되어 있습니다.
+     */
+    String uploadPresignedUrl(String bucket, String objectKey, long fileSize, long expiresAt) {
+        StorageNodeInfo node = prepareUpload(bucket, objectKey, fileSize);
+        return createUploadPresignedUrl(node.endpoint(), bucket, objectKey, fileSize, expiresAt);
+    }
+
+    /**
+     * 업로드 대상 node 를 선택하고 PENDING 으로 기록합니다.
+     * 이미 기록된 객체는 기존 node 가 사용 가능할 때만 기존 node 에 덮어쓰고, DOWN / SATURATED 이면 다른 node 에 배치합니다.
+     * (기존 node 의 이전 파일은 새 위치가 기록된 뒤 더 이상 참조되지 않습니다)
+     */
+    StorageNodeInfo prepareUpload(String bucket, String objectKey, long fileSize) {
+        return prepareUpload(bucket, objectKey, fileSize, null);
+    }
+
+    /**
+     * uploadId 가 있으면 multipart 업로드 계획(uploadId / node / 크기)으로 함께 기록합니다.
+     * 다른 객체가 파일을 참조하고 있는 객체는 참조 객체로 파일을 옮긴 뒤 기록합니다.
+     */
+    StorageNodeInfo prepareUpload(String bucket, String objectKey, long fileSize,
+        String uploadId) {
+        StorageNodeInfo node = storageNodeSelector.selectOverwriteNode(
+            findRecordedNode(bucket, objectKey).orElse(null), bucket, objectKey);
+        try {
+            storedObjectService.recordPending(bucket, objectKey, fileSize, node.id(), uploadId);
+        } catch (ObjectInUseException e) {
+            moveReferencedContent(bucket, objectKey);
+            storedObjectService.recordPending(bucket, objectKey, fileSize, node.id(), uploadId);
+        }
+        return node;
     }
 
     /**
-     * Presigned URL 생성 로직 fileSize에 따라 일반 업로드 또는 Resumable Upload 로 URL을 생성합니다.
+     * multipart 업로드 계획에 기록된 node (part 가 모두 같은 node 에 있어야 병합되므로 다른 node 로 바꾸지 않음)
+     * 계획과 uploadId / 크기가 다르면 발급하지 않고, 기록된 node 를 사용할 수 없으면 StorageNodeUnavailableException
+     * 덮어쓸 파일을 다른 객체가 참조하고 있으면 참조 객체로 파일을 옮긴 뒤 발급합니다. (complete URL 로 파일이 바뀌기 전에)
+     */
+    StorageNodeInfo findMultipartNode(String bucket, String objectKey, String uploadId,
+        long fileSize) {
+        String nodeId;
+        try {
+            nodeId = storedObjectService.findMultipartNodeId(bucket, objectKey, uploadId, fileSize);
+        } catch (ObjectInUseException e) {
+            moveReferencedContent(bucket, objectKey);
+            nodeId = storedObjectService.findMultipartNodeId(bucket, objectKey, uploadId, fileSize);
+        }
+        String recordedNodeId = nodeId;
+        return storageNodeRegistry.findNode(recordedNodeId)
+            .filter(storageNodeSelector::isAvailable)
+            .orElseThrow(() -> new StorageNodeUnavailableException(recordedNodeId));
+    }
+
+    /**
+     * 덮어쓸 객체의 파일을 참조 객체 하나의 key 로 같은 node 에 연결(hard link, 데이터 복사 없음)하여 그 객체의 파일로
+     * 기록하고, 나머지 참조 객체도 그 객체를 참조하도록 옮깁니다. (다른 node 의 복제본은 복제 복구로 전송)
+     * 원본 node 를 사용할 수 없으면 StorageNodeUnavailableException 으로 재시도를 요청합니다.
+     */
+    private void moveReferencedContent(String bucket, String objectKey) {
+        ReferencedContent content = storedObjectService.findReferencedContent(bucket, objectKey)
+            .orElse(null);
+        if (content == null) {
+            return;
+        }
+
+        StorageNodeInfo node = storageNodeRegistry.findNode(content.nodeId())
+            .filter(storageNodeSelector::isAvailable)
+            .orElseThrow(() -> new StorageNodeUnavailableException(content.nodeId()));
+        String storedKey = Optional.ofNullable(StoragePath.objectKeyOf(content.storagePath()))
+            .orElse(objectKey);
+        long size = content.size() == null ? 1 : Math.max(content.size(), 1);
+
+        storageObjectLinker.link(node.id(), presignedUrlMetrics.timeSigning(
+            HttpMethod.POST.name(), () -> signer.objectLinkUrl(node.endpoint(), bucket, storedKey,
+                newExpiresAt(), size, content.referenceKey())));
+
+        storedObjectService.moveReferencedContent(bucket, content, node.id())
+            .forEach(key -> presignedGetUrlCache.evict(bucket, key));
+        log.info("참조 객체로 파일 이동 - bucket: {}, objectKey: {}, referenceKey: {}", bucket,
+            objectKey, content.referenceKey());
+    }
+
+    /**
+     * 업로드가 완료된 객체만, 기록된 node / 크기로 다운로드 URL 을 생성합니다.
+     * 없는 객체는 서명하지 않고 ObjectNotFoundException 을 던집니다. (fileSize 는 크기가 기록되지 않은 경우에만 사용)
+     * 만료 시간 window 가 설정되어 있으면 같은 window 안에서는 같은 URL 을 재사용합니다.
+     * 다른 객체의 파일을 참조하는 객체는 저장 위치에 기록된 원본 객체의 key 로 서명합니다.
+     */
+    String getPresignedUrl(String bucket, String objectKey, long fileSize, long expiresAt) {
+        ObjectLocation location = storedObjectService.findLocation(bucket, objectKey)
+            .filter(ObjectLocation::isDownloadable)
+            .orElse(null);
+        presignedUrlMetrics.recordGet(location != null);
+        if (location == null) {
+            throw new ObjectNotFoundException(bucket, objectKey);
+        }
+
+        String storedKey = Optional.ofNullable(StoragePath.objectKeyOf(location.storagePath()))
+            .orElse(objectKey);
+        StorageNodeInfo node = storageNodeRegistry.findNode(location.nodeId())
+            .orElseGet(() -> storageNodeRegistry.locate(bucket, storedKey));
+        long size = location.size() != null ? location.size() : fileSize;
+        long exp = presignedGetUrlCache.roundExpiresAt(expiresAt);
+
+        return presignedGetUrlCache.get(bucket, objectKey, HttpMethod.GET.name(), exp,
+            node.endpoint(), size, location.updatedAt(), activeKeyId(),
+            () -> createGetPresignedUrl(node.endpoint(), bucket, storedKey, size, exp));
+    }
+
+    /**
+     * 업로드 URL 생성 (fileSize에 따라 일반 업로드 / Resumable Upload 분기)
+     */
+    String createUploadPresignedUrl(String endpoint, String bucket, String objectKey,
+        long fileSize, long expiresAt) {
+        boolean resumable = isResumableSize(fileSize);
+        presignedUrlMetrics.recordUpload(resumable, fileSize);
+
+        if (resumable) {
+            return generatePresignedUrl(endpoint, RESUMABLE_PATH, bucket, objectKey, fileSize,
+                HttpMethod.POST.name(), expiresAt);
+        } else {
+            return generatePresignedUrl(endpoint, DIRECT_PATH, bucket, objectKey, fileSize,
+                HttpMethod.PUT.name(), expiresAt);
+        }
+    }
+
+    String createGetPresignedUrl(String endpoint, String bucket, String objectKey,
+        long fileSize, long expiresAt) {
+        return generatePresignedUrl(endpoint, DIRECT_PATH, bucket, objectKey, fileSize,
+            HttpMethod.GET.name(), expiresAt);
+    }
+
+    /**
+     * storage node 파일 삭제 URL (control plane 내부 사용, fileSize 는 서명 형식을 맞추기 위한 값)
+     */
+    String createDeletePresignedUrl(String endpoint, String bucket, String objectKey,
+        long fileSize, long expiresAt) {
+        return generatePresignedUrl(endpoint, DIRECT_PATH, bucket, objectKey, Math.max(fileSize, 1),
+            HttpMethod.DELETE.name(), expiresAt);
+    }
+
+    /**
+     * multipart part 업로드 URL (fileSize 는 part 크기, storage node 는 이보다 큰 part 를 거절)
+     */
+    String createMultipartPartUrl(String endpoint, String bucket, String objectKey,
+        String uploadId, int partNumber, long partSize, long expiresAt) {
+        return presignedUrlMetrics.timeSigning(HttpMethod.PUT.name(), () -> signer.multipartUrl(
+            endpoint, bucket, objectKey, HttpMethod.PUT.name(), expiresAt, partSize, uploadId,
+            partNumber));
+    }
+
+    /**
+     * multipart complete URL (fileSize 는 전체 크기, storage node 는 part 크기 합이 다르면 병합하지 않음)
+     */
+    String createMultipartCompleteUrl(String endpoint, String bucket, String objectKey,
+        String uploadId, long fileSize, long expiresAt) {
+        return presignedUrlMetrics.timeSigning(HttpMethod.POST.name(), () -> signer.multipartUrl(
+            endpoint, bucket, objectKey, HttpMethod.POST.name(), expiresAt, fileSize, uploadId, 0));
+    }
+
+    /**
+     * 복제 복구 URL (source node 가 target node 로 전송, fileSize 는 객체 크기)
+     */
+    String createReplicaRepairUrl(String sourceEndpoint, String bucket, String objectKey,
+        long fileSize, String targetEndpoint, long expiresAt) {
+        return presignedUrlMetrics.timeSigning(HttpMethod.POST.name(), () -> signer.replicaRepairUrl(
+            sourceEndpoint, bucket, objectKey, expiresAt, Math.max(fileSize, 1), targetEndpoint));
+    }
+
+    void validateEnvironment() {
+        if (storageNodeRegistry.isEmpty()) {
+            log.error("Storage node 없음 - 등록된 node가 없고 NODE_ENDPOINT가 비어있습니다.");
+            throw new IllegalStateException("등록된 storage node 또는 환경 변수 NODE_ENDPOINT가 없습니다.");
+        }
+    }
+
+    long newExpiresAt() {
+        return Instant.now()
+            .plus(URL_TTL)
+            .getEpochSecond();
+    }
+
+    private String activeKeyId() {
+        SigningKeyRing keyRing = signer.getKeyRing();
+        return keyRing == null ? null : keyRing.getActiveKeyId();
+    }
+
+    private Optional<StorageNodeInfo> findRecordedNode(String bucket, String objectKey) {
+        return storedObjectService.findStorageNodeId(bucket, objectKey)
+            .flatMap(storageNodeRegistry::findNode);
+    }
+
+    /**
+     * Presigned URL 생성 로직
      */
     private String generatePresignedUrl(
+        String endpoint,
         String basePath,
         String bucket,
         String objectKey,
         long fileSize,
-        String method
+        String method,
+        long expiresAt
     ) {
 
         try {
 
-            if ((SECRET_KEY == null || SECRET_KEY.isBlank())
-                || (NODE_ENDPOINT == null || NODE_ENDPOINT.isBlank())) {
-                log.error("환경 변수 누락 - SECRET_KEY 또는 NODE_ENDPOINT가 비어있습니다.");
-                throw new IllegalStateException("환경 변수 SECRET_KEY 또는 NODE_ENDPOINT가 설정되지 않았습니다.");
-            }
-
-            long expiresAt = Instant.now()
-                .plusSeconds(60 * 15)
-                .getEpochSecond();
-
-            String signature = generateSignature(
-                bucket,
-                objectKey,
-                method,
-                expiresAt,
-                fileSize
-            );
-
             String encodedBucket =
                 UriUtils.encodePathSegment(bucket, StandardCharsets.UTF_8);
 
             String encodedObjectKey =
                 UriUtils.encodePath(objectKey, StandardCharsets.UTF_8);
 
-            return String.format(
-                "%s/%s/%s/%s?bucket=%s&objectKey=%s&method=%s&exp=%d&fileSize=%d&signature=%s",
-                NODE_ENDPOINT,
+            return presignedUrlMetrics.timeSigning(method, () -> signer.presignedUrl(
+                endpoint,
                 basePath,
                 encodedBucket,
                 encodedObjectKey,
@@ -90,9 +317,8 @@ public class PresignedUrlService {
                 objectKey,
                 method,
                 expiresAt,
-                fileSize,
-                signature
-            );
+                fileSize
+            ));
 
         } catch (Exception e) {
             log.error("Presigned URL 생성 실패", e);
@@ -104,25 +330,4 @@ public class PresignedUrlService {
     private boolean isResumableSize(long fileSize) {
         return fileSize >= RESUMABLE_UPLOAD_FILE_SIZE;
     }
-
-    private String generateSignature(
-        String bucket,
-        String objectKey,
-        String method,
-        long exp,
-        long fileSize
-    ) throws Exception {
-        String canonicalString = String.format(
-            "bucket=%s&objectKey=%s&method=%s&exp=%d&fileSize=%d",
-            bucket,
-            objectKey,
-            method,
-            exp,
-            fileSize
-        );
-        return CryptoUtils.hmacSha256Base64Url(
-            canonicalString,
-            SECRET_KEY
-        );
-    }
-}
\ No newline at end of file
+}
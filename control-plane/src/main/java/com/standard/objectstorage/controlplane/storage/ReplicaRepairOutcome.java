@@ -0,0 +1,19 @@
+package com.standard.objectstorage.controlplane.storage;
+
+/**
+ * storage node 복제 복구 요청 결과
+ */
+public enum ReplicaRepairOutcome {
+    // target node 로 전송 완료
+    COPIED,
+    // target node 에 같은 크기의 파일이 이미 있어 전송하지 않음
+    VERIFIED,
+    // source node 에 파일이 없음 (다른 복제본을 source 로 사용해야 함)
+    SOURCE_MISSING,
+    // 연결 실패 / 타임아웃 / 오류 응답 (backoff 후 재시도)
+    FAILED;
+
+    public boolean isStored() {
+        return this == COPIED || this == VERIFIED;
+    }
+}
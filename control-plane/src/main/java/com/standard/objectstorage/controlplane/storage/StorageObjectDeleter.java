@@ -0,0 +1,191 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeRegistry;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage node 의 객체 파일 삭제 (bucket 정리 / lifecycle)
+ * <p>
+ * - method=DELETE 로 서명한 URL 로 요청하며, 이미 없는 파일(404)은 삭제된 것으로 처리합니다.
+ * - 동시 요청 수를 STORAGE_DELETE_CONCURRENCY 로 제한하여 storage node 의 업로드 / 다운로드 처리를 방해하지 않습니다.
+ * - 연결 실패 / 5xx / 429 는 backoff 후 재시도하고, 그 외 4xx 는 재시도하지 않습니다.
+ */
+@Component
+public class StorageObjectDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageObjectDeleter.class);
+
+    private final PresignedUrlService presignedUrlService;
+    private final StorageNodeRegistry storageNodeRegistry;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Counter deleted;
+    private final Counter failed;
+    private final Counter retried;
+
+    public StorageObjectDeleter(
+        PresignedUrlService presignedUrlService,
+        StorageNodeRegistry storageNodeRegistry,
+        MeterRegistry meterRegistry,
+        @Value("${STORAGE_DELETE_CONCURRENCY:8}") int concurrency,
+        @Value("${STORAGE_DELETE_TIMEOUT_MS:5000}") long timeoutMillis,
+        @Value("${STORAGE_DELETE_MAX_ATTEMPTS:3}") int maxAttempts,
+        @Value("${STORAGE_DELETE_RETRY_BACKOFF_MS:500}") long retryBackoffMillis
+    ) {
+        this.presignedUrlService = presignedUrlService;
+        this.storageNodeRegistry = storageNodeRegistry;
+        this.permits = new Semaphore(concurrency);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.httpExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "storage-node-delete");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .executor(httpExecutor)
+            .build();
+
+        this.deleted = deleteCounter(meterRegistry, "deleted");
+        this.failed = deleteCounter(meterRegistry, "failed");
+        this.retried = Counter.builder("storage.object.delete.retried")
+            .description("storage node 파일 삭제 재시도 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 객체 파일을 삭제하고, 삭제에 성공한(또는 이미 없는) 객체만 반환합니다.
+     * 모든 요청이 끝날 때까지 호출 스레드를 대기시킵니다.
+     */
+    public List<ObjectDeleteTarget> deleteAll(String bucket, List<ObjectDeleteTarget> targets) {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(targets.size());
+
+        for (ObjectDeleteTarget target : targets) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            CompletableFuture<Boolean> result;
+            try {
+                result = delete(bucket, target, 1);
+            } catch (RuntimeException e) {
+                log.warn("storage node 파일 삭제 요청 생성 실패 - bucket: {}, objectKey: {}", bucket,
+                    target.objectKey(), e);
+                result = CompletableFuture.completedFuture(false);
+            }
+            results.add(result
+                .exceptionally(error -> false)
+                .whenComplete((ok, error) -> permits.release()));
+        }
+
+        List<ObjectDeleteTarget> succeeded = new ArrayList<>(targets.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).join()) {
+                succeeded.add(targets.get(i));
+            }
+        }
+        deleted.increment(succeeded.size());
+        failed.increment(targets.size() - succeeded.size());
+        return succeeded;
+    }
+
+    private CompletableFuture<Boolean> delete(String bucket, ObjectDeleteTarget target,
+        int attempt) {
+        StorageNodeInfo node = storageNodeRegistry.findNode(target.nodeId())
+            .orElseGet(() -> storageNodeRegistry.locate(bucket, target.objectKey()));
+        long size = target.size() == null ? 1 : target.size();
+        String url = presignedUrlService.createDeletePresignedUrl(node.endpoint(), bucket,
+            target.objectKey(), size, presignedUrlService.newExpiresAt());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .DELETE()
+            .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                if (error == null && (isSuccess(response.statusCode())
+                    || response.statusCode() == 404)) {
+                    return Outcome.DELETED;
+                }
+                if (error == null && !isRetryable(response.statusCode())) {
+                    log.warn("storage node 파일 삭제 실패 - node: {}, bucket: {}, objectKey: {}, status: {}",
+                        node.id(), bucket, target.objectKey(), response.statusCode());
+                    return Outcome.FAILED;
+                }
+                return attempt < maxAttempts ? Outcome.RETRY : Outcome.FAILED;
+            })
+            .thenCompose(outcome -> switch (outcome) {
+                case DELETED -> CompletableFuture.completedFuture(true);
+                case FAILED -> CompletableFuture.completedFuture(false);
+                case RETRY -> retry(bucket, target, attempt);
+            });
+    }
+
+    private CompletableFuture<Boolean> retry(String bucket, ObjectDeleteTarget target, int attempt) {
+        retried.increment();
+        return CompletableFuture
+            .runAsync(() -> {
+            }, CompletableFuture.delayedExecutor(retryBackoffMillis * attempt,
+                TimeUnit.MILLISECONDS, httpExecutor))
+            .thenCompose(ignored -> delete(bucket, target, attempt + 1));
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status >= 500 || status == 429 || status == 408;
+    }
+
+    private static Counter deleteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("storage.object.delete")
+            .description("storage node 파일 삭제 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+
+    private enum Outcome {
+        DELETED,
+        FAILED,
+        RETRY
+    }
+}
@@ -0,0 +1,126 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage node 의 객체 파일 연결 (다른 객체가 참조하는 파일을 덮어쓰기 전에 참조 객체의 key 로 옮김)
+ * <p>
+ * - method=POST, linkKey 를 포함해 서명한 URL 로 요청하며, storage node 는 같은 파일을 linkKey 에 hard link 로
+ *   연결합니다. 데이터를 전송하지 않으므로 파일 크기와 관계없이 짧은 타임아웃으로 요청 스레드에서 기다립니다.
+ * - 연결 실패 / 5xx / 429 는 한 번 더 시도하고, 실패하면 StorageNodeUnavailableException 으로 재시도를 요청합니다.
+ */
+@Component
+public class StorageObjectLinker {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageObjectLinker.class);
+
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Counter linked;
+    private final Counter failed;
+
+    public StorageObjectLinker(
+        MeterRegistry meterRegistry,
+        @Value("${STORAGE_LINK_TIMEOUT_MS:3000}") long timeoutMillis,
+        @Value("${STORAGE_LINK_MAX_ATTEMPTS:2}") int maxAttempts,
+        @Value("${STORAGE_LINK_RETRY_BACKOFF_MS:200}") long retryBackoffMillis
+    ) {
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.httpExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "storage-node-link");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .executor(httpExecutor)
+            .build();
+
+        this.linked = linkCounter(meterRegistry, "linked");
+        this.failed = linkCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * 서명된 연결 URL 로 요청하고 완료될 때까지 기다립니다.
+     *
+     * @param nodeId 실패 시 재시도를 요청할 node ID
+     */
+    public void link(String nodeId, String url) {
+        for (int attempt = 1; ; attempt++) {
+            int status = send(url);
+            if (status >= 200 && status < 300) {
+                linked.increment();
+                return;
+            }
+            if (attempt >= maxAttempts || (status > 0 && !isRetryable(status))) {
+                failed.increment();
+                log.warn("storage node 파일 연결 실패 - node: {}, status: {}, attempts: {}", nodeId,
+                    status, attempt);
+                throw new StorageNodeUnavailableException(nodeId);
+            }
+            try {
+                Thread.sleep(retryBackoffMillis * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.increment();
+                throw new StorageNodeUnavailableException(nodeId);
+            }
+        }
+    }
+
+    // 응답 status (연결 실패는 0)
+    private int send(String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            log.debug("storage node 파일 연결 요청 실패", e);
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status >= 500 || status == 429 || status == 408;
+    }
+
+    private static Counter linkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("storage.object.link")
+            .description("storage node 파일 연결 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+}
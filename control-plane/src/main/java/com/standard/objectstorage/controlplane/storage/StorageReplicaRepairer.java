@@ -0,0 +1,117 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage node 에 복제 복구를 요청합니다. (source node 가 target node 로 객체 전송)
+ * <p>
+ * - method=POST, target 을 포함해 서명한 URL 로 요청하며, source node 는 target 에 같은 크기 / ETag 의 파일이 있으면
+ *   전송하지 않고 확인만 합니다.
+ * - 요청 수 / 전송량 제한은 호출하는 쪽(ReplicaRepairScheduler)에서 node 별로 적용합니다.
+ */
+@Component
+public class StorageReplicaRepairer {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageReplicaRepairer.class);
+
+    private final PresignedUrlService presignedUrlService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    public StorageReplicaRepairer(
+        PresignedUrlService presignedUrlService,
+        ObjectMapper objectMapper,
+        @Value("${REPLICA_REPAIR_TIMEOUT_MS:600000}") long timeoutMillis,
+        @Value("${REPLICA_REPAIR_CONNECT_TIMEOUT_MS:3000}") long connectTimeoutMillis
+    ) {
+        this.presignedUrlService = presignedUrlService;
+        this.objectMapper = objectMapper;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+
+        this.httpExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "storage-node-repair");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .executor(httpExecutor)
+            .build();
+    }
+
+    /**
+     * source node 의 (bucket, objectKey) 를 target node 로 복제하도록 요청합니다.
+     * 반환된 future 는 예외 없이 결과로 완료됩니다.
+     */
+    public CompletableFuture<ReplicaRepairOutcome> repair(
+        StorageNodeInfo source,
+        StorageNodeInfo target,
+        String bucket,
+        String objectKey,
+        long size
+    ) {
+        HttpRequest request;
+        try {
+            String url = presignedUrlService.createReplicaRepairUrl(source.endpoint(), bucket,
+                objectKey, size, target.endpoint(), presignedUrlService.newExpiresAt());
+            request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        } catch (RuntimeException e) {
+            log.warn("복제 복구 요청 생성 실패 - bucket: {}, objectKey: {}", bucket, objectKey, e);
+            return CompletableFuture.completedFuture(ReplicaRepairOutcome.FAILED);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, error) -> {
+                if (error != null) {
+                    log.warn("복제 복구 요청 실패 - source: {}, target: {}, bucket: {}, objectKey: {}",
+                        source.id(), target.id(), bucket, objectKey, error);
+                    return ReplicaRepairOutcome.FAILED;
+                }
+                return toOutcome(response, source, target, bucket, objectKey);
+            });
+    }
+
+    private ReplicaRepairOutcome toOutcome(HttpResponse<byte[]> response, StorageNodeInfo source,
+        StorageNodeInfo target, String bucket, String objectKey) {
+        int status = response.statusCode();
+        if (status == 404) {
+            return ReplicaRepairOutcome.SOURCE_MISSING;
+        }
+        if (status < 200 || status >= 300) {
+            log.warn("복제 복구 실패 - source: {}, target: {}, bucket: {}, objectKey: {}, status: {}",
+                source.id(), target.id(), bucket, objectKey, status);
+            return ReplicaRepairOutcome.FAILED;
+        }
+
+        try {
+            boolean copied = objectMapper.readTree(response.body()).path("copied").asBoolean(true);
+            return copied ? ReplicaRepairOutcome.COPIED : ReplicaRepairOutcome.VERIFIED;
+        } catch (Exception e) {
+            return ReplicaRepairOutcome.COPIED;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MultipartPartUrl {
+
+    private int partNumber;
+
+    // part 크기 (마지막 part 만 partSize 보다 작을 수 있음)
+    private long size;
+
+    private String presignedUrl;
+}
@@ -0,0 +1,34 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+
+/**
+ * multipart 업로드 계획의 다음 part URL 페이지 요청
+ */
+@Getter
+public class MultipartPartsRequest {
+
+    @NotBlank(message = "bucket이 누락되었습니다.")
+    private String bucket;
+
+    @NotBlank(message = "objectKey가 누락되었습니다.")
+    private String objectKey;
+
+    @NotNull(message = "fileSize가 누락되었습니다.")
+    @Min(value = 1, message = "fileSize는 1 이상이어야 합니다.")
+    private Long fileSize;
+
+    @NotNull(message = "uploadId가 누락되었습니다.")
+    @Pattern(regexp = "^[0-9a-fA-F-]{36}$", message = "uploadId가 유효하지 않습니다.")
+    private String uploadId;
+
+    // 이 번호 이후의 part 부터 발급
+    @Min(value = 0, message = "partNumberMarker는 0 이상이어야 합니다.")
+    private int partNumberMarker;
+
+    private Integer maxParts;
+}
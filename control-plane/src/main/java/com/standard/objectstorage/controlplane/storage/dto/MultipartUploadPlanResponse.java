@@ -0,0 +1,26 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MultipartUploadPlanResponse {
+
+    private String uploadId;
+    private long fileSize;
+    private long partSize;
+    private int partCount;
+
+    // 모든 part 업로드 후 호출 (part 크기 합이 fileSize 와 같아야 병합)
+    private String completeUrl;
+
+    private List<MultipartPartUrl> parts;
+
+    // 다음 페이지 요청 시 partNumberMarker 로 전달 (마지막 페이지면 null)
+    private Integer nextPartNumberMarker;
+
+    // URL 만료 시각 (epoch seconds), 만료 전에 남은 part 는 다음 페이지로 다시 발급
+    private long expiresAt;
+}
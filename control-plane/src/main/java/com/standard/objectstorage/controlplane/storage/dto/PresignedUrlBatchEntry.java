@@ -0,0 +1,16 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PresignedUrlBatchEntry {
+
+    private String bucket;
+
+    private String objectKey;
+
+    private Long fileSize;
+
+    // PUT : 업로드 (fileSize에 따라 direct / resumable), GET : 다운로드
+    private String method;
+}
@@ -0,0 +1,17 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class PresignedUrlBatchRequest {
+
+    public static final int MAX_ENTRIES = 10_000;
+
+    // 개별 항목은 배치 전체를 실패시키지 않도록 서비스에서 항목별로 검증
+    @NotEmpty(message = "entries가 누락되었습니다.")
+    @Size(max = MAX_ENTRIES, message = "한 번에 최대 10000개까지 요청할 수 있습니다.")
+    private List<PresignedUrlBatchEntry> entries;
+}
@@ -0,0 +1,24 @@
+package com.standard.objectstorage.controlplane.storage.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PresignedUrlBatchResult {
+
+    // 요청 entries 에서의 위치 (결과는 완료 순서대로 전송되므로 index 로 매칭)
+    private int index;
+    private String presignedUrl;
+    private String error;
+
+    public static PresignedUrlBatchResult success(int index, String presignedUrl) {
+        return new PresignedUrlBatchResult(index, presignedUrl, null);
+    }
+
+    public static PresignedUrlBatchResult failure(int index, String error) {
+        return new PresignedUrlBatchResult(index, null, error);
+    }
+}
@@ -1,8 +1,10 @@
 package com.standard.objectstorage.controlplane.storage.dto;
 
+import com.standard.objectstorage.controlplane.storedObjcet.ContentHash;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 
 @Getter
@@ -17,4 +19,8 @@ public class PresignedUrlRequest {
     @NotNull(message = "fileSize가 누락되었습니다.")
     @Min(value = 1, message = "fileSize는 1 이상이어야 합니다.")
     private Long fileSize;
-}
\ No newline at end of file
+
+    // 선택 : 파일 내용의 SHA-256 (hex), 같은 내용의 객체가 있으면 업로드 없이 저장
+    @Pattern(regexp = ContentHash.REGEX, message = "contentHash는 SHA-256 hex 문자열이어야 합니다.")
+    private String contentHash;
+}
@@ -7,4 +7,14 @@ import lombok.Getter;
 @AllArgsConstructor
 public class PresignedUrlResponse {
     private String presignedUrl;
-}
\ No newline at end of file
+    // 같은 내용의 객체가 이미 저장되어 있어 업로드가 필요 없음 (presignedUrl 은 null)
+    private boolean alreadyStored;
+
+    public PresignedUrlResponse(String presignedUrl) {
+        this(presignedUrl, false);
+    }
+
+    public static PresignedUrlResponse alreadyStored() {
+        return new PresignedUrlResponse(null, true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발급 한도 파일(PRESIGN_RATE_LIMITS_FILE)을 주기적으로 확인하여, 변경되었으면 한도를 교체합니다.
+ * <p>
+ * 파일이 설정되지 않으면 환경 변수 기본값만 사용합니다. (per-second 0 이하는 제한 없음)
+ */
+@Component
+public class PresignRateLimitReloader {
+
+    private static final Logger log = LoggerFactory.getLogger(PresignRateLimitReloader.class);
+
+    private final PresignRateLimiter presignRateLimiter;
+    private final RateLimitSettings defaults;
+    private final Path limitsFile;
+
+    private FileTime lastModified;
+
+    public PresignRateLimitReloader(
+        PresignRateLimiter presignRateLimiter,
+        @Value("${PRESIGN_RATE_LIMITS_FILE:}") String limitsFile,
+        @Value("${PRESIGN_RATE_LIMIT_USER_RPS:200}") double userRequestsPerSecond,
+        @Value("${PRESIGN_RATE_LIMIT_USER_BURST:400}") long userRequestsBurst,
+        @Value("${PRESIGN_RATE_LIMIT_USER_BYTES_PER_SECOND:1073741824}") double userBytesPerSecond,
+        @Value("${PRESIGN_RATE_LIMIT_USER_BYTES_BURST:10737418240}") long userBytesBurst,
+        @Value("${PRESIGN_RATE_LIMIT_BUCKET_RPS:100}") double bucketRequestsPerSecond,
+        @Value("${PRESIGN_RATE_LIMIT_BUCKET_BURST:200}") long bucketRequestsBurst,
+        @Value("${PRESIGN_RATE_LIMIT_BUCKET_BYTES_PER_SECOND:536870912}") double bucketBytesPerSecond,
+        @Value("${PRESIGN_RATE_LIMIT_BUCKET_BYTES_BURST:5368709120}") long bucketBytesBurst
+    ) {
+        this.presignRateLimiter = presignRateLimiter;
+        this.limitsFile = limitsFile.isBlank() ? null : Path.of(limitsFile);
+        this.defaults = new RateLimitSettings(
+            new RateLimit(userRequestsPerSecond, userRequestsBurst),
+            new RateLimit(userBytesPerSecond, userBytesBurst),
+            new RateLimit(bucketRequestsPerSecond, bucketRequestsBurst),
+            new RateLimit(bucketBytesPerSecond, bucketBytesBurst)
+        );
+        presignRateLimiter.update(defaults);
+        reload();
+    }
+
+    @Scheduled(
+        initialDelayString = "${PRESIGN_RATE_LIMITS_RELOAD_INTERVAL_MS:10000}",
+        fixedDelayString = "${PRESIGN_RATE_LIMITS_RELOAD_INTERVAL_MS:10000}"
+    )
+    public synchronized void reload() {
+        if (limitsFile == null) {
+            return;
+        }
+
+        try {
+            FileTime modified = Files.getLastModifiedTime(limitsFile);
+            if (modified.equals(lastModified)) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(limitsFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            RateLimitSettings settings = RateLimitSettings.fromProperties(properties, defaults);
+            presignRateLimiter.update(settings);
+            lastModified = modified;
+            log.info("발급 한도 갱신 - {}", settings);
+
+        } catch (IOException | IllegalArgumentException e) {
+            // 잘못된 파일이 배포되더라도 기존 한도 유지
+            log.error("발급 한도 파일 로드 실패 - 기존 한도를 유지합니다. file: {}", limitsFile, e);
+        }
+    }
+}
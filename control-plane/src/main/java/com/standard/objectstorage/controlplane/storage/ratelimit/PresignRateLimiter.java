@@ -0,0 +1,151 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presigned URL 발급 한도 (user / bucket 별 요청 수 + 요청 바이트)
+ * <p>
+ * - 한 tenant 가 반복 발급으로 특정 storage node 에 업로드를 몰아넣지 못하도록 서명 / DB 기록 전에 확인합니다.
+ * - user 는 bucket owner 기준이며, bucket 조회는 metadata 캐시를 사용합니다.
+ * - key 별 상태는 크기 제한 + 미사용 만료가 있는 캐시에 보관합니다. 만료된 key 는 가득 찬 버킷으로 다시 시작하므로
+ *   한도가 다 채워질 만큼 쉬었던 key 만 제거되면 결과가 달라지지 않습니다.
+ * - 한도는 PresignRateLimitReloader 가 재시작 없이 교체합니다.
+ */
+@Component
+public class PresignRateLimiter {
+
+    private final BucketRepository bucketRepository;
+    private final Cache<Long, KeyLimiter> users;
+    private final Cache<String, KeyLimiter> buckets;
+
+    private final Counter userRequestsLimited;
+    private final Counter userBytesLimited;
+    private final Counter bucketRequestsLimited;
+    private final Counter bucketBytesLimited;
+
+    private volatile RateLimitSettings settings = RateLimitSettings.UNLIMITED;
+
+    public PresignRateLimiter(
+        BucketRepository bucketRepository,
+        MeterRegistry meterRegistry,
+        @Value("${PRESIGN_RATE_LIMIT_MAX_KEYS:100000}") long maximumKeys,
+        @Value("${PRESIGN_RATE_LIMIT_IDLE_EXPIRY:10m}") Duration idleExpiry
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(idleExpiry)
+            .recordStats()
+            .build();
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(idleExpiry)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "presignRateLimitUsers");
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "presignRateLimitBuckets");
+
+        this.userRequestsLimited = limitedCounter(meterRegistry, "user", "requests");
+        this.userBytesLimited = limitedCounter(meterRegistry, "user", "bytes");
+        this.bucketRequestsLimited = limitedCounter(meterRegistry, "bucket", "requests");
+        this.bucketBytesLimited = limitedCounter(meterRegistry, "bucket", "bytes");
+    }
+
+    public void update(RateLimitSettings settings) {
+        this.settings = settings;
+    }
+
+    public RateLimitSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 요청 1건 + fileSize 바이트를 사용합니다. 한도를 넘으면 RateLimitExceededException
+     * (존재하지 않는 bucket 은 제한하지 않고 발급 단계에서 거절)
+     */
+    public void acquire(String bucketName, long fileSize) {
+        RateLimitSettings current = settings;
+        if (!current.isEnabled()) {
+            return;
+        }
+        Optional<BucketMetadata> bucket = bucketRepository.findMetadataByName(bucketName);
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Long ownerId = bucket.get().ownerId();
+        KeyLimiter user = users.get(ownerId, ignored -> new KeyLimiter(now));
+        KeyLimiter bucketLimiter = buckets.get(bucketName, ignored -> new KeyLimiter(now));
+        long bytes = Math.max(fileSize, 0);
+
+        user.acquire("user", current.userRequests(), current.userBytes(), bytes, now,
+            userRequestsLimited, userBytesLimited);
+        try {
+            bucketLimiter.acquire("bucket", current.bucketRequests(), current.bucketBytes(), bytes,
+                now, bucketRequestsLimited, bucketBytesLimited);
+        } catch (RateLimitExceededException e) {
+            user.refund(current.userRequests(), current.userBytes(), bytes);
+            throw e;
+        }
+    }
+
+    private static Counter limitedCounter(MeterRegistry meterRegistry, String scope,
+        String dimension) {
+        return Counter.builder("presign.rate.limited")
+            .description("발급 한도 초과로 거절된 요청 수")
+            .tag("scope", scope)
+            .tag("limit", dimension)
+            .register(meterRegistry);
+    }
+
+    /**
+     * key 한 개의 요청 수 / 바이트 버킷
+     */
+    private static final class KeyLimiter {
+
+        private final TokenBucket requests;
+        private final TokenBucket bytes;
+
+        private KeyLimiter(long now) {
+            this.requests = new TokenBucket(now);
+            this.bytes = new TokenBucket(now);
+        }
+
+        private void acquire(String scope, RateLimit requestLimit, RateLimit byteLimit,
+            long size, long now, Counter requestsLimited, Counter bytesLimited) {
+            long wait = requests.tryAcquire(1, requestLimit, now);
+            if (wait > 0) {
+                requestsLimited.increment();
+                throw new RateLimitExceededException(scope + " requests", toRetryAfter(wait));
+            }
+
+            wait = bytes.tryAcquire(size, byteLimit, now);
+            if (wait > 0) {
+                requests.refund(1, requestLimit);
+                bytesLimited.increment();
+                throw new RateLimitExceededException(scope + " bytes", toRetryAfter(wait));
+            }
+        }
+
+        private void refund(RateLimit requestLimit, RateLimit byteLimit, long size) {
+            requests.refund(1, requestLimit);
+            bytes.refund(size, byteLimit);
+        }
+
+        private static long toRetryAfter(long waitNanos) {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        }
+    }
+}
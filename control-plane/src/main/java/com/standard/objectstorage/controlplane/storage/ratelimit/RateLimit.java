@@ -0,0 +1,29 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+/**
+ * 초당 permitsPerSecond 만큼 채워지고 최대 burst 만큼 쌓이는 token bucket 한도
+ * (permitsPerSecond 가 0 이하이면 제한하지 않음)
+ */
+public record RateLimit(double permitsPerSecond, long burst) {
+
+    public static final RateLimit UNLIMITED = new RateLimit(0, 0);
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final long MAX_NANOS = Long.MAX_VALUE / 4; // nanoTime 더하기 overflow 방지
+
+    public boolean isEnabled() {
+        return permitsPerSecond > 0;
+    }
+
+    /**
+     * permits 개의 토큰이 다시 채워지는 데 걸리는 시간
+     */
+    long nanosFor(long permits) {
+        double nanos = Math.ceil(permits * NANOS_PER_SECOND / permitsPerSecond);
+        return nanos >= MAX_NANOS ? MAX_NANOS : (long) nanos;
+    }
+
+    long capacityNanos() {
+        return nanosFor(Math.max(burst, 1));
+    }
+}
@@ -0,0 +1,21 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+/**
+ * 발급 한도 초과 (429, Retry-After)
+ * <p>
+ * 과도한 요청마다 생성되므로 stack trace 를 만들지 않습니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String scope, long retryAfterSeconds) {
+        super("Presigned URL 발급 한도를 초과하였습니다 - " + scope + ", " + retryAfterSeconds
+            + "초 후 다시 시도하세요.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+import java.util.Properties;
+
+/**
+ * Presigned URL 발급 한도 (user / bucket 별 요청 수, 요청 바이트)
+ */
+public record RateLimitSettings(
+    RateLimit userRequests,
+    RateLimit userBytes,
+    RateLimit bucketRequests,
+    RateLimit bucketBytes
+) {
+
+    public static final RateLimitSettings UNLIMITED = new RateLimitSettings(
+        RateLimit.UNLIMITED, RateLimit.UNLIMITED, RateLimit.UNLIMITED, RateLimit.UNLIMITED);
+
+    public boolean isEnabled() {
+        return userRequests.isEnabled() || userBytes.isEnabled()
+            || bucketRequests.isEnabled() || bucketBytes.isEnabled();
+    }
+
+    /**
+     * 한도 파일(properties)로부터 설정을 생성합니다. 파일에 없는 항목은 defaults 를 사용합니다.
+     * <pre>
+     * user.requests.per-second=200
+     * user.requests.burst=400
+     * user.bytes.per-second=1073741824
+     * user.bytes.burst=10737418240
+     * bucket.requests.per-second=100
+     * ...
+     * </pre>
+     */
+    public static RateLimitSettings fromProperties(Properties properties,
+        RateLimitSettings defaults) {
+        return new RateLimitSettings(
+            limit(properties, "user.requests", defaults.userRequests()),
+            limit(properties, "user.bytes", defaults.userBytes()),
+            limit(properties, "bucket.requests", defaults.bucketRequests()),
+            limit(properties, "bucket.bytes", defaults.bucketBytes())
+        );
+    }
+
+    private static RateLimit limit(Properties properties, String prefix, RateLimit defaults) {
+        String perSecond = properties.getProperty(prefix + ".per-second");
+        String burst = properties.getProperty(prefix + ".burst");
+        try {
+            return new RateLimit(
+                perSecond == null ? defaults.permitsPerSecond() : Double.parseDouble(perSecond.trim()),
+                burst == null ? defaults.burst() : Long.parseLong(burst.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 한도 값입니다 - " + prefix, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free token bucket
+ * <p>
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(System.nanoTime 기준) 하나만 AtomicLong 으로 보관하고 CAS 로 갱신합니다.
+ * (GCRA) 토큰 n 개 사용 = 가득 차는 시각을 n 개가 채워지는 시간만큼 뒤로 미루기이며, 그 시각이 지금으로부터
+ * burst 만큼 채워지는 시간보다 멀어지면 거절합니다. 한도는 호출마다 전달받으므로 설정이 바뀌면 바로 적용됩니다.
+ */
+public final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(nanos)
+     */
+    public long tryAcquire(long permits, RateLimit limit, long now) {
+        if (!limit.isEnabled()) {
+            return 0;
+        }
+        long cost = limit.nanosFor(permits);
+        long capacity = limit.capacityNanos();
+
+        while (true) {
+            long current = fullAt.get();
+            long debt = current - now; // 0 이하 : 가득 찬 상태
+            long next = (debt > 0 ? current : now) + cost;
+
+            // 가득 찬 상태에서는 burst 보다 큰 요청(큰 파일)도 허용하고, 이후 요청이 그만큼 기다립니다.
+            if (debt > 0 && next - now > capacity) {
+                return Math.min(next - now - capacity, debt);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 다른 한도에 걸려 발급하지 않은 요청의 토큰을 돌려줍니다.
+     */
+    public void refund(long permits, RateLimit limit) {
+        if (limit.isEnabled()) {
+            fullAt.addAndGet(-limit.nanosFor(permits));
+        }
+    }
+}
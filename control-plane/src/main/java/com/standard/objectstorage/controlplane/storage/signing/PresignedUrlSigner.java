@@ -0,0 +1,406 @@
+package com.standard.objectstorage.controlplane.storage.signing;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Presigned URL 서명기
+ * <p>
+ * 스레드마다 초기화된 Mac, 버퍼를 재사용하여 요청마다 Provider 조회 / 키 생성 / 문자열 포맷팅을 하지 않습니다.
+ * virtual thread 는 요청마다 새로 생성되어 ThreadLocal 이 재사용되지 않으므로, 공용 pool 에서 빌려 사용합니다.
+ * 서명 대상 문자열은 storage node 의 verifySignature 와 동일한 형식을 유지합니다.
+ * <pre>
+ * bucket={bucket}&objectKey={objectKey}&method={method}&exp={exp}&fileSize={fileSize}
+ * </pre>
+ */
+@Component
+public class PresignedUrlSigner {
+
+    private static final int SIGNATURE_BYTES = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43; // base64url(32 bytes), padding 없음
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 8 * 1024;
+    private static final String MULTIPART_PATH = "multipart";
+    private static final String REPLICA_REPAIR_PATH = "/internal/replications/repair";
+    private static final String OBJECT_LINK_PATH = "/internal/objects/link";
+    private static final String INTERNAL_METHOD = "POST";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final int MAX_POOLED_CONTEXTS = Runtime.getRuntime().availableProcessors() * 4;
+
+    private final ThreadLocal<SigningContext> contexts = ThreadLocal.withInitial(SigningContext::new);
+    private final ConcurrentLinkedQueue<SigningContext> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    private volatile SigningKeyRing keyRing;
+
+    public PresignedUrlSigner(@Value("${SECRET_KEY:}") String secretKey) {
+        this.keyRing = (secretKey == null || secretKey.isBlank())
+            ? null
+            : SigningKeyRing.single(secretKey);
+    }
+
+    /**
+     * 서명 키 목록을 교체합니다. 이미 발급된 URL 검증을 위해 이전 키는 storage node 에 남겨두어야 합니다.
+     */
+    public void rotate(SigningKeyRing newKeyRing) {
+        this.keyRing = newKeyRing;
+    }
+
+    public SigningKeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    /**
+     * 서명이 포함된 Presigned URL 을 생성합니다.
+     * <pre>
+     * {endpoint}/{basePath}/{encodedBucket}/{encodedObjectKey}?{canonicalString}&signature={signature}[&keyId={keyId}]
+     * </pre>
+     */
+    public String presignedUrl(
+        String endpoint,
+        String basePath,
+        String encodedBucket,
+        String encodedObjectKey,
+        String bucket,
+        String objectKey,
+        String method,
+        long exp,
+        long fileSize
+    ) {
+        SigningKeyRing ring = requireKeyRing();
+        SigningContext context = borrow();
+        try {
+            return presignedUrl(context, ring, endpoint, basePath, encodedBucket,
+                encodedObjectKey, bucket, objectKey, method, exp, fileSize);
+        } finally {
+            giveBack(context);
+        }
+    }
+
+    /**
+     * multipart part 업로드 / complete URL 을 생성합니다.
+     * 서명 대상 문자열 뒤에 uploadId (part 업로드는 partNumber 도) 를 붙여 다른 upload / part 에 재사용할 수 없습니다.
+     * <pre>
+     * {endpoint}/multipart/{uploadId}/{partNumber|complete}?{canonicalString}&uploadId={uploadId}[&partNumber={partNumber}]&signature={signature}[&keyId={keyId}]
+     * </pre>
+     *
+     * @param partNumber 0 이면 complete URL (fileSize 는 전체 파일 크기), 1 이상이면 part 업로드 URL (fileSize 는 part 크기)
+     */
+    public String multipartUrl(
+        String endpoint,
+        String bucket,
+        String objectKey,
+        String method,
+        long exp,
+        long fileSize,
+        String uploadId,
+        int partNumber
+    ) {
+        SigningKeyRing ring = requireKeyRing();
+        SigningContext context = borrow();
+        try {
+            StringBuilder sb = context.builder();
+            sb.append(endpoint).append('/')
+                .append(MULTIPART_PATH).append('/')
+                .append(uploadId).append('/');
+            if (partNumber > 0) {
+                sb.append(partNumber);
+            } else {
+                sb.append("complete");
+            }
+            sb.append('?');
+
+            int canonicalStart = sb.length();
+            appendCanonical(sb, bucket, objectKey, method, exp, fileSize);
+            sb.append("&uploadId=").append(uploadId);
+            if (partNumber > 0) {
+                sb.append("&partNumber=").append(partNumber);
+            }
+            return appendSignature(context, ring, sb, canonicalStart);
+        } finally {
+            giveBack(context);
+        }
+    }
+
+    /**
+     * storage node 간 복제 복구 URL 을 생성합니다. (endpoint 의 node 가 target node 로 객체를 전송)
+     * 서명 대상 문자열 뒤에 target 을 붙여 다른 node 로의 전송에 재사용할 수 없습니다.
+     * query 값은 URL 인코딩하고, 서명은 storage node 가 디코딩한 값과 같은 원본 값으로 생성합니다.
+     * <pre>
+     * {endpoint}/internal/replications/repair?{canonicalString}&target={target}&signature={signature}[&keyId={keyId}]
+     * </pre>
+     */
+    public String replicaRepairUrl(
+        String endpoint,
+        String bucket,
+        String objectKey,
+        long exp,
+        long fileSize,
+        String target
+    ) {
+        return internalUrl(endpoint, REPLICA_REPAIR_PATH, bucket, objectKey, exp, fileSize,
+            "target", target);
+    }
+
+    /**
+     * 객체 파일을 같은 node 의 다른 key 에 연결하는 URL 을 생성합니다. (storage node 에서 hard link, 데이터 복사 없음)
+     * 서명 대상 문자열 뒤에 linkKey 를 붙여 다른 key 로의 연결에 재사용할 수 없습니다.
+     * <pre>
+     * {endpoint}/internal/objects/link?{canonicalString}&linkKey={linkKey}&signature={signature}[&keyId={keyId}]
+     * </pre>
+     */
+    public String objectLinkUrl(
+        String endpoint,
+        String bucket,
+        String objectKey,
+        long exp,
+        long fileSize,
+        String linkKey
+    ) {
+        return internalUrl(endpoint, OBJECT_LINK_PATH, bucket, objectKey, exp, fileSize,
+            "linkKey", linkKey);
+    }
+
+    /**
+     * 서명 값만 생성합니다. (active 키 사용)
+     */
+    public String sign(String bucket, String objectKey, String method, long exp, long fileSize) {
+        SigningKeyRing ring = requireKeyRing();
+        SigningContext context = borrow();
+        try {
+            StringBuilder sb = context.builder();
+            appendCanonical(sb, bucket, objectKey, method, exp, fileSize);
+            int canonicalEnd = sb.length();
+            context.sign(ring.getActiveKey(), sb, 0, canonicalEnd, sb);
+            return sb.substring(canonicalEnd);
+        } finally {
+            giveBack(context);
+        }
+    }
+
+    /**
+     * control plane 이 storage node 에 보내는 method=POST 요청 URL (서명 대상 문자열 뒤에 {name}={value} 를 붙임)
+     */
+    private String internalUrl(
+        String endpoint,
+        String path,
+        String bucket,
+        String objectKey,
+        long exp,
+        long fileSize,
+        String name,
+        String value
+    ) {
+        SigningKeyRing ring = requireKeyRing();
+        SigningContext context = borrow();
+        try {
+            StringBuilder sb = context.builder();
+            appendCanonical(sb, bucket, objectKey, INTERNAL_METHOD, exp, fileSize);
+            sb.append('&').append(name).append('=').append(value);
+            int canonicalEnd = sb.length();
+            context.sign(ring.getActiveKey(), sb, 0, canonicalEnd, sb);
+            String signature = sb.substring(canonicalEnd);
+
+            sb.setLength(0);
+            sb.append(endpoint).append(path)
+                .append("?bucket=").append(encodeQueryParam(bucket))
+                .append("&objectKey=").append(encodeQueryParam(objectKey))
+                .append("&method=").append(INTERNAL_METHOD)
+                .append("&exp=").append(exp)
+                .append("&fileSize=").append(fileSize)
+                .append('&').append(name).append('=').append(encodeQueryParam(value))
+                .append("&signature=").append(signature);
+            if (!ring.isDefaultActive()) {
+                sb.append("&keyId=").append(ring.getActiveKeyId());
+            }
+            return sb.toString();
+        } finally {
+            giveBack(context);
+        }
+    }
+
+    private String presignedUrl(
+        SigningContext context,
+        SigningKeyRing ring,
+        String endpoint,
+        String basePath,
+        String encodedBucket,
+        String encodedObjectKey,
+        String bucket,
+        String objectKey,
+        String method,
+        long exp,
+        long fileSize
+    ) {
+        StringBuilder sb = context.builder();
+
+        sb.append(endpoint).append('/')
+            .append(basePath).append('/')
+            .append(encodedBucket).append('/')
+            .append(encodedObjectKey).append('?');
+
+        int canonicalStart = sb.length();
+        appendCanonical(sb, bucket, objectKey, method, exp, fileSize);
+        return appendSignature(context, ring, sb, canonicalStart);
+    }
+
+    /**
+     * sb[canonicalStart, 끝) 을 서명하여 signature (와 keyId) 를 덧붙입니다.
+     */
+    private String appendSignature(
+        SigningContext context,
+        SigningKeyRing ring,
+        StringBuilder sb,
+        int canonicalStart
+    ) {
+        int canonicalEnd = sb.length();
+
+        sb.append("&signature=");
+        context.sign(ring.getActiveKey(), sb, canonicalStart, canonicalEnd, sb);
+
+        if (!ring.isDefaultActive()) {
+            sb.append("&keyId=").append(ring.getActiveKeyId());
+        }
+        return sb.toString();
+    }
+
+    private SigningContext borrow() {
+        if (!Thread.currentThread().isVirtual()) {
+            return contexts.get();
+        }
+        SigningContext context = pool.poll();
+        if (context == null) {
+            return new SigningContext();
+        }
+        pooled.decrementAndGet();
+        return context;
+    }
+
+    private void giveBack(SigningContext context) {
+        if (!Thread.currentThread().isVirtual()) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= MAX_POOLED_CONTEXTS) {
+            pool.offer(context);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    private SigningKeyRing requireKeyRing() {
+        SigningKeyRing ring = this.keyRing;
+        if (ring == null) {
+            throw new IllegalStateException("환경 변수 SECRET_KEY가 설정되지 않았습니다.");
+        }
+        return ring;
+    }
+
+    private static String encodeQueryParam(String value) {
+        return UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8);
+    }
+
+    private static void appendCanonical(
+        StringBuilder sb,
+        String bucket,
+        String objectKey,
+        String method,
+        long exp,
+        long fileSize
+    ) {
+        sb.append("bucket=").append(bucket)
+            .append("&objectKey=").append(objectKey)
+            .append("&method=").append(method)
+            .append("&exp=").append(exp)
+            .append("&fileSize=").append(fileSize);
+    }
+
+    /**
+     * 스레드별 (virtual thread 는 pool) 로 재사용되는 서명 상태
+     */
+    private static final class SigningContext {
+
+        private final Mac mac;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final byte[] digest = new byte[SIGNATURE_BYTES];
+        private final byte[] encoded = new byte[ENCODED_SIGNATURE_LENGTH];
+
+        private StringBuilder builder = new StringBuilder(256);
+        private ByteBuffer input = ByteBuffer.allocate(512);
+        private SecretKeySpec boundKey;
+
+        private SigningContext() {
+            try {
+                this.mac = Mac.getInstance(SigningKeyRing.ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+            }
+        }
+
+        private StringBuilder builder() {
+            if (builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+                builder = new StringBuilder(256);
+            }
+            builder.setLength(0);
+            return builder;
+        }
+
+        /**
+         * source[start, end) 를 UTF-8 로 인코딩하여 서명하고, base64url 서명 값을 target 에 덧붙입니다.
+         */
+        private void sign(
+            SecretKeySpec key,
+            CharSequence source,
+            int start,
+            int end,
+            StringBuilder target
+        ) {
+            try {
+                if (boundKey != key) {
+                    mac.init(key);
+                    boundKey = key;
+                }
+
+                ByteBuffer bytes = encode(source, start, end);
+                mac.update(bytes);
+                mac.doFinal(digest, 0);
+            } catch (GeneralSecurityException e) {
+                boundKey = null;
+                throw new IllegalStateException("Presigned URL 서명 생성에 실패하였습니다.", e);
+            }
+
+            int length = BASE64_URL.encode(digest, encoded);
+            for (int i = 0; i < length; i++) {
+                target.append((char) encoded[i]);
+            }
+        }
+
+        private ByteBuffer encode(CharSequence source, int start, int end) {
+            int maxBytes = (int) ((end - start) * (double) encoder.maxBytesPerChar());
+            if (input.capacity() < maxBytes) {
+                input = ByteBuffer.allocate(Math.max(maxBytes, input.capacity() * 2));
+            }
+
+            input.clear();
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(source, start, end), input, true);
+            encoder.flush(input);
+            input.flip();
+            return input;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.standard.objectstorage.controlplane.storage.signing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 키 파일(SIGNING_KEYS_FILE)을 주기적으로 확인하여, 변경되었으면 서명 키 목록을 교체합니다.
+ * <p>
+ * 재시작 없이 키를 교체하기 위한 용도이며, 파일이 설정되지 않으면 SECRET_KEY 하나만 사용합니다.
+ */
+@Component
+public class SigningKeyReloader {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyReloader.class);
+
+    private final PresignedUrlSigner signer;
+    private final String legacySecret;
+    private final Path keysFile;
+
+    private FileTime lastModified;
+
+    public SigningKeyReloader(
+        PresignedUrlSigner signer,
+        @Value("${SECRET_KEY:}") String legacySecret,
+        @Value("${SIGNING_KEYS_FILE:}") String keysFile
+    ) {
+        this.signer = signer;
+        this.legacySecret = legacySecret;
+        this.keysFile = keysFile.isBlank() ? null : Path.of(keysFile);
+        reload();
+    }
+
+    @Scheduled(
+        initialDelayString = "${SIGNING_KEYS_RELOAD_INTERVAL_MS:30000}",
+        fixedDelayString = "${SIGNING_KEYS_RELOAD_INTERVAL_MS:30000}"
+    )
+    public synchronized void reload() {
+        if (keysFile == null) {
+            return;
+        }
+
+        try {
+            FileTime modified = Files.getLastModifiedTime(keysFile);
+            if (modified.equals(lastModified)) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(keysFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            SigningKeyRing keyRing = SigningKeyRing.fromProperties(properties, legacySecret);
+            signer.rotate(keyRing);
+            lastModified = modified;
+            log.info("서명 키 목록 갱신 - activeKeyId: {}, keys: {}", keyRing.getActiveKeyId(),
+                keyRing.size());
+
+        } catch (IOException | IllegalArgumentException e) {
+            // 잘못된 파일이 배포되더라도 기존 키로 계속 서명
+            log.error("서명 키 파일 로드 실패 - 기존 키를 유지합니다. file: {}", keysFile, e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.standard.objectstorage.controlplane.storage.signing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Presigned URL 서명에 사용하는 비밀 키 목록 (불변 객체)
+ * <p>
+ * 여러 개의 키를 key ID 로 구분하여 보관하고, 그 중 하나를 서명용 active 키로 사용합니다. 키 교체 시에는 새로운
+ * SigningKeyRing 을 만들어 통째로 바꿔 끼웁니다.
+ */
+public final class SigningKeyRing {
+
+    public static final String ALGORITHM = "HmacSHA256";
+
+    // 기존 SECRET_KEY 환경 변수로 등록되는 키의 ID (URL에 keyId 파라미터를 붙이지 않음)
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private static final String ACTIVE_PROPERTY = "active";
+    private static final String KEY_PROPERTY_PREFIX = "keys.";
+
+    private final Map<String, SecretKeySpec> keys;
+    private final String activeKeyId;
+    private final SecretKeySpec activeKey;
+
+    private SigningKeyRing(Map<String, SecretKeySpec> keys, String activeKeyId) {
+        this.keys = Collections.unmodifiableMap(keys);
+        this.activeKeyId = activeKeyId;
+        this.activeKey = keys.get(activeKeyId);
+    }
+
+    public static SigningKeyRing of(Map<String, String> secrets, String activeKeyId) {
+        Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+        secrets.forEach((keyId, secret) -> {
+            if (keyId == null || keyId.isBlank() || secret == null || secret.isBlank()) {
+                throw new IllegalArgumentException("서명 키 ID 또는 비밀 키가 비어있습니다.");
+            }
+            keys.put(keyId, new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        });
+
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("active 서명 키가 등록되어 있지 않습니다 - keyId: " + activeKeyId);
+        }
+        return new SigningKeyRing(keys, activeKeyId);
+    }
+
+    /**
+     * 기존 SECRET_KEY 한 개만 사용하는 키 목록
+     */
+    public static SigningKeyRing single(String secret) {
+        return of(Map.of(DEFAULT_KEY_ID, secret), DEFAULT_KEY_ID);
+    }
+
+    /**
+     * 키 파일(properties)로부터 키 목록을 생성합니다.
+     * <pre>
+     * active=2026-10
+     * keys.2026-10=new-secret
+     * keys.2026-07=old-secret
+     * </pre>
+     * legacySecret 은 파일에 default 키가 없을 때 default 키로 등록됩니다.
+     */
+    public static SigningKeyRing fromProperties(Properties properties, String legacySecret) {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        if (legacySecret != null && !legacySecret.isBlank()) {
+            secrets.put(DEFAULT_KEY_ID, legacySecret);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PROPERTY_PREFIX)) {
+                secrets.put(name.substring(KEY_PROPERTY_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+        String activeKeyId = properties.getProperty(ACTIVE_PROPERTY, DEFAULT_KEY_ID).trim();
+        return of(secrets, activeKeyId);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public SecretKeySpec getActiveKey() {
+        return activeKey;
+    }
+
+    public SecretKeySpec getKey(String keyId) {
+        SecretKeySpec key = keys.get(keyId);
+        if (key == null) {
+            throw new IllegalArgumentException("등록되지 않은 서명 키입니다 - keyId: " + keyId);
+        }
+        return key;
+    }
+
+    public boolean isDefaultActive() {
+        return DEFAULT_KEY_ID.equals(activeKeyId);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+}
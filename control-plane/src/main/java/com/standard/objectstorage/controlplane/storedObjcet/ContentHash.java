@@ -0,0 +1,30 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 객체 내용의 SHA-256 (소문자 hex 64자)
+ * <p>
+ * storage node 는 업로드된 파일의 SHA-256 을 etag 로 보고하므로, 완료 보고의 etag 가 이 형식이면 content hash 로 기록합니다.
+ * (multipart 등 다른 형식의 etag 는 중복 조회 대상에서 제외)
+ */
+public final class ContentHash {
+
+    public static final String REGEX = "^[0-9a-fA-F]{64}$";
+
+    private static final Pattern PATTERN = Pattern.compile(REGEX);
+
+    private ContentHash() {
+    }
+
+    /**
+     * SHA-256 hex 가 아니면 null
+     */
+    public static String of(String value) {
+        if (value == null || !PATTERN.matcher(value).matches()) {
+            return null;
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.util.UUID;
+
+/**
+ * 객체에 기록된 multipart 업로드 계획 (part URL 페이지 발급 시 검증)
+ * 덮어쓰기 중인 COMPLETE 객체는 content hash 가 남아있으면 중복 조회 대상에서 제외합니다.
+ */
+public record MultipartUpload(
+    UUID id,
+    ObjectStatus status,
+    String contentHash,
+    String uploadId,
+    String nodeId,
+    Long size
+) {
+
+}
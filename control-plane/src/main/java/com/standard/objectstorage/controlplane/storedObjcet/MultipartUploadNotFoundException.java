@@ -0,0 +1,12 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * uploadId 로 진행 중인 multipart 업로드가 없는 경우 (완료 / 실패했거나 같은 key 에 다른 업로드 URL 이 발급됨)
+ */
+public class MultipartUploadNotFoundException extends RuntimeException {
+
+    public MultipartUploadNotFoundException(String bucket, String objectKey, String uploadId) {
+        super("Multipart upload not found - bucket: " + bucket + ", objectKey: " + objectKey
+            + ", uploadId: " + uploadId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.util.UUID;
+
+/**
+ * storage node 에서 파일을 삭제하고 TB_OBJECTS 행을 지우는 데 필요한 값
+ */
+public record ObjectDeleteTarget(
+    UUID id,
+    String objectKey,
+    String storagePath,
+    Long size,
+    ObjectStatus status
+) {
+
+    public String nodeId() {
+        return StoragePath.nodeIdOf(storagePath);
+    }
+
+    // bucket 사용량에 포함된 객체
+    public boolean isComplete() {
+        return status == ObjectStatus.COMPLETE;
+    }
+
+    // 복제본이 기록되었을 수 있는 객체 (만료 삭제 중인 객체는 선점 전 상태를 알 수 없으므로 포함)
+    public boolean mayHaveReplicas() {
+        return status == ObjectStatus.COMPLETE || status == ObjectStatus.DELETING;
+    }
+}
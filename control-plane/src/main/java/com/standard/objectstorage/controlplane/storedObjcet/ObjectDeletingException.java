@@ -0,0 +1,12 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * lifecycle 만료로 파일을 삭제하는 중(DELETING)인 객체에 업로드를 요청한 경우 (삭제가 끝난 뒤 재시도)
+ */
+public class ObjectDeletingException extends RuntimeException {
+
+    public ObjectDeletingException(String bucket, String objectKey) {
+        super("Object is being deleted - bucket: " + bucket + ", objectKey: " + objectKey
+            + " (만료된 객체를 삭제하는 중입니다. 잠시 후 다시 시도해주세요)");
+    }
+}
@@ -0,0 +1,13 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * 덮어쓰기 업로드를 요청한 객체의 파일을 다른 객체가 참조하고 있는 경우
+ * 참조 객체로 파일을 옮긴 뒤 다시 기록하며, 옮기는 중 참조가 바뀌어 기록하지 못하면 잠시 후 재시도를 요청합니다.
+ */
+public class ObjectInUseException extends RuntimeException {
+
+    public ObjectInUseException(String bucket, String objectKey) {
+        super("Object is referenced by other objects - bucket: " + bucket + ", objectKey: "
+            + objectKey + " (같은 내용을 참조하는 객체로 파일을 옮기는 중입니다. 잠시 후 다시 시도해주세요)");
+    }
+}
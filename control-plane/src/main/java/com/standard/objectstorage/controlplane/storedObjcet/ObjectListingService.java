@@ -0,0 +1,150 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.ListObjectsResponse;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.ObjectSummaryResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * S3 ListObjectsV2 방식의 객체 목록 조회
+ * <p>
+ * (bucket_id, object_key) 인덱스를 marker 이후부터 읽는 keyset 방식이며, 한 번의 조회는 남은 개수 + 1 건만
+ * 가져옵니다. delimiter 가 있으면 직전에 반환한 common prefix 에 속한 key 를 만나는 즉시 해당 prefix 의
+ * 마지막 key 뒤에서 다시 조회하므로, prefix 하나당 버리는 행은 최대 한 건이고 한 페이지에서 읽는 행 수는
+ * max-keys 수준입니다. (object_key 는 utf8mb4_bin 이라 DB 정렬이 code point 순서와 같습니다)
+ * 한 bucket 의 객체는 모두 한 shard 에 있으므로 목록 조회도 그 shard 만 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ObjectListingService {
+
+    public static final int MAX_KEYS = 1000;
+
+    private static final char LIKE_ESCAPE = '!';
+
+    // common prefix 로 시작하는 모든 key 보다 뒤에 정렬되는 문자 (skip-ahead 용, binary collation 기준)
+    private static final String MAX_CODE_POINT =
+        new String(Character.toChars(Character.MAX_CODE_POINT));
+
+    private final BucketRepository bucketRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ShardMap shardMap;
+
+    public ListObjectsResponse listObjects(
+        String bucketName,
+        String prefix,
+        String delimiter,
+        String startAfter,
+        String continuationToken,
+        int maxKeys
+    ) {
+        BucketMetadata bucket = bucketRepository.findMetadataByName(bucketName)
+            .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+
+        String keyPrefix = prefix == null ? "" : prefix;
+        String keyDelimiter = (delimiter == null || delimiter.isEmpty()) ? null : delimiter;
+        int limit = Math.min(Math.max(maxKeys, 0), MAX_KEYS);
+        String keyPattern = escapeLike(keyPrefix) + "%";
+
+        // continuation-token 이 있으면 start-after 는 무시
+        String marker = continuationToken != null && !continuationToken.isBlank()
+            ? decodeToken(continuationToken)
+            : (startAfter == null ? "" : startAfter);
+
+        List<ObjectSummaryResponse> contents = new ArrayList<>();
+        List<String> commonPrefixes = new ArrayList<>();
+        String lastCommonPrefix = null;
+        boolean truncated = false;
+
+        scan:
+        while (true) {
+            int remaining = limit - contents.size() - commonPrefixes.size();
+            String from = marker;
+            List<ObjectSummaryResponse> rows = shardMap.onBucket(bucket.id(),
+                () -> storedObjectRepository.findCompleteAfter(
+                    bucket.id(), keyPattern, from, Limit.of(remaining + 1)));
+
+            for (ObjectSummaryResponse row : rows) {
+                String commonPrefix = commonPrefixOf(row.getKey(), keyPrefix, keyDelimiter);
+
+                // 직전에 반환한 common prefix 에 속한 key 이면 나머지 행은 버리고 prefix 뒤에서 다시 조회
+                if (commonPrefix != null && commonPrefix.equals(lastCommonPrefix)) {
+                    marker = commonPrefix + MAX_CODE_POINT;
+                    continue scan;
+                }
+
+                if (contents.size() + commonPrefixes.size() == limit) {
+                    truncated = true;
+                    break scan;
+                }
+
+                if (commonPrefix != null) {
+                    commonPrefixes.add(commonPrefix);
+                    lastCommonPrefix = commonPrefix;
+                    marker = commonPrefix + MAX_CODE_POINT;
+                } else {
+                    contents.add(row);
+                    marker = row.getKey();
+                }
+            }
+
+            // 요청한 개수보다 적게 조회되었으면 더 이상 남은 key 가 없음
+            if (rows.size() <= remaining) {
+                break;
+            }
+        }
+
+        return ListObjectsResponse.builder()
+            .bucket(bucketName)
+            .prefix(keyPrefix)
+            .delimiter(keyDelimiter)
+            .maxKeys(limit)
+            .keyCount(contents.size() + commonPrefixes.size())
+            .truncated(truncated)
+            .nextContinuationToken(truncated ? encodeToken(marker) : null)
+            .contents(contents)
+            .commonPrefixes(commonPrefixes)
+            .build();
+    }
+
+    private String commonPrefixOf(String key, String prefix, String delimiter) {
+        if (delimiter == null) {
+            return null;
+        }
+        int index = key.indexOf(delimiter, prefix.length());
+        return index < 0 ? null : key.substring(0, index + delimiter.length());
+    }
+
+    private String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private String encodeToken(String marker) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(marker.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeToken(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 continuation-token 입니다.", e);
+        }
+    }
+}
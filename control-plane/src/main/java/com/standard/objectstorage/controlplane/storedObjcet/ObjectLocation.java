@@ -0,0 +1,22 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.time.LocalDateTime;
+
+/**
+ * GET 발급에 필요한 객체 상태 / 크기 / 저장 위치 / 버전(마지막 변경 시각)
+ */
+public record ObjectLocation(
+    ObjectStatus status,
+    Long size,
+    String storagePath,
+    LocalDateTime updatedAt
+) {
+
+    public boolean isDownloadable() {
+        return status == ObjectStatus.COMPLETE;
+    }
+
+    public String nodeId() {
+        return StoragePath.nodeIdOf(storagePath);
+    }
+}
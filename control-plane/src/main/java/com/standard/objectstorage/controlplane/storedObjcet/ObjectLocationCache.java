@@ -0,0 +1,53 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.cache.CacheNames;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * TB_OBJECTS 객체 위치 read-through near cache
+ * <p>
+ * 존재하지 않는 객체도 null 로 캐시하여(negative entry) 반복되는 404 요청이 DB 를 조회하지 않습니다.
+ * 같은 key 의 동시 조회는 한 번만 DB 를 조회하고, 객체가 변경되면(업로드 발급 / 완료 / 삭제) evict 합니다.
+ */
+@Component
+public class ObjectLocationCache {
+
+    private final Cache cache;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ShardMap shardMap;
+
+    public ObjectLocationCache(CacheManager cacheManager,
+        StoredObjectRepository storedObjectRepository, ShardMap shardMap) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheNames.OBJECT_LOCATIONS));
+        this.storedObjectRepository = storedObjectRepository;
+        this.shardMap = shardMap;
+    }
+
+    public Optional<ObjectLocation> get(long bucketId, String objectKey) {
+        return Optional.ofNullable(cache.get(new CacheKey(bucketId, objectKey),
+            () -> load(bucketId, objectKey)));
+    }
+
+    // replica 결과가 없음 / 미완료이면 primary 에서 다시 조회 (복제 지연 중인 값이 TTL 동안 캐시되지 않도록)
+    private ObjectLocation load(long bucketId, String objectKey) {
+        return shardMap.onBucket(bucketId, () -> ReadRouting.rereadOnPrimaryIf(
+                location -> location.isEmpty() || !location.get().isDownloadable(),
+                () -> storedObjectRepository.findLocation(bucketId, objectKey)))
+            .orElse(null);
+    }
+
+    public void evict(long bucketId, String objectKey) {
+        cache.evict(new CacheKey(bucketId, objectKey));
+    }
+
+    // bucket 이름은 삭제 후 재생성될 수 있으므로 bucket ID 로 구분
+    private record CacheKey(long bucketId, String objectKey) {
+
+    }
+}
@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * 객체가 없거나 아직 업로드가 완료되지 않은 경우
+ */
+public class ObjectNotFoundException extends RuntimeException {
+
+    public ObjectNotFoundException(String bucket, String objectKey) {
+        super("Object not found - bucket: " + bucket + ", objectKey: " + objectKey);
+    }
+}
@@ -3,5 +3,7 @@ package com.standard.objectstorage.controlplane.storedObjcet;
 public enum ObjectStatus {
     PENDING,
     COMPLETE,
-    FAILED
+    FAILED,
+    // lifecycle 만료로 파일을 삭제하는 중 (업로드 / 조회 대상 아님, 삭제에 실패하면 이전 상태로 되돌림)
+    DELETING
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.util.UUID;
+
+/**
+ * 다른 객체가 참조하는 원본 객체의 파일과, 파일을 넘겨받을 참조 객체 (원본 덮어쓰기 전 파일 연결)
+ */
+public record ReferencedContent(
+    UUID sourceId,
+    String storagePath,
+    Long size,
+    String contentHash,
+    UUID referenceId,
+    String referenceKey
+) {
+
+    public String nodeId() {
+        return StoragePath.nodeIdOf(storagePath);
+    }
+}
@@ -0,0 +1,41 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * StoredObject.storagePath 형식 : {nodeId}/{bucket}/{objectKey}
+ * node ID 에는 '/' 가 포함되지 않으므로 첫 번째 '/' 앞부분이 저장된 node 입니다.
+ */
+public final class StoragePath {
+
+    private static final char SEPARATOR = '/';
+
+    private StoragePath() {
+    }
+
+    public static String of(String nodeId, String bucket, String objectKey) {
+        return nodeId + SEPARATOR + bucket + SEPARATOR + objectKey;
+    }
+
+    public static String nodeIdOf(String storagePath) {
+        int index = storagePath.indexOf(SEPARATOR);
+        return index < 0 ? storagePath : storagePath.substring(0, index);
+    }
+
+    /**
+     * 두 번째 '/' 앞까지가 bucket 이름입니다. (bucket 이름에도 '/' 가 포함되지 않음)
+     */
+    public static String bucketOf(String storagePath) {
+        int start = storagePath.indexOf(SEPARATOR);
+        int end = start < 0 ? -1 : storagePath.indexOf(SEPARATOR, start + 1);
+        return end < 0 ? null : storagePath.substring(start + 1, end);
+    }
+
+    /**
+     * 두 번째 '/' 뒤가 storage node 에 저장된 파일의 object key 입니다.
+     * (다른 객체의 파일을 참조하는 객체는 원본 객체의 key)
+     */
+    public static String objectKeyOf(String storagePath) {
+        int start = storagePath.indexOf(SEPARATOR);
+        int end = start < 0 ? -1 : storagePath.indexOf(SEPARATOR, start + 1);
+        return end < 0 ? null : storagePath.substring(end + 1);
+    }
+}
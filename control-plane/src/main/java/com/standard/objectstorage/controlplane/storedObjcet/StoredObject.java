@@ -1,17 +1,20 @@
 package com.standard.objectstorage.controlplane.storedObjcet;
 
 import com.standard.objectstorage.controlplane.bucket.Bucket;
+import com.standard.objectstorage.controlplane.utils.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -19,23 +22,42 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "TB_OBJECTS")
+@Table(
+    name = "TB_OBJECTS",
+    uniqueConstraints = {
+        // 목록 조회 keyset pagination / prefix 검색 (bucket_id, object_key)
+        @UniqueConstraint(name = "UK_BUCKET_OBJECT_KEY", columnNames = {"bucket_id", "object_key"})
+    },
+    indexes = {
+        // 만료 대상 조회 (lifecycle, updated_at keyset)
+        @Index(name = "IDX_BUCKET_STATUS_UPDATED_AT", columnList = "bucket_id, status, updated_at"),
+        // 내용 기반 중복 조회 (presign 시 content hash)
+        @Index(name = "IDX_BUCKET_CONTENT_HASH", columnList = "bucket_id, content_hash")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class StoredObject {
 
+    // 시간 순서 UUIDv7, BINARY(16) : insert 가 clustered index 끝에 모이도록
     @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "binary(16)")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bucket_id", nullable = false)
     private Bucket bucket;
 
-    @Column(nullable = false, length = 512, name = "object_key")
+    // 목록 조회 marker 비교 / skip-ahead 가 code point 순서를 가정하므로 binary collation
+    @Column(nullable = false, length = 512, name = "object_key",
+        columnDefinition = "varchar(512) collate utf8mb4_bin")
     private String objectKey;
 
     @Column(nullable = false, length = 1024)
@@ -51,15 +73,70 @@ public class StoredObject {
     @Column(nullable = false, length = 20)
     private ObjectStatus status;
 
+    // storage node 가 계산한 SHA-256 (자기 파일을 가진 COMPLETE 객체만, 중복 조회 대상)
+    @Column(length = 64, name = "content_hash")
+    private String contentHash;
+
+    // 다른 객체의 파일을 참조하는 객체의 원본 객체 id (storagePath 는 원본 객체의 파일)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "binary(16)", name = "source_id")
+    private UUID sourceId;
+
+    // 이 객체의 파일을 참조하는 객체 수 (0 보다 크면 파일을 덮어쓰거나 삭제하지 않음)
+    // 업로드 완료 기록(native upsert)은 ref_count 를 지정하지 않으므로 DB 기본값 0
+    @Column(nullable = false, name = "ref_count", columnDefinition = "integer default 0")
+    private int refCount;
+
+    // 진행 중인 multipart 업로드 계획 (uploadId / part 를 받는 node / 전체 크기)
+    @Column(length = 36, name = "upload_id")
+    private String uploadId;
+
+    @Column(length = 64, name = "upload_node_id")
+    private String uploadNodeId;
+
+    @Column(name = "upload_size")
+    private Long uploadSize;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 업로드 URL 발급 시 배치된 node / 크기로 갱신 (완료되지 않은 객체만)
+     */
+    public void markPending(String storagePath, long size) {
+        this.storagePath = storagePath;
+        this.size = size;
+        this.status = ObjectStatus.PENDING;
+    }
+
+    /**
+     * multipart 업로드 계획 기록 (uploadId 가 null 이면 단일 업로드로 이전 계획을 지움)
+     */
+    public void planUpload(String uploadId, String nodeId, long size) {
+        this.uploadId = uploadId;
+        this.uploadNodeId = uploadId == null ? null : nodeId;
+        this.uploadSize = uploadId == null ? null : size;
+    }
+
+    /**
+     * 같은 내용의 원본 객체 파일을 참조하는 COMPLETE 객체로 갱신 (업로드 없이 저장)
+     */
+    public void referTo(StoredObject source) {
+        this.storagePath = source.getStoragePath();
+        this.size = source.getSize();
+        this.etag = source.getEtag();
+        this.status = ObjectStatus.COMPLETE;
+        this.contentHash = null;
+        this.sourceId = source.getId();
+        planUpload(null, null, 0);
+    }
+
     @PrePersist
     public void prePersist() {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.next();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,32 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.storedObjcet.dto.ListObjectsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/buckets/{bucket}/objects")
+@RequiredArgsConstructor
+public class StoredObjectController {
+
+    private final ObjectListingService objectListingService;
+
+    @GetMapping
+    public ResponseEntity<ListObjectsResponse> listObjects(
+        @PathVariable String bucket,
+        @RequestParam(required = false) String prefix,
+        @RequestParam(required = false) String delimiter,
+        @RequestParam(name = "start-after", required = false) String startAfter,
+        @RequestParam(name = "continuation-token", required = false) String continuationToken,
+        @RequestParam(name = "max-keys", defaultValue = "" + ObjectListingService.MAX_KEYS)
+        int maxKeys
+    ) {
+        return ResponseEntity.ok(objectListingService.listObjects(
+            bucket, prefix, delimiter, startAfter, continuationToken, maxKeys));
+    }
+}
@@ -0,0 +1,324 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.lifecycle.ExpiredObject;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.ObjectSummaryResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, UUID> {
+
+    Optional<StoredObject> findByBucketIdAndObjectKey(Long bucketId, String objectKey);
+
+    boolean existsByBucketId(Long bucketId);
+
+    @Query("""
+        select o.storagePath
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.objectKey = :objectKey
+        """)
+    Optional<String> findStoragePath(
+        @Param("bucketId") Long bucketId,
+        @Param("objectKey") String objectKey
+    );
+
+    @Query("""
+        select new com.standard.objectstorage.controlplane.storedObjcet.ObjectLocation(
+            o.status, o.size, o.storagePath, o.updatedAt)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.objectKey = :objectKey
+        """)
+    Optional<ObjectLocation> findLocation(
+        @Param("bucketId") Long bucketId,
+        @Param("objectKey") String objectKey
+    );
+
+    @Query("""
+        select new com.standard.objectstorage.controlplane.storedObjcet.MultipartUpload(
+            o.id, o.status, o.contentHash, o.uploadId, o.uploadNodeId, o.uploadSize)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.objectKey = :objectKey
+        """)
+    Optional<MultipartUpload> findMultipartUpload(
+        @Param("bucketId") Long bucketId,
+        @Param("objectKey") String objectKey
+    );
+
+    // COMPLETE 객체의 덮어쓰기 계획 기록 (updated_at 은 객체 버전이므로 갱신하지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.uploadId = :uploadId,
+            o.uploadNodeId = :nodeId,
+            o.uploadSize = :size
+        where o.id = :id
+        """)
+    int planUpload(
+        @Param("id") UUID id,
+        @Param("uploadId") String uploadId,
+        @Param("nodeId") String nodeId,
+        @Param("size") Long size
+    );
+
+    /**
+     * 같은 내용(content hash)의 원본 객체 (IDX_BUCKET_CONTENT_HASH 조회 한 번)
+     * completedBefore 이후에 완료된 객체는 완료 전에 발급된 업로드 URL 이 아직 유효할 수 있어 제외합니다.
+     */
+    @Query("""
+        select o
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.contentHash = :contentHash
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.COMPLETE
+          and o.updatedAt < :completedBefore
+        """)
+    List<StoredObject> findContentSources(
+        @Param("bucketId") Long bucketId,
+        @Param("contentHash") String contentHash,
+        @Param("completedBefore") LocalDateTime completedBefore,
+        Limit limit
+    );
+
+    // 조회 이후 덮어쓰기 / 만료로 content hash 가 지워진 객체는 참조하지 않음
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.refCount = o.refCount + 1
+        where o.id = :id
+          and o.contentHash = :contentHash
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.COMPLETE
+        """)
+    int addReference(
+        @Param("id") UUID id,
+        @Param("contentHash") String contentHash
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.refCount = o.refCount - 1
+        where o.id = :id
+          and o.refCount > 0
+        """)
+    int removeReference(@Param("id") UUID id);
+
+    /**
+     * 덮어쓰기 / 삭제 전에 중복 조회 대상에서 제외합니다. 참조하는 객체가 있으면 0 을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.contentHash = null
+        where o.id = :id
+          and o.refCount = 0
+        """)
+    int releaseContent(@Param("id") UUID id);
+
+    /**
+     * 원본 객체의 파일을 넘겨받을 참조 객체 (원본 덮어쓰기 전 파일 연결)
+     */
+    Optional<StoredObject> findFirstBySourceIdOrderByIdAsc(UUID sourceId);
+
+    @Query("""
+        select o.objectKey
+        from StoredObject o
+        where o.sourceId = :sourceId
+        """)
+    List<String> findReferenceKeys(@Param("sourceId") UUID sourceId);
+
+    /**
+     * 원본의 나머지 참조 객체가 파일을 넘겨받은 참조 객체를 참조하도록 옮깁니다.
+     * (내용은 그대로이므로 객체 버전인 updated_at 은 갱신하지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.sourceId = :targetId,
+            o.storagePath = :storagePath
+        where o.sourceId = :sourceId
+          and o.id <> :targetId
+        """)
+    int moveReferences(
+        @Param("sourceId") UUID sourceId,
+        @Param("targetId") UUID targetId,
+        @Param("storagePath") String storagePath
+    );
+
+    /**
+     * 연결된 파일을 가진 원본 객체로 바꿉니다. 조회 이후 다른 원본을 참조하게 된(또는 삭제된) 객체이면 0 을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.sourceId = null,
+            o.storagePath = :storagePath,
+            o.contentHash = :contentHash,
+            o.refCount = :refCount
+        where o.id = :id
+          and o.sourceId = :sourceId
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.COMPLETE
+        """)
+    int takeOverContent(
+        @Param("id") UUID id,
+        @Param("sourceId") UUID sourceId,
+        @Param("storagePath") String storagePath,
+        @Param("contentHash") String contentHash,
+        @Param("refCount") int refCount
+    );
+
+    // 참조가 모두 옮겨진(또는 남지 않은) 원본 객체를 덮어쓸 수 있는 상태로 바꿈
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.refCount = 0,
+            o.contentHash = null
+        where o.id = :id
+        """)
+    int clearReferences(@Param("id") UUID id);
+
+    /**
+     * marker 이후의 COMPLETE 객체를 object_key 순으로 조회합니다. (UK_BUCKET_OBJECT_KEY range scan)
+     * keyPattern 은 '!' 로 escape 된 "{prefix}%" 형식입니다.
+     */
+    @Query("""
+        select new com.standard.objectstorage.controlplane.storedObjcet.dto.ObjectSummaryResponse(
+            o.objectKey, o.size, o.etag, o.updatedAt)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.COMPLETE
+          and o.objectKey like :keyPattern escape '!'
+          and o.objectKey > :marker
+        order by o.objectKey asc
+        """)
+    List<ObjectSummaryResponse> findCompleteAfter(
+        @Param("bucketId") Long bucketId,
+        @Param("keyPattern") String keyPattern,
+        @Param("marker") String marker,
+        Limit limit
+    );
+
+    /**
+     * afterKey 이후의 객체를 상태와 관계없이 object_key 순으로 조회합니다. (bucket 정리, UK_BUCKET_OBJECT_KEY range scan)
+     */
+    @Query("""
+        select new com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget(
+            o.id, o.objectKey, o.storagePath, o.size, o.status)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.objectKey > :afterKey
+        order by o.objectKey asc
+        """)
+    List<ObjectDeleteTarget> findDeleteTargetsAfter(
+        @Param("bucketId") Long bucketId,
+        @Param("afterKey") String afterKey,
+        Limit limit
+    );
+
+    /**
+     * 만료 기간이 지난 객체를 (updated_at, id) 순으로 조회합니다. (lifecycle, IDX_BUCKET_STATUS_UPDATED_AT range scan)
+     */
+    @Query("""
+        select new com.standard.objectstorage.controlplane.lifecycle.ExpiredObject(
+            o.id, o.objectKey, o.storagePath, o.size, o.status, o.contentHash, o.sourceId,
+            o.updatedAt)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.status = :status
+          and o.updatedAt < :before
+        order by o.updatedAt asc, o.id asc
+        """)
+    List<ExpiredObject> findFirstExpired(
+        @Param("bucketId") Long bucketId,
+        @Param("status") ObjectStatus status,
+        @Param("before") LocalDateTime before,
+        Limit limit
+    );
+
+    @Query("""
+        select new com.standard.objectstorage.controlplane.lifecycle.ExpiredObject(
+            o.id, o.objectKey, o.storagePath, o.size, o.status, o.contentHash, o.sourceId,
+            o.updatedAt)
+        from StoredObject o
+        where o.bucket.id = :bucketId
+          and o.status = :status
+          and o.updatedAt < :before
+          and (o.updatedAt > :updatedAt or (o.updatedAt = :updatedAt and o.id > :id))
+        order by o.updatedAt asc, o.id asc
+        """)
+    List<ExpiredObject> findExpiredAfter(
+        @Param("bucketId") Long bucketId,
+        @Param("status") ObjectStatus status,
+        @Param("before") LocalDateTime before,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("id") UUID id,
+        Limit limit
+    );
+
+    /**
+     * 만료 객체를 파일 삭제 전에 DELETING 으로 선점합니다. (lifecycle)
+     * 조회 이후 다시 업로드 / 완료된 객체(updated_at 갱신)와 다른 객체가 참조하는 객체는 선점하지 않고,
+     * 선점한 객체는 중복 조회 / 참조 대상에서 제외됩니다. (addReference 는 COMPLETE 만)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.DELETING,
+            o.contentHash = null,
+            o.updatedAt = :now
+        where o.id = :id
+          and o.status = :status
+          and o.updatedAt < :before
+          and o.refCount = 0
+        """)
+    int claimExpired(
+        @Param("id") UUID id,
+        @Param("status") ObjectStatus status,
+        @Param("before") LocalDateTime before,
+        @Param("now") LocalDateTime now
+    );
+
+    // 파일 삭제에 실패한 객체를 선점 전 상태로 되돌림 (다음 주기에 다시 만료 대상)
+    @Transactional
+    @Modifying
+    @Query("""
+        update StoredObject o
+        set o.status = :status,
+            o.contentHash = :contentHash,
+            o.updatedAt = :updatedAt
+        where o.id = :id
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.DELETING
+        """)
+    int restoreClaimed(
+        @Param("id") UUID id,
+        @Param("status") ObjectStatus status,
+        @Param("contentHash") String contentHash,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from StoredObject o
+        where o.id = :id
+          and o.status = com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus.DELETING
+        """)
+    int deleteClaimed(@Param("id") UUID id);
+}
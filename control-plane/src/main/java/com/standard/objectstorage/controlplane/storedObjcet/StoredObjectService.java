@@ -0,0 +1,334 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import com.standard.objectstorage.controlplane.replication.ReplicaTracker;
+import com.standard.objectstorage.controlplane.replication.ReplicatedObject;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class StoredObjectService {
+
+    private final BucketRepository bucketRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ObjectLocationCache objectLocationCache;
+    private final ShardMap shardMap;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final ReplicaTracker replicaTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 객체가 저장된(또는 업로드 예정인) node ID
+     */
+    public Optional<String> findStorageNodeId(String bucketName, String objectKey) {
+        BucketMetadata bucket = getBucket(bucketName);
+        return shardMap.onBucket(bucket.id(),
+                () -> storedObjectRepository.findStoragePath(bucket.id(), objectKey))
+            .map(StoragePath::nodeIdOf);
+    }
+
+    /**
+     * 객체 상태 / 크기 / 저장 위치 (near cache, 없는 객체는 empty)
+     */
+    public Optional<ObjectLocation> findLocation(String bucketName, String objectKey) {
+        BucketMetadata bucket = getBucket(bucketName);
+        return objectLocationCache.get(bucket.id(), objectKey);
+    }
+
+    /**
+     * 업로드 URL 발급 시 배치된 node 를 PENDING 상태로 기록합니다.
+     * 이미 COMPLETE 인 객체는 덮어쓰기 업로드가 완료될 때까지 기존 상태를 유지합니다.
+     * 다른 객체가 파일을 참조하고 있는 객체는 덮어쓰지 않고 ObjectInUseException 을 던집니다.
+     * (호출하는 쪽에서 참조 객체로 파일을 옮긴 뒤 다시 기록)
+     * 만료로 파일을 삭제하는 중인 객체는 ObjectDeletingException 으로 재시도를 요청합니다.
+     * bucket 의 shard 가 분할 중이면 ShardMigratingException 으로 재시도를 요청합니다.
+     */
+    public void recordPending(String bucketName, String objectKey, long fileSize, String nodeId) {
+        recordPending(bucketName, objectKey, fileSize, nodeId, null);
+    }
+
+    /**
+     * uploadId 가 있으면 multipart 업로드 계획(uploadId / node / 크기)도 함께 기록합니다.
+     * 없으면 같은 key 에 기록된 이전 계획을 지웁니다. (새 업로드가 이전 계획을 대체)
+     */
+    public void recordPending(String bucketName, String objectKey, long fileSize, String nodeId,
+        String uploadId) {
+        BucketMetadata bucket = getWritableBucket(bucketName);
+        String storagePath = StoragePath.of(nodeId, bucketName, objectKey);
+        shardMap.checkWritable(bucket.id());
+
+        try {
+            shardMap.runOnBucket(bucket.id(),
+                () -> upsertPending(bucket, objectKey, fileSize, nodeId, storagePath, uploadId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 key 에 대한 동시 발급으로 insert 가 충돌한 경우, 먼저 생성된 행을 갱신
+            shardMap.runOnBucket(bucket.id(),
+                () -> upsertPending(bucket, objectKey, fileSize, nodeId, storagePath, uploadId));
+        } finally {
+            objectLocationCache.evict(bucket.id(), objectKey);
+        }
+    }
+
+    private void upsertPending(BucketMetadata bucket, String objectKey, long fileSize,
+        String nodeId, String storagePath, String uploadId) {
+        Optional<StoredObject> existing = ReadRouting.onPrimary(
+            () -> storedObjectRepository.findByBucketIdAndObjectKey(bucket.id(), objectKey));
+
+        if (existing.isEmpty()) {
+            StoredObject storedObject = StoredObject.builder()
+                .bucket(bucketRepository.getReferenceById(bucket.id()))
+                .objectKey(objectKey)
+                .storagePath(storagePath)
+                .size(fileSize)
+                .status(ObjectStatus.PENDING)
+                .build();
+            storedObject.planUpload(uploadId, nodeId, fileSize);
+            storedObjectRepository.save(storedObject);
+            return;
+        }
+
+        StoredObject storedObject = existing.get();
+        if (storedObject.getStatus() == ObjectStatus.DELETING) {
+            // 삭제가 끝나기 전에 같은 경로에 업로드하면 새 파일이 삭제될 수 있음
+            throw new ObjectDeletingException(bucket.name(), objectKey);
+        }
+        if (storedObject.getStatus() != ObjectStatus.COMPLETE) {
+            storedObject.markPending(storagePath, fileSize);
+            storedObject.planUpload(uploadId, nodeId, fileSize);
+            storedObjectRepository.save(storedObject);
+            return;
+        }
+
+        // 파일이 덮어써지므로 중복 조회 대상에서 먼저 제외 (이미 참조하는 객체가 있으면 파일을 옮긴 뒤 재시도)
+        if (storedObject.getContentHash() != null
+            && storedObjectRepository.releaseContent(storedObject.getId()) == 0) {
+            throw new ObjectInUseException(bucket.name(), objectKey);
+        }
+        if (uploadId != null || storedObject.getUploadId() != null) {
+            storedObjectRepository.planUpload(storedObject.getId(), uploadId,
+                uploadId == null ? null : nodeId, uploadId == null ? null : fileSize);
+        }
+    }
+
+    /**
+     * uploadId 로 기록된 multipart 업로드 계획의 part 를 받는 node ID
+     * <p>
+     * 계획이 없거나(업로드 완료 / 실패 / 만료 삭제 중, 같은 key 에 다른 업로드 URL 발급) uploadId 가 다르면
+     * MultipartUploadNotFoundException, 계획과 크기가 다르면 IllegalArgumentException 을 던집니다.
+     * (새 객체는 PENDING, 덮어쓰기 중인 객체는 완료될 때까지 COMPLETE 상태로 계획이 기록되어 있음)
+     * <p>
+     * 덮어쓰기 중인 객체에 content hash 가 남아있으면 complete URL 을 발급하기 전에 중복 조회 대상에서 제외하고,
+     * 이미 참조하는 객체가 있으면 ObjectInUseException 을 던집니다. (호출하는 쪽에서 파일을 옮긴 뒤 재시도)
+     */
+    public String findMultipartNodeId(String bucketName, String objectKey, String uploadId,
+        long fileSize) {
+        BucketMetadata bucket = getWritableBucket(bucketName);
+        MultipartUpload upload = shardMap.onBucket(bucket.id(), () -> ReadRouting.onPrimary(
+                () -> storedObjectRepository.findMultipartUpload(bucket.id(), objectKey)))
+            .filter(found -> found.status() != ObjectStatus.FAILED
+                && found.status() != ObjectStatus.DELETING)
+            .filter(found -> uploadId.equalsIgnoreCase(found.uploadId()))
+            .orElseThrow(
+                () -> new MultipartUploadNotFoundException(bucketName, objectKey, uploadId));
+
+        if (upload.size() == null || upload.size() != fileSize) {
+            throw new IllegalArgumentException("fileSize가 업로드 계획과 다릅니다.");
+        }
+        if (upload.status() == ObjectStatus.COMPLETE && upload.contentHash() != null) {
+            shardMap.checkWritable(bucket.id());
+            if (shardMap.onBucket(bucket.id(),
+                () -> storedObjectRepository.releaseContent(upload.id())) == 0) {
+                throw new ObjectInUseException(bucketName, objectKey);
+            }
+            objectLocationCache.evict(bucket.id(), objectKey);
+        }
+        return upload.nodeId();
+    }
+
+    /**
+     * 다른 객체가 참조하는 COMPLETE 객체이면, 원본 파일과 파일을 넘겨받을 참조 객체 하나를 반환합니다.
+     * 참조 수만 남고 참조 객체가 없으면 참조 수를 정리하고 empty 를 반환합니다. (바로 덮어쓸 수 있음)
+     */
+    public Optional<ReferencedContent> findReferencedContent(String bucketName, String objectKey) {
+        BucketMetadata bucket = getWritableBucket(bucketName);
+        shardMap.checkWritable(bucket.id());
+        return shardMap.onBucket(bucket.id(), () -> transactionTemplate.execute(status -> {
+            StoredObject source = storedObjectRepository
+                .findByBucketIdAndObjectKey(bucket.id(), objectKey)
+                .filter(found -> found.getStatus() == ObjectStatus.COMPLETE
+                    && found.getSourceId() == null && found.getRefCount() > 0)
+                .orElse(null);
+            if (source == null) {
+                return Optional.<ReferencedContent>empty();
+            }
+
+            StoredObject reference = storedObjectRepository
+                .findFirstBySourceIdOrderByIdAsc(source.getId())
+                .orElse(null);
+            if (reference == null) {
+                storedObjectRepository.clearReferences(source.getId());
+                return Optional.<ReferencedContent>empty();
+            }
+            return Optional.of(new ReferencedContent(source.getId(), source.getStoragePath(),
+                source.getSize(), source.getContentHash(), reference.getId(),
+                reference.getObjectKey()));
+        }));
+    }
+
+    /**
+     * 참조 객체의 key 로 연결된 파일(nodeId)을 그 객체의 파일로 기록하고, 원본의 나머지 참조 객체도 그 객체를 참조하도록
+     * 옮긴 뒤 원본의 참조 수를 정리합니다. 저장 위치가 바뀐 객체 key 를 반환합니다.
+     * <p>
+     * - 원본 행을 먼저 갱신(content hash 제거)하여, 동시에 원본을 참조하려는 요청은 이 트랜잭션이 끝난 뒤 참조에 실패합니다.
+     * - 조회 이후 참조 객체가 다른 원본을 참조하게 되었거나 삭제되었으면 ObjectInUseException 으로 재시도를 요청합니다.
+     */
+    public List<String> moveReferencedContent(String bucketName, ReferencedContent content,
+        String nodeId) {
+        BucketMetadata bucket = getWritableBucket(bucketName);
+        shardMap.checkWritable(bucket.id());
+        String storagePath = StoragePath.of(nodeId, bucketName, content.referenceKey());
+
+        List<String> movedKeys = shardMap.onBucket(bucket.id(),
+            () -> transactionTemplate.execute(status -> {
+                storedObjectRepository.clearReferences(content.sourceId());
+                List<String> keys = new ArrayList<>(
+                    storedObjectRepository.findReferenceKeys(content.sourceId()));
+                int moved = storedObjectRepository.moveReferences(content.sourceId(),
+                    content.referenceId(), storagePath);
+                if (storedObjectRepository.takeOverContent(content.referenceId(),
+                    content.sourceId(), storagePath, content.contentHash(), moved) == 0) {
+                    throw new ObjectInUseException(bucketName, content.referenceKey());
+                }
+                replicaTracker.track(List.of(new ReplicatedObject(bucket.id(), bucketName,
+                    content.referenceKey(), nodeId)), LocalDateTime.now());
+                return keys;
+            }));
+
+        movedKeys.forEach(key -> objectLocationCache.evict(bucket.id(), key));
+        return movedKeys;
+    }
+
+    /**
+     * 같은 bucket 에 같은 내용(content hash / 크기)의 COMPLETE 객체가 있으면, 업로드 없이 그 파일을 참조하는
+     * COMPLETE 객체로 기록하고 true 를 반환합니다. (원본 객체의 ref_count 증가)
+     * <p>
+     * - 원본 조회는 IDX_BUCKET_CONTENT_HASH 조회 한 번이며, completedBefore 이후에 완료된 객체는 제외합니다.
+     * - 자기 파일을 가진 COMPLETE 객체는 덮어쓰기 업로드로 처리하도록 false 를 반환합니다. (기존 파일이 남지 않도록)
+     * - 이미 같은 내용이 저장된 key 는 변경 없이 true 를 반환합니다.
+     */
+    public boolean storeDuplicate(String bucketName, String objectKey, long fileSize,
+        String contentHash, LocalDateTime completedBefore) {
+        BucketMetadata bucket = getWritableBucket(bucketName);
+        shardMap.checkWritable(bucket.id());
+
+        UsageDelta delta;
+        try {
+            delta = shardMap.onBucket(bucket.id(), () -> transactionTemplate.execute(
+                status -> refer(bucket, objectKey, fileSize, contentHash, completedBefore)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 key 에 대한 동시 발급으로 insert 가 충돌한 경우, 일반 업로드로 처리
+            return false;
+        } finally {
+            objectLocationCache.evict(bucket.id(), objectKey);
+        }
+
+        if (delta == null) {
+            return false;
+        }
+        if (delta.objects() != 0 || delta.bytes() != 0) {
+            bucketUsageRecorder.record(bucket.id(), delta.objects(), delta.bytes());
+        }
+        return true;
+    }
+
+    /**
+     * 참조 객체로 기록하고 bucket 사용량 변화를 반환합니다. 참조하지 않으면 null
+     */
+    private UsageDelta refer(BucketMetadata bucket, String objectKey, long fileSize, String contentHash,
+        LocalDateTime completedBefore) {
+        List<StoredObject> sources = storedObjectRepository.findContentSources(bucket.id(),
+            contentHash, completedBefore, Limit.of(1));
+        if (sources.isEmpty() || !Long.valueOf(fileSize).equals(sources.get(0).getSize())) {
+            return null;
+        }
+        StoredObject source = sources.get(0);
+        if (source.getObjectKey().equals(objectKey)) {
+            return UsageDelta.NONE;
+        }
+
+        StoredObject storedObject = storedObjectRepository
+            .findByBucketIdAndObjectKey(bucket.id(), objectKey)
+            .orElse(null);
+        if (storedObject != null && storedObject.getStatus() == ObjectStatus.DELETING) {
+            return null; // 업로드 요청으로 처리 (삭제가 끝난 뒤 재시도)
+        }
+        boolean wasComplete = storedObject != null
+            && storedObject.getStatus() == ObjectStatus.COMPLETE;
+        if (wasComplete && storedObject.getSourceId() == null) {
+            return null;
+        }
+        if (wasComplete && storedObject.getSourceId().equals(source.getId())) {
+            return UsageDelta.NONE;
+        }
+
+        if (storedObjectRepository.addReference(source.getId(), contentHash) == 0) {
+            return null; // 조회 이후 원본이 덮어쓰기 / 만료 대상이 됨
+        }
+
+        long previousSize = 0;
+        if (storedObject == null) {
+            storedObject = StoredObject.builder()
+                .bucket(bucketRepository.getReferenceById(bucket.id()))
+                .objectKey(objectKey)
+                .build();
+        } else if (wasComplete) {
+            // 다른 원본을 참조하던 객체
+            previousSize = storedObject.getSize() == null ? 0 : storedObject.getSize();
+            storedObjectRepository.removeReference(storedObject.getSourceId());
+        }
+        storedObject.referTo(source);
+        storedObjectRepository.save(storedObject);
+        return new UsageDelta(wasComplete ? 0 : 1, fileSize - previousSize);
+    }
+
+    private BucketMetadata getBucket(String bucketName) {
+        BucketMetadata bucket = bucketRepository.findMetadataByName(bucketName)
+            .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+        if (bucket.deleting()) {
+            throw new IllegalArgumentException("Bucket is being deleted");
+        }
+        return bucket;
+    }
+
+    /**
+     * 업로드 / 참조 기록 전 bucket 확인. 삭제 중 표시는 캐시를 거치지 않고 primary 에서 다시 확인합니다.
+     * (다른 인스턴스가 정리를 시작한 뒤에도 캐시 TTL 동안 정리 중인 bucket 에 객체가 기록되지 않도록)
+     */
+    private BucketMetadata getWritableBucket(String bucketName) {
+        BucketMetadata bucket = getBucket(bucketName);
+        boolean deleting = ReadRouting.onPrimary(
+                () -> bucketRepository.findDeletingById(bucket.id()))
+            .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+        if (deleting) {
+            throw new IllegalArgumentException("Bucket is being deleted");
+        }
+        return bucket;
+    }
+
+    private record UsageDelta(long objects, long bytes) {
+
+        static final UsageDelta NONE = new UsageDelta(0, 0);
+    }
+}
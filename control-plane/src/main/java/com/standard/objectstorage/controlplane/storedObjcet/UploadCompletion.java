@@ -0,0 +1,26 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * write-behind 큐에 쌓이는 업로드 완료 / 실패 기록
+ * <p>
+ * acknowledged 는 해당 기록이 포함된 batch 가 commit 된 후 완료됩니다.
+ */
+record UploadCompletion(
+    long bucketId,
+    String bucket,
+    String objectKey,
+    String storagePath,
+    Long size,
+    String etag,
+    ObjectStatus status,
+    CompletableFuture<Void> acknowledged
+) {
+
+    UploadCompletion {
+        if (status != ObjectStatus.COMPLETE && status != ObjectStatus.FAILED) {
+            throw new IllegalArgumentException("status는 COMPLETE 또는 FAILED 이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.storedObjcet.dto.UploadCompletionRequest;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.UploadCompletionResponse;
+import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * storage node 전용 내부 API
+ */
+@RestController
+@RequestMapping("/internal/objects")
+public class UploadCompletionController {
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final UploadCompletionService uploadCompletionService;
+    private final byte[] internalToken;
+
+    public UploadCompletionController(
+        UploadCompletionService uploadCompletionService,
+        @Value("${INTERNAL_API_TOKEN:}") String internalToken
+    ) {
+        this.uploadCompletionService = uploadCompletionService;
+        this.internalToken = internalToken.isBlank()
+            ? null
+            : internalToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 업로드 완료 / 실패를 보고합니다.
+     * 응답(200)은 보고가 TB_OBJECTS 에 commit 된 후 전송되므로, 응답을 받지 못하면 storage node 는 같은 보고를 재전송합니다.
+     */
+    @PostMapping("/completions")
+    public CompletableFuture<ResponseEntity<UploadCompletionResponse>> reportCompletions(
+        @RequestHeader(name = INTERNAL_TOKEN_HEADER, required = false) String token,
+        @Valid @RequestBody UploadCompletionRequest request
+    ) {
+        if (!isAuthorized(token)) {
+            return CompletableFuture.completedFuture(
+                ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return uploadCompletionService.report(request.getEvents())
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @ExceptionHandler(UploadCompletionQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleQueueFull(
+        UploadCompletionQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+            .body(Map.of("error", ex.getMessage()));
+    }
+
+    private boolean isAuthorized(String token) {
+        if (internalToken == null) {
+            return true;
+        }
+        return token != null
+            && MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
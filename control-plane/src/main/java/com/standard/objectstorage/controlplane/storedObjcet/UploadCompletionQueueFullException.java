@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+/**
+ * write-behind 큐가 가득 차 업로드 완료 보고를 받을 수 없는 경우 (storage node 는 잠시 후 재시도)
+ */
+public class UploadCompletionQueueFullException extends RuntimeException {
+
+    public UploadCompletionQueueFullException() {
+        super("업로드 완료 기록 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
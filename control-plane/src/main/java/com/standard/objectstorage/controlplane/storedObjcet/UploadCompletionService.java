@@ -0,0 +1,79 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.UploadCompletionEvent;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.UploadCompletionRejection;
+import com.standard.objectstorage.controlplane.storedObjcet.dto.UploadCompletionResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UploadCompletionService {
+
+    private final BucketRepository bucketRepository;
+    private final UploadCompletionWriter uploadCompletionWriter;
+
+    /**
+     * storage node 의 업로드 완료 / 실패 보고를 write-behind 큐에 추가합니다.
+     * 반환된 future 는 모든 보고가 TB_OBJECTS 에 commit 된 후 완료됩니다.
+     */
+    public CompletableFuture<UploadCompletionResponse> report(List<UploadCompletionEvent> events) {
+        List<UploadCompletionRejection> rejected = new ArrayList<>();
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(events.size());
+        // 삭제 중 표시는 캐시를 거치지 않고 요청마다 bucket 당 한 번 primary 에서 확인
+        // (다른 인스턴스가 정리를 시작한 뒤 캐시 TTL 동안 완료가 기록되어 purge 이후에 객체가 남지 않도록)
+        Map<Long, Boolean> deletingByBucketId = new HashMap<>();
+
+        for (int index = 0; index < events.size(); index++) {
+            UploadCompletionEvent event = events.get(index);
+
+            Optional<BucketMetadata> bucket = bucketRepository.findMetadataByName(event.getBucket());
+            if (bucket.isEmpty()) {
+                rejected.add(new UploadCompletionRejection(index, "Bucket not found"));
+                continue;
+            }
+            if (bucket.get().deleting()
+                || deletingByBucketId.computeIfAbsent(bucket.get().id(), this::isDeleting)) {
+                // 정리 중인 bucket 의 파일은 purge 작업이 삭제
+                rejected.add(new UploadCompletionRejection(index, "Bucket is being deleted"));
+                continue;
+            }
+            if (event.getStatus() == ObjectStatus.PENDING) {
+                rejected.add(new UploadCompletionRejection(index, "status는 COMPLETE 또는 FAILED 이어야 합니다."));
+                continue;
+            }
+
+            CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+            uploadCompletionWriter.submit(new UploadCompletion(
+                bucket.get().id(),
+                event.getBucket(),
+                event.getObjectKey(),
+                StoragePath.of(event.getNodeId(), event.getBucket(), event.getObjectKey()),
+                event.getSize(),
+                event.getEtag(),
+                event.getStatus(),
+                acknowledged
+            ));
+            acknowledgements.add(acknowledged);
+        }
+
+        int accepted = acknowledgements.size();
+        return CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+            .thenApply(done -> new UploadCompletionResponse(accepted, rejected));
+    }
+
+    // 캐시 이후 삭제된 bucket 도 정리 중과 같이 거절
+    private boolean isDeleting(Long bucketId) {
+        return ReadRouting.onPrimary(() -> bucketRepository.findDeletingById(bucketId))
+            .orElse(true);
+    }
+}
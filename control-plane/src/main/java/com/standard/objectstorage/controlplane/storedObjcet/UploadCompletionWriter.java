@@ -0,0 +1,438 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import com.standard.objectstorage.controlplane.replication.ReplicaTracker;
+import com.standard.objectstorage.controlplane.replication.ReplicatedObject;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.shard.ShardMigratingException;
+import com.standard.objectstorage.controlplane.shard.ShardRouting;
+import com.standard.objectstorage.controlplane.storage.PresignedGetUrlCache;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import com.standard.objectstorage.controlplane.utils.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업로드 완료 / 실패 기록을 모아서 TB_OBJECTS 에 batch upsert 하는 write-behind writer
+ * <p>
+ * - 보고는 bounded 큐에 쌓이고, 전용 스레드가 batchSize 개가 모이거나 lingerMillis 가 지나면 한 트랜잭션으로 기록합니다.
+ *   (rewriteBatchedStatements=true 에서 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 전송)
+ * - 큐가 가득 차면 보고를 받지 않고 UploadCompletionQueueFullException 으로 storage node 에 재시도를 요청합니다.
+ * - 각 보고의 acknowledged 는 commit 이후에만 완료되므로, 응답을 받지 못한 보고는 storage node 가 다시 보냅니다.
+ *   upsert 는 멱등하여 같은 보고가 여러 번 기록되어도 결과가 같습니다.
+ * - 같은 트랜잭션에서 기록 전 상태를 조회하여, 새로 COMPLETE 가 된 객체 / 덮어쓰기로 바뀐 크기를 bucket 사용량에 더합니다.
+ * - COMPLETE 객체의 복제본 위치도 같은 트랜잭션에서 TB_OBJECT_REPLICAS 에 다시 기록합니다.
+ * - 완료 보고의 etag(storage node 가 계산한 SHA-256)를 content hash 로 기록하여 중복 조회 대상으로 만들고,
+ *   다른 객체의 파일을 참조하던 객체가 덮어쓰기 업로드로 자기 파일을 갖게 되면 원본 객체의 ref_count 를 줄입니다.
+ * - batch 는 bucket 이 배치된 shard 별로 나누어 shard 마다 한 트랜잭션으로 기록하고,
+ *   분할 중(FROZEN)인 bucket 의 보고는 ShardMigratingException 으로 재시도를 요청합니다.
+ */
+@Component
+public class UploadCompletionWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadCompletionWriter.class);
+
+    // COMPLETE : 덮어쓰기 업로드 포함, 항상 최신 업로드 결과로 갱신 (참조하던 원본 파일 대신 자기 파일)
+    // 완료된 multipart 계획은 지워서 같은 uploadId 로 part URL 을 더 발급하지 않음
+    private static final String UPSERT_COMPLETE_SQL = """
+        insert into tb_objects
+            (id, bucket_id, object_key, storage_path, size, etag, content_hash, status,
+             created_at, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, 'COMPLETE', ?, ?)
+        on duplicate key update
+            storage_path = values(storage_path),
+            size = values(size),
+            etag = values(etag),
+            content_hash = values(content_hash),
+            source_id = null,
+            upload_id = null,
+            upload_node_id = null,
+            upload_size = null,
+            status = values(status),
+            updated_at = values(updated_at)
+        """;
+
+    // FAILED : 이미 COMPLETE 인 객체(덮어쓰기 업로드 실패) / 만료 삭제 중인 객체는 기존 상태 유지
+    // (MySQL 은 할당을 왼쪽부터 적용하므로 status 는 마지막에 갱신)
+    private static final String UPSERT_FAILED_SQL = """
+        insert into tb_objects
+            (id, bucket_id, object_key, storage_path, size, etag, content_hash, status,
+             created_at, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, 'FAILED', ?, ?)
+        on duplicate key update
+            updated_at = if(status in ('COMPLETE', 'DELETING'), updated_at, values(updated_at)),
+            status = if(status in ('COMPLETE', 'DELETING'), status, values(status))
+        """;
+
+    private static final String REMOVE_REFERENCE_SQL = """
+        update tb_objects
+        set ref_count = ref_count - 1
+        where id = ?
+          and ref_count > 0
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectLocationCache objectLocationCache;
+    private final PresignedGetUrlCache presignedGetUrlCache;
+    private final ShardMap shardMap;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final ReplicaTracker replicaTracker;
+    private final BlockingQueue<UploadCompletion> queue;
+    private final Thread flusher;
+
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Timer flushTimer;
+    private final Counter writtenRows;
+    private final Counter rejectedReports;
+    private final Counter failedFlushes;
+
+    private volatile boolean running = true;
+
+    public UploadCompletionWriter(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ObjectLocationCache objectLocationCache,
+        PresignedGetUrlCache presignedGetUrlCache,
+        ShardMap shardMap,
+        BucketUsageRecorder bucketUsageRecorder,
+        ReplicaTracker replicaTracker,
+        MeterRegistry meterRegistry,
+        @Value("${UPLOAD_COMPLETION_QUEUE_CAPACITY:10000}") int queueCapacity,
+        @Value("${UPLOAD_COMPLETION_BATCH_SIZE:500}") int batchSize,
+        @Value("${UPLOAD_COMPLETION_LINGER_MS:50}") long lingerMillis,
+        @Value("${UPLOAD_COMPLETION_OFFER_TIMEOUT_MS:100}") long offerTimeoutMillis,
+        @Value("${UPLOAD_COMPLETION_MAX_ATTEMPTS:3}") int maxAttempts,
+        @Value("${UPLOAD_COMPLETION_RETRY_BACKOFF_MS:200}") long retryBackoffMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectLocationCache = objectLocationCache;
+        this.presignedGetUrlCache = presignedGetUrlCache;
+        this.shardMap = shardMap;
+        this.bucketUsageRecorder = bucketUsageRecorder;
+        this.replicaTracker = replicaTracker;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.flushTimer = Timer.builder("upload.completion.flush")
+            .description("업로드 완료 기록 batch 쓰기 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.writtenRows = Counter.builder("upload.completion.written")
+            .description("TB_OBJECTS 에 기록된 업로드 완료 / 실패 수")
+            .register(meterRegistry);
+        this.rejectedReports = Counter.builder("upload.completion.rejected")
+            .description("큐가 가득 차 거절된 업로드 완료 보고 수")
+            .register(meterRegistry);
+        this.failedFlushes = Counter.builder("upload.completion.flush.failed")
+            .description("재시도 후에도 실패한 batch 수")
+            .register(meterRegistry);
+        Gauge.builder("upload.completion.queue", queue, BlockingQueue::size)
+            .description("기록 대기 중인 업로드 완료 보고 수")
+            .register(meterRegistry);
+
+        this.flusher = new Thread(this::run, "upload-completion-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 큐에 추가합니다. 큐가 offerTimeoutMillis 동안 비지 않으면 UploadCompletionQueueFullException 을 던집니다.
+     */
+    public void submit(UploadCompletion completion) {
+        if (!running) {
+            throw new UploadCompletionQueueFullException();
+        }
+
+        boolean offered;
+        try {
+            offered = queue.offer(completion, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            rejectedReports.increment();
+            throw new UploadCompletionQueueFullException();
+        }
+    }
+
+    private void run() {
+        List<UploadCompletion> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 남은 보고를 기록한 뒤 종료
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 보고가 도착한 뒤 batchSize 개가 모이거나 lingerNanos 가 지날 때까지 모읍니다.
+     */
+    private void collect(List<UploadCompletion> batch) throws InterruptedException {
+        UploadCompletion first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+
+            UploadCompletion next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<UploadCompletion> batch) {
+        Map<Integer, List<UploadCompletion>> byShard = new LinkedHashMap<>();
+        for (UploadCompletion completion : batch) {
+            if (shardMap.isFrozen(completion.bucketId())) {
+                completion.acknowledged()
+                    .completeExceptionally(new ShardMigratingException(completion.bucketId()));
+                continue;
+            }
+            byShard.computeIfAbsent(shardMap.shardOf(completion.bucketId()),
+                shard -> new ArrayList<>()).add(completion);
+        }
+        byShard.forEach(this::flush);
+    }
+
+    private void flush(int shard, List<UploadCompletion> batch) {
+        // 같은 객체에 대한 보고는 마지막 것만 기록 (이전 보고도 같은 commit 으로 응답)
+        Collection<UploadCompletion> latest = coalesce(batch);
+
+        List<UploadCompletion> completes = new ArrayList<>();
+        List<UploadCompletion> failures = new ArrayList<>();
+        for (UploadCompletion completion : latest) {
+            (completion.status() == ObjectStatus.COMPLETE ? completes : failures).add(completion);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Map<ObjectId, ObjectLocation> previous =
+                    flushTimer.record(() -> ShardRouting.on(shard,
+                        () -> transactionTemplate.execute(status -> {
+                            List<byte[]> sources = new ArrayList<>();
+                            Map<ObjectId, ObjectLocation> before = findCurrent(completes, sources);
+                            LocalDateTime now = LocalDateTime.now();
+                            upsert(UPSERT_COMPLETE_SQL, completes, now);
+                            upsert(UPSERT_FAILED_SQL, failures, now);
+                            removeReferences(sources);
+                            replicaTracker.track(replicated(completes), now);
+                            return before;
+                        })));
+                writtenRows.increment(latest.size());
+                recordUsage(completes, previous);
+                // 응답 전에 무효화하여, 완료 응답 이후의 GET 발급은 항상 새 상태를 조회
+                latest.forEach(completion -> {
+                    objectLocationCache.evict(completion.bucketId(), completion.objectKey());
+                    presignedGetUrlCache.evict(completion.bucket(), completion.objectKey());
+                });
+                batch.forEach(completion -> completion.acknowledged().complete(null));
+                return;
+
+            } catch (DataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    failedFlushes.increment();
+                    log.error("업로드 완료 기록 실패 - batch: {}, attempts: {}", batch.size(), attempt, e);
+                    batch.forEach(completion -> completion.acknowledged().completeExceptionally(e));
+                    return;
+                }
+                log.warn("업로드 완료 기록 재시도 - batch: {}, attempt: {}", batch.size(), attempt, e);
+                sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+
+    /**
+     * 기록 전 상태 (multi-column IN 으로 UK_BUCKET_OBJECT_KEY 조회 한 번)
+     * 다른 객체의 파일을 참조하던 객체는 원본 객체 id 를 sources 에 추가합니다.
+     */
+    private Map<ObjectId, ObjectLocation> findCurrent(List<UploadCompletion> completions,
+        List<byte[]> sources) {
+        Map<ObjectId, ObjectLocation> current = new HashMap<>();
+        if (completions.isEmpty()) {
+            return current;
+        }
+
+        StringBuilder sql = new StringBuilder(
+            "select bucket_id, object_key, status, size, storage_path, updated_at, source_id"
+                + " from tb_objects where (bucket_id, object_key) in (");
+        Object[] args = new Object[completions.size() * 2];
+        for (int i = 0; i < completions.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args[i * 2] = completions.get(i).bucketId();
+            args[i * 2 + 1] = completions.get(i).objectKey();
+        }
+        sql.append(')');
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            long size = rs.getLong("size");
+            Long recordedSize = rs.wasNull() ? null : size;
+            current.put(new ObjectId(rs.getLong("bucket_id"), rs.getString("object_key")),
+                new ObjectLocation(ObjectStatus.valueOf(rs.getString("status")), recordedSize,
+                    rs.getString("storage_path"),
+                    rs.getObject("updated_at", LocalDateTime.class)));
+            byte[] sourceId = rs.getBytes("source_id");
+            if (sourceId != null) {
+                sources.add(sourceId);
+            }
+        }, args);
+        return current;
+    }
+
+    private void removeReferences(List<byte[]> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(sources.size());
+        for (byte[] sourceId : sources) {
+            args.add(new Object[]{sourceId});
+        }
+        jdbcTemplate.batchUpdate(REMOVE_REFERENCE_SQL, args);
+    }
+
+    /**
+     * 새로 COMPLETE 가 된 객체는 개수 / 크기를, 덮어쓴 객체는 크기 차이만 더합니다.
+     * (다른 인스턴스와 같은 객체를 동시에 기록하는 경우의 오차는 BucketUsageReconciler 가 보정)
+     */
+    private void recordUsage(List<UploadCompletion> completes,
+        Map<ObjectId, ObjectLocation> previous) {
+        for (UploadCompletion completion : completes) {
+            ObjectLocation before = previous.get(
+                new ObjectId(completion.bucketId(), completion.objectKey()));
+            long size = completion.size() == null ? 0 : completion.size();
+
+            if (before != null && before.status() == ObjectStatus.COMPLETE) {
+                long beforeSize = before.size() == null ? 0 : before.size();
+                bucketUsageRecorder.record(completion.bucketId(), 0, size - beforeSize);
+            } else {
+                bucketUsageRecorder.record(completion.bucketId(), 1, size);
+            }
+        }
+    }
+
+    private static List<ReplicatedObject> replicated(List<UploadCompletion> completes) {
+        List<ReplicatedObject> objects = new ArrayList<>(completes.size());
+        for (UploadCompletion completion : completes) {
+            objects.add(new ReplicatedObject(completion.bucketId(), completion.bucket(),
+                completion.objectKey(), StoragePath.nodeIdOf(completion.storagePath())));
+        }
+        return objects;
+    }
+
+    private void upsert(String sql, List<UploadCompletion> completions, LocalDateTime now) {
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                UploadCompletion completion = completions.get(i);
+                ps.setBytes(1, UuidV7.toBytes(UuidV7.next()));
+                ps.setLong(2, completion.bucketId());
+                ps.setString(3, completion.objectKey());
+                ps.setString(4, completion.storagePath());
+                if (completion.size() == null) {
+                    ps.setNull(5, Types.BIGINT);
+                } else {
+                    ps.setLong(5, completion.size());
+                }
+                ps.setString(6, completion.etag());
+                ps.setString(7, completion.status() == ObjectStatus.COMPLETE
+                    ? ContentHash.of(completion.etag())
+                    : null);
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return completions.size();
+            }
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 새 보고를 받지 않고, 큐에 남은 보고를 모두 기록한 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private static Collection<UploadCompletion> coalesce(List<UploadCompletion> batch) {
+        Map<ObjectId, UploadCompletion> latest = new LinkedHashMap<>();
+        for (UploadCompletion completion : batch) {
+            latest.put(new ObjectId(completion.bucketId(), completion.objectKey()), completion);
+        }
+        return latest.values();
+    }
+
+    private record ObjectId(long bucketId, String objectKey) {
+
+    }
+}
@@ -0,0 +1,25 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ListObjectsResponse {
+
+    private String bucket;
+    private String prefix;
+    private String delimiter;
+    private int maxKeys;
+
+    // contents + commonPrefixes 개수
+    private int keyCount;
+    private boolean truncated;
+
+    // 다음 페이지 조회용 token (truncated = false 이면 null)
+    private String nextContinuationToken;
+
+    private List<ObjectSummaryResponse> contents;
+    private List<String> commonPrefixes;
+}
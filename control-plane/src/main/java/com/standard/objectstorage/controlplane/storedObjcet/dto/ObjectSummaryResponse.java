@@ -0,0 +1,15 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor // JPQL 생성자 projection 에서 사용
+public class ObjectSummaryResponse {
+
+    private String key;
+    private Long size;
+    private String etag;
+    private LocalDateTime lastModified;
+}
@@ -0,0 +1,30 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+@Getter
+public class UploadCompletionEvent {
+
+    @NotBlank(message = "bucket이 누락되었습니다.")
+    private String bucket;
+
+    @NotBlank(message = "objectKey가 누락되었습니다.")
+    private String objectKey;
+
+    // 업로드를 처리한 storage node ID (TB_STORAGE_NODES.name)
+    @NotBlank(message = "nodeId가 누락되었습니다.")
+    private String nodeId;
+
+    @Min(value = 0, message = "size는 0 이상이어야 합니다.")
+    private Long size;
+
+    private String etag;
+
+    // COMPLETE : 업로드 완료, FAILED : 업로드 실패
+    @NotNull(message = "status가 누락되었습니다.")
+    private ObjectStatus status;
+}
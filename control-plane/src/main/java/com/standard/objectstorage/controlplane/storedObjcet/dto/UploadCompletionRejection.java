@@ -0,0 +1,13 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UploadCompletionRejection {
+
+    // 요청 events 에서의 위치
+    private int index;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class UploadCompletionRequest {
+
+    public static final int MAX_EVENTS = 1_000;
+
+    @NotEmpty(message = "events가 누락되었습니다.")
+    @Size(max = MAX_EVENTS, message = "한 번에 최대 1000개까지 보고할 수 있습니다.")
+    private List<@Valid UploadCompletionEvent> events;
+}
@@ -0,0 +1,16 @@
+package com.standard.objectstorage.controlplane.storedObjcet.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UploadCompletionResponse {
+
+    // TB_OBJECTS 에 기록(commit)된 이벤트 수
+    private int accepted;
+
+    // 재시도해도 성공할 수 없는 이벤트 (존재하지 않는 bucket 등)
+    private List<UploadCompletionRejection> rejected;
+}
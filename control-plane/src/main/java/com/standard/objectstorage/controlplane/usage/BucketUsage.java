@@ -0,0 +1,56 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * bucket 별 COMPLETE 객체 수 / 전체 크기
+ * <p>
+ * 업로드 완료 / 삭제 시 BucketUsageRecorder 가 증감분(delta) 만 update 하고,
+ * BucketUsageReconciler 가 주기적으로 TB_OBJECTS 기준으로 다시 계산하여 보정합니다.
+ */
+@Entity
+@Table(name = "TB_BUCKET_USAGE")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BucketUsage {
+
+    @Id
+    @Column(name = "bucket_id")
+    private Long bucketId;
+
+    @Column(nullable = false)
+    private long objectCount;
+
+    @Column(nullable = false)
+    private long totalBytes;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 마지막으로 TB_OBJECTS 기준으로 다시 계산한 시각
+    @Column
+    private LocalDateTime reconciledAt;
+
+    public static BucketUsage empty(Long bucketId) {
+        BucketUsage usage = new BucketUsage();
+        usage.bucketId = bucketId;
+        return usage;
+    }
+
+    public void markReconciled() {
+        this.reconciledAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
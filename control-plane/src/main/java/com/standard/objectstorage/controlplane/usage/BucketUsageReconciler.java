@@ -0,0 +1,154 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * TB_OBJECTS 기준으로 bucket 사용량을 다시 계산하여 TB_BUCKET_USAGE 를 보정합니다.
+ * <p>
+ * - 한 번에 BATCH_SIZE 개 bucket 씩 id 순서로 순회하고, 끝까지 돌면 처음부터 다시 시작합니다.
+ * - bucket 별로 짧은 트랜잭션에서 사용량 행을 잠그고 (bucket_id, object_key) 범위만 집계합니다.
+ * - 이 인스턴스에서 아직 반영하지 않은 증감분은 이미 집계에 포함되어 있으므로 빼고 기록합니다.
+ *   (다른 인스턴스의 미반영 증감분 / 집계 도중 완료된 업로드로 인한 오차는 다음 reconcile 에서 보정)
+ * - bucket 목록은 GLOBAL DB 에서, 집계 / 보정은 bucket 의 shard 에서 실행하며, 분할 중인 bucket 은 건너뜁니다.
+ */
+@Component
+public class BucketUsageReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(BucketUsageReconciler.class);
+
+    // 삭제된 bucket 의 행은 다시 만들지 않음 (TB_BUCKETS 는 GLOBAL DB 에 있으므로 먼저 존재를 확인)
+    private static final String INSERT_IF_ABSENT_SQL = """
+        insert ignore into tb_bucket_usage (bucket_id, object_count, total_bytes, updated_at)
+        values (?, 0, 0, ?)
+        """;
+
+    private static final String LOCK_SQL = """
+        select object_count, total_bytes
+        from tb_bucket_usage
+        where bucket_id = ?
+        for update
+        """;
+
+    private static final String AGGREGATE_SQL = """
+        select count(*), coalesce(sum(size), 0)
+        from tb_objects
+        where bucket_id = ?
+          and status = 'COMPLETE'
+        """;
+
+    private static final String UPDATE_SQL = """
+        update tb_bucket_usage
+        set object_count = ?, total_bytes = ?, updated_at = ?, reconciled_at = ?
+        where bucket_id = ?
+        """;
+
+    private final BucketRepository bucketRepository;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final ShardMap shardMap;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Timer reconcileTimer;
+    private final Counter corrected;
+
+    private long cursor;
+
+    public BucketUsageReconciler(
+        BucketRepository bucketRepository,
+        BucketUsageRecorder bucketUsageRecorder,
+        ShardMap shardMap,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${BUCKET_USAGE_RECONCILE_BATCH_SIZE:100}") int batchSize
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.bucketUsageRecorder = bucketUsageRecorder;
+        this.shardMap = shardMap;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.reconcileTimer = Timer.builder("bucket.usage.reconcile")
+            .description("bucket 한 개의 사용량 재계산 시간")
+            .register(meterRegistry);
+        this.corrected = Counter.builder("bucket.usage.reconcile.corrected")
+            .description("저장된 사용량이 집계와 달라 보정된 bucket 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${BUCKET_USAGE_RECONCILE_INTERVAL_MS:60000}",
+        fixedDelayString = "${BUCKET_USAGE_RECONCILE_INTERVAL_MS:60000}"
+    )
+    public void reconcileNextBatch() {
+        List<Long> bucketIds = bucketRepository.findIdsAfter(cursor, Limit.of(batchSize));
+        if (bucketIds.isEmpty()) {
+            cursor = 0;
+            return;
+        }
+
+        for (Long bucketId : bucketIds) {
+            if (shardMap.isFrozen(bucketId)) {
+                continue;
+            }
+            try {
+                reconcileTimer.record(() -> reconcile(bucketId));
+            } catch (DataAccessException e) {
+                log.warn("bucket 사용량 재계산 실패 - bucketId: {}", bucketId, e);
+            }
+        }
+        cursor = bucketIds.get(bucketIds.size() - 1);
+    }
+
+    public void reconcile(long bucketId) {
+        if (!bucketRepository.existsById(bucketId)) {
+            return;
+        }
+        shardMap.runOnBucket(bucketId, () -> reconcileOnShard(bucketId));
+    }
+
+    private void reconcileOnShard(long bucketId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(INSERT_IF_ABSENT_SQL, bucketId, now);
+
+            // 다른 인스턴스의 flush 가 집계 도중 반영되지 않도록 행을 잠금
+            List<UsageDelta> locked = jdbcTemplate.query(LOCK_SQL,
+                (rs, rowNum) -> new UsageDelta(rs.getLong(1), rs.getLong(2)), bucketId);
+            if (locked.isEmpty()) {
+                return;
+            }
+            UsageDelta stored = locked.get(0);
+            UsageDelta actual = jdbcTemplate.queryForObject(AGGREGATE_SQL,
+                (rs, rowNum) -> new UsageDelta(rs.getLong(1), rs.getLong(2)), bucketId);
+
+            UsageDelta unflushed = bucketUsageRecorder.pending(bucketId);
+            long objectCount = actual.objects() - unflushed.objects();
+            long totalBytes = actual.bytes() - unflushed.bytes();
+
+            if (stored.objects() != objectCount || stored.bytes() != totalBytes) {
+                corrected.increment();
+                log.info("bucket 사용량 보정 - bucketId: {}, objects: {} -> {}, bytes: {} -> {}",
+                    bucketId, stored.objects(), objectCount, stored.bytes(), totalBytes);
+            }
+            jdbcTemplate.update(UPDATE_SQL, objectCount, totalBytes, now, now, bucketId);
+        });
+    }
+}
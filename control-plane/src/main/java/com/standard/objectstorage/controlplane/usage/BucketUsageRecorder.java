@@ -0,0 +1,168 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.shard.ShardRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * bucket 사용량 증감분을 메모리에 모았다가 주기적으로 TB_BUCKET_USAGE 에 delta update 합니다.
+ * <p>
+ * - 요청 / 완료 기록 스레드는 bucket 별 누적 객체에 더하기만 합니다. (map 의 bin lock 안에서 더하므로 짧게 대기할 수 있음)
+ * - flush 는 bucket 별 누적 객체를 map 에서 떼어내(remove) 한 번의 batch update 로 반영하고, 실패하면 다시 더해둡니다.
+ *   떼어낸 뒤의 기록은 새 누적 객체에 쌓이므로 반영 중인 증감분과 섞이거나 유실되지 않고, 기록이 없는 bucket 은
+ *   map 에 남지 않습니다.
+ * - 행이 없는 bucket(삭제됨 / 아직 reconcile 되지 않은 기존 bucket)은 반영되지 않으며, reconcile 에서 보정됩니다.
+ * - 종료 전 반영하지 못한 증감분(비정상 종료)도 reconcile 에서 보정됩니다.
+ * - bucket 이 배치된 shard 별로 batch update 하고, 분할 중(FROZEN)인 bucket 의 증감분은 다음 주기까지 남겨둡니다.
+ */
+@Component
+public class BucketUsageRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(BucketUsageRecorder.class);
+
+    private static final String UPDATE_DELTA_SQL = """
+        update tb_bucket_usage
+        set object_count = object_count + ?,
+            total_bytes = total_bytes + ?,
+            updated_at = ?
+        where bucket_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardMap shardMap;
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final Counter failedFlushes;
+
+    public BucketUsageRecorder(JdbcTemplate jdbcTemplate, ShardMap shardMap,
+        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardMap = shardMap;
+        this.flushTimer = Timer.builder("bucket.usage.flush")
+            .description("bucket 사용량 증감분 반영 시간")
+            .register(meterRegistry);
+        this.failedFlushes = Counter.builder("bucket.usage.flush.failed")
+            .description("반영에 실패하여 다음 주기로 미룬 횟수")
+            .register(meterRegistry);
+        Gauge.builder("bucket.usage.pending.buckets", pending, Map::size)
+            .description("증감분을 추적 중인 bucket 수")
+            .register(meterRegistry);
+    }
+
+    public void record(long bucketId, long objects, long bytes) {
+        if (objects == 0 && bytes == 0) {
+            return;
+        }
+        // flush 의 remove 와 같은 lock 으로 직렬화 : 떼어낸 누적 객체에는 더 이상 더해지지 않음
+        pending.compute(bucketId,
+            (id, counters) -> (counters == null ? new Counters() : counters).add(objects, bytes));
+    }
+
+    /**
+     * 이 인스턴스에서 아직 반영하지 않은 증감분
+     */
+    public UsageDelta pending(long bucketId) {
+        Counters counters = pending.get(bucketId);
+        if (counters == null) {
+            return UsageDelta.ZERO;
+        }
+        return new UsageDelta(counters.objects.sum(), counters.bytes.sum());
+    }
+
+    /**
+     * 삭제된 bucket 의 증감분을 버립니다.
+     */
+    public void forget(long bucketId) {
+        pending.remove(bucketId);
+    }
+
+    @Scheduled(fixedDelayString = "${BUCKET_USAGE_FLUSH_INTERVAL_MS:1000}")
+    public void flush() {
+        // bucket_id 순서로 update 하여 여러 인스턴스의 flush 가 서로 다른 순서로 행을 잠그지 않도록
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        pending.keySet().stream().sorted().forEach(bucketId -> {
+            if (!shardMap.isFrozen(bucketId)) {
+                byShard.computeIfAbsent(shardMap.shardOf(bucketId), shard -> new ArrayList<>())
+                    .add(bucketId);
+            }
+        });
+        byShard.forEach(this::flush);
+    }
+
+    private void flush(int shard, List<Long> sortedBucketIds) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Long> bucketIds = new ArrayList<>();
+        List<UsageDelta> deltas = new ArrayList<>();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Long bucketId : sortedBucketIds) {
+            Counters counters = pending.remove(bucketId);
+            if (counters == null) {
+                continue;
+            }
+            UsageDelta delta = counters.toDelta();
+            if (delta.isZero()) {
+                continue;
+            }
+            bucketIds.add(bucketId);
+            deltas.add(delta);
+            updates.add(new Object[]{delta.objects(), delta.bytes(), now, bucketId});
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> ShardRouting.run(shard,
+                () -> jdbcTemplate.batchUpdate(UPDATE_DELTA_SQL, updates)));
+        } catch (DataAccessException e) {
+            failedFlushes.increment();
+            log.warn("bucket 사용량 반영 실패, 다음 주기에 다시 시도합니다. shard: {}, buckets: {}", shard,
+                updates.size(), e);
+            for (int i = 0; i < bucketIds.size(); i++) {
+                record(bucketIds.get(i), deltas.get(i).objects(), deltas.get(i).bytes());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static final class Counters {
+
+        private final LongAdder objects = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private Counters add(long objects, long bytes) {
+            this.objects.add(objects);
+            this.bytes.add(bytes);
+            return this;
+        }
+
+        private UsageDelta toDelta() {
+            return new UsageDelta(objects.sum(), bytes.sum());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BucketUsageRepository extends JpaRepository<BucketUsage, Long> {
+
+}
@@ -0,0 +1,56 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.usage.dto.BucketUsageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BucketUsageService {
+
+    private final BucketRepository bucketRepository;
+    private final BucketUsageRepository bucketUsageRepository;
+    private final BucketUsageRecorder bucketUsageRecorder;
+    private final ShardMap shardMap;
+
+    /**
+     * 저장된 사용량을 그대로 반환합니다. (TB_OBJECTS 를 조회하지 않음, 최대 flush 주기만큼 늦을 수 있음)
+     */
+    public BucketUsageResponse getUsage(String bucketName) {
+        BucketMetadata bucket = bucketRepository.findMetadataByName(bucketName)
+            .orElseThrow(() -> new IllegalArgumentException("Bucket not found"));
+
+        BucketUsage usage = shardMap.onBucket(bucket.id(),
+                () -> bucketUsageRepository.findById(bucket.id()))
+            .orElseGet(() -> BucketUsage.empty(bucket.id()));
+
+        return BucketUsageResponse.builder()
+            .bucket(bucket.name())
+            .objectCount(usage.getObjectCount())
+            .totalBytes(usage.getTotalBytes())
+            .updatedAt(usage.getUpdatedAt())
+            .reconciledAt(usage.getReconciledAt())
+            .build();
+    }
+
+    /**
+     * 새 bucket 의 사용량 행 (비어있으므로 reconcile 없이도 정확)
+     * shard 분할 중이면 기록하지 않고, 다음 reconcile 이 옮겨진 shard 에 만듭니다.
+     */
+    public void initialize(Long bucketId) {
+        if (shardMap.isFrozen(bucketId)) {
+            return;
+        }
+        BucketUsage usage = BucketUsage.empty(bucketId);
+        usage.markReconciled();
+        shardMap.runOnBucket(bucketId, () -> bucketUsageRepository.save(usage));
+    }
+
+    public void remove(Long bucketId) {
+        shardMap.runOnBucket(bucketId, () -> bucketUsageRepository.deleteById(bucketId));
+        bucketUsageRecorder.forget(bucketId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.standard.objectstorage.controlplane.usage;
+
+/**
+ * 아직 TB_BUCKET_USAGE 에 반영되지 않은 증감분
+ */
+public record UsageDelta(long objects, long bytes) {
+
+    public static final UsageDelta ZERO = new UsageDelta(0, 0);
+
+    public boolean isZero() {
+        return objects == 0 && bytes == 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.standard.objectstorage.controlplane.usage.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BucketUsageResponse {
+
+    private String bucket;
+    private long objectCount;
+    private long totalBytes;
+    private LocalDateTime updatedAt;
+
+    // 한 번도 다시 계산되지 않았으면 null (기존 bucket 은 첫 reconcile 이후부터 정확)
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,11 @@
+package com.standard.objectstorage.controlplane.user;
+
+/**
+ * 캐시되는 user 메타데이터 (변경 불가, 엔티티를 캐시에 두지 않음)
+ */
+public record UserMetadata(
+    Long id,
+    String email
+) {
+
+}
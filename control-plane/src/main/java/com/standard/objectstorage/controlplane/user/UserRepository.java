@@ -1,9 +1,33 @@
 package com.standard.objectstorage.controlplane.user;
 
+import com.standard.objectstorage.controlplane.cache.CacheNames;
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 캐시에는 변경 불가능한 projection 만 저장, 존재하지 않는 id 도 캐시되므로 생성 시 save 에서 무효화
+    // (replica 에서 찾지 못하면 primary 에서 다시 조회)
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#p0")
+    default Optional<UserMetadata> findMetadataById(Long id) {
+        return ReadRouting.rereadOnPrimaryIf(Optional::isEmpty, () -> findUserMetadata(id));
+    }
+
+    @Query("""
+            select new com.standard.objectstorage.controlplane.user.UserMetadata(u.id, u.email)
+            from User u
+            where u.id = :id
+            """)
+    Optional<UserMetadata> findUserMetadata(@Param("id") Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#result.id")
+    <S extends User> S save(S user);
 }
@@ -1,5 +1,6 @@
 package com.standard.objectstorage.controlplane.user;
 
+import com.standard.objectstorage.controlplane.jdbc.routing.ReadRouting;
 import com.standard.objectstorage.controlplane.user.dto.CreateUserRequest;
 import com.standard.objectstorage.controlplane.user.dto.UserResponse;
 import lombok.RequiredArgsConstructor;
@@ -11,14 +12,22 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    public User getUser(Long userId) {
-        return userRepository.findById(userId)
+    public UserMetadata getUser(Long userId) {
+        return userRepository.findMetadataById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 User를 찾을 수 없습니다"));
     }
 
+    /**
+     * 존재를 확인(캐시)한 뒤, 연관관계 설정에 사용할 참조를 반환합니다. (조회 없이 id 만 가진 proxy)
+     */
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(getUser(userId).id());
+    }
+
     public UserResponse createUser(CreateUserRequest request) {
 
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        // 중복 검사는 복제 지연 없이 primary 에서
+        if (ReadRouting.onPrimary(() -> userRepository.findByEmail(request.getEmail())).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 email입니다");
         }
 
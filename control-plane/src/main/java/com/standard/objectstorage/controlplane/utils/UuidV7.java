@@ -0,0 +1,78 @@
+package com.standard.objectstorage.controlplane.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID (RFC 9562 UUIDv7) 생성기
+ * <pre>
+ * | unix_ts_ms (48) | ver=7 (4) | seq (12) | var=10 (2) | random (62) |
+ * </pre>
+ * 같은 millisecond 안에서는 seq(rand_a)를 1씩 증가시켜 프로세스 내에서 항상 증가하는 값을 생성합니다.
+ * (seq 가 넘치거나 시계가 뒤로 가면 timestamp 를 앞당겨 순서를 유지)
+ * <p>
+ * byte 순서(big-endian)로 정렬하면 생성 순서와 같으므로, BINARY(16) PK 에 insert 가 clustered index 의 끝에 모입니다.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    // 새 millisecond 의 seq 시작 값 범위 (증가 여유분을 남김)
+    private static final int SEQUENCE_START_BOUND = 1 << (SEQUENCE_BITS - 2);
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final Generator DEFAULT = new Generator();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return DEFAULT.next(System.currentTimeMillis());
+    }
+
+    /**
+     * 단조 증가 상태를 가진 생성기 (프로세스 전체는 DEFAULT 하나를 공유, 테스트는 임의 시각으로 별도 생성기 사용)
+     */
+    static final class Generator {
+
+        // (unix_ts_ms << 12) | seq
+        private final AtomicLong last = new AtomicLong();
+
+        UUID next(long nowMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long candidate = (nowMillis << SEQUENCE_BITS) | random.nextInt(SEQUENCE_START_BOUND);
+
+            long state;
+            long previous;
+            do {
+                previous = last.get();
+                state = Math.max(candidate, previous + 1);
+            } while (!last.compareAndSet(previous, state));
+
+            long msb = ((state >>> SEQUENCE_BITS) << 16) | VERSION | (state & 0xFFF);
+            long lsb = VARIANT | (random.nextLong() & RANDOM_MASK);
+            return new UUID(msb, lsb);
+        }
+    }
+
+    /**
+     * UUIDv7 에 기록된 생성 시각 (unix epoch millis)
+     */
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * BINARY(16) 저장 형식 (Hibernate UUID ↔ binary 변환과 같은 big-endian 순서)
+     */
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,100 @@
+-- TB_OBJECTS PK 를 시간 순서 UUIDv7 / BINARY(16) 으로 전환
+--
+-- 애플리케이션은 배포 즉시 새 객체에 UUIDv7 을 발급하므로, 기존 행은 그대로 두어도 동작합니다.
+-- (기존 v4 ID 는 유효한 BINARY(16) 값으로 남고, 새 insert 만 clustered index 의 끝에 모입니다)
+-- 아래 단계는 기존 테이블의 구조 / 단편화를 정리하기 위한 것입니다.
+
+-- --------------------------------------------------------------------------------
+-- 0. 현재 id 컬럼 타입 확인
+--    binary(16) 이면 1단계는 건너뜁니다.
+-- --------------------------------------------------------------------------------
+select column_type
+from information_schema.columns
+where table_schema = database()
+  and table_name = 'tb_objects'
+  and column_name = 'id';
+
+-- --------------------------------------------------------------------------------
+-- 1. (id 가 char(36) / varchar(36) 인 경우) 문자열 UUID 를 BINARY(16) 으로 변환
+--    UNHEX(REPLACE(id, '-', '')) 는 UuidV7.toBytes / Hibernate 와 같은 big-endian 순서입니다.
+-- --------------------------------------------------------------------------------
+-- alter table tb_objects add column id_bin binary(16) null;
+-- update tb_objects set id_bin = unhex(replace(id, '-', ''));
+-- alter table tb_objects
+--     drop primary key,
+--     drop column id,
+--     rename column id_bin to id,
+--     modify id binary(16) not null,
+--     add primary key (id);
+
+-- --------------------------------------------------------------------------------
+-- 2. (선택) 기존 v4 ID 를 created_at 기반 UUIDv7 로 재발급하여 clustered index 재구성
+--    TB_OBJECTS.id 는 tb_objects.source_id (중복 제거 원본) 와 tb_object_replicas.object_id (복제본) 가
+--    참조하므로, 기존 ID -> 새 ID 대응표(tb_objects_id_map)를 만들어 세 컬럼을 함께 바꿉니다.
+--    복사 중 쓰기가 유실되지 않도록 control plane 을 중지한 상태(점검 시간)에 실행합니다.
+--    (무중단이 필요하면 pt-online-schema-change / gh-ost 로 같은 변환을 수행)
+--    shard 를 사용하면 각 shard DB 에서도 같은 순서로 실행합니다. (source_id 는 같은 bucket, 즉 같은 DB 의 객체만 참조)
+-- --------------------------------------------------------------------------------
+create table tb_objects_id_map (
+    old_id binary(16) not null,
+    new_id binary(16) not null,
+    primary key (old_id),
+    constraint UK_OBJECTS_ID_MAP_NEW_ID unique (new_id)
+) engine = InnoDB;
+
+insert into tb_objects_id_map (old_id, new_id)
+select
+    id,
+    -- unix_ts_ms(48) | ver 7 + rand_a(16) | var 10 + rand_b(64)
+    unhex(concat(
+        lpad(hex(floor(unix_timestamp(created_at) * 1000)), 12, '0'),
+        '7', substr(hex(random_bytes(2)), 1, 3),
+        hex((ascii(random_bytes(1)) & 0x3f) | 0x80), substr(hex(random_bytes(7)), 1, 14)
+    ))
+from tb_objects
+order by created_at, id;
+
+create table tb_objects_v7 like tb_objects;
+
+insert into tb_objects_v7
+    (id, bucket_id, object_key, storage_path, size, etag, status, content_hash, source_id, ref_count,
+     upload_id, upload_node_id, upload_size, created_at, updated_at)
+select
+    m.new_id, o.bucket_id, o.object_key, o.storage_path, o.size, o.etag, o.status, o.content_hash,
+    -- 원본이 이미 삭제된 source_id 는 그대로 둠 (애플리케이션과 같은 동작)
+    coalesce(s.new_id, o.source_id), o.ref_count,
+    o.upload_id, o.upload_node_id, o.upload_size, o.created_at, o.updated_at
+from tb_objects o
+join tb_objects_id_map m on m.old_id = o.id
+left join tb_objects_id_map s on s.old_id = o.source_id
+order by m.new_id;
+
+create table tb_object_replicas_v7 like tb_object_replicas;
+
+insert into tb_object_replicas_v7
+    (id, object_id, node_id, state, attempts, next_attempt_at, last_error, updated_at)
+select
+    r.id, coalesce(m.new_id, r.object_id), r.node_id, r.state, r.attempts, r.next_attempt_at,
+    r.last_error, r.updated_at
+from tb_object_replicas r
+left join tb_objects_id_map m on m.old_id = r.object_id;
+
+-- --------------------------------------------------------------------------------
+-- 3. 교체 (아래 확인 결과가 모두 일치하는지 본 뒤 직접 주석을 해제하여 실행)
+--    - 행 수: 원본과 복사본이 같아야 함
+--    - 참조: 복사본의 source_id / object_id 가 가리키는 객체 수가 원본과 같아야 함
+-- --------------------------------------------------------------------------------
+-- select (select count(*) from tb_objects) as source_rows,
+--        (select count(*) from tb_objects_v7) as copied_rows,
+--        (select count(*) from tb_object_replicas) as source_replicas,
+--        (select count(*) from tb_object_replicas_v7) as copied_replicas;
+-- select (select count(*) from tb_objects o join tb_objects s on s.id = o.source_id) as source_refs,
+--        (select count(*) from tb_objects_v7 o join tb_objects_v7 s on s.id = o.source_id) as copied_refs,
+--        (select count(*) from tb_object_replicas r join tb_objects o on o.id = r.object_id) as source_replica_refs,
+--        (select count(*) from tb_object_replicas_v7 r join tb_objects_v7 o on o.id = r.object_id) as copied_replica_refs;
+-- rename table tb_objects to tb_objects_v4_backup, tb_objects_v7 to tb_objects,
+--              tb_object_replicas to tb_object_replicas_v4_backup, tb_object_replicas_v7 to tb_object_replicas;
+
+-- 확인 후 백업 / 대응표 삭제 (대응표는 control plane 로그의 기존 ID 를 추적할 때까지 보관해도 됩니다)
+-- drop table tb_objects_v4_backup, tb_object_replicas_v4_backup;
+-- drop table tb_objects_id_map;
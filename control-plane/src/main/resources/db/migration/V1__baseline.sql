@@ -0,0 +1,97 @@
+-- 기준 스키마 (Flyway, 모든 프로필)
+--
+-- ddl-auto: update 로 이미 만들어진 DB 는 baseline-on-migrate 로 V1 을 적용된 것으로 기록하고 건너뜁니다.
+-- 이후 엔티티 변경은 ddl-auto 에 맡기지 않고 V2__*.sql 부터 순서대로 추가합니다.
+
+create table tb_users (
+    id         bigint       not null auto_increment,
+    email      varchar(255) not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint UK_USER_EMAIL unique (email)
+) engine = InnoDB;
+
+create table tb_buckets (
+    id         bigint      not null auto_increment,
+    name       varchar(63) not null,
+    owner_id   bigint      not null,
+    created_at datetime(6) not null,
+    deleting   bit         not null,
+    primary key (id),
+    constraint UK_OWNER_NAME unique (owner_id, name),
+    constraint FK_BUCKET_OWNER foreign key (owner_id) references tb_users (id)
+) engine = InnoDB;
+
+-- 목록 조회 keyset pagination (created_at DESC, id DESC)
+create index IDX_OWNER_CREATED_AT_ID on tb_buckets (owner_id, created_at, id);
+
+create table tb_storage_nodes (
+    id         bigint       not null auto_increment,
+    name       varchar(63)  not null,
+    endpoint   varchar(255) not null,
+    weight     integer      not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint UK_STORAGE_NODE_NAME unique (name)
+) engine = InnoDB;
+
+create table tb_objects (
+    id           binary(16)    not null,
+    bucket_id    bigint        not null,
+    object_key   varchar(512)  not null,
+    storage_path varchar(1024) not null,
+    size         bigint,
+    etag         varchar(255),
+    status       enum ('PENDING','COMPLETE','FAILED') not null,
+    created_at   datetime(6)   not null,
+    updated_at   datetime(6)   not null,
+    primary key (id),
+    -- 목록 조회 keyset pagination / prefix 검색 (bucket_id, object_key)
+    constraint UK_BUCKET_OBJECT_KEY unique (bucket_id, object_key),
+    constraint FK_OBJECT_BUCKET foreign key (bucket_id) references tb_buckets (id)
+) engine = InnoDB;
+
+create table tb_bucket_purge_jobs (
+    id              bigint        not null auto_increment,
+    bucket_id       bigint        not null,
+    bucket_name     varchar(63)   not null,
+    status          enum ('RUNNING','COMPLETED','FAILED') not null,
+    last_object_key varchar(512),
+    deleted_objects bigint        not null,
+    failed_objects  bigint        not null,
+    lease_owner     varchar(100),
+    lease_until     datetime(6),
+    last_error      varchar(1000),
+    created_at      datetime(6)   not null,
+    updated_at      datetime(6)   not null,
+    completed_at    datetime(6),
+    primary key (id),
+    constraint UK_PURGE_BUCKET_ID unique (bucket_id)
+) engine = InnoDB;
+
+create index IDX_PURGE_STATUS on tb_bucket_purge_jobs (status);
+create index IDX_PURGE_BUCKET_NAME on tb_bucket_purge_jobs (bucket_name);
+
+create table tb_bucket_usage (
+    bucket_id     bigint      not null,
+    object_count  bigint      not null,
+    total_bytes   bigint      not null,
+    updated_at    datetime(6) not null,
+    reconciled_at datetime(6),
+    primary key (bucket_id)
+) engine = InnoDB;
+
+create table tb_object_replicas (
+    id              binary(16)   not null,
+    object_id       binary(16)   not null,
+    node_id         varchar(64)  not null,
+    state           enum ('MISSING','STORED') not null,
+    attempts        integer      not null,
+    next_attempt_at datetime(6)  not null,
+    last_error      varchar(255),
+    updated_at      datetime(6)  not null,
+    primary key (id),
+    constraint UK_OBJECT_REPLICA_NODE unique (object_id, node_id)
+) engine = InnoDB;
+
+create index IDX_REPLICA_STATE_ID on tb_object_replicas (state, id);
@@ -0,0 +1,14 @@
+-- 객체 메타데이터 shard 배치 (ShardMap)
+--
+-- bucket ID 의 slot(0..1023) 별 객체 shard. 처음 기동한 인스턴스가 slot % shard 수 로 채우고,
+-- ShardSplitter 가 slot 을 옮길 때 state 를 FROZEN 으로 바꿨다가 shard_id 와 함께 ACTIVE 로 되돌립니다.
+--
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+create table if not exists tb_shard_slots (
+    slot       integer     not null,
+    shard_id   integer     not null,
+    state      enum ('ACTIVE','FROZEN') not null,
+    updated_at datetime(6) not null,
+    primary key (slot)
+) engine = InnoDB;
@@ -0,0 +1,24 @@
+-- bucket 만료 규칙 (LifecycleSweeper)
+--
+-- 값이 null 이면 LIFECYCLE_* 기본값, 0 이면 해당 상태의 객체를 만료시키지 않습니다.
+-- 만료 대상 조회는 (bucket_id, status, updated_at) range scan 입니다.
+--
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+create table if not exists tb_bucket_lifecycle_rules (
+    bucket_id            bigint      not null,
+    pending_expire_hours integer,
+    complete_expire_days integer,
+    failed_expire_hours  integer,
+    updated_at           datetime(6) not null,
+    primary key (bucket_id)
+) engine = InnoDB;
+
+set @ddl = if((select count(*) from information_schema.statistics
+                where table_schema = database() and table_name = 'tb_objects'
+                  and index_name = 'IDX_BUCKET_STATUS_UPDATED_AT') = 0,
+    'create index IDX_BUCKET_STATUS_UPDATED_AT on tb_objects (bucket_id, status, updated_at)',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,29 @@
+-- 내용 기반 중복 제거 (presign 시 content hash 조회)
+--
+-- content_hash : storage node 가 계산한 SHA-256 (완료 보고 etag), 자기 파일을 가진 COMPLETE 객체만 기록
+-- source_id    : 같은 bucket 의 다른 객체 파일을 참조하는 객체의 원본 객체 id
+-- ref_count    : 원본 객체를 참조하는 객체 수 (0 보다 크면 파일을 덮어쓰거나 삭제하지 않음)
+-- 중복 조회는 (bucket_id, content_hash) index 조회 한 번입니다.
+--
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+set @ddl = if((select count(*) from information_schema.columns
+                where table_schema = database() and table_name = 'tb_objects'
+                  and column_name = 'content_hash') = 0,
+    'alter table tb_objects
+    add column content_hash varchar(64),
+    add column source_id    binary(16),
+    add column ref_count    integer not null default 0',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if((select count(*) from information_schema.statistics
+                where table_schema = database() and table_name = 'tb_objects'
+                  and index_name = 'IDX_BUCKET_CONTENT_HASH') = 0,
+    'create index IDX_BUCKET_CONTENT_HASH on tb_objects (bucket_id, content_hash)',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
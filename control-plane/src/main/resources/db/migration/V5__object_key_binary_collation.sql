@@ -0,0 +1,10 @@
+-- object_key 를 binary collation 으로 변경
+--
+-- 목록 조회는 marker 이후를 keyset 으로 읽고, common prefix 를 건너뛸 때 "{prefix}" + U+10FFFF 를 다음 marker 로
+-- 사용합니다. 기본 collation(utf8mb4_0900_ai_ci) 은 대소문자 / 악센트를 같게 보고 code point 순서로 정렬하지
+-- 않으므로, 같은 prefix 를 건너뛰지 못하거나 다른 key 를 건너뛸 수 있습니다.
+-- utf8mb4_bin 은 UTF-8 byte 순서(= code point 순서)로 비교하며, 대소문자만 다른 key 도 서로 다른 객체가 됩니다.
+-- (UK_BUCKET_OBJECT_KEY 는 그대로 재구성됩니다)
+
+alter table tb_objects
+    modify object_key varchar(512) collate utf8mb4_bin not null;
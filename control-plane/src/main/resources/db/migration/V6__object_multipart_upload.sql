@@ -0,0 +1,19 @@
+-- 진행 중인 multipart 업로드 계획 (part URL 페이지 발급 시 검증)
+--
+-- upload_id      : 계획 발급 시 기록한 uploadId (업로드 완료 / 같은 key 에 다른 업로드 URL 발급 시 지움)
+-- upload_node_id : part 를 받는 node (part 가 모두 같은 node 에 있어야 병합 가능)
+-- upload_size    : 계획의 전체 크기 (덮어쓰기 중인 COMPLETE 객체의 size 는 기존 크기이므로 따로 기록)
+--
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+set @ddl = if((select count(*) from information_schema.columns
+                where table_schema = database() and table_name = 'tb_objects'
+                  and column_name = 'upload_id') = 0,
+    'alter table tb_objects
+    add column upload_id      varchar(36),
+    add column upload_node_id varchar(64),
+    add column upload_size    bigint',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
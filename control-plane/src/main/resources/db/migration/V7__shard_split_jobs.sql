@@ -0,0 +1,35 @@
+-- shard 분할 상태 / 배치 반영 확인 (ShardSplitter)
+--
+-- tb_shard_splits         : 진행 중이거나 마지막으로 진행한 분할 (행은 id = 1 하나)
+--                           조건부 update 로 lease 를 얻은 인스턴스 하나만 진행하고, 단계 / 진행 수를 기록합니다.
+--                           lease 가 만료된 분할은 같은 source / target 으로 다시 요청하여 기록된 단계부터 이어서 진행합니다.
+-- tb_shard_map_observers  : 인스턴스별로 반영한 배치 (tb_shard_slots.updated_at 최댓값)
+--                           slot 을 FROZEN / 이동으로 바꾼 뒤, 살아있는 모든 인스턴스가 반영했는지 확인하고 다음 단계로 진행합니다.
+--
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+create table if not exists tb_shard_splits (
+    id              integer      not null,
+    source_shard    integer      not null,
+    target_shard    integer      not null,
+    slots           text         not null,
+    phase           enum ('COPYING','FREEZING','SYNCING','SWITCHING','CLEANING','COMPLETED','FAILED') not null,
+    buckets         integer      not null,
+    copied_objects  bigint       not null,
+    synced_objects  bigint       not null,
+    deleted_objects bigint       not null,
+    lease_owner     varchar(100),
+    lease_until     datetime(6),
+    last_error      varchar(1000),
+    started_at      datetime(6),
+    updated_at      datetime(6)  not null,
+    finished_at     datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create table if not exists tb_shard_map_observers (
+    instance_id  varchar(100) not null,
+    observed_at  datetime(6)  not null,
+    heartbeat_at datetime(6)  not null,
+    primary key (instance_id)
+) engine = InnoDB;
@@ -0,0 +1,7 @@
+-- lifecycle 만료 삭제 중인 객체 (storage node 파일을 삭제하기 전에 행을 선점)
+--
+-- DELETING : 파일 삭제가 끝나면 행을 지우고, 실패하면 이전 상태로 되돌림
+--            (선점 후 중단된 행은 LIFECYCLE_CLAIM_TIMEOUT_MS 이후 다시 삭제)
+
+alter table tb_objects
+    modify column status enum ('PENDING','COMPLETE','FAILED','DELETING') not null;
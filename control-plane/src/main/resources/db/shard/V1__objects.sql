@@ -0,0 +1,43 @@
+-- 객체 shard 스키마 (jdbc.sharding.urls 의 각 DB, ShardingConfig 가 기동 시 적용)
+--
+-- TB_BUCKETS 는 GLOBAL DB 에만 있으므로 FK_OBJECT_BUCKET 은 두지 않습니다.
+-- 나머지 정의는 db/migration/V1__baseline.sql 과 같게 유지합니다.
+
+create table tb_objects (
+    id           binary(16)    not null,
+    bucket_id    bigint        not null,
+    object_key   varchar(512)  not null,
+    storage_path varchar(1024) not null,
+    size         bigint,
+    etag         varchar(255),
+    status       enum ('PENDING','COMPLETE','FAILED') not null,
+    created_at   datetime(6)   not null,
+    updated_at   datetime(6)   not null,
+    primary key (id),
+    -- 목록 조회 keyset pagination / prefix 검색 (bucket_id, object_key)
+    constraint UK_BUCKET_OBJECT_KEY unique (bucket_id, object_key)
+) engine = InnoDB;
+
+create table tb_bucket_usage (
+    bucket_id     bigint      not null,
+    object_count  bigint      not null,
+    total_bytes   bigint      not null,
+    updated_at    datetime(6) not null,
+    reconciled_at datetime(6),
+    primary key (bucket_id)
+) engine = InnoDB;
+
+create table tb_object_replicas (
+    id              binary(16)   not null,
+    object_id       binary(16)   not null,
+    node_id         varchar(64)  not null,
+    state           enum ('MISSING','STORED') not null,
+    attempts        integer      not null,
+    next_attempt_at datetime(6)  not null,
+    last_error      varchar(255),
+    updated_at      datetime(6)  not null,
+    primary key (id),
+    constraint UK_OBJECT_REPLICA_NODE unique (object_id, node_id)
+) engine = InnoDB;
+
+create index IDX_REPLICA_STATE_ID on tb_object_replicas (state, id);
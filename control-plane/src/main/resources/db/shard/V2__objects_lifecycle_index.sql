@@ -0,0 +1,11 @@
+-- 만료 대상 조회 (LifecycleSweeper, db/migration/V3__bucket_lifecycle.sql 과 같은 index)
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+set @ddl = if((select count(*) from information_schema.statistics
+                where table_schema = database() and table_name = 'tb_objects'
+                  and index_name = 'IDX_BUCKET_STATUS_UPDATED_AT') = 0,
+    'create index IDX_BUCKET_STATUS_UPDATED_AT on tb_objects (bucket_id, status, updated_at)',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,23 @@
+-- 내용 기반 중복 제거 (db/migration/V4__object_content_hash.sql 과 같은 column / index)
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+set @ddl = if((select count(*) from information_schema.columns
+                where table_schema = database() and table_name = 'tb_objects'
+                  and column_name = 'content_hash') = 0,
+    'alter table tb_objects
+    add column content_hash varchar(64),
+    add column source_id    binary(16),
+    add column ref_count    integer not null default 0',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if((select count(*) from information_schema.statistics
+                where table_schema = database() and table_name = 'tb_objects'
+                  and index_name = 'IDX_BUCKET_CONTENT_HASH') = 0,
+    'create index IDX_BUCKET_CONTENT_HASH on tb_objects (bucket_id, content_hash)',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,4 @@
+-- object_key binary collation (db/migration/V5__object_key_binary_collation.sql 과 같은 column 정의)
+
+alter table tb_objects
+    modify object_key varchar(512) collate utf8mb4_bin not null;
@@ -0,0 +1,14 @@
+-- 진행 중인 multipart 업로드 계획 (db/migration/V6__object_multipart_upload.sql 과 같은 column)
+-- 이미 있는 table / column / index 는 건너뜁니다. (ddl-auto 로 만든 DB 를 V1 로 baseline 한 뒤 다시 적용)
+
+set @ddl = if((select count(*) from information_schema.columns
+                where table_schema = database() and table_name = 'tb_objects'
+                  and column_name = 'upload_id') = 0,
+    'alter table tb_objects
+    add column upload_id      varchar(36),
+    add column upload_node_id varchar(64),
+    add column upload_size    bigint',
+    'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
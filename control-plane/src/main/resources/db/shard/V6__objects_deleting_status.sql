@@ -0,0 +1,4 @@
+-- lifecycle 만료 삭제 중인 객체 (db/migration/V8__object_deleting_status.sql 과 같은 column)
+
+alter table tb_objects
+    modify column status enum ('PENDING','COMPLETE','FAILED','DELETING') not null;
@@ -0,0 +1,277 @@
+package com.standard.objectstorage.controlplane.bucket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.lifecycle.BucketLifecycleService;
+import com.standard.objectstorage.controlplane.replication.ObjectReplicaRepository;
+import com.standard.objectstorage.controlplane.replication.ReplicaDeleteTargets;
+import com.standard.objectstorage.controlplane.replication.ReplicaLocation;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storage.PresignedGetUrlCache;
+import com.standard.objectstorage.controlplane.storage.StorageObjectDeleter;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectLocationCache;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectRepository;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import com.standard.objectstorage.controlplane.usage.BucketUsageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// DB / storage node 없이 chunk 처리 / lease / 마무리 흐름만 확인 (shard / 트랜잭션은 호출 스레드에서 바로 실행)
+class BucketPurgeWorkerTest {
+
+    private static final long JOB_ID = 1L;
+    private static final long BUCKET_ID = 7L;
+    private static final String BUCKET = "bucket";
+    private static final long LEASE_MILLIS = 60_000;
+    private static final long WAIT_MILLIS = 2_000;
+
+    private final BucketRepository bucketRepository = mock(BucketRepository.class);
+    private final BucketPurgeJobRepository jobRepository = mock(BucketPurgeJobRepository.class);
+    private final StoredObjectRepository storedObjectRepository = mock(StoredObjectRepository.class);
+    private final ShardMap shardMap = mock(ShardMap.class);
+    private final ObjectLocationCache objectLocationCache = mock(ObjectLocationCache.class);
+    private final StorageObjectDeleter storageObjectDeleter = mock(StorageObjectDeleter.class);
+    private final ObjectReplicaRepository objectReplicaRepository = mock(ObjectReplicaRepository.class);
+    private final BucketUsageRecorder bucketUsageRecorder = mock(BucketUsageRecorder.class);
+    private final BucketUsageService bucketUsageService = mock(BucketUsageService.class);
+    private final BucketLifecycleService bucketLifecycleService = mock(BucketLifecycleService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    // claim 에 성공한 인스턴스 (lease owner)
+    private final AtomicReference<String> owner = new AtomicReference<>();
+    private final AtomicReference<BucketPurgeJob> job = new AtomicReference<>();
+
+    private BucketPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(shardMap.onBucket(anyLong(), any())).thenAnswer(
+            invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(shardMap).runOnBucket(anyLong(), any());
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        when(jobRepository.findClaimableIds(any())).thenReturn(List.of(JOB_ID));
+        when(jobRepository.claim(eq(JOB_ID), anyString(), any(), any())).thenAnswer(invocation -> {
+            owner.set(invocation.getArgument(1));
+            return 1;
+        });
+        when(jobRepository.findById(JOB_ID)).thenAnswer(invocation -> Optional.of(job(0)));
+        when(jobRepository.recordProgress(eq(JOB_ID), anyString(), anyString(), anyLong(), anyLong(),
+            any(), any())).thenReturn(1);
+
+        worker = new BucketPurgeWorker(bucketRepository, jobRepository, storedObjectRepository,
+            shardMap, objectLocationCache,
+            new PresignedGetUrlCache(new SimpleMeterRegistry(), Duration.ZERO, 10),
+            storageObjectDeleter, new ReplicaDeleteTargets(objectReplicaRepository, shardMap),
+            objectReplicaRepository, bucketUsageRecorder, bucketUsageService,
+            bucketLifecycleService, transactionTemplate, 2, 1, LEASE_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void claimsLeaseOnceAndSkipsJobsHeldByAnotherInstance() {
+        when(jobRepository.claim(eq(JOB_ID), anyString(), any(), any())).thenReturn(0);
+
+        worker.dispatch();
+
+        verify(jobRepository, never()).findById(JOB_ID);
+    }
+
+    @Test
+    void claimsLeaseForConfiguredDuration() {
+        chunks(List.of());
+
+        worker.dispatch();
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).claim(eq(JOB_ID), anyString(), now.capture(), leaseUntil.capture());
+        assertThat(Duration.between(now.getValue(), leaseUntil.getValue()))
+            .isEqualTo(Duration.ofMillis(LEASE_MILLIS));
+    }
+
+    @Test
+    void removesOnlyDeletedRowsAndRecordsProgressPerChunk() {
+        ObjectDeleteTarget a = target("a", ObjectStatus.COMPLETE, 10);
+        ObjectDeleteTarget b = target("b", ObjectStatus.COMPLETE, 20);
+        ObjectDeleteTarget c = target("c", ObjectStatus.PENDING, 30);
+        chunks(List.of(a, b), List.of(c), List.of());
+        when(storageObjectDeleter.deleteAll(BUCKET, List.of(a, b))).thenReturn(List.of(a));
+        when(storageObjectDeleter.deleteAll(BUCKET, List.of(c))).thenReturn(List.of(c));
+
+        worker.dispatch();
+
+        verify(storedObjectRepository, timeout(WAIT_MILLIS)).deleteAllByIdInBatch(List.of(a.id()));
+        verify(storedObjectRepository, timeout(WAIT_MILLIS)).deleteAllByIdInBatch(List.of(c.id()));
+        verify(jobRepository, timeout(WAIT_MILLIS)).recordProgress(eq(JOB_ID), eq(owner.get()),
+            eq("b"), eq(1L), eq(1L), any(), any());
+        verify(jobRepository, timeout(WAIT_MILLIS)).recordProgress(eq(JOB_ID), eq(owner.get()),
+            eq("c"), eq(1L), eq(0L), any(), any());
+        // 사용량은 COMPLETE 객체만
+        verify(bucketUsageRecorder, timeout(WAIT_MILLIS)).record(BUCKET_ID, -1, -10);
+        verify(bucketUsageRecorder, timeout(WAIT_MILLIS)).record(BUCKET_ID, 0, 0);
+        verify(objectLocationCache, timeout(WAIT_MILLIS)).evict(BUCKET_ID, "a");
+        verify(objectLocationCache, never()).evict(BUCKET_ID, "b");
+    }
+
+    @Test
+    void deletesReplicaFilesAndLocationsAndKeepsObjectsWithRemainingReplica() {
+        ObjectDeleteTarget a = target("a", ObjectStatus.COMPLETE, 10);
+        ObjectDeleteTarget b = target("b", ObjectStatus.COMPLETE, 20);
+        ObjectDeleteTarget aReplica = replicaOf(a, "node-2");
+        ObjectDeleteTarget bReplica = replicaOf(b, "node-2");
+        chunks(List.of(a, b), List.of());
+        // primary node 의 위치는 primary 파일과 같으므로 대상에 다시 추가하지 않음
+        when(objectReplicaRepository.findLocations(any())).thenReturn(List.of(
+            new ReplicaLocation(a.id(), "node-1"), new ReplicaLocation(a.id(), "node-2"),
+            new ReplicaLocation(b.id(), "node-2")));
+        when(storageObjectDeleter.deleteAll(BUCKET, List.of(a, b, aReplica, bReplica)))
+            .thenReturn(List.of(a, b, aReplica));
+
+        worker.dispatch();
+
+        verify(storedObjectRepository, timeout(WAIT_MILLIS)).deleteAllByIdInBatch(List.of(a.id()));
+        verify(objectReplicaRepository, timeout(WAIT_MILLIS)).deleteByObjectIds(List.of(a.id()));
+        verify(jobRepository, timeout(WAIT_MILLIS)).recordProgress(eq(JOB_ID), anyString(),
+            eq("b"), eq(1L), eq(1L), any(), any());
+        verify(bucketUsageRecorder, timeout(WAIT_MILLIS)).record(BUCKET_ID, -1, -10);
+    }
+
+    @Test
+    void stopsWhenLeaseIsLost() {
+        ObjectDeleteTarget a = target("a", ObjectStatus.COMPLETE, 10);
+        chunks(List.of(a), List.of());
+        when(storageObjectDeleter.deleteAll(BUCKET, List.of(a))).thenReturn(List.of(a));
+        when(jobRepository.recordProgress(eq(JOB_ID), anyString(), anyString(), anyLong(), anyLong(),
+            any(), any())).thenReturn(0);
+
+        worker.dispatch();
+
+        verify(jobRepository, timeout(WAIT_MILLIS)).recordProgress(eq(JOB_ID), anyString(),
+            eq("a"), eq(1L), eq(0L), any(), any());
+        worker.shutdown();
+        verify(storedObjectRepository, never()).findDeleteTargetsAfter(eq(BUCKET_ID), eq("a"),
+            any());
+        verify(bucketRepository, never()).delete(any());
+    }
+
+    @Test
+    void failsJobWhenSomeFilesCouldNotBeDeleted() {
+        chunks(List.of());
+        when(jobRepository.findById(JOB_ID)).thenAnswer(invocation -> Optional.of(job(3)));
+
+        worker.dispatch();
+
+        verify(storedObjectRepository, timeout(WAIT_MILLIS)).existsByBucketId(BUCKET_ID);
+        verify(bucketRepository, never()).delete(any());
+        awaitStatus(BucketPurgeStatus.FAILED);
+        assertThat(job.get().getLastError()).contains("3");
+    }
+
+    @Test
+    void rewindsWhenObjectsAppearBehindCursorThenCompletes() {
+        chunks(List.of());
+        when(storedObjectRepository.existsByBucketId(BUCKET_ID)).thenReturn(true, false);
+        Bucket bucket = Bucket.builder().id(BUCKET_ID).name(BUCKET).deleting(true).build();
+        when(bucketRepository.findById(BUCKET_ID)).thenReturn(Optional.of(bucket));
+
+        worker.dispatch();
+
+        verify(bucketRepository, timeout(WAIT_MILLIS)).delete(bucket);
+        verify(storedObjectRepository, timeout(WAIT_MILLIS).times(2)).existsByBucketId(BUCKET_ID);
+        verify(bucketUsageService, timeout(WAIT_MILLIS)).remove(BUCKET_ID);
+        verify(bucketLifecycleService, timeout(WAIT_MILLIS)).remove(BUCKET_ID);
+        awaitStatus(BucketPurgeStatus.COMPLETED);
+        assertThat(job.get().getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void pausesWhileShardIsFrozen() {
+        when(shardMap.isFrozen(BUCKET_ID)).thenReturn(true);
+
+        worker.dispatch();
+
+        verify(jobRepository, timeout(WAIT_MILLIS)).findById(JOB_ID);
+        worker.shutdown();
+        verify(storedObjectRepository, never()).findDeleteTargetsAfter(anyLong(), anyString(),
+            any());
+    }
+
+    @SafeVarargs
+    private void chunks(List<ObjectDeleteTarget>... chunks) {
+        var stubbing = when(storedObjectRepository.findDeleteTargetsAfter(eq(BUCKET_ID),
+            anyString(), any(Limit.class)));
+        for (List<ObjectDeleteTarget> chunk : chunks) {
+            stubbing = stubbing.thenReturn(chunk);
+        }
+    }
+
+    // 같은 작업 인스턴스를 반환하여 엔티티 상태 변경(rewind / fail / complete)을 확인
+    private BucketPurgeJob job(long failedObjects) {
+        return job.updateAndGet(current -> current != null ? current : BucketPurgeJob.builder()
+            .id(JOB_ID)
+            .bucketId(BUCKET_ID)
+            .bucketName(BUCKET)
+            .status(BucketPurgeStatus.RUNNING)
+            .failedObjects(failedObjects)
+            .leaseOwner(owner.get())
+            .build());
+    }
+
+    private void awaitStatus(BucketPurgeStatus status) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (job.get().getStatus() != status && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(job.get().getStatus()).isEqualTo(status);
+    }
+
+    private static ObjectDeleteTarget replicaOf(ObjectDeleteTarget target, String nodeId) {
+        return new ObjectDeleteTarget(target.id(), target.objectKey(),
+            StoragePath.of(nodeId, BUCKET, target.objectKey()), target.size(), target.status());
+    }
+
+    private static ObjectDeleteTarget target(String key, ObjectStatus status, long size) {
+        return new ObjectDeleteTarget(UUID.randomUUID(), key, StoragePath.of("node-1", BUCKET, key),
+            size, status);
+    }
+}
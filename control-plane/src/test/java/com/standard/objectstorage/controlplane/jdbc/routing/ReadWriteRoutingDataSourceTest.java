@@ -0,0 +1,158 @@
+package com.standard.objectstorage.controlplane.jdbc.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.standard.objectstorage.controlplane.jdbc.AdmissionControlledDataSource;
+import com.standard.objectstorage.controlplane.jdbc.JdbcAdmissionControl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 내장 DB(H2) 두 개를 primary / replica 로 사용
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private ReplicaPools replicaPools;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (seconds int)");
+        new JdbcTemplate(replica).update("insert into replica_lag values (0)");
+
+        route(replica);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesStayOnPrimary() {
+        assertThat(readOnly.execute(status -> servedBy())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> servedBy())).isEqualTo("primary");
+        assertThat(servedBy()).isEqualTo("primary"); // 트랜잭션 없는 조회
+
+        assertThat(connections("replica", "replica-1")).isEqualTo(1);
+        assertThat(connections("primary", "primary")).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void pinnedReadsAndStaleReplicaResultsUsePrimary() {
+        new JdbcTemplate(primary).update("insert into tb_node values ('created-on-primary')");
+
+        assertThat(ReadRouting.onPrimary(() -> readOnly.execute(status -> servedBy())))
+            .isEqualTo("primary");
+
+        Optional<String> found = ReadRouting.rereadOnPrimaryIf(Optional::isEmpty,
+            () -> readOnly.execute(status -> findName("created-on-primary")));
+        assertThat(found).contains("created-on-primary");
+        assertThat(fallbacks("pinned")).isEqualTo(2);
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItCatchesUp() {
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(replicaPools,
+            "select seconds from replica_lag");
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 10");
+        checker.checkAll();
+        assertThat(readOnly.execute(status -> servedBy())).isEqualTo("primary");
+        assertThat(fallbacks("no_replica")).isEqualTo(1);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        checker.checkAll();
+        assertThat(readOnly.execute(status -> servedBy())).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaIsEjectedAndReadsFallBackToPrimary() {
+        route(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("connection refused");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password)
+                throws SQLException {
+                throw new SQLException("connection refused");
+            }
+        });
+
+        assertThat(readOnly.execute(status -> servedBy())).isEqualTo("primary");
+        assertThat(replicaPools.getPools().get(0).isAvailable(System.currentTimeMillis()))
+            .isFalse();
+    }
+
+    @Test
+    void admissionControlledReplicaFallsBackToPrimaryWhenPermitsAreTaken() throws SQLException {
+        route(new ReplicaPool("replica-1", replica, new AdmissionControlledDataSource(replica,
+            new JdbcAdmissionControl("replica-1", 1, 50, meterRegistry)), meterRegistry));
+
+        try (Connection held = replicaPools.getPools().get(0).getConnection()) {
+            assertThat(readOnly.execute(status -> servedBy())).isEqualTo("primary");
+        }
+        assertThat(meterRegistry.get("jdbc.admission.rejected").tag("datasource", "replica-1")
+            .counter().count()).isEqualTo(1);
+    }
+
+    private void route(DataSource replicaDataSource) {
+        route(new ReplicaPool("replica-1", replicaDataSource, meterRegistry));
+    }
+
+    private void route(ReplicaPool replicaPool) {
+        replicaPools = new ReplicaPools(List.of(replicaPool), 60_000, 2);
+        ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(primary, replicaPools, meterRegistry);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String servedBy() {
+        return jdbcTemplate.queryForObject("select role from tb_role", String.class);
+    }
+
+    private Optional<String> findName(String name) {
+        return jdbcTemplate.queryForList("select name from tb_node where name = ?", String.class,
+            name).stream().findFirst();
+    }
+
+    private double connections(String role, String pool) {
+        return meterRegistry.get("jdbc.routing.connections").tag("role", role).tag("pool", pool)
+            .counter().count();
+    }
+
+    private double fallbacks(String reason) {
+        return meterRegistry.get("jdbc.routing.primary_fallback").tag("reason", reason)
+            .counter().count();
+    }
+
+    private static DataSource embedded(String role) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table tb_role (role varchar(16))");
+        jdbc.execute("create table tb_node (name varchar(64))");
+        jdbc.update("insert into tb_role values (?)", role);
+        return dataSource;
+    }
+}
@@ -0,0 +1,37 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LifecycleRuleTest {
+
+    private final LifecycleRule defaults = LifecycleRule.of(24, 0, 48);
+
+    @Test
+    void zeroDisablesExpiration() {
+        assertThat(defaults.expireAfter(ObjectStatus.PENDING)).isEqualTo(Duration.ofHours(24));
+        assertThat(defaults.expireAfter(ObjectStatus.COMPLETE)).isNull();
+        assertThat(defaults.expireAfter(ObjectStatus.FAILED)).isEqualTo(Duration.ofHours(48));
+        assertThat(LifecycleRule.of(0, 0, 0).isEmpty()).isTrue();
+    }
+
+    @Test
+    void bucketRuleOverridesOnlyGivenValues() {
+        BucketLifecycleRule stored = BucketLifecycleRule.of(1L);
+        stored.update(null, 30, 0);
+
+        LifecycleRule rule = defaults.with(stored);
+
+        assertThat(rule.expireAfter(ObjectStatus.PENDING)).isEqualTo(Duration.ofHours(24));
+        assertThat(rule.expireAfter(ObjectStatus.COMPLETE)).isEqualTo(Duration.ofDays(30));
+        assertThat(rule.expireAfter(ObjectStatus.FAILED)).isNull();
+    }
+
+    @Test
+    void missingBucketRuleUsesDefaults() {
+        assertThat(defaults.with(null)).isEqualTo(defaults);
+    }
+}
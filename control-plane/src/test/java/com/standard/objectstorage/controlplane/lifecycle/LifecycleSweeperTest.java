@@ -0,0 +1,243 @@
+package com.standard.objectstorage.controlplane.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.bucket.Bucket;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.replication.ObjectReplicaRepository;
+import com.standard.objectstorage.controlplane.replication.ReplicaDeleteTargets;
+import com.standard.objectstorage.controlplane.replication.ReplicaLocation;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.storage.PresignedGetUrlCache;
+import com.standard.objectstorage.controlplane.storage.StorageObjectDeleter;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectLocationCache;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import com.standard.objectstorage.controlplane.storedObjcet.StoredObjectRepository;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// DB / storage node 없이 keyset 순회 / 선점 / 복제본 삭제 흐름만 확인 (shard / 트랜잭션은 호출 스레드에서 바로 실행)
+class LifecycleSweeperTest {
+
+    private static final long BUCKET_ID = 7L;
+    private static final String BUCKET = "bucket";
+    private static final int BATCH_SIZE = 2;
+    private static final long WAIT_MILLIS = 2_000;
+
+    private final BucketRepository bucketRepository = mock(BucketRepository.class);
+    private final BucketLifecycleService bucketLifecycleService = mock(BucketLifecycleService.class);
+    private final StoredObjectRepository storedObjectRepository = mock(StoredObjectRepository.class);
+    private final ObjectReplicaRepository objectReplicaRepository = mock(ObjectReplicaRepository.class);
+    private final ShardMap shardMap = mock(ShardMap.class);
+    private final ObjectLocationCache objectLocationCache = mock(ObjectLocationCache.class);
+    private final StorageObjectDeleter storageObjectDeleter = mock(StorageObjectDeleter.class);
+    private final BucketUsageRecorder bucketUsageRecorder = mock(BucketUsageRecorder.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LocalDateTime expiredAt = LocalDateTime.now().minusDays(10);
+
+    private LifecycleSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        when(shardMap.onBucket(anyLong(), any())).thenAnswer(
+            invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(bucketRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(BUCKET_ID));
+        when(bucketRepository.findAllById(List.of(BUCKET_ID))).thenReturn(
+            List.of(Bucket.builder().id(BUCKET_ID).name(BUCKET).deleting(false).build()));
+        // COMPLETE 객체만 1일 뒤 만료
+        when(bucketLifecycleService.rulesOf(List.of(BUCKET_ID))).thenReturn(
+            Map.of(BUCKET_ID, LifecycleRule.of(0, 1, 0)));
+
+        when(storedObjectRepository.claimExpired(any(), any(), any(), any())).thenReturn(1);
+        when(storedObjectRepository.deleteClaimed(any())).thenReturn(1);
+        when(storageObjectDeleter.deleteAll(eq(BUCKET), any())).thenAnswer(
+            invocation -> invocation.getArgument(1));
+
+        sweeper = new LifecycleSweeper(bucketRepository, bucketLifecycleService,
+            storedObjectRepository, objectReplicaRepository, shardMap, objectLocationCache,
+            new PresignedGetUrlCache(meterRegistry, Duration.ZERO, 10), storageObjectDeleter,
+            new ReplicaDeleteTargets(objectReplicaRepository, shardMap), bucketUsageRecorder,
+            transactionTemplate, meterRegistry, 100, BATCH_SIZE, 10_000, 3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweeper.shutdown();
+    }
+
+    @Test
+    void walksExpiredObjectsByUpdatedAtAndIdKeyset() {
+        ExpiredObject a = expired("a", expiredAt);
+        ExpiredObject b = expired("b", expiredAt.plusSeconds(1));
+        ExpiredObject c = expired("c", expiredAt.plusSeconds(2));
+        when(storedObjectRepository.findFirstExpired(eq(BUCKET_ID), eq(ObjectStatus.COMPLETE),
+            any(), any())).thenReturn(List.of(a, b));
+        when(storedObjectRepository.findExpiredAfter(eq(BUCKET_ID), eq(ObjectStatus.COMPLETE),
+            any(), eq(b.updatedAt()), eq(b.id()), any())).thenReturn(List.of(c));
+
+        sweep();
+
+        verify(storedObjectRepository).deleteClaimed(a.id());
+        verify(storedObjectRepository).deleteClaimed(b.id());
+        verify(storedObjectRepository).deleteClaimed(c.id());
+        // 마지막 page 가 BATCH_SIZE 보다 작으면 더 조회하지 않음
+        verify(storedObjectRepository, never()).findExpiredAfter(eq(BUCKET_ID),
+            eq(ObjectStatus.COMPLETE), any(), eq(c.updatedAt()), eq(c.id()), any());
+        verify(bucketUsageRecorder).record(BUCKET_ID, -2, -20);
+        verify(bucketUsageRecorder).record(BUCKET_ID, -1, -10);
+    }
+
+    @Test
+    void claimsRowsBeforeDeletingFilesAndSkipsRowsChangedSinceLookup() {
+        ExpiredObject a = expired("a", expiredAt);
+        ExpiredObject reuploaded = expired("b", expiredAt.plusSeconds(1));
+        page(a, reuploaded);
+        when(storedObjectRepository.claimExpired(eq(reuploaded.id()), any(), any(), any()))
+            .thenReturn(0);
+
+        sweep();
+
+        // 선점하지 못한 객체(조회 이후 다시 업로드됨)의 파일은 삭제하지 않음
+        verify(storageObjectDeleter).deleteAll(BUCKET, List.of(a.toDeleteTarget()));
+        verify(storedObjectRepository, never()).deleteClaimed(reuploaded.id());
+        verify(storedObjectRepository).deleteClaimed(a.id());
+        verify(objectLocationCache, never()).evict(BUCKET_ID, "b");
+        assertThat(meterRegistry.counter("lifecycle.expired", "status", "COMPLETE").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void deletesReplicaFilesAndRestoresRowsWhoseFilesRemain() {
+        ExpiredObject a = expired("a", expiredAt);
+        ExpiredObject b = expired("b", expiredAt.plusSeconds(1));
+        page(a, b);
+        ObjectDeleteTarget aReplica = replicaOf(a, "node-2");
+        ObjectDeleteTarget bReplica = replicaOf(b, "node-2");
+        when(objectReplicaRepository.findLocations(any())).thenReturn(List.of(
+            new ReplicaLocation(a.id(), "node-1"), new ReplicaLocation(a.id(), "node-2"),
+            new ReplicaLocation(b.id(), "node-2")));
+        List<ObjectDeleteTarget> targets = List.of(a.toDeleteTarget(), b.toDeleteTarget(),
+            aReplica, bReplica);
+        when(storageObjectDeleter.deleteAll(BUCKET, targets)).thenReturn(
+            List.of(a.toDeleteTarget(), b.toDeleteTarget(), aReplica));
+
+        sweep();
+
+        verify(storedObjectRepository).deleteClaimed(a.id());
+        verify(objectReplicaRepository).deleteByObjectIds(List.of(a.id()));
+        // 복제본이 남은 객체는 선점 전 상태로 되돌려 다음 주기에 다시 시도
+        verify(storedObjectRepository, never()).deleteClaimed(b.id());
+        verify(storedObjectRepository).restoreClaimed(b.id(), ObjectStatus.COMPLETE,
+            b.contentHash(), b.updatedAt());
+        verify(bucketUsageRecorder).record(BUCKET_ID, -1, -10);
+        assertThat(meterRegistry.counter("lifecycle.expire.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void deletesReferenceRowsWithoutFilesAndReleasesSource() {
+        UUID sourceId = UUID.randomUUID();
+        ExpiredObject reference = new ExpiredObject(UUID.randomUUID(), "ref",
+            StoragePath.of("node-1", BUCKET, "origin"), 10L, ObjectStatus.COMPLETE, null,
+            sourceId, expiredAt);
+        page(reference);
+
+        sweep();
+
+        // 원본 객체의 파일은 삭제하지 않음
+        verify(storageObjectDeleter).deleteAll(BUCKET, List.of());
+        verify(storedObjectRepository).deleteClaimed(reference.id());
+        verify(storedObjectRepository).removeReference(sourceId);
+    }
+
+    @Test
+    void keepsReferencedSourceWhileItsReferenceExpires() {
+        ExpiredObject source = expired("origin", expiredAt);
+        ExpiredObject reference = new ExpiredObject(UUID.randomUUID(), "ref",
+            source.storagePath(), 10L, ObjectStatus.COMPLETE, null, source.id(),
+            expiredAt.plusSeconds(1));
+        page(source, reference);
+        // 참조하는 객체가 남아있는(ref_count > 0) 원본은 선점되지 않음
+        when(storedObjectRepository.claimExpired(eq(source.id()), any(), any(), any()))
+            .thenReturn(0);
+
+        sweep();
+
+        verify(storageObjectDeleter).deleteAll(BUCKET, List.of());
+        verify(storedObjectRepository, never()).deleteClaimed(source.id());
+        verify(storedObjectRepository).deleteClaimed(reference.id());
+        verify(storedObjectRepository).removeReference(source.id());
+        verify(bucketUsageRecorder).record(BUCKET_ID, -1, -10);
+    }
+
+    @Test
+    void resumesInterruptedClaimsWithReplicasAndKeepsThemClaimedOnFailure() {
+        ExpiredObject stuck = new ExpiredObject(UUID.randomUUID(), "stuck",
+            StoragePath.of("node-1", BUCKET, "stuck"), 10L, ObjectStatus.DELETING, null, null,
+            LocalDateTime.now().minusDays(1));
+        when(storedObjectRepository.findFirstExpired(eq(BUCKET_ID), eq(ObjectStatus.DELETING),
+            any(), any())).thenReturn(List.of(stuck));
+        when(objectReplicaRepository.findLocations(any())).thenReturn(
+            List.of(new ReplicaLocation(stuck.id(), "node-2")));
+        when(storageObjectDeleter.deleteAll(eq(BUCKET), any())).thenReturn(List.of());
+
+        sweep();
+
+        verify(storedObjectRepository).claimExpired(eq(stuck.id()), eq(ObjectStatus.DELETING),
+            any(), any());
+        verify(storageObjectDeleter).deleteAll(BUCKET,
+            List.of(stuck.toDeleteTarget(), replicaOf(stuck, "node-2")));
+        // 이전 상태를 알 수 없으므로 되돌리지 않고 claimTimeout 이후 다시 시도
+        verify(storedObjectRepository, never()).restoreClaimed(any(), any(), any(), any());
+        verify(storedObjectRepository, never()).deleteClaimed(stuck.id());
+    }
+
+    private void sweep() {
+        sweeper.dispatch();
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (meterRegistry.timer("lifecycle.sweep").count() == 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void page(ExpiredObject... objects) {
+        when(storedObjectRepository.findFirstExpired(eq(BUCKET_ID), eq(ObjectStatus.COMPLETE),
+            any(), any())).thenReturn(List.of(objects));
+    }
+
+    private static ExpiredObject expired(String key, LocalDateTime updatedAt) {
+        return new ExpiredObject(UUID.randomUUID(), key, StoragePath.of("node-1", BUCKET, key), 10L,
+            ObjectStatus.COMPLETE, "hash-" + key, null, updatedAt);
+    }
+
+    private static ObjectDeleteTarget replicaOf(ExpiredObject object, String nodeId) {
+        return new ObjectDeleteTarget(object.id(), object.objectKey(),
+            StoragePath.of(nodeId, BUCKET, object.objectKey()), object.size(), object.status());
+    }
+}
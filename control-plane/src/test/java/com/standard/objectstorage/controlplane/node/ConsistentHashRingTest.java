@@ -0,0 +1,65 @@
+package com.standard.objectstorage.controlplane.node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    void addingNodeMovesOnlyItsShareOfKeys() {
+        List<StorageNodeInfo> nodes = new ArrayList<>(List.of(node("a", 1), node("b", 1), node("c", 1)));
+        ConsistentHashRing before = ConsistentHashRing.build(nodes, 128);
+
+        nodes.add(node("d", 1));
+        ConsistentHashRing after = ConsistentHashRing.build(nodes, 128);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            StorageNodeInfo from = before.locate("bucket", "key-" + i);
+            StorageNodeInfo to = after.locate("bucket", "key-" + i);
+            if (!from.equals(to)) {
+                // 이동한 key 는 모두 새 node 로만 이동
+                assertThat(to.id()).isEqualTo("d");
+                moved++;
+            }
+        }
+        // 이상적인 이동 비율 1/4
+        assertThat(moved).isBetween(KEYS / 4 - KEYS / 10, KEYS / 4 + KEYS / 10);
+    }
+
+    @Test
+    void keysAreDistributedByWeight() {
+        ConsistentHashRing ring = ConsistentHashRing.build(
+            List.of(node("small", 1), node("large", 3)), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.locate("bucket", "key-" + i).id(), 1, Integer::sum);
+        }
+
+        double largeShare = counts.get("large") / (double) KEYS;
+        assertThat(largeShare).isBetween(0.65, 0.85);
+    }
+
+    @Test
+    void successorsAreDistinctAndStartWithPrimary() {
+        ConsistentHashRing ring = ConsistentHashRing.build(
+            List.of(node("a", 1), node("b", 1), node("c", 1)), 128);
+
+        List<StorageNodeInfo> successors = ring.successors("bucket", "key", 5);
+
+        assertThat(successors).hasSize(3).doesNotHaveDuplicates();
+        assertThat(successors.get(0)).isEqualTo(ring.locate("bucket", "key"));
+    }
+
+    private StorageNodeInfo node(String id, int weight) {
+        return new StorageNodeInfo(id, "http://" + id + ":3000", weight);
+    }
+}
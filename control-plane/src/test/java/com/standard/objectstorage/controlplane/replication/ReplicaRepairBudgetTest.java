@@ -0,0 +1,43 @@
+package com.standard.objectstorage.controlplane.replication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.standard.objectstorage.controlplane.storage.ratelimit.RateLimit;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRepairBudgetTest {
+
+    private static final long NOW = TimeUnit.SECONDS.toNanos(100);
+
+    @Test
+    void limitsConcurrentRepairsOnSourceAndTargetNodes() {
+        ReplicaRepairBudget budget = new ReplicaRepairBudget(2, RateLimit.UNLIMITED);
+
+        assertThat(budget.tryAcquire("a", "b", 1, NOW)).isTrue();
+        assertThat(budget.tryAcquire("a", "c", 1, NOW)).isTrue();
+        // a 가 source 로 2건 진행 중
+        assertThat(budget.tryAcquire("a", "d", 1, NOW)).isFalse();
+        // a 가 target 인 경우도 같은 한도
+        assertThat(budget.tryAcquire("d", "a", 1, NOW)).isFalse();
+        assertThat(budget.inFlight("d")).isZero();
+
+        budget.release("a", "b");
+        assertThat(budget.tryAcquire("d", "a", 1, NOW)).isTrue();
+        assertThat(budget.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedTargetBandwidthIsNotChargedToSource() {
+        ReplicaRepairBudget budget = new ReplicaRepairBudget(10, new RateLimit(100, 100));
+
+        // b 의 전송량 소진
+        assertThat(budget.tryAcquire("c", "b", 100, NOW)).isTrue();
+        assertThat(budget.tryAcquire("a", "b", 100, NOW)).isFalse();
+
+        // a 의 전송량은 차감되지 않았으므로 다른 target 으로는 바로 가능
+        assertThat(budget.tryAcquire("a", "e", 100, NOW)).isTrue();
+        // 1초 후 b 도 다시 가능
+        assertThat(budget.tryAcquire("f", "b", 100, NOW + TimeUnit.SECONDS.toNanos(1))).isTrue();
+    }
+}
@@ -0,0 +1,31 @@
+package com.standard.objectstorage.controlplane.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ShardMapTest {
+
+    @Test
+    void slotIsStableAndInRange() {
+        for (long bucketId = 1; bucketId <= 10_000; bucketId++) {
+            int slot = ShardMap.slotOf(bucketId);
+            assertThat(slot).isBetween(0, ShardMap.SLOT_COUNT - 1);
+            assertThat(ShardMap.slotOf(bucketId)).isEqualTo(slot);
+        }
+    }
+
+    @Test
+    void sequentialBucketIdsSpreadAcrossSlots() {
+        int[] counts = new int[ShardMap.SLOT_COUNT];
+        int buckets = ShardMap.SLOT_COUNT * 100;
+        for (long bucketId = 1; bucketId <= buckets; bucketId++) {
+            counts[ShardMap.slotOf(bucketId)]++;
+        }
+
+        // auto_increment ID 가 몇몇 slot 에 몰리지 않음 (평균 100)
+        for (int count : counts) {
+            assertThat(count).isBetween(90, 110);
+        }
+    }
+}
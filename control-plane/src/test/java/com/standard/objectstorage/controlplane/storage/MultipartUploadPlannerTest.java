@@ -0,0 +1,41 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class MultipartUploadPlannerTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final MultipartUploadPlanner planner =
+        new MultipartUploadPlanner(16 * MB, 5 * MB, 64 * MB, 100);
+
+    @Test
+    void usesPreferredPartSizeAndShortLastPart() {
+        long fileSize = 40 * MB + 7;
+
+        long partSize = planner.partSize(fileSize);
+
+        assertThat(partSize).isEqualTo(16 * MB);
+        assertThat(planner.partCount(fileSize, partSize)).isEqualTo(3);
+        assertThat(planner.sizeOf(3, fileSize, partSize)).isEqualTo(8 * MB + 7);
+    }
+
+    @Test
+    void growsPartSizeToStayWithinMaxParts() {
+        long fileSize = 3000 * MB + 1;
+
+        long partSize = planner.partSize(fileSize);
+
+        assertThat(partSize).isEqualTo(31 * MB);
+        assertThat(planner.partCount(fileSize, partSize)).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void rejectsFilesLargerThanMaxPartsTimesMaxPartSize() {
+        assertThatThrownBy(() -> planner.partSize(100 * 64 * MB + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
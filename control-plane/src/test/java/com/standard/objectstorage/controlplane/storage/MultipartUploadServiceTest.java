@@ -0,0 +1,70 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeUnavailableException;
+import com.standard.objectstorage.controlplane.storage.dto.MultipartPartUrl;
+import com.standard.objectstorage.controlplane.storage.dto.MultipartUploadPlanResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MultipartUploadServiceTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final long FILE_SIZE = 5 * MB + MB / 2;
+    private static final String UPLOAD_ID = "0190c6f4-7b5e-7000-8000-000000000001";
+
+    private final PresignedUrlService presignedUrlService = mock(PresignedUrlService.class);
+    private final MultipartUploadService service = new MultipartUploadService(presignedUrlService,
+        new MultipartUploadPlanner(MB, MB, 64 * MB, 100), 4);
+
+    @BeforeEach
+    void setUp() {
+        when(presignedUrlService.createMultipartPartUrl(anyString(), anyString(), anyString(),
+            anyString(), anyInt(), anyLong(), anyLong()))
+            .thenAnswer(invocation -> invocation.getArgument(0) + "/part/"
+                + invocation.getArgument(4));
+    }
+
+    @Test
+    void chargesOnlyThePartsOfThePage() {
+        assertThat(service.pageBytes(FILE_SIZE, 0, null)).isEqualTo(4 * MB);
+        assertThat(service.pageBytes(FILE_SIZE, 4, null)).isEqualTo(MB + MB / 2);
+        assertThat(service.pageBytes(FILE_SIZE, 6, null)).isZero();
+    }
+
+    @Test
+    void signsNextPageOnThePlannedNode() {
+        when(presignedUrlService.findMultipartNode("bucket", "key", UPLOAD_ID, FILE_SIZE))
+            .thenReturn(new StorageNodeInfo("node-2", "http://node-2", 1));
+
+        MultipartUploadPlanResponse response = service.getParts("bucket", "key", FILE_SIZE,
+            UPLOAD_ID, 4, null);
+
+        assertThat(response.getUploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(response.getParts()).extracting(MultipartPartUrl::getPresignedUrl)
+            .containsExactly("http://node-2/part/5", "http://node-2/part/6");
+        assertThat(response.getNextPartNumberMarker()).isNull();
+    }
+
+    @Test
+    void failsInsteadOfMovingPartsToAnotherNode() {
+        when(presignedUrlService.findMultipartNode("bucket", "key", UPLOAD_ID, FILE_SIZE))
+            .thenThrow(new StorageNodeUnavailableException("node-2"));
+
+        assertThatThrownBy(() -> service.getParts("bucket", "key", FILE_SIZE, UPLOAD_ID, 4, null))
+            .isInstanceOf(StorageNodeUnavailableException.class);
+        verify(presignedUrlService, never()).createMultipartCompleteUrl(anyString(), anyString(),
+            anyString(), eq(UPLOAD_ID), anyLong(), anyLong());
+    }
+}
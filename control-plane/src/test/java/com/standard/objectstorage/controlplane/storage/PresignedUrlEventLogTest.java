@@ -0,0 +1,28 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PresignedUrlEventLogTest {
+
+    @Test
+    void quotesPlainKeyAsIs() {
+        assertThat(PresignedUrlEventLog.quote("photos/2026/a b.jpg"))
+            .isEqualTo("\"photos/2026/a b.jpg\"");
+    }
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() {
+        String key = "a\" outcome=ok\\\nevent=forged\r\t\u0001";
+
+        assertThat(PresignedUrlEventLog.quote(key))
+            .isEqualTo("\"a\\\" outcome=ok\\\\\\nevent=forged\\r\\t\\u0001\"")
+            .doesNotContain("\n", "\r");
+    }
+
+    @Test
+    void quotesNullAsEmpty() {
+        assertThat(PresignedUrlEventLog.quote(null)).isEqualTo("\"\"");
+    }
+}
@@ -0,0 +1,160 @@
+package com.standard.objectstorage.controlplane.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.node.StorageNodeInfo;
+import com.standard.objectstorage.controlplane.node.StorageNodeRegistry;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectDeleteTarget;
+import com.standard.objectstorage.controlplane.storedObjcet.ObjectStatus;
+import com.standard.objectstorage.controlplane.storedObjcet.StoragePath;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 내장 HTTP 서버를 storage node 로 사용 (path 별로 응답 상태 코드를 순서대로 반환)
+class StorageObjectDeleterTest {
+
+    private static final String NODE_ID = "node-1";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, Queue<Integer>> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private StorageObjectDeleter deleter;
+    private volatile long handleMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String key = exchange.getRequestURI().getPath().substring(1);
+            hits.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(handleMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            Queue<Integer> statuses = responses.get(key);
+            Integer status = statuses == null ? null : statuses.poll();
+            exchange.sendResponseHeaders(status == null ? 204 : status, -1);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (deleter != null) {
+            deleter.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void retriesRetryableStatusesWithBackoffAndThenSucceeds() {
+        deleter = deleter(8);
+        respond("flaky", 503, 429);
+
+        List<ObjectDeleteTarget> deleted = deleter.deleteAll("bucket", List.of(target("flaky")));
+
+        assertThat(deleted).extracting(ObjectDeleteTarget::objectKey).containsExactly("flaky");
+        assertThat(hits.get("flaky")).hasValue(3);
+        assertThat(meterRegistry.counter("storage.object.delete.retried").count()).isEqualTo(2);
+    }
+
+    @Test
+    void treatsMissingFileAsDeletedAndDoesNotRetryOtherClientErrors() {
+        deleter = deleter(8);
+        respond("gone", 404);
+        respond("denied", 403);
+
+        List<ObjectDeleteTarget> deleted = deleter.deleteAll("bucket",
+            List.of(target("gone"), target("denied")));
+
+        assertThat(deleted).extracting(ObjectDeleteTarget::objectKey).containsExactly("gone");
+        assertThat(hits.get("denied")).hasValue(1);
+        assertThat(meterRegistry.counter("storage.object.delete", "result", "failed").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        deleter = deleter(8);
+        respond("down", 500, 500, 500, 500);
+
+        List<ObjectDeleteTarget> deleted = deleter.deleteAll("bucket", List.of(target("down")));
+
+        assertThat(deleted).isEmpty();
+        assertThat(hits.get("down")).hasValue(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void limitsConcurrentRequestsToConfiguredPermits() {
+        deleter = deleter(2);
+        handleMillis = 30;
+        List<ObjectDeleteTarget> targets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            targets.add(target("object-" + i));
+        }
+
+        List<ObjectDeleteTarget> deleted = deleter.deleteAll("bucket", targets);
+
+        assertThat(deleted).containsExactlyElementsOf(targets);
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    private StorageObjectDeleter deleter(int concurrency) {
+        String endpoint = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        PresignedUrlService presignedUrlService = mock(PresignedUrlService.class);
+        when(presignedUrlService.createDeletePresignedUrl(anyString(), anyString(), anyString(),
+            anyLong(), anyLong()))
+            .thenAnswer(invocation -> invocation.getArgument(0) + "/" + invocation.getArgument(2));
+
+        StorageNodeRegistry storageNodeRegistry = mock(StorageNodeRegistry.class);
+        when(storageNodeRegistry.findNode(NODE_ID))
+            .thenReturn(Optional.of(new StorageNodeInfo(NODE_ID, endpoint, 1)));
+
+        return new StorageObjectDeleter(presignedUrlService, storageNodeRegistry, meterRegistry,
+            concurrency, 2_000, MAX_ATTEMPTS, 1);
+    }
+
+    private void respond(String key, Integer... statuses) {
+        responses.put(key, new ConcurrentLinkedQueue<>(List.of(statuses)));
+    }
+
+    private static ObjectDeleteTarget target(String key) {
+        return new ObjectDeleteTarget(UUID.randomUUID(), key, StoragePath.of(NODE_ID, "bucket", key),
+            10L, ObjectStatus.COMPLETE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.standard.objectstorage.controlplane.storage.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        RateLimit limit = new RateLimit(10, 5);
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(1, limit, 0)).isZero();
+        }
+        long wait = bucket.tryAcquire(1, limit, 0);
+
+        assertThat(wait).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquire(1, limit, wait)).isZero();
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        RateLimit limit = new RateLimit(10, 5);
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(1, limit, 0);
+        }
+
+        long later = SECOND / 2; // 5 개 다시 채워짐
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(1, limit, later)).isZero();
+        }
+        assertThat(bucket.tryAcquire(1, limit, later)).isPositive();
+    }
+
+    @Test
+    void requestLargerThanBurstPassesOnlyWhenFull() {
+        RateLimit limit = new RateLimit(100, 100);
+        TokenBucket bucket = new TokenBucket(0);
+
+        assertThat(bucket.tryAcquire(500, limit, 0)).isZero();
+        // 500 개가 채워질 때까지(5초) 대기, burst 만큼 채워지면(4초 후) 다시 허용
+        assertThat(bucket.tryAcquire(1, limit, SECOND)).isEqualTo(3 * SECOND + SECOND / 100);
+        assertThat(bucket.tryAcquire(1, limit, 4 * SECOND + SECOND / 100)).isZero();
+    }
+
+    @Test
+    void refundReturnsTokens() {
+        RateLimit limit = new RateLimit(1, 1);
+        TokenBucket bucket = new TokenBucket(0);
+
+        assertThat(bucket.tryAcquire(1, limit, 0)).isZero();
+        bucket.refund(1, limit);
+
+        assertThat(bucket.tryAcquire(1, limit, 0)).isZero();
+    }
+
+    @Test
+    void disabledLimitNeverRejects() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bucket.tryAcquire(Long.MAX_VALUE / 2, RateLimit.UNLIMITED, 0)).isZero();
+        }
+    }
+}
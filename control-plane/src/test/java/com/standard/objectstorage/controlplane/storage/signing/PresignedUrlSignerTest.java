@@ -0,0 +1,108 @@
+package com.standard.objectstorage.controlplane.storage.signing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.standard.objectstorage.controlplane.utils.CryptoUtils;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PresignedUrlSignerTest {
+
+    private static final String SECRET = "test-secret-key";
+
+    @Test
+    void signatureMatchesLegacyCanonicalString() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+
+        String objectKey = "works/해외/my photo(캐나다).jpg";
+        String expected = CryptoUtils.hmacSha256Base64Url(
+            "bucket=photos&objectKey=" + objectKey + "&method=PUT&exp=1771477681&fileSize=1024",
+            SECRET
+        );
+
+        assertThat(signer.sign("photos", objectKey, "PUT", 1771477681L, 1024L))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void presignedUrlKeepsLegacyFormatForDefaultKey() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+
+        String url = signer.presignedUrl("http://node:3000", "objects/direct", "photos",
+            "picture/a.jpg", "photos", "picture/a.jpg", "GET", 1771477681L, 10L);
+
+        String signature = CryptoUtils.hmacSha256Base64Url(
+            "bucket=photos&objectKey=picture/a.jpg&method=GET&exp=1771477681&fileSize=10", SECRET);
+        assertThat(url).isEqualTo(
+            "http://node:3000/objects/direct/photos/picture/a.jpg"
+                + "?bucket=photos&objectKey=picture/a.jpg&method=GET&exp=1771477681&fileSize=10"
+                + "&signature=" + signature);
+    }
+
+    @Test
+    void rotatedKeyIsUsedAndIdentifiedByKeyId() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+        signer.rotate(SigningKeyRing.of(Map.of("default", SECRET, "k2", "rotated-secret"), "k2"));
+
+        String url = signer.presignedUrl("http://node:3000", "objects/direct", "photos",
+            "a.jpg", "photos", "a.jpg", "PUT", 1L, 1L);
+
+        String signature = CryptoUtils.hmacSha256Base64Url(
+            "bucket=photos&objectKey=a.jpg&method=PUT&exp=1&fileSize=1", "rotated-secret");
+        assertThat(url).endsWith("&signature=" + signature + "&keyId=k2");
+    }
+
+    @Test
+    void multipartUrlBindsUploadIdAndPartNumberToSignature() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+        String uploadId = "01890a5d-ac96-774b-bcce-b302099a8057";
+
+        String partUrl = signer.multipartUrl("http://node:3000", "photos", "video.mp4", "PUT",
+            1771477681L, 16L, uploadId, 3);
+        String completeUrl = signer.multipartUrl("http://node:3000", "photos", "video.mp4", "POST",
+            1771477681L, 40L, uploadId, 0);
+
+        String partCanonical = "bucket=photos&objectKey=video.mp4&method=PUT&exp=1771477681"
+            + "&fileSize=16&uploadId=" + uploadId + "&partNumber=3";
+        String completeCanonical = "bucket=photos&objectKey=video.mp4&method=POST&exp=1771477681"
+            + "&fileSize=40&uploadId=" + uploadId;
+        assertThat(partUrl).isEqualTo(
+            "http://node:3000/multipart/" + uploadId + "/3?" + partCanonical
+                + "&signature=" + CryptoUtils.hmacSha256Base64Url(partCanonical, SECRET));
+        assertThat(completeUrl).isEqualTo(
+            "http://node:3000/multipart/" + uploadId + "/complete?" + completeCanonical
+                + "&signature=" + CryptoUtils.hmacSha256Base64Url(completeCanonical, SECRET));
+    }
+
+    @Test
+    void replicaRepairUrlSignsDecodedTargetAndEncodesQuery() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+
+        String url = signer.replicaRepairUrl("http://node1:3000", "photos", "my photo.jpg",
+            1771477681L, 10L, "http://node2:3000");
+
+        String signature = CryptoUtils.hmacSha256Base64Url(
+            "bucket=photos&objectKey=my photo.jpg&method=POST&exp=1771477681&fileSize=10"
+                + "&target=http://node2:3000", SECRET);
+        assertThat(url).isEqualTo(
+            "http://node1:3000/internal/replications/repair"
+                + "?bucket=photos&objectKey=my%20photo.jpg&method=POST&exp=1771477681&fileSize=10"
+                + "&target=http://node2:3000&signature=" + signature);
+    }
+
+    @Test
+    void objectLinkUrlSignsDecodedLinkKeyAndEncodesQuery() {
+        PresignedUrlSigner signer = new PresignedUrlSigner(SECRET);
+
+        String url = signer.objectLinkUrl("http://node1:3000", "photos", "a.jpg", 1771477681L,
+            10L, "my copy.jpg");
+
+        String signature = CryptoUtils.hmacSha256Base64Url(
+            "bucket=photos&objectKey=a.jpg&method=POST&exp=1771477681&fileSize=10"
+                + "&linkKey=my copy.jpg", SECRET);
+        assertThat(url).isEqualTo(
+            "http://node1:3000/internal/objects/link"
+                + "?bucket=photos&objectKey=a.jpg&method=POST&exp=1771477681&fileSize=10"
+                + "&linkKey=my%20copy.jpg&signature=" + signature);
+    }
+}
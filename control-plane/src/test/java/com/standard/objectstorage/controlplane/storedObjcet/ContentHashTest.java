@@ -0,0 +1,31 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ContentHashTest {
+
+    private static final String SHA256 =
+        "9F86D081884C7D659A2FEAA0C55AD015A3BF4F1B2B0B822CD15D6C15B0F00A08";
+
+    @Test
+    void normalizesSha256HexToLowerCase() {
+        assertThat(ContentHash.of(SHA256)).isEqualTo(SHA256.toLowerCase());
+    }
+
+    @Test
+    void ignoresOtherEtagFormats() {
+        assertThat(ContentHash.of(null)).isNull();
+        assertThat(ContentHash.of("d41d8cd98f00b204e9800998ecf8427e")).isNull();
+        assertThat(ContentHash.of(SHA256.substring(1) + "g")).isNull();
+        assertThat(ContentHash.of("\"" + SHA256 + "\"")).isNull();
+    }
+
+    @Test
+    void storedObjectKeyFollowsBucketInStoragePath() {
+        assertThat(StoragePath.objectKeyOf(StoragePath.of("node-1", "photos", "a/b.png")))
+            .isEqualTo("a/b.png");
+        assertThat(StoragePath.objectKeyOf("node-1")).isNull();
+    }
+}
@@ -0,0 +1,342 @@
+package com.standard.objectstorage.controlplane.storedObjcet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.bucket.BucketMetadata;
+import com.standard.objectstorage.controlplane.bucket.BucketRepository;
+import com.standard.objectstorage.controlplane.replication.ReplicaTracker;
+import com.standard.objectstorage.controlplane.replication.ReplicatedObject;
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.usage.BucketUsageRecorder;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// DB 없이 참조 기록 / 해제 / 파일 이동 흐름만 확인 (shard / 트랜잭션은 호출 스레드에서 바로 실행)
+class StoredObjectServiceTest {
+
+    private static final long BUCKET_ID = 7L;
+    private static final String BUCKET = "bucket";
+    private static final String HASH = "a".repeat(64);
+    private static final String UPLOAD_ID = "0190c6f4-7b5e-7000-8000-000000000001";
+
+    private final BucketRepository bucketRepository = mock(BucketRepository.class);
+    private final StoredObjectRepository storedObjectRepository = mock(StoredObjectRepository.class);
+    private final ObjectLocationCache objectLocationCache = mock(ObjectLocationCache.class);
+    private final ShardMap shardMap = mock(ShardMap.class);
+    private final BucketUsageRecorder bucketUsageRecorder = mock(BucketUsageRecorder.class);
+    private final ReplicaTracker replicaTracker = mock(ReplicaTracker.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final StoredObjectService service = new StoredObjectService(bucketRepository,
+        storedObjectRepository, objectLocationCache, shardMap, bucketUsageRecorder,
+        replicaTracker, transactionTemplate);
+
+    private final LocalDateTime completedBefore = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        when(bucketRepository.findMetadataByName(BUCKET)).thenReturn(
+            Optional.of(new BucketMetadata(BUCKET_ID, BUCKET, 1L, false)));
+        when(bucketRepository.findDeletingById(BUCKET_ID)).thenReturn(Optional.of(false));
+        when(shardMap.onBucket(anyLong(), any())).thenAnswer(
+            invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(shardMap).runOnBucket(anyLong(), any());
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(storedObjectRepository.addReference(any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void refersToSourceAndCountsNewObject() {
+        StoredObject source = source("origin", 10L);
+        sources(source);
+
+        assertThat(service.storeDuplicate(BUCKET, "copy", 10, HASH, completedBefore)).isTrue();
+
+        verify(storedObjectRepository).addReference(source.getId(), HASH);
+        StoredObject saved = saved();
+        assertThat(saved.getObjectKey()).isEqualTo("copy");
+        assertThat(saved.getSourceId()).isEqualTo(source.getId());
+        assertThat(saved.getStoragePath()).isEqualTo(source.getStoragePath());
+        assertThat(saved.getContentHash()).isNull();
+        verify(bucketUsageRecorder).record(BUCKET_ID, 1, 10);
+    }
+
+    @Test
+    void uploadsWhenSourceWasReleasedAfterLookup() {
+        sources(source("origin", 10L));
+        when(storedObjectRepository.addReference(any(), any())).thenReturn(0);
+
+        assertThat(service.storeDuplicate(BUCKET, "copy", 10, HASH, completedBefore)).isFalse();
+
+        verify(storedObjectRepository, never()).save(any());
+        verify(bucketUsageRecorder, never()).record(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void uploadsWhenSizeDiffers() {
+        sources(source("origin", 10L));
+
+        assertThat(service.storeDuplicate(BUCKET, "copy", 11, HASH, completedBefore)).isFalse();
+
+        verify(storedObjectRepository, never()).addReference(any(), any());
+    }
+
+    @Test
+    void movesReferenceFromPreviousSource() {
+        StoredObject source = source("origin", 10L);
+        sources(source);
+        UUID previousSourceId = UUID.randomUUID();
+        StoredObject existing = StoredObject.builder()
+            .id(UUID.randomUUID())
+            .objectKey("copy")
+            .storagePath(StoragePath.of("node-1", BUCKET, "previous"))
+            .size(4L)
+            .status(ObjectStatus.COMPLETE)
+            .sourceId(previousSourceId)
+            .build();
+        when(storedObjectRepository.findByBucketIdAndObjectKey(BUCKET_ID, "copy"))
+            .thenReturn(Optional.of(existing));
+
+        assertThat(service.storeDuplicate(BUCKET, "copy", 10, HASH, completedBefore)).isTrue();
+
+        InOrder order = inOrder(storedObjectRepository);
+        order.verify(storedObjectRepository).addReference(source.getId(), HASH);
+        order.verify(storedObjectRepository).removeReference(previousSourceId);
+        assertThat(saved().getSourceId()).isEqualTo(source.getId());
+        verify(bucketUsageRecorder).record(BUCKET_ID, 0, 6);
+    }
+
+    @Test
+    void doesNotReferFromObjectWithItsOwnFileOrBeingDeleted() {
+        sources(source("origin", 10L));
+        when(storedObjectRepository.findByBucketIdAndObjectKey(BUCKET_ID, "own"))
+            .thenReturn(Optional.of(object("own", ObjectStatus.COMPLETE)));
+        when(storedObjectRepository.findByBucketIdAndObjectKey(BUCKET_ID, "deleting"))
+            .thenReturn(Optional.of(object("deleting", ObjectStatus.DELETING)));
+
+        assertThat(service.storeDuplicate(BUCKET, "own", 10, HASH, completedBefore)).isFalse();
+        assertThat(service.storeDuplicate(BUCKET, "deleting", 10, HASH, completedBefore))
+            .isFalse();
+
+        verify(storedObjectRepository, never()).addReference(any(), any());
+    }
+
+    @Test
+    void rejectsUploadWhenPurgeStartedOnAnotherInstance() {
+        // 캐시된 메타데이터는 아직 삭제 중이 아님
+        when(bucketRepository.findDeletingById(BUCKET_ID)).thenReturn(Optional.of(true));
+
+        assertThatThrownBy(() -> service.recordPending(BUCKET, "key", 10, "node-1"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Bucket is being deleted");
+        assertThatThrownBy(() -> service.storeDuplicate(BUCKET, "key", 10, HASH, completedBefore))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Bucket is being deleted");
+
+        verify(storedObjectRepository, never()).save(any());
+        verify(storedObjectRepository, never()).addReference(any(), any());
+    }
+
+    @Test
+    void signalsReferencedObjectOnOverwrite() {
+        StoredObject source = source("origin", 10L);
+        when(storedObjectRepository.findByBucketIdAndObjectKey(BUCKET_ID, "origin"))
+            .thenReturn(Optional.of(source));
+        when(storedObjectRepository.releaseContent(source.getId())).thenReturn(0);
+
+        assertThatThrownBy(() -> service.recordPending(BUCKET, "origin", 20, "node-1"))
+            .isInstanceOf(ObjectInUseException.class);
+
+        verify(storedObjectRepository, never()).planUpload(any(), any(), any(), any());
+        verify(objectLocationCache).evict(BUCKET_ID, "origin");
+    }
+
+    @Test
+    void releasesContentBeforeSigningMultipartPagesOfOverwrite() {
+        UUID id = UUID.randomUUID();
+        multipartUpload(new MultipartUpload(id, ObjectStatus.COMPLETE, HASH, UPLOAD_ID, "node-2",
+            20L));
+        when(storedObjectRepository.releaseContent(id)).thenReturn(1);
+
+        assertThat(service.findMultipartNodeId(BUCKET, "key", UPLOAD_ID, 20)).isEqualTo("node-2");
+
+        verify(storedObjectRepository).releaseContent(id);
+        verify(objectLocationCache).evict(BUCKET_ID, "key");
+    }
+
+    @Test
+    void signalsReferencedObjectOnMultipartPages() {
+        UUID id = UUID.randomUUID();
+        multipartUpload(new MultipartUpload(id, ObjectStatus.COMPLETE, HASH, UPLOAD_ID, "node-2",
+            20L));
+        when(storedObjectRepository.releaseContent(id)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.findMultipartNodeId(BUCKET, "key", UPLOAD_ID, 20))
+            .isInstanceOf(ObjectInUseException.class);
+    }
+
+    @Test
+    void doesNotReleasePendingMultipartUpload() {
+        multipartUpload(new MultipartUpload(UUID.randomUUID(), ObjectStatus.PENDING, null,
+            UPLOAD_ID, "node-2", 20L));
+
+        assertThat(service.findMultipartNodeId(BUCKET, "key", UPLOAD_ID, 20)).isEqualTo("node-2");
+
+        verify(storedObjectRepository, never()).releaseContent(any());
+    }
+
+    @Test
+    void findsFirstReferenceToTakeOverContent() {
+        StoredObject source = referencedSource();
+        StoredObject reference = reference("copy", source.getId());
+        when(storedObjectRepository.findFirstBySourceIdOrderByIdAsc(source.getId()))
+            .thenReturn(Optional.of(reference));
+
+        assertThat(service.findReferencedContent(BUCKET, "origin")).contains(
+            new ReferencedContent(source.getId(), source.getStoragePath(), 10L, HASH,
+                reference.getId(), "copy"));
+    }
+
+    @Test
+    void clearsDanglingReferenceCount() {
+        StoredObject source = referencedSource();
+        when(storedObjectRepository.findFirstBySourceIdOrderByIdAsc(source.getId()))
+            .thenReturn(Optional.empty());
+
+        assertThat(service.findReferencedContent(BUCKET, "origin")).isEmpty();
+
+        verify(storedObjectRepository).clearReferences(source.getId());
+    }
+
+    @Test
+    void movesReferencesToLinkedFile() {
+        ReferencedContent content = new ReferencedContent(UUID.randomUUID(),
+            StoragePath.of("node-1", BUCKET, "origin"), 10L, HASH, UUID.randomUUID(), "copy");
+        String copiedPath = StoragePath.of("node-1", BUCKET, "copy");
+        when(storedObjectRepository.findReferenceKeys(content.sourceId()))
+            .thenReturn(List.of("copy", "other"));
+        when(storedObjectRepository.moveReferences(content.sourceId(), content.referenceId(),
+            copiedPath)).thenReturn(1);
+        when(storedObjectRepository.takeOverContent(content.referenceId(), content.sourceId(),
+            copiedPath, HASH, 1)).thenReturn(1);
+
+        assertThat(service.moveReferencedContent(BUCKET, content, "node-1"))
+            .containsExactly("copy", "other");
+
+        // 원본 행을 먼저 갱신하여 동시에 원본을 참조하려는 요청이 이동 이후 참조에 실패하도록
+        InOrder order = inOrder(storedObjectRepository, replicaTracker);
+        order.verify(storedObjectRepository).clearReferences(content.sourceId());
+        order.verify(storedObjectRepository).moveReferences(content.sourceId(),
+            content.referenceId(), copiedPath);
+        order.verify(storedObjectRepository).takeOverContent(content.referenceId(),
+            content.sourceId(), copiedPath, HASH, 1);
+        order.verify(replicaTracker).track(eq(List.of(
+            new ReplicatedObject(BUCKET_ID, BUCKET, "copy", "node-1"))), any());
+        verify(objectLocationCache).evict(BUCKET_ID, "copy");
+        verify(objectLocationCache).evict(BUCKET_ID, "other");
+    }
+
+    @Test
+    void retriesWhenReferenceChangedDuringLink() {
+        ReferencedContent content = new ReferencedContent(UUID.randomUUID(),
+            StoragePath.of("node-1", BUCKET, "origin"), 10L, HASH, UUID.randomUUID(), "copy");
+        when(storedObjectRepository.findReferenceKeys(content.sourceId()))
+            .thenReturn(List.of("copy"));
+        when(storedObjectRepository.takeOverContent(any(), any(), any(), any(), anyInt()))
+            .thenReturn(0);
+
+        assertThatThrownBy(() -> service.moveReferencedContent(BUCKET, content, "node-1"))
+            .isInstanceOf(ObjectInUseException.class);
+
+        verify(replicaTracker, never()).track(any(), any());
+        verify(objectLocationCache, never()).evict(anyLong(), any());
+    }
+
+    private void sources(StoredObject... sources) {
+        when(storedObjectRepository.findContentSources(eq(BUCKET_ID), eq(HASH),
+            eq(completedBefore), any(Limit.class))).thenReturn(List.of(sources));
+    }
+
+    private void multipartUpload(MultipartUpload upload) {
+        when(storedObjectRepository.findMultipartUpload(BUCKET_ID, "key"))
+            .thenReturn(Optional.of(upload));
+    }
+
+    private StoredObject saved() {
+        ArgumentCaptor<StoredObject> saved = ArgumentCaptor.forClass(StoredObject.class);
+        verify(storedObjectRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private StoredObject referencedSource() {
+        StoredObject source = StoredObject.builder()
+            .id(UUID.randomUUID())
+            .objectKey("origin")
+            .storagePath(StoragePath.of("node-1", BUCKET, "origin"))
+            .size(10L)
+            .status(ObjectStatus.COMPLETE)
+            .contentHash(HASH)
+            .refCount(2)
+            .build();
+        when(storedObjectRepository.findByBucketIdAndObjectKey(BUCKET_ID, "origin"))
+            .thenReturn(Optional.of(source));
+        return source;
+    }
+
+    private static StoredObject source(String key, Long size) {
+        return StoredObject.builder()
+            .id(UUID.randomUUID())
+            .objectKey(key)
+            .storagePath(StoragePath.of("node-1", BUCKET, key))
+            .size(size)
+            .status(ObjectStatus.COMPLETE)
+            .contentHash(HASH)
+            .build();
+    }
+
+    private static StoredObject reference(String key, UUID sourceId) {
+        return StoredObject.builder()
+            .id(UUID.randomUUID())
+            .objectKey(key)
+            .storagePath(StoragePath.of("node-1", BUCKET, "origin"))
+            .size(10L)
+            .status(ObjectStatus.COMPLETE)
+            .sourceId(sourceId)
+            .build();
+    }
+
+    private static StoredObject object(String key, ObjectStatus status) {
+        return StoredObject.builder()
+            .id(UUID.randomUUID())
+            .objectKey(key)
+            .storagePath(StoragePath.of("node-1", BUCKET, key))
+            .size(10L)
+            .status(status)
+            .build();
+    }
+}
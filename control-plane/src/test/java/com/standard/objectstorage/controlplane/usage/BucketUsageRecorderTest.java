@@ -0,0 +1,177 @@
+package com.standard.objectstorage.controlplane.usage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.standard.objectstorage.controlplane.shard.ShardMap;
+import com.standard.objectstorage.controlplane.shard.ShardRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// batch update 는 기록만 하고, 첫 failures 번은 실패시킴
+class BucketUsageRecorderTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ShardMap shardMap = mock(ShardMap.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Batch> batches = new ArrayList<>();
+    private final Map<Long, AtomicLong> flushedObjects = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> flushedBytes = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private BucketUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        when(shardMap.shardOf(anyLong())).thenAnswer(invocation -> (int) (
+            (long) invocation.getArgument(0) % 2));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            if (failures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            List<Object[]> args = invocation.getArgument(1);
+            List<Long> bucketIds = new ArrayList<>();
+            for (Object[] arg : args) {
+                long bucketId = (Long) arg[3];
+                bucketIds.add(bucketId);
+                flushedObjects.computeIfAbsent(bucketId, id -> new AtomicLong())
+                    .addAndGet((Long) arg[0]);
+                flushedBytes.computeIfAbsent(bucketId, id -> new AtomicLong())
+                    .addAndGet((Long) arg[1]);
+            }
+            synchronized (batches) {
+                batches.add(new Batch(ShardRouting.current(), bucketIds));
+            }
+            return new int[args.size()];
+        });
+        recorder = new BucketUsageRecorder(jdbcTemplate, shardMap, meterRegistry);
+    }
+
+    @Test
+    void flushesDeltasPerShardInBucketOrderAndPrunesDrainedBuckets() {
+        recorder.record(3L, 1, 100);
+        recorder.record(2L, 1, 10);
+        recorder.record(1L, 2, 20);
+        recorder.record(3L, -1, -100);
+        recorder.record(1L, 1, 5);
+
+        recorder.flush();
+
+        assertThat(batches).containsExactly(
+            new Batch(0, List.of(2L)),
+            new Batch(1, List.of(1L)));
+        assertThat(flushedObjects.get(1L)).hasValue(3);
+        assertThat(flushedBytes.get(1L)).hasValue(25);
+        assertThat(flushedObjects).doesNotContainKey(3L);
+        assertThat(recorder.pending(1L)).isEqualTo(UsageDelta.ZERO);
+        assertThat(pendingBuckets()).isZero();
+    }
+
+    @Test
+    void keepsDeltasOfFrozenBucketsUntilNextFlush() {
+        when(shardMap.isFrozen(2L)).thenReturn(true);
+        recorder.record(1L, 1, 10);
+        recorder.record(2L, 1, 20);
+
+        recorder.flush();
+
+        assertThat(flushedObjects).containsOnlyKeys(1L);
+        assertThat(recorder.pending(2L)).isEqualTo(new UsageDelta(1, 20));
+        assertThat(pendingBuckets()).isEqualTo(1);
+
+        when(shardMap.isFrozen(2L)).thenReturn(false);
+        recorder.flush();
+
+        assertThat(flushedBytes.get(2L)).hasValue(20);
+        assertThat(pendingBuckets()).isZero();
+    }
+
+    @Test
+    void readdsDeltasWhenBatchUpdateFails() {
+        failures.set(1);
+        recorder.record(2L, 1, 10);
+
+        recorder.flush();
+
+        assertThat(flushedObjects).isEmpty();
+        assertThat(recorder.pending(2L)).isEqualTo(new UsageDelta(1, 10));
+        assertThat(meterRegistry.counter("bucket.usage.flush.failed").count()).isEqualTo(1);
+
+        recorder.record(2L, 1, 5);
+        recorder.flush();
+
+        assertThat(flushedObjects.get(2L)).hasValue(2);
+        assertThat(flushedBytes.get(2L)).hasValue(15);
+        assertThat(pendingBuckets()).isZero();
+    }
+
+    @Test
+    void doesNotLoseDeltasRecordedWhileFlushing() throws Exception {
+        int threads = 4;
+        int recordsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        recorder.record(i % 3, 1, 7);
+                    }
+                    return null;
+                }));
+            }
+            Thread flusher = new Thread(() -> {
+                while (recording.get()) {
+                    recorder.flush();
+                }
+            });
+            flusher.start();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            recording.set(false);
+            flusher.join();
+        } finally {
+            executor.shutdownNow();
+        }
+        recorder.flush();
+
+        long objects = flushedObjects.values().stream().mapToLong(AtomicLong::get).sum();
+        long bytes = flushedBytes.values().stream().mapToLong(AtomicLong::get).sum();
+        assertThat(objects).isEqualTo((long) threads * recordsPerThread);
+        assertThat(bytes).isEqualTo(7L * threads * recordsPerThread);
+        assertThat(pendingBuckets()).isZero();
+    }
+
+    private double pendingBuckets() {
+        return meterRegistry.get("bucket.usage.pending.buckets").gauge().value();
+    }
+
+    private record Batch(int shard, List<Long> bucketIds) {
+
+    }
+}
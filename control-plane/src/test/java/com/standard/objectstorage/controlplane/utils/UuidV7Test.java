@@ -0,0 +1,74 @@
+package com.standard.objectstorage.controlplane.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    void versionVariantAndTimestampAreEncoded() {
+        long now = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(id)).isGreaterThanOrEqualTo(now);
+    }
+
+    @Test
+    void idsIncreaseInByteOrderWithinSameMillisecondAndWhenClockGoesBack() {
+        // 공유 상태(DEFAULT)를 미래 시각으로 밀지 않도록 별도 생성기 사용
+        UuidV7.Generator generator = new UuidV7.Generator();
+        long now = System.currentTimeMillis() + 60_000;
+        byte[] previous = UuidV7.toBytes(generator.next(now));
+
+        for (int i = 0; i < 10_000; i++) {
+            // 같은 millisecond (seq 증가) / 시계 역행
+            long millis = i % 100 == 0 ? now - 1_000 : now;
+            byte[] current = UuidV7.toBytes(generator.next(millis));
+            assertThat(Arrays.compareUnsigned(current, previous)).isPositive();
+            previous = current;
+        }
+    }
+
+    @Test
+    void concurrentGenerationIsUniqueAndMonotonicPerThread() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(UuidV7.next());
+                }
+                return ids;
+            }));
+        }
+
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            List<UUID> ids = future.get();
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(Arrays.compareUnsigned(
+                    UuidV7.toBytes(ids.get(i)), UuidV7.toBytes(ids.get(i - 1)))).isPositive();
+            }
+            all.addAll(ids);
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(threads * perThread);
+    }
+}
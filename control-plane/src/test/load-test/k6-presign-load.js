@@ -0,0 +1,44 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// control plane 실행 모드 비교용 부하 테스트 (platform thread vs virtual thread)
+// BASE_URL=http://localhost:8080 BUCKET=my-first-bucket k6 run k6-presign-load.js
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BUCKET = __ENV.BUCKET || 'my-first-bucket';
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 100,
+      timeUnit: '1s',
+      preAllocatedVUs: 500,
+      maxVUs: 5000,
+      stages: [
+        { target: 1000, duration: '30s' },
+        { target: 5000, duration: '30s' },
+        { target: 5000, duration: '1m' },
+        { target: 100, duration: '30s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'p(99.9)', 'max'],
+};
+
+export default function () {
+  const objectKey = `load/${__VU}/${__ITER}.bin`;
+
+  // JPA 조회 (bucket, object) + 서명이 포함된 업로드 URL 발급
+  const presign = http.post(
+    `${BASE_URL}/api/storage/presigned-url`,
+    JSON.stringify({ bucket: BUCKET, objectKey, fileSize: 1024 }),
+    { headers: { 'Content-Type': 'application/json' }, tags: { endpoint: 'presign' } },
+  );
+  check(presign, { 'presign 200': (r) => r.status === 200 });
+
+  const list = http.get(`${BASE_URL}/api/buckets?size=20`, { tags: { endpoint: 'buckets' } });
+  check(list, { 'list 200': (r) => r.status === 200 });
+}
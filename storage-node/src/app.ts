@@ -6,6 +6,10 @@ import {
   startReplicationWorker,
   stopReplicationWorker,
 } from "./services/replication/replicationWorker";
+import {
+  startCompletionReporter,
+  stopCompletionReporter,
+} from "./services/completion/completionReporter";
 import { getThrottleConfig } from "./services/storage/dirtyPageThrottler";
 
 dotenv.config();
@@ -32,18 +36,20 @@ const app: FastifyPluginAsync<AppOptions> = async (
     options: opts,
   });
 
-  // replication retry worker 실행
+  // replication retry worker / 업로드 완료 보고 worker 실행
   fastify.addHook("onReady", function (done) {
     fastify.log.info(
       { throttleConfig: getThrottleConfig() },
       "Dirty page throttle config",
     );
     startReplicationWorker(fastify.replicationQueue, fastify.log);
+    startCompletionReporter(fastify.completionOutbox, fastify.log);
     done();
   });
 
   fastify.addHook("onClose", function (_instance, done) {
     stopReplicationWorker(fastify.log);
+    stopCompletionReporter(fastify.log);
     done();
   });
 };
@@ -0,0 +1,26 @@
+// ─── HTTP 헤더 / API 경로 ─────────────────────────────────────────────────────
+
+/** control plane 내부 API 인증 헤더 (control plane 의 INTERNAL_API_TOKEN 과 같은 값) */
+export const INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+/** control plane 의 업로드 완료 보고 API */
+export const COMPLETION_REPORT_PATH = "/internal/objects/completions";
+
+// ─── 기본값 ───────────────────────────────────────────────────────────────────
+
+/** NODE_ID 미설정 시 사용하는 node ID (control plane 의 단일 node 기본 ID 와 같음) */
+export const DEFAULT_NODE_ID = "default";
+
+// ─── 배치 / 타임아웃 / 재시도 ────────────────────────────────────────────────
+
+/** 한 번에 보고하는 최대 완료 수 (control plane 은 요청당 최대 1000개) */
+export const COMPLETION_REPORT_BATCH_SIZE = 500;
+/** 보고 요청 타임아웃 (ms) */
+export const COMPLETION_REPORT_TIMEOUT_MS = 10_000;
+/** 업로드 응답 전에 보고가 끝나기를 기다리는 최대 시간 (ms), 지나면 응답 후 계속 재시도 */
+export const COMPLETION_REPORT_WAIT_MS = 2_000;
+/** 남은 보고가 없을 때 completion_outbox 를 다시 확인하는 주기 (ms) */
+export const COMPLETION_REPORT_POLL_INTERVAL_MS = 5_000;
+/** 실패 시 재시도 대기 (ms), 연속 실패마다 2배씩 최대 COMPLETION_REPORT_MAX_BACKOFF_MS 까지 */
+export const COMPLETION_REPORT_BACKOFF_MS = 500;
+export const COMPLETION_REPORT_MAX_BACKOFF_MS = 30_000;
@@ -7,6 +7,12 @@ export const REPLICATION_REQUEST_HEADER_LOWER = "x-replication-request" as const
 // ─── API 경로 ─────────────────────────────────────────────────────────────────
 
 export const REPLICATION_ENDPOINT_PATH = "/internal/replications";
+/** control plane 의 복제 복구 요청 (source 노드가 target 노드로 전송) */
+export const REPLICATION_REPAIR_PATH = "/internal/replications/repair";
+/** HEAD /internal/replications 응답의 파일 크기 헤더 */
+export const REPLICA_SIZE_HEADER = "X-Object-Size";
+/** HEAD /internal/replications 응답의 파일 ETag(SHA-256) 헤더 */
+export const REPLICA_ETAG_HEADER = "X-Object-Etag";
 export const SECONDARY_METRICS_DISK_PATH = "/metrics/disk";
 
 // ─── 타임아웃 / 인터벌 ───────────────────────────────────────────────────────
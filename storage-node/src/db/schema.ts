@@ -30,3 +30,16 @@ export const CREATE_REPLICATION_QUEUE_TABLE = `
     PRIMARY KEY (bucket, objectKey)
   )
 ` as const;
+
+/* completion_outbox 테이블 DDL (control plane 에 아직 보고하지 않은 업로드 완료) */
+export const CREATE_COMPLETION_OUTBOX_TABLE = `
+  CREATE TABLE IF NOT EXISTS completion_outbox (
+    id          INTEGER  PRIMARY KEY AUTOINCREMENT,
+    bucket      TEXT     NOT NULL,
+    objectKey   TEXT     NOT NULL,
+    size        INTEGER,
+    etag        TEXT,
+    status      TEXT     NOT NULL,
+    createdAt   DATETIME NOT NULL
+  )
+` as const;
@@ -2,6 +2,7 @@ import fp from "fastify-plugin";
 import Database from "better-sqlite3";
 import { FastifyPluginCallback } from "fastify";
 import {
+  CREATE_COMPLETION_OUTBOX_TABLE,
   CREATE_REPLICATION_QUEUE_TABLE,
   CREATE_TUS_UPLOADS_TABLE,
 } from "../db/schema";
@@ -9,6 +10,10 @@ import {
   createReplicationQueueRepository,
   ReplicationQueueRepository,
 } from "../repository/replicationQueue";
+import {
+  CompletionOutboxRepository,
+  createCompletionOutboxRepository,
+} from "../repository/completionOutbox";
 
 const DB_PATH = process.env.SQLITE_DB_PATH ?? "./uploads/replication.db";
 const BUSY_TIMEOUT_MS = 5_000;
@@ -37,12 +42,17 @@ const sqlitePlugin: FastifyPluginCallback = (fastify, _opts, done) => {
     db.exec(CREATE_REPLICATION_QUEUE_TABLE);
     db.exec(CREATE_TUS_UPLOADS_TABLE);
   }
+  // 기존 DB 에도 추가되도록 DB_TABLE_INIT 과 관계없이 생성
+  db.exec(CREATE_COMPLETION_OUTBOX_TABLE);
 
   const replicationQueue: ReplicationQueueRepository =
     createReplicationQueueRepository(db);
+  const completionOutbox: CompletionOutboxRepository =
+    createCompletionOutboxRepository(db);
 
   fastify.decorate("db", db);
   fastify.decorate("replicationQueue", replicationQueue);
+  fastify.decorate("completionOutbox", completionOutbox);
 
   // 서버 종료시, connection 제거
   fastify.addHook("onClose", (_instance, done) => {
@@ -0,0 +1,74 @@
+import type Database from "better-sqlite3";
+
+export type CompletionStatus = "COMPLETE" | "FAILED";
+
+export interface CompletionEvent {
+  bucket: string;
+  objectKey: string;
+  size: number | null;
+  etag: string | null;
+  status: CompletionStatus;
+}
+
+export interface CompletionOutboxRow extends CompletionEvent {
+  id: number;
+  createdAt: string;
+}
+
+export interface CompletionOutboxRepository {
+  /**
+   * 업로드 완료를 보고 대기로 등록하고 row id 를 반환.
+   * (같은 key 의 완료는 id 순서로 보고되므로 마지막 업로드 결과가 마지막에 기록됨)
+   */
+  enqueue(event: CompletionEvent): number;
+
+  /** 보고할 완료를 id ASC 순서로 최대 batchSize 개 반환 */
+  fetchBatch(batchSize: number): CompletionOutboxRow[];
+
+  /** control plane 이 기록(commit)한 완료 row 삭제 */
+  deleteReported(ids: number[]): void;
+}
+
+export function createCompletionOutboxRepository(
+  db: InstanceType<typeof Database>,
+): CompletionOutboxRepository {
+  const insertStmt = db.prepare(`
+    INSERT INTO completion_outbox
+      (bucket, objectKey, size, etag, status, createdAt)
+    VALUES
+      (@bucket, @objectKey, @size, @etag, @status, @now)
+  `);
+
+  const fetchBatchStmt = db.prepare(`
+    SELECT *
+    FROM   completion_outbox
+    ORDER  BY id ASC
+    LIMIT  @batchSize
+  `);
+
+  const deleteStmt = db.prepare(`
+    DELETE FROM completion_outbox
+    WHERE id = @id
+  `);
+
+  const deleteAll = db.transaction((ids: number[]) => {
+    for (const id of ids) {
+      deleteStmt.run({ id });
+    }
+  });
+
+  return {
+    enqueue(event) {
+      const result = insertStmt.run({ ...event, now: new Date().toISOString() });
+      return Number(result.lastInsertRowid);
+    },
+
+    fetchBatch(batchSize) {
+      return fetchBatchStmt.all({ batchSize }) as CompletionOutboxRow[];
+    },
+
+    deleteReported(ids) {
+      deleteAll(ids);
+    },
+  };
+}
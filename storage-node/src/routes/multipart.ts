@@ -8,8 +8,10 @@ import {
   MultipartService,
   InitiateMultipartBody,
   MultipartParams,
+  MultipartPresignedQuery,
   UploadPartParams,
 } from "../services/multipart/MultipartService";
+import { reportCompletion } from "../services/completion/completionReporter";
 
 const multipartService = MultipartService.getInstance();
 
@@ -42,7 +44,11 @@ const multipart: FastifyPluginAsync = async (fastify): Promise<void> => {
     },
   );
 
-  fastify.put<{ Params: UploadPartParams }>(
+  // control plane 이 발급한 Presigned URL (query 에 서명 포함) 로 업로드하는 경우 initiate 없이 세션이 열립니다.
+  fastify.put<{
+    Params: UploadPartParams;
+    Querystring: Partial<MultipartPresignedQuery>;
+  }>(
     "/multipart/:uploadId/:partNumber",
     async function (request, reply) {
       try {
@@ -66,7 +72,10 @@ const multipart: FastifyPluginAsync = async (fastify): Promise<void> => {
     },
   );
 
-  fastify.post<{ Params: MultipartParams }>(
+  fastify.post<{
+    Params: MultipartParams;
+    Querystring: Partial<MultipartPresignedQuery>;
+  }>(
     "/multipart/:uploadId/complete",
     async function (request, reply) {
       try {
@@ -76,6 +85,17 @@ const multipart: FastifyPluginAsync = async (fastify): Promise<void> => {
           completed.fileInfo.bucket,
           completed.fileInfo.objectKey,
         );
+        await reportCompletion(
+          fastify.completionOutbox,
+          {
+            bucket: completed.fileInfo.bucket,
+            objectKey: completed.fileInfo.objectKey,
+            size: completed.fileInfo.size,
+            etag: completed.fileInfo.etag ?? null,
+            status: "COMPLETE",
+          },
+          fastify.log,
+        );
 
         const response = createSuccessResponse(completed.fileInfo);
         return reply.code(200).send({
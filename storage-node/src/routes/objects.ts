@@ -5,7 +5,10 @@ import {
 } from "../services/response/apiResponse";
 import { HttpError } from "../utils/HttpError";
 import {
+  deleteObject,
   downloadFile,
+  linkObject,
+  ObjectLinkQuery,
   uploadFile,
 } from "../services/objects/objectService";
 
@@ -16,6 +19,7 @@ export interface PresignedQuery {
   exp: string;
   fileSize: string;
   signature: string;
+  keyId?: string;
 }
 
 interface ObjectParams {
@@ -82,6 +86,7 @@ const objects: FastifyPluginAsync = async (fastify, opts): Promise<void> => {
       const fileInfo = await uploadFile(
         request,
         fastify.replicationQueue,
+        fastify.completionOutbox,
       );
 
       return reply.code(201).send(createSuccessResponse(fileInfo));
@@ -109,6 +114,77 @@ const objects: FastifyPluginAsync = async (fastify, opts): Promise<void> => {
       );
     }
   });
+
+  /**
+   * DELETE /objects/:bucket/:key
+   * - 파일 삭제 엔드포인트 (control plane 전용)
+   */
+  fastify.delete<{
+    Params: ObjectParams;
+    Querystring: PresignedQuery;
+  }>("/objects/direct/:bucket/*", async function (request, reply) {
+    try {
+      await deleteObject(request);
+      return reply.code(204).send();
+    } catch (error) {
+      if (error instanceof HttpError) {
+        fastify.log.warn(
+          { error: error.message, statusCode: error.statusCode },
+          "Validation failed",
+        );
+        return sendErrorResponse(
+          reply,
+          error.statusCode,
+          error.message,
+          error.data,
+        );
+      }
+      fastify.log.error({ error }, "File delete error");
+      return sendErrorResponse(
+        reply,
+        500,
+        "파일 삭제 중 오류가 발생했습니다",
+        {
+          error: error instanceof Error ? error.message : "알 수 없는 오류",
+        },
+      );
+    }
+  });
+
+  /**
+   * POST /internal/objects/link
+   * - 객체 파일을 다른 key 에 연결 (control plane 전용, 덮어쓸 객체의 파일을 참조 객체로 옮길 때)
+   */
+  fastify.post<{
+    Querystring: ObjectLinkQuery;
+  }>("/internal/objects/link", async function (request, reply) {
+    try {
+      const size = await linkObject(request);
+      return reply.code(200).send({ success: true, size });
+    } catch (error) {
+      if (error instanceof HttpError) {
+        fastify.log.warn(
+          { error: error.message, statusCode: error.statusCode },
+          "Object link failed",
+        );
+        return sendErrorResponse(
+          reply,
+          error.statusCode,
+          error.message,
+          error.data,
+        );
+      }
+      fastify.log.error({ error }, "Object link error");
+      return sendErrorResponse(
+        reply,
+        500,
+        "파일 연결 중 오류가 발생했습니다",
+        {
+          error: error instanceof Error ? error.message : "알 수 없는 오류",
+        },
+      );
+    }
+  });
 };
 
 export default objects;
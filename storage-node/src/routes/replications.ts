@@ -8,6 +8,20 @@ import {
   receiveReplication,
   ReplicateQuery,
 } from "../services/replication/receiveReplication";
+import {
+  repairReplica,
+  ReplicaRepairQuery,
+} from "../services/replication/repairReplica";
+import { hashObjectFile, statObjectFile } from "../services/storage/fileStorage";
+import {
+  validateReplicationHeader,
+  validateReplicationParams,
+} from "../services/validation/replication";
+import {
+  REPLICA_ETAG_HEADER,
+  REPLICA_SIZE_HEADER,
+  REPLICATION_REQUEST_HEADER_LOWER,
+} from "../constants/replication";
 
 const replications: FastifyPluginAsync = async (fastify, opts): Promise<void> => {
   // multipart 파서가 처리하지 않는 Content-Type(raw binary 등)을 스트림으로 그대로 통과
@@ -49,6 +63,64 @@ const replications: FastifyPluginAsync = async (fastify, opts): Promise<void> =>
       );
     }
   });
+
+  /* HEAD /internal/replications : 복제본 존재 / 크기 / ETag 확인 (복제 복구 시 전송 생략 판단) */
+  fastify.head<{
+    Querystring: ReplicateQuery;
+  }>("/internal/replications", async function (request, reply) {
+    try {
+      validateReplicationHeader(request.headers[REPLICATION_REQUEST_HEADER_LOWER]);
+      validateReplicationParams(request.query.bucket, request.query.objectKey);
+
+      const size = await statObjectFile(request.query.bucket, request.query.objectKey);
+      const etag = size === null
+        ? null
+        : await hashObjectFile(request.query.bucket, request.query.objectKey);
+      if (size === null || etag === null) {
+        return reply.code(404).send();
+      }
+      return reply
+        .code(200)
+        .header(REPLICA_SIZE_HEADER, String(size))
+        .header(REPLICA_ETAG_HEADER, etag)
+        .send();
+    } catch (error) {
+      const statusCode = error instanceof HttpError ? error.statusCode : 500;
+      return reply.code(statusCode).send();
+    }
+  });
+
+  /* POST /internal/replications/repair : control plane 의 복제 복구 요청 (서명 필요) */
+  fastify.post<{
+    Querystring: ReplicaRepairQuery;
+  }>("/internal/replications/repair", async function (request, reply) {
+    try {
+      const result = await repairReplica(request);
+
+      return reply.code(200).send({ success: true, ...result });
+    } catch (error) {
+      if (error instanceof HttpError) {
+        fastify.log.warn(
+          { error: error.message, statusCode: error.statusCode },
+          "Replica repair failed",
+        );
+        return sendErrorResponse(
+          reply,
+          error.statusCode,
+          error.message,
+          error.data,
+        );
+      }
+
+      fastify.log.error({ error }, "Replica repair error");
+      return sendErrorResponse(
+        reply,
+        500,
+        "복제 복구 중 오류가 발생했습니다",
+        { error: error instanceof Error ? error.message : "알 수 없는 오류" },
+      );
+    }
+  });
 };
 
 export default replications;
@@ -0,0 +1,285 @@
+import { FastifyBaseLogger } from "fastify";
+import {
+  CompletionEvent,
+  CompletionOutboxRepository,
+  CompletionOutboxRow,
+} from "../../repository/completionOutbox";
+import {
+  COMPLETION_REPORT_BACKOFF_MS,
+  COMPLETION_REPORT_BATCH_SIZE,
+  COMPLETION_REPORT_MAX_BACKOFF_MS,
+  COMPLETION_REPORT_PATH,
+  COMPLETION_REPORT_POLL_INTERVAL_MS,
+  COMPLETION_REPORT_TIMEOUT_MS,
+  COMPLETION_REPORT_WAIT_MS,
+  DEFAULT_NODE_ID,
+  INTERNAL_TOKEN_HEADER,
+} from "../../constants/completion";
+import { HTTP_STATUS_BAD_REQUEST } from "../../constants/httpStatus";
+
+interface ReporterState {
+  outbox: CompletionOutboxRepository;
+  log: FastifyBaseLogger;
+  timer: ReturnType<typeof setTimeout> | null;
+  timerDueAt: number;
+  inFlight: boolean;
+  again: boolean;
+  /** 이 시각 전에는 보고하지 않음 (503 Retry-After / backoff) */
+  retryAt: number;
+  failures: number;
+  /** 400 응답을 받은 batch 를 한 건씩 다시 보고하는 중인 남은 수 */
+  isolating: number;
+}
+
+interface CompletionReportResponse {
+  accepted?: number;
+  rejected?: { index: number; error: string }[];
+}
+
+let state: ReporterState | null = null;
+let disabledWarned = false;
+
+/** 보고가 기록(commit)되면 업로드 응답을 보내도록 대기 중인 요청 */
+const waiters = new Map<number, () => void>();
+
+function controlPlaneUrl(): string | undefined {
+  const url = process.env.CONTROL_PLANE_URL;
+  return url ? url.replace(/\/+$/, "") : undefined;
+}
+
+/**
+ * 업로드 완료를 control plane 에 보고합니다.
+ *
+ * - completion_outbox 에 먼저 기록하므로, 응답 전에 프로세스가 종료되어도 재시작 후 보고됩니다.
+ * - 보고가 기록될 때까지 최대 COMPLETION_REPORT_WAIT_MS 동안 기다립니다. (업로드 응답 직후의 다운로드 URL 발급이
+ *   COMPLETE 객체를 찾을 수 있도록) 시간이 지나면 기다리지 않고 worker 가 계속 재시도합니다.
+ * - CONTROL_PLANE_URL 이 없으면 보고하지 않습니다. (control plane 없이 단독 실행)
+ */
+export async function reportCompletion(
+  outbox: CompletionOutboxRepository,
+  event: CompletionEvent,
+  log: FastifyBaseLogger,
+): Promise<void> {
+  if (!controlPlaneUrl()) {
+    if (!disabledWarned) {
+      disabledWarned = true;
+      log.warn("[completionReporter] CONTROL_PLANE_URL 미설정 - 업로드 완료를 보고하지 않습니다");
+    }
+    return;
+  }
+
+  const id = outbox.enqueue(event);
+  if (state === null) {
+    return;
+  }
+
+  let timeoutId: ReturnType<typeof setTimeout> | undefined;
+  const reported = new Promise<void>((resolve) => waiters.set(id, resolve));
+  const timedOut = new Promise<void>((resolve) => {
+    timeoutId = setTimeout(resolve, COMPLETION_REPORT_WAIT_MS);
+  });
+
+  schedule(state, 0);
+  try {
+    await Promise.race([reported, timedOut]);
+  } finally {
+    clearTimeout(timeoutId);
+    waiters.delete(id);
+  }
+}
+
+/**
+ * 재시도 대기 중이면 대기가 끝난 뒤, 보고 중이면 보고가 끝난 뒤 바로 다시 보고합니다.
+ */
+function schedule(s: ReporterState, delayMs: number): void {
+  if (state !== s) return;
+  if (s.inFlight) {
+    if (delayMs === 0) s.again = true;
+    return;
+  }
+
+  const now = Date.now();
+  const dueAt = Math.max(now + delayMs, s.retryAt);
+  if (s.timer !== null) {
+    if (s.timerDueAt <= dueAt) return;
+    clearTimeout(s.timer);
+  }
+
+  s.timerDueAt = dueAt;
+  s.timer = setTimeout(() => {
+    s.timer = null;
+    void run(s);
+  }, dueAt - now);
+}
+
+async function run(s: ReporterState): Promise<void> {
+  s.inFlight = true;
+  s.again = false;
+
+  let next = COMPLETION_REPORT_POLL_INTERVAL_MS;
+  try {
+    next = await reportBatch(s);
+  } catch (error) {
+    s.log.error({ error }, "[completionReporter] 보고 중 예상치 못한 오류 발생");
+    next = backoff(s, null);
+  } finally {
+    s.inFlight = false;
+  }
+
+  schedule(s, s.again ? 0 : next);
+}
+
+/**
+ * completion_outbox 의 한 batch 를 보고하고, 다음 보고까지 대기할 시간(ms)을 반환합니다.
+ */
+async function reportBatch(s: ReporterState): Promise<number> {
+  const limit = s.isolating > 0 ? 1 : COMPLETION_REPORT_BATCH_SIZE;
+  const rows = s.outbox.fetchBatch(limit);
+  if (rows.length === 0) {
+    s.isolating = 0;
+    return COMPLETION_REPORT_POLL_INTERVAL_MS;
+  }
+
+  let response: Response;
+  try {
+    response = await send(rows);
+  } catch (err) {
+    const reason = (err as { name?: string })?.name === "AbortError" ? "타임아웃" : "요청 실패";
+    s.log.warn({ err, count: rows.length }, `[completionReporter] 완료 보고 ${reason} - 재시도`);
+    return backoff(s, null);
+  }
+
+  if (response.ok) {
+    const body = (await response.json().catch(() => null)) as CompletionReportResponse | null;
+    for (const rejection of body?.rejected ?? []) {
+      // 존재하지 않거나 정리 중인 bucket 등 재시도해도 기록될 수 없는 완료
+      const row = rows[rejection.index];
+      s.log.warn(
+        { bucket: row?.bucket, objectKey: row?.objectKey, error: rejection.error },
+        "[completionReporter] 완료 보고 거절",
+      );
+    }
+    acknowledge(s, rows);
+    return rows.length === limit ? 0 : COMPLETION_REPORT_POLL_INTERVAL_MS;
+  }
+
+  if (response.status === HTTP_STATUS_BAD_REQUEST) {
+    if (rows.length > 1) {
+      // 잘못된 완료 하나가 batch 전체를 막지 않도록 한 건씩 다시 보고
+      s.isolating = rows.length;
+      s.log.warn({ count: rows.length }, "[completionReporter] 완료 보고 400 - 한 건씩 다시 보고");
+      return 0;
+    }
+    s.log.error({ row: rows[0] }, "[completionReporter] 잘못된 완료 보고 - 폐기");
+    acknowledge(s, rows);
+    return 0;
+  }
+
+  // 503 / 429 (control plane 기록 큐 포화 등) 는 Retry-After 후, 그 외(403 설정 오류, 5xx)는 backoff 후 재시도
+  s.log.warn(
+    { status: response.status, count: rows.length },
+    "[completionReporter] 완료 보고 실패 - 재시도",
+  );
+  return backoff(s, response.headers.get("retry-after"));
+}
+
+function acknowledge(s: ReporterState, rows: CompletionOutboxRow[]): void {
+  s.outbox.deleteReported(rows.map((row) => row.id));
+  s.failures = 0;
+  if (s.isolating > 0) s.isolating -= rows.length;
+  for (const row of rows) {
+    waiters.get(row.id)?.();
+  }
+}
+
+function backoff(s: ReporterState, retryAfter: string | null): number {
+  s.failures += 1;
+  const seconds = retryAfter === null ? NaN : Number(retryAfter);
+  const delayMs = Number.isFinite(seconds) && seconds >= 0
+    ? seconds * 1000
+    : Math.min(
+      COMPLETION_REPORT_BACKOFF_MS * Math.pow(2, s.failures - 1),
+      COMPLETION_REPORT_MAX_BACKOFF_MS,
+    );
+  s.retryAt = Date.now() + delayMs;
+  return delayMs;
+}
+
+async function send(rows: CompletionOutboxRow[]): Promise<Response> {
+  const nodeId = process.env.NODE_ID || DEFAULT_NODE_ID;
+  const headers: Record<string, string> = { "Content-Type": "application/json" };
+  const token = process.env.INTERNAL_API_TOKEN;
+  if (token) {
+    headers[INTERNAL_TOKEN_HEADER] = token;
+  }
+
+  const controller = new AbortController();
+  const timeoutId = setTimeout(() => controller.abort(), COMPLETION_REPORT_TIMEOUT_MS);
+  try {
+    const response = await fetch(`${controlPlaneUrl()}${COMPLETION_REPORT_PATH}`, {
+      method: "POST",
+      headers,
+      body: JSON.stringify({
+        events: rows.map((row) => ({
+          bucket: row.bucket,
+          objectKey: row.objectKey,
+          nodeId,
+          size: row.size,
+          etag: row.etag,
+          status: row.status,
+        })),
+      }),
+      signal: controller.signal,
+    });
+    if (!response.ok) {
+      // 연결을 재사용할 수 있도록 본문을 비움
+      await response.arrayBuffer().catch(() => undefined);
+    }
+    return response;
+  } finally {
+    clearTimeout(timeoutId);
+  }
+}
+
+/**
+ * Completion Reporter 시작.
+ * 재시작 전에 보고하지 못한 completion_outbox 의 완료부터 보고합니다. 앱 시작 시 단 한 번만 호출해야 한다
+ */
+export function startCompletionReporter(
+  outbox: CompletionOutboxRepository,
+  log: FastifyBaseLogger,
+): void {
+  if (state !== null || !controlPlaneUrl()) return;
+
+  state = {
+    outbox,
+    log,
+    timer: null,
+    timerDueAt: 0,
+    inFlight: false,
+    again: false,
+    retryAt: 0,
+    failures: 0,
+    isolating: 0,
+  };
+  schedule(state, 0);
+
+  log.info(
+    { controlPlaneUrl: controlPlaneUrl(), batchSize: COMPLETION_REPORT_BATCH_SIZE },
+    "[completionReporter] 시작",
+  );
+}
+
+/**
+ * Completion Reporter 중단. (보고하지 못한 완료는 completion_outbox 에 남아 재시작 후 보고)
+ * 앱 종료(onClose) 훅에서 호출한다.
+ */
+export function stopCompletionReporter(log: FastifyBaseLogger): void {
+  if (state === null) return;
+
+  if (state.timer !== null) clearTimeout(state.timer);
+  state = null;
+  for (const resolve of waiters.values()) resolve();
+  waiters.clear();
+  log.info("[completionReporter] 중단");
+}
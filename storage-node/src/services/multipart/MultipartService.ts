@@ -5,6 +5,7 @@ import { DEFAULT_CONTENT_TYPE } from "../../constants/contentTypes";
 import {
   initMultipartUploadStorage,
   saveMultipartPart,
+  removeMultipartPart,
   removeMultipartUploadStorage,
   listMultipartParts,
   mergeMultipartParts,
@@ -15,6 +16,10 @@ import {
   parsePartNumber,
 } from "../validation/multipart";
 import { validateReplicationBodyStream } from "../validation/replication";
+import {
+  isMultipartSignatureRequired,
+  validateMultipartPresignedRequest,
+} from "../validation/presignedUrl";
 import {
   IMultipartSessionStore,
   MultipartSession,
@@ -23,6 +28,7 @@ import { InMemoryMultipartSessionStore } from "./sessionStore/MultipartSessionSt
 import {
   InitiateMultipartBody,
   MultipartParams,
+  MultipartPresignedQuery,
   UploadPartParams,
   InitiateMultipartResult,
   UploadPartResult,
@@ -32,6 +38,7 @@ import {
 export type {
   InitiateMultipartBody,
   MultipartParams,
+  MultipartPresignedQuery,
   UploadPartParams,
   InitiateMultipartResult,
   UploadPartResult,
@@ -39,6 +46,7 @@ export type {
 };
 
 const MULTIPART_TTL_MS = 60 * 60 * 1000;
+const UPLOAD_ID_PATTERN = /^[0-9a-fA-F-]{36}$/;
 
 export class MultipartService {
   private static instance: MultipartService;
@@ -91,14 +99,30 @@ export class MultipartService {
   }
 
   async uploadPart(
-    request: FastifyRequest<{ Params: UploadPartParams }>,
+    request: FastifyRequest<{
+      Params: UploadPartParams;
+      Querystring: Partial<MultipartPresignedQuery>;
+    }>,
   ): Promise<UploadPartResult> {
     validateReplicationBodyStream(request.body);
 
     const { uploadId, partNumber: rawPartNumber } = request.params;
     const stream = request.body;
+    const query = request.query ?? {};
 
-    const session = this.sessionStore.getActiveSession(uploadId);
+    const signed = isMultipartSignatureRequired(query);
+    if (signed) {
+      validateMultipartPresignedRequest(
+        query as MultipartPresignedQuery,
+        "PUT",
+        uploadId,
+        rawPartNumber,
+      );
+    }
+
+    const session = signed
+      ? this.openSignedSession(uploadId, query as MultipartPresignedQuery)
+      : this.sessionStore.getActiveSession(uploadId);
     if (session.status === "COMPLETING") {
       request.log.warn({ uploadId }, "파트 업로드 거부: complete 처리 중");
       throw new HttpError(409, "complete 처리 중에는 part 업로드를 할 수 없습니다");
@@ -107,17 +131,38 @@ export class MultipartService {
     const partNumber = parsePartNumber(rawPartNumber);
     const { size, etag } = await saveMultipartPart(uploadId, partNumber, stream);
 
+    if (signed && size > Number(query.fileSize)) {
+      await removeMultipartPart(uploadId, partNumber);
+      throw new HttpError(400, "part 크기가 서명된 크기를 초과합니다", {
+        partNumber,
+        size,
+        fileSize: Number(query.fileSize),
+      });
+    }
+
     request.log.info({ uploadId, partNumber, size }, "파트 업로드 완료");
 
     return { uploadId, partNumber, size, etag };
   }
 
   async completeMultipartUpload(
-    request: FastifyRequest<{ Params: MultipartParams }>,
+    request: FastifyRequest<{
+      Params: MultipartParams;
+      Querystring: Partial<MultipartPresignedQuery>;
+    }>,
   ): Promise<CompleteMultipartResult> {
     const { uploadId } = request.params;
+    const query = request.query ?? {};
+
+    const signed = isMultipartSignatureRequired(query);
+    if (signed) {
+      validateMultipartPresignedRequest(query as MultipartPresignedQuery, "POST", uploadId);
+    }
 
     const session = this.sessionStore.getActiveSession(uploadId);
+    if (signed) {
+      this.assertSessionTarget(session, query as MultipartPresignedQuery);
+    }
     if (session.status === "COMPLETING") {
       request.log.warn({ uploadId }, "complete 요청 거부: 이미 처리 중");
       throw new HttpError(409, "이미 complete 처리 중입니다");
@@ -131,6 +176,16 @@ export class MultipartService {
         throw new HttpError(400, "업로드된 part가 없습니다");
       }
 
+      // 서명된 전체 크기와 다르면 누락 / 잘못된 part 가 있으므로 병합하지 않음
+      const totalSize = parts.reduce((sum, part) => sum + part.size, 0);
+      if (signed && totalSize !== Number(query.fileSize)) {
+        throw new HttpError(400, "업로드된 part 크기 합이 파일 크기와 다릅니다", {
+          partCount: parts.length,
+          totalSize,
+          fileSize: Number(query.fileSize),
+        });
+      }
+
       const fileInfo = await mergeMultipartParts(
         session.bucket,
         session.objectKey,
@@ -169,6 +224,47 @@ export class MultipartService {
     return { uploadId };
   }
 
+  /**
+   * control plane 이 발급한 uploadId 는 initiate 없이 사용되므로, 첫 서명된 part 업로드에서 세션을 엽니다.
+   * (여러 part 가 동시에 도착해도 await 전에 조회 / 저장하므로 세션은 하나만 생성됨)
+   */
+  private openSignedSession(
+    uploadId: string,
+    query: MultipartPresignedQuery,
+  ): MultipartSession {
+    if (!UPLOAD_ID_PATTERN.test(uploadId)) {
+      throw new HttpError(400, "uploadId 값이 유효하지 않습니다");
+    }
+
+    if (this.sessionStore.find(uploadId)) {
+      const session = this.sessionStore.getActiveSession(uploadId);
+      this.assertSessionTarget(session, query);
+      return session;
+    }
+
+    validateBucket(query.bucket);
+    validateObjectKey(query.objectKey);
+    const session: MultipartSession = {
+      uploadId,
+      bucket: query.bucket,
+      objectKey: query.objectKey,
+      contentType: DEFAULT_CONTENT_TYPE,
+      expiresAt: Date.now() + MULTIPART_TTL_MS,
+      status: "INITIATED",
+    };
+    this.sessionStore.set(uploadId, session);
+    return session;
+  }
+
+  private assertSessionTarget(
+    session: MultipartSession,
+    query: MultipartPresignedQuery,
+  ): void {
+    if (session.bucket !== query.bucket || session.objectKey !== query.objectKey) {
+      throw new HttpError(403, "uploadId 가 서명된 객체와 일치하지 않습니다");
+    }
+  }
+
   resetForTests(): void {
     this.sessionStore.clear();
   }
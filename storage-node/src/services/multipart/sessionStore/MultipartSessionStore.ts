@@ -27,6 +27,10 @@ export class InMemoryMultipartSessionStore implements IMultipartSessionStore {
     return session;
   }
 
+  find(uploadId: string): MultipartSession | undefined {
+    return this.sessions.get(uploadId);
+  }
+
   set(uploadId: string, session: MultipartSession): void {
     this.sessions.set(uploadId, session);
   }
@@ -13,6 +13,9 @@ export interface IMultipartSessionStore {
   /** uploadId로 활성 세션을 조회한다. 세션이 없으면 404, 만료되었으면 410 에러를 던진다. */
   getActiveSession(uploadId: string): MultipartSession;
 
+  /** uploadId로 세션을 조회한다. 세션이 없으면 undefined를 반환한다. (만료 여부와 무관) */
+  find(uploadId: string): MultipartSession | undefined;
+
   /** 새 세션을 저장한다. */
   set(uploadId: string, session: MultipartSession): void;
 
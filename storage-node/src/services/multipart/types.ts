@@ -11,6 +11,21 @@ export interface MultipartParams {
   uploadId: string;
 }
 
+/**
+ * control plane 이 발급한 multipart Presigned URL 의 query
+ */
+export interface MultipartPresignedQuery {
+  bucket: string;
+  objectKey: string;
+  method: string;
+  exp: string;
+  fileSize: string;
+  signature: string;
+  uploadId: string;
+  partNumber?: string;
+  keyId?: string;
+}
+
 export interface UploadPartParams extends MultipartParams {
   partNumber: string;
 }
@@ -1,16 +1,28 @@
 import { FastifyRequest } from "fastify";
-import { validatePresignedUrlRequest } from "../validation/presignedUrl";
+import {
+  validateObjectLinkRequest,
+  validatePresignedUrlRequest,
+} from "../validation/presignedUrl";
 import {
   saveStreamToStorage,
   collectStreamFileInfo,
   getFileStream,
   getContentTypeFromExtension,
+  linkObjectFile,
+  removeObjectFile,
   FileInfo,
 } from "../storage/fileStorage";
 import { DEFAULT_CONTENT_TYPE } from "../../constants/contentTypes";
 import { validateReplicationBodyStream } from "../validation/replication";
 import { ReplicationQueueRepository } from "../../repository/replicationQueue";
+import { CompletionOutboxRepository } from "../../repository/completionOutbox";
+import { reportCompletion } from "../completion/completionReporter";
 import { PresignedQuery } from "../../routes/objects";
+import { HttpError } from "../../utils/HttpError";
+
+export interface ObjectLinkQuery extends PresignedQuery {
+  linkKey: string;
+}
 
 export interface DownloadResult {
   fileStream: ReturnType<typeof getFileStream>;
@@ -41,10 +53,12 @@ export async function downloadFile(
  * - Presigned URL 검증
  * - request body stream -> 파일시스템에 저장
  * - replication_queue TABLE에 복제 정보 등록
+ * - control plane 에 업로드 완료 보고
  */
 export async function uploadFile(
   request: FastifyRequest<{ Querystring: PresignedQuery }>,
   replicationQueue: ReplicationQueueRepository,
+  completionOutbox: CompletionOutboxRepository,
 ): Promise<FileInfo> {
   const { bucket, objectKey } = request.query;
   const mimetype = request.headers["content-type"] ?? DEFAULT_CONTENT_TYPE;
@@ -72,5 +86,57 @@ export async function uploadFile(
   replicationQueue.registerReplicationTask(bucket, objectKey);
   request.log.info({ bucket, objectKey }, "replication_queue에 복제 등록 완료");
 
+  await reportCompletion(
+    completionOutbox,
+    {
+      bucket,
+      objectKey,
+      size: fileInfo.size,
+      etag: fileInfo.etag ?? null,
+      status: "COMPLETE",
+    },
+    request.log,
+  );
+
   return fileInfo;
 }
+
+/**
+ * 파일 삭제 서비스
+ * - Presigned URL 검증 (control plane 이 method=DELETE 로 서명)
+ * - 파일이 없어도 성공으로 처리 (재시도 시 멱등)
+ */
+export async function deleteObject(
+  request: FastifyRequest<{ Querystring: PresignedQuery }>,
+): Promise<boolean> {
+  const { bucket, objectKey } = request.query;
+  request.log.info({ objectKey }, "DELETE request received");
+
+  validatePresignedUrlRequest(request.query, "DELETE");
+
+  const removed = await removeObjectFile(bucket, objectKey);
+  request.log.info({ bucket, objectKey, removed }, "파일 삭제 완료");
+  return removed;
+}
+
+/**
+ * 파일 연결 서비스 (control plane 이 덮어쓸 객체의 파일을 참조 객체의 key 로 옮길 때)
+ * - Presigned URL 검증 (control plane 이 method=POST, linkKey 를 포함해 서명)
+ * - 데이터를 복사하지 않고 hard link 로 연결하므로 파일 크기와 관계없이 바로 끝납니다.
+ * - linkKey 의 파일은 control plane 이 복제 대상으로 기록하여 복제 복구로 다른 node 에 전송됩니다.
+ */
+export async function linkObject(
+  request: FastifyRequest<{ Querystring: ObjectLinkQuery }>,
+): Promise<number> {
+  const { bucket, objectKey, linkKey } = request.query;
+  request.log.info({ objectKey, linkKey }, "LINK request received");
+
+  validateObjectLinkRequest(request.query);
+
+  const size = await linkObjectFile(bucket, objectKey, linkKey);
+  if (size === null) {
+    throw new HttpError(404, `파일을 찾을 수 없습니다: ${bucket}/${objectKey}`);
+  }
+  request.log.info({ bucket, objectKey, linkKey, size }, "파일 연결 완료");
+  return size;
+}
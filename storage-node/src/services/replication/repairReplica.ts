@@ -0,0 +1,97 @@
+import { FastifyBaseLogger, FastifyRequest } from "fastify";
+import { HttpError } from "../../utils/HttpError";
+import { hashObjectFile, statObjectFile } from "../storage/fileStorage";
+import { validateReplicaRepairRequest } from "../validation/presignedUrl";
+import { getTimeoutMs, replicateToNode } from "./replicateToSecondary";
+import {
+  REPLICA_ETAG_HEADER,
+  REPLICA_SIZE_HEADER,
+  REPLICATION_ENDPOINT_PATH,
+  REPLICATION_REQUEST_HEADER,
+} from "../../constants/replication";
+
+export interface ReplicaRepairQuery {
+  bucket: string;
+  objectKey: string;
+  method: string;
+  exp: string;
+  fileSize: string;
+  signature: string;
+  target: string;
+  keyId?: string;
+}
+
+export interface ReplicaRepairResult {
+  /** 실제로 전송했으면 true, target 에 이미 같은 내용(크기 / ETag)의 파일이 있으면 false */
+  copied: boolean;
+  bytes: number;
+}
+
+interface ReplicaFile {
+  size: number;
+  etag: string;
+}
+
+/**
+ * target 노드의 복제본 크기 / ETag 조회 (HEAD /internal/replications)
+ * 파일이 없거나 조회에 실패하면 null 반환 (복제 진행)
+ */
+async function findReplica(
+  target: string,
+  bucket: string,
+  objectKey: string,
+  log: FastifyBaseLogger,
+): Promise<ReplicaFile | null> {
+  // target 이 파일 전체를 읽어 ETag 를 계산하므로 복제 요청과 같은 타임아웃 사용
+  const controller = new AbortController();
+  const timeoutId = setTimeout(() => controller.abort(), getTimeoutMs());
+  try {
+    const response = await fetch(
+      `${target}${REPLICATION_ENDPOINT_PATH}` +
+        `?bucket=${encodeURIComponent(bucket)}&objectKey=${encodeURIComponent(objectKey)}`,
+      {
+        method: "HEAD",
+        headers: { [REPLICATION_REQUEST_HEADER]: "true" },
+        signal: controller.signal,
+      },
+    );
+    if (!response.ok) return null;
+
+    const size = Number(response.headers.get(REPLICA_SIZE_HEADER));
+    const etag = response.headers.get(REPLICA_ETAG_HEADER);
+    return Number.isInteger(size) && etag ? { size, etag } : null;
+  } catch {
+    log.debug({ target, bucket, objectKey }, "복제본 조회 실패 - 복제 진행");
+    return null;
+  } finally {
+    clearTimeout(timeoutId);
+  }
+}
+
+/**
+ * control plane 의 복제 복구 요청 처리
+ * - 서명된 target 노드에 같은 크기 / ETag(SHA-256) 의 파일이 이미 있으면 전송하지 않습니다. (검증만으로 복구 완료)
+ *   크기만 같은 이전 버전의 복제본(같은 크기로 덮어쓴 객체)은 ETag 가 달라 다시 전송합니다.
+ * - 없거나 크기 / ETag 가 다르면 기존 복제 경로(PUT /internal/replications)로 전송합니다.
+ */
+export async function repairReplica(
+  request: FastifyRequest<{ Querystring: ReplicaRepairQuery }>,
+): Promise<ReplicaRepairResult> {
+  validateReplicaRepairRequest(request.query);
+
+  const { bucket, objectKey, target } = request.query;
+  const size = await statObjectFile(bucket, objectKey);
+  if (size === null) {
+    throw new HttpError(404, `파일을 찾을 수 없습니다: ${bucket}/${objectKey}`);
+  }
+
+  const replica = await findReplica(target, bucket, objectKey, request.log);
+  if (replica !== null && replica.size === size
+    && replica.etag === await hashObjectFile(bucket, objectKey)) {
+    return { copied: false, bytes: 0 };
+  }
+
+  await replicateToNode(target, bucket, objectKey, request.log);
+  request.log.info({ bucket, objectKey, target, size }, "복제 복구 완료");
+  return { copied: true, bytes: size };
+}
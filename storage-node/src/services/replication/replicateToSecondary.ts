@@ -45,7 +45,7 @@ export async function checkSecondaryHealth(
  * 환경변수에서 복제 타임아웃(ms)을 읽어 반환
  * REPLICATION_TIMEOUT_MS 미설정 시 기본값 10,000ms 사용
  */
-function getTimeoutMs(): number {
+export function getTimeoutMs(): number {
   const limitTime = process.env.REPLICATION_TIMEOUT_MS;
   if (!limitTime) return REPLICATION_DEFAULT_TIMEOUT_MS;
   const parsed = parseInt(limitTime, 10);
@@ -68,8 +68,20 @@ export async function replicateToSecondary(
   objectKey: string,
   log: FastifyBaseLogger,
 ): Promise<void> {
-  const secondaryNodeIp = validateSecondaryNodeIp();
+  await replicateToNode(validateSecondaryNodeIp(), bucket, objectKey, log);
+}
 
+/**
+ * 지정한 노드에 파일 복제 (control plane 의 복제 복구 요청은 대상 노드를 직접 지정)
+ *
+ * @param secondaryNodeIp 대상 노드 주소 (예: http://node2:3000)
+ */
+export async function replicateToNode(
+  secondaryNodeIp: string,
+  bucket: string,
+  objectKey: string,
+  log: FastifyBaseLogger,
+): Promise<void> {
   const url =
     `${secondaryNodeIp}${REPLICATION_ENDPOINT_PATH}` +
     `?bucket=${encodeURIComponent(bucket)}&objectKey=${encodeURIComponent(objectKey)}`;
@@ -89,6 +89,7 @@ export async function collectFileInfo(
 
 /**
  * Raw 스트림을 로컬 파일시스템에 저장 (복제 수신용)
+ * - 임시 파일에 쓴 뒤 rename 으로 교체하므로, 기존 파일(다른 key 에 hard link 된 파일 포함)의 내용을 바꾸지 않습니다.
  */
 export async function saveStreamToStorage(
   bucket: string,
@@ -104,10 +105,17 @@ export async function saveStreamToStorage(
 
   await fsPromises.mkdir(fileDir, { recursive: true })
 
-  const writeStream = fs.createWriteStream(filePath)
+  const tempPath = `${filePath}.tmp-${crypto.randomUUID()}`
+  const writeStream = fs.createWriteStream(tempPath)
   writeStream.once('close', () => { _activeDiskWrites-- })
   _activeDiskWrites++
-  await pipeline(stream, writeStream)
+  try {
+    await pipeline(stream, writeStream)
+    await fsPromises.rename(tempPath, filePath)
+  } catch (error) {
+    await fsPromises.rm(tempPath, { force: true })
+    throw error
+  }
 
   return filePath
 }
@@ -181,6 +189,117 @@ export function getContentTypeFromExtension(objectKey: string): string {
   return CONTENT_TYPE_MAP[ext] || DEFAULT_CONTENT_TYPE
 }
 
+/**
+ * 객체 파일 삭제 (control plane 의 bucket 정리 / lifecycle 요청)
+ * - 이미 없는 파일은 삭제된 것으로 처리 (재시도 시 멱등)
+ * @returns 실제로 파일을 삭제했으면 true
+ */
+export async function removeObjectFile(bucket: string, objectKey: string): Promise<boolean> {
+  const bucketDir = path.join(process.cwd(), 'uploads', bucket)
+  const filePath = path.join(bucketDir, objectKey)
+
+  // objectKey 의 ../ 로 bucket 디렉터리 밖의 파일을 삭제하지 않도록 차단
+  if (!filePath.startsWith(bucketDir + path.sep)) {
+    throw new HttpError(400, '객체 경로가 유효하지 않습니다')
+  }
+
+  try {
+    await fsPromises.unlink(filePath)
+    return true
+  } catch (error) {
+    if ((error as NodeJS.ErrnoException).code === 'ENOENT') {
+      return false
+    }
+    throw error
+  }
+}
+
+/**
+ * 객체 파일을 다른 key 에 hard link 로 연결 (덮어쓸 객체의 파일을 참조 객체의 key 로 옮길 때, control plane 요청)
+ * - 데이터를 복사하지 않으며, linkKey 에 이미 있던 파일은 rename 으로 교체합니다.
+ * - 이후 objectKey 에 업로드해도 새 파일로 교체되므로(saveStreamToStorage / multipart / tus) linkKey 의 내용은 바뀌지 않습니다.
+ * @returns 연결한 파일 크기, objectKey 의 파일이 없으면 null
+ */
+export async function linkObjectFile(
+  bucket: string,
+  objectKey: string,
+  linkKey: string,
+): Promise<number | null> {
+  const bucketDir = path.join(process.cwd(), 'uploads', bucket)
+  const filePath = path.join(bucketDir, objectKey)
+  const linkPath = path.join(bucketDir, linkKey)
+
+  if (!filePath.startsWith(bucketDir + path.sep) || !linkPath.startsWith(bucketDir + path.sep)) {
+    throw new HttpError(400, '객체 경로가 유효하지 않습니다')
+  }
+
+  await fsPromises.mkdir(path.dirname(linkPath), { recursive: true })
+  const tempPath = `${linkPath}.tmp-${crypto.randomUUID()}`
+  try {
+    await fsPromises.link(filePath, tempPath)
+  } catch (error) {
+    if ((error as NodeJS.ErrnoException).code === 'ENOENT') {
+      return null
+    }
+    throw error
+  }
+
+  try {
+    await fsPromises.rename(tempPath, linkPath)
+  } catch (error) {
+    await fsPromises.rm(tempPath, { force: true })
+    throw error
+  }
+  const stat = await fsPromises.stat(linkPath)
+  return stat.size
+}
+
+/**
+ * 객체 파일 크기 조회 (복제 상태 확인용)
+ * @returns 파일 크기, 파일이 없으면 null
+ */
+export async function statObjectFile(bucket: string, objectKey: string): Promise<number | null> {
+  const bucketDir = path.join(process.cwd(), 'uploads', bucket)
+  const filePath = path.join(bucketDir, objectKey)
+
+  if (!filePath.startsWith(bucketDir + path.sep)) {
+    throw new HttpError(400, '객체 경로가 유효하지 않습니다')
+  }
+
+  try {
+    const stat = await fsPromises.stat(filePath)
+    return stat.isFile() ? stat.size : null
+  } catch (error) {
+    if ((error as NodeJS.ErrnoException).code === 'ENOENT') {
+      return null
+    }
+    throw error
+  }
+}
+
+/**
+ * 객체 파일의 ETag(SHA-256) 조회 (복제본 내용 확인용)
+ * @returns ETag, 파일이 없으면 null
+ */
+export async function hashObjectFile(bucket: string, objectKey: string): Promise<string | null> {
+  const bucketDir = path.join(process.cwd(), 'uploads', bucket)
+  const filePath = path.join(bucketDir, objectKey)
+
+  if (!filePath.startsWith(bucketDir + path.sep)) {
+    throw new HttpError(400, '객체 경로가 유효하지 않습니다')
+  }
+
+  try {
+    return await generateETag(filePath)
+  } catch (error) {
+    const code = (error as NodeJS.ErrnoException).code
+    if (code === 'ENOENT' || code === 'EISDIR') {
+      return null
+    }
+    throw error
+  }
+}
+
 // ─── 파일 읽기 스트림 ─────────────────────────────────────────────────────────
 
 /**
@@ -50,6 +50,10 @@ export async function saveMultipartPart(
   return { partNumber, path: partPath, size: stat.size, etag }
 }
 
+export async function removeMultipartPart(uploadId: string, partNumber: number): Promise<void> {
+  await fsPromises.rm(path.join(getMultipartPartsDir(uploadId), `${partNumber}.part`), { force: true })
+}
+
 export async function removeMultipartUploadStorage(uploadId: string): Promise<void> {
   await fsPromises.rm(getMultipartUploadDir(uploadId), { recursive: true, force: true })
 }
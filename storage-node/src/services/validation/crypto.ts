@@ -40,6 +40,7 @@ export function hmacSha256Base64Url(data: string, secret: string): string {
  * @param exp - 만료 시간 (Unix timestamp)
  * @param signature - 검증할 서명
  * @param secret - 비밀 키
+ * @param canonicalSuffix - 기본 서명 데이터 뒤에 붙는 값 (multipart : &uploadId=...[&partNumber=...])
  * @returns 서명이 유효하면 true, 그렇지 않으면 false
  */
 export function verifySignature(
@@ -49,11 +50,12 @@ export function verifySignature(
   exp: number,
   fileSize: string,
   signature: string,
-  secret: string
+  secret: string,
+  canonicalSuffix = ''
 ): boolean {
   // 서명 데이터 생성: bucket=...&objectKey=...&method=...&exp=...&fileSize=...
   // Java의 PresignedUrlService.generateSignature()와 동일한 형식
-  const data = `bucket=${bucket}&objectKey=${objectKey}&method=${method}&exp=${exp}&fileSize=${fileSize}`
+  const data = `bucket=${bucket}&objectKey=${objectKey}&method=${method}&exp=${exp}&fileSize=${fileSize}${canonicalSuffix}`
   
   // 기대하는 서명 생성
   const expectedSignature = hmacSha256Base64Url(data, secret)
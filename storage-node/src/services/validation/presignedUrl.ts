@@ -1,5 +1,8 @@
 import { isExpired, verifySignature } from "./crypto";
 import { HttpError } from "../../utils/HttpError";
+import { MultipartPresignedQuery } from "../multipart/types";
+import type { ReplicaRepairQuery } from "../replication/repairReplica";
+import type { ObjectLinkQuery } from "../objects/objectService";
 
 /**
  * 필수 파라미터 검증
@@ -63,6 +66,26 @@ export function validateFileSize(fileSize: string): void {
   }
 }
 
+/**
+ * keyId 에 해당하는 서명 키 조회
+ * - keyId 가 없으면 PRESIGNED_URL_SECRET_KEY 사용
+ * - keyId 가 있으면 PRESIGNED_URL_SECRET_KEYS (형식: "keyId:secret,keyId:secret") 에서 조회
+ */
+export function resolveSecretKey(keyId?: string): string | undefined {
+  if (!keyId) {
+    return process.env.PRESIGNED_URL_SECRET_KEY;
+  }
+
+  const entries = (process.env.PRESIGNED_URL_SECRET_KEYS ?? "").split(",");
+  for (const entry of entries) {
+    const separator = entry.indexOf(":");
+    if (separator > 0 && entry.slice(0, separator).trim() === keyId) {
+      return entry.slice(separator + 1).trim();
+    }
+  }
+  return undefined;
+}
+
 /**
  * 서명 검증
  */
@@ -73,9 +96,14 @@ export function validateRequestSignature(
   exp: string,
   fileSize: string,
   signature: string,
+  keyId?: string,
+  canonicalSuffix = "",
 ): void {
-  const secretKey = process.env.PRESIGNED_URL_SECRET_KEY;
+  const secretKey = resolveSecretKey(keyId);
   if (!secretKey) {
+    if (keyId) {
+      throw new HttpError(403, "등록되지 않은 서명 키입니다", { keyId });
+    }
     throw new HttpError(500, "SECRET_KEY 환경 변수가 설정되지 않았습니다");
   }
 
@@ -88,6 +116,7 @@ export function validateRequestSignature(
     fileSize,
     signature,
     secretKey,
+    canonicalSuffix,
   );
 
   if (!isValidSignature) {
@@ -107,13 +136,129 @@ export function validatePresignedUrlRequest(
     exp: string;
     fileSize: string;
     signature: string;
+    keyId?: string;
   },
-  expectedMethod: "GET" | "PUT" | "POST" | "HEAD",
+  expectedMethod: "GET" | "PUT" | "POST" | "HEAD" | "DELETE",
 ): void {
-  const { bucket, objectKey, method, exp, fileSize, signature } = query;
+  const { bucket, objectKey, method, exp, fileSize, signature, keyId } = query;
   validateRequiredParams(bucket, objectKey, method, exp, signature);
   validateExpiration(exp);
   validateMethod(method, expectedMethod);
   validateFileSize(fileSize);
-  validateRequestSignature(method, bucket, objectKey, exp, fileSize, signature);
+  validateRequestSignature(method, bucket, objectKey, exp, fileSize, signature, keyId);
+}
+
+/**
+ * multipart 서명 데이터 뒤에 붙는 값
+ * - part 업로드 : &uploadId={uploadId}&partNumber={partNumber}
+ * - complete    : &uploadId={uploadId}
+ */
+export function multipartCanonicalSuffix(
+  uploadId: string,
+  partNumber?: string,
+): string {
+  const suffix = `&uploadId=${uploadId}`;
+  return partNumber === undefined ? suffix : `${suffix}&partNumber=${partNumber}`;
+}
+
+/**
+ * multipart Presigned URL 요청 검증
+ * - 서명된 uploadId / partNumber 가 경로의 값과 같아야 합니다.
+ * - fileSize 는 part 업로드에서는 part 최대 크기, complete 에서는 전체 파일 크기입니다.
+ */
+export function validateMultipartPresignedRequest(
+  query: MultipartPresignedQuery,
+  expectedMethod: "PUT" | "POST",
+  uploadId: string,
+  partNumber?: string,
+): void {
+  const { bucket, objectKey, method, exp, fileSize, signature, keyId } = query;
+  validateRequiredParams(bucket, objectKey, method, exp, signature);
+  validateExpiration(exp);
+  validateMethod(method, expectedMethod);
+  validateFileSize(fileSize);
+
+  if (query.uploadId !== uploadId || query.partNumber !== partNumber) {
+    throw new HttpError(403, "서명된 uploadId / partNumber 가 요청과 일치하지 않습니다");
+  }
+
+  validateRequestSignature(
+    method,
+    bucket,
+    objectKey,
+    exp,
+    fileSize,
+    signature,
+    keyId,
+    multipartCanonicalSuffix(uploadId, partNumber),
+  );
+}
+
+/**
+ * multipart 요청에 서명이 필요한지 여부
+ * - 서명이 포함된 요청은 항상 검증합니다.
+ * - MULTIPART_REQUIRE_SIGNATURE=true 이면 서명 없는 요청(기존 내부용 API)을 거절합니다.
+ */
+export function isMultipartSignatureRequired(query: Partial<MultipartPresignedQuery>): boolean {
+  if (query.signature) {
+    return true;
+  }
+  if (process.env.MULTIPART_REQUIRE_SIGNATURE === "true") {
+    throw new HttpError(403, "서명이 필요합니다");
+  }
+  return false;
+}
+
+/**
+ * 복제 복구 요청 검증 (control plane 이 method=POST 로 서명)
+ * - 서명 데이터 뒤에 &target={target} 이 붙어 있어, 서명된 node 외의 곳으로 전송할 수 없습니다.
+ */
+export function validateReplicaRepairRequest(query: ReplicaRepairQuery): void {
+  const { bucket, objectKey, method, exp, fileSize, signature, keyId, target } = query;
+  validateRequiredParams(bucket, objectKey, method, exp, signature);
+  validateExpiration(exp);
+  validateMethod(method, "POST");
+  validateFileSize(fileSize);
+
+  if (!target) {
+    throw new HttpError(400, "필수 파라미터가 누락되었습니다", { required: ["target"] });
+  }
+
+  validateRequestSignature(
+    method,
+    bucket,
+    objectKey,
+    exp,
+    fileSize,
+    signature,
+    keyId,
+    `&target=${target}`,
+  );
+}
+
+/**
+ * 객체 파일 연결 요청 검증 (control plane 이 method=POST 로 서명)
+ * - 서명 데이터 뒤에 &linkKey={linkKey} 가 붙어 있어, 서명된 key 외의 곳에 연결할 수 없습니다.
+ */
+export function validateObjectLinkRequest(query: ObjectLinkQuery): void {
+  const { bucket, objectKey, method, exp, fileSize, signature, keyId, linkKey } = query;
+  validateRequiredParams(bucket, objectKey, method, exp, signature);
+  validateExpiration(exp);
+  validateMethod(method, "POST");
+  validateFileSize(fileSize);
+
+  if (!linkKey) {
+    throw new HttpError(400, "필수 파라미터가 누락되었습니다", { required: ["linkKey"] });
+  }
+
+  validateRequestSignature(
+    method,
+    bucket,
+    objectKey,
+    exp,
+    fileSize,
+    signature,
+    keyId,
+    `&linkKey=${linkKey}`,
+  );
 }
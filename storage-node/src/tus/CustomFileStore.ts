@@ -6,6 +6,8 @@ import * as path from "path";
  * FileStore를 확장한 CustomFileStore.
  * create 시, file.id에 디렉토리 구분자(/)가 포함된 경우
  * 해당 경로의 디렉토리가 없으면 재귀적으로 생성한다.
+ * 같은 경로에 기존 파일이 있으면 먼저 unlink 하여 새 파일로 만든다.
+ * (FileStore 는 기존 파일을 그대로 비우고 쓰므로, 다른 key 에 hard link 된 파일의 내용이 바뀌지 않도록)
  */
 class CustomFileStore extends FileStore {
   private readonly _directory: string;
@@ -25,7 +27,13 @@ class CustomFileStore extends FileStore {
           return reject(mkdirErr);
         }
 
-        return super.create(file).then(resolve).catch(reject);
+        fs.unlink(filePath, (unlinkErr) => {
+          if (unlinkErr && unlinkErr.code !== "ENOENT") {
+            return reject(unlinkErr);
+          }
+
+          return super.create(file).then(resolve).catch(reject);
+        });
       });
     });
   }
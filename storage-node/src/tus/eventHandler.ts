@@ -1,6 +1,12 @@
 import { FastifyInstance } from "fastify";
+import { stat } from "node:fs/promises";
+import { join } from "node:path";
 import { replicateToSecondary } from "../services/replication/replicateToSecondary";
 import { classifyReplicationError } from "../services/replication/classifyError";
+import { reportCompletion } from "../services/completion/completionReporter";
+import { generateETag } from "../services/storage/fileStorage";
+
+const UPLOAD_BASE_DIR = process.env.UPLOAD_BASE_DIR ?? "uploads";
 
 export function onFileCreated(fastify: FastifyInstance) {
   return (event: { file?: { id: string } }) => {
@@ -17,6 +23,22 @@ export function onUploadComplete(fastify: FastifyInstance) {
     const [bucket, ...rest] = fileId.split("/");
     const objectKey = rest.join("/");
 
+    // 복제와 관계없이 먼저 보고 (다운로드 URL 발급은 COMPLETE 객체만)
+    try {
+      const filePath = join(process.cwd(), UPLOAD_BASE_DIR, fileId);
+      const { size } = await stat(filePath);
+      await reportCompletion(
+        fastify.completionOutbox,
+        { bucket, objectKey, size, etag: await generateETag(filePath), status: "COMPLETE" },
+        fastify.log,
+      );
+    } catch (error) {
+      fastify.log.error(
+        { bucket, objectKey, error },
+        "[TUS-RESUMABLE] 업로드 완료 보고 등록 실패",
+      );
+    }
+
     fastify.log.info(
       { fileId, bucket, objectKey },
       "[TUS-RESUMABLE] 업로드 완료 - Secondary 복제 시작",
@@ -1,6 +1,7 @@
 import { MySQLPromisePool } from "@fastify/mysql";
 import type { Database } from "better-sqlite3";
 import type { ReplicationQueueRepository } from "../repository/replicationQueue";
+import type { CompletionOutboxRepository } from "../repository/completionOutbox";
 import type { Server as TusServer } from "tus-node-server";
 import type { TusSessionStore } from "../tus/TusSessionStore";
 
@@ -11,6 +12,8 @@ declare module "fastify" {
     db: InstanceType<typeof Database>;
     /** replication_queue 테이블 전용 typed 쿼리 함수 집합 */
     replicationQueue: ReplicationQueueRepository;
+    /** control plane 에 보고할 업로드 완료 (completion_outbox) */
+    completionOutbox: CompletionOutboxRepository;
     /** TUS 프로토콜 서버 (resume upload) */
     tusServer: TusServer;
     /** TUS 업로드 세션 저장소 (만료·인가 검증용) */
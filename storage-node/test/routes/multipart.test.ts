@@ -1,9 +1,51 @@
 import { test } from "node:test";
 import * as assert from "node:assert";
 import path from "node:path";
+import { randomUUID } from "node:crypto";
 import { promises as fsPromises } from "node:fs";
 import { build } from "../helper";
 import { MultipartService } from "../../src/services/multipart/MultipartService";
+import { hmacSha256Base64Url } from "../../src/services/validation/crypto";
+
+const SECRET = "multipart-test-secret";
+
+/**
+ * control plane 의 PresignedUrlSigner 와 같은 형식으로 multipart URL 을 서명합니다.
+ */
+function signedMultipartUrl(
+  pathname: string,
+  params: {
+    bucket: string;
+    objectKey: string;
+    method: string;
+    fileSize: number;
+    uploadId: string;
+    partNumber?: number;
+  },
+): string {
+  const exp = Math.floor(Date.now() / 1000) + 60;
+  let canonical =
+    `bucket=${params.bucket}&objectKey=${params.objectKey}&method=${params.method}` +
+    `&exp=${exp}&fileSize=${params.fileSize}&uploadId=${params.uploadId}`;
+  if (params.partNumber !== undefined) {
+    canonical += `&partNumber=${params.partNumber}`;
+  }
+  const signature = hmacSha256Base64Url(canonical, SECRET);
+
+  const query = new URLSearchParams({
+    bucket: params.bucket,
+    objectKey: params.objectKey,
+    method: params.method,
+    exp: String(exp),
+    fileSize: String(params.fileSize),
+    uploadId: params.uploadId,
+    signature,
+  });
+  if (params.partNumber !== undefined) {
+    query.set("partNumber", String(params.partNumber));
+  }
+  return `${pathname}?${query.toString()}`;
+}
 
 test("multipart initiate/upload/complete flow", async (t) => {
   const app = await build(t);
@@ -197,3 +239,89 @@ test("multipart invalid partNumber returns 400", async (t) => {
 
   assert.strictEqual(uploadRes.statusCode, 400);
 });
+
+test("signed multipart upload opens session without initiate", async (t) => {
+  const app = await build(t);
+  const previousSecret = process.env.PRESIGNED_URL_SECRET_KEY;
+  process.env.PRESIGNED_URL_SECRET_KEY = SECRET;
+
+  const bucket = `multipart-signed-bucket-${Date.now()}`;
+  const objectKey = "folder/signed.txt";
+  const uploadId = randomUUID();
+
+  t.after(async () => {
+    if (previousSecret === undefined) {
+      delete process.env.PRESIGNED_URL_SECRET_KEY;
+    } else {
+      process.env.PRESIGNED_URL_SECRET_KEY = previousSecret;
+    }
+    MultipartService.getInstance().resetForTests();
+    await fsPromises.rm(path.join(process.cwd(), "uploads", bucket), {
+      recursive: true,
+      force: true,
+    });
+    await fsPromises.rm(
+      path.join(process.cwd(), "uploads", ".multipart", uploadId),
+      {
+        recursive: true,
+        force: true,
+      },
+    );
+  });
+
+  const parts = ["Hello ", "World"];
+  const uploads = await Promise.all(
+    parts.map((body, index) =>
+      app.inject({
+        method: "PUT",
+        url: signedMultipartUrl(`/multipart/${uploadId}/${index + 1}`, {
+          bucket,
+          objectKey,
+          method: "PUT",
+          fileSize: 6,
+          uploadId,
+          partNumber: index + 1,
+        }),
+        headers: {
+          "content-type": "application/octet-stream",
+        },
+        payload: Buffer.from(body),
+      }),
+    ),
+  );
+  uploads.forEach((res) => assert.strictEqual(res.statusCode, 200));
+
+  // 다른 part 번호로 서명된 URL 은 거절
+  const tamperedRes = await app.inject({
+    method: "PUT",
+    url: signedMultipartUrl(`/multipart/${uploadId}/3`, {
+      bucket,
+      objectKey,
+      method: "PUT",
+      fileSize: 6,
+      uploadId,
+      partNumber: 2,
+    }),
+    headers: {
+      "content-type": "application/octet-stream",
+    },
+    payload: Buffer.from("!"),
+  });
+  assert.strictEqual(tamperedRes.statusCode, 403);
+
+  const completeRes = await app.inject({
+    method: "POST",
+    url: signedMultipartUrl(`/multipart/${uploadId}/complete`, {
+      bucket,
+      objectKey,
+      method: "POST",
+      fileSize: 11,
+      uploadId,
+    }),
+  });
+  assert.strictEqual(completeRes.statusCode, 200);
+
+  const finalPath = path.join(process.cwd(), "uploads", bucket, objectKey);
+  const content = await fsPromises.readFile(finalPath, "utf-8");
+  assert.strictEqual(content, "Hello World");
+});